@@ -0,0 +1,453 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.hmx.scitos.ais.core.i18n.AisMessage;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+
+/**
+ * Statistics of the detail category assignments over multiple projects, e.g. one per rater or site of a study. The projects' category models are
+ * unified by the detail categories' codes – in the order of their first appearance. The statistics are summarized per participant (over all
+ * projects containing interviews of that participant) and over all interviews, without holding on to any of the interviews' texts.
+ *
+ * @see ProjectStatisticsAggregator
+ */
+public final class AggregatedStatistics {
+
+    /** The unified category model: the first encountered detail category for each distinct code. */
+    private final List<DetailCategory> categories = new ArrayList<>();
+    /** The positions of the detail categories in the unified category model – by their codes. */
+    private final Map<String, Integer> categoryIndices = new HashMap<>();
+    /** The summaries per participant id, in the order of their first appearance. */
+    private final Map<String, Summary> participantSummaries = new LinkedHashMap<>();
+    /** The summary over all interviews. */
+    private final Summary totalSummary;
+    /** The project files that could not be aggregated, associated with the respective error. */
+    private final Map<File, Exception> failures = new LinkedHashMap<>();
+
+    /**
+     * Constructor: for empty statistics.
+     */
+    AggregatedStatistics() {
+        this.totalSummary = new Summary(this.categories);
+    }
+
+    /**
+     * Getter for the unified category model: containing the first encountered detail category for each distinct code.
+     *
+     * @return unified category model
+     */
+    public List<DetailCategory> getCategories() {
+        return Collections.unmodifiableList(this.categories);
+    }
+
+    /**
+     * Getter for the ids of all participants, in the order of their first appearance.
+     *
+     * @return participant ids
+     */
+    public List<String> getParticipantIds() {
+        return new ArrayList<>(this.participantSummaries.keySet());
+    }
+
+    /**
+     * Getter for the summary of all interviews of the given participant.
+     *
+     * @param participantId
+     *            id of the participant to look-up
+     * @return the participant's summary (is {@code null} if there is no interview of the given participant)
+     */
+    public Summary getParticipantSummary(final String participantId) {
+        return this.participantSummaries.get(participantId);
+    }
+
+    /**
+     * Getter for the summary over all interviews.
+     *
+     * @return overall summary
+     */
+    public Summary getTotalSummary() {
+        return this.totalSummary;
+    }
+
+    /**
+     * Getter for the project files that could not be aggregated.
+     *
+     * @return the failed project files, associated with the respective error
+     */
+    public Map<File, Exception> getFailures() {
+        return Collections.unmodifiableMap(this.failures);
+    }
+
+    /**
+     * Add the counts of a single project to the participants' summaries and the overall summary. This is not thread-safe.
+     *
+     * @param counts
+     *            the single project's counts (or the error that prevented them from being determined)
+     */
+    void add(final ProjectCounts counts) {
+        if (counts.error != null) {
+            this.failures.put(counts.file, counts.error);
+            return;
+        }
+        final int[] unifiedIndices = this.unifyCategories(counts.categories);
+        if (unifiedIndices == null) {
+            this.failures.put(counts.file, new IllegalArgumentException("Patterns are limited to a unified category model with "
+                    + DetailPatternCounts.MAX_CATEGORY_COUNT + " detail categories"));
+            return;
+        }
+        this.totalSummary.fileCount++;
+        final Set<String> countedParticipantIds = new HashSet<>();
+        for (int interviewIndex = 0; interviewIndex < counts.participantIds.size(); interviewIndex++) {
+            final String participantId = counts.participantIds.get(interviewIndex);
+            Summary participantSummary = this.participantSummaries.get(participantId);
+            if (participantSummary == null) {
+                participantSummary = new Summary(this.categories);
+                this.participantSummaries.put(participantId, participantSummary);
+            }
+            if (countedParticipantIds.add(participantId)) {
+                // count each project only once per participant
+                participantSummary.fileCount++;
+            }
+            final InterviewAnalysis analysis = counts.analyses.get(interviewIndex);
+            participantSummary.add(analysis, unifiedIndices);
+            this.totalSummary.add(analysis, unifiedIndices);
+        }
+    }
+
+    /**
+     * Extend the unified category model by all detail categories in the given category model, whose codes are not contained yet.
+     *
+     * @param projectCategories
+     *            a single project's category model
+     * @return the positions in the unified category model – indexed by the detail categories' positions in the given category model (is
+     *         {@code null} if the unified category model would exceed {@link DetailPatternCounts#MAX_CATEGORY_COUNT})
+     */
+    private int[] unifyCategories(final List<DetailCategory> projectCategories) {
+        int newCategoryCount = 0;
+        for (final DetailCategory singleCategory : projectCategories) {
+            if (!this.categoryIndices.containsKey(singleCategory.getCode())) {
+                newCategoryCount++;
+            }
+        }
+        if (this.categories.size() + newCategoryCount > DetailPatternCounts.MAX_CATEGORY_COUNT) {
+            return null;
+        }
+        final int[] unifiedIndices = new int[projectCategories.size()];
+        for (int categoryIndex = 0; categoryIndex < unifiedIndices.length; categoryIndex++) {
+            final DetailCategory singleCategory = projectCategories.get(categoryIndex);
+            Integer unifiedIndex = this.categoryIndices.get(singleCategory.getCode());
+            if (unifiedIndex == null) {
+                unifiedIndex = Integer.valueOf(this.categories.size());
+                this.categories.add(singleCategory);
+                this.categoryIndices.put(singleCategory.getCode(), unifiedIndex);
+            }
+            unifiedIndices[categoryIndex] = unifiedIndex.intValue();
+        }
+        return unifiedIndices;
+    }
+
+    /**
+     * Write the summary table as delimiter-separated text: the number of files, interviews, tokens with an assigned detail category, and the
+     * number of occurrences per detail category in the unified category model – one row per participant, followed by the overall total.
+     *
+     * @param target
+     *            the writer to write the text to (will not be closed)
+     * @param delimiter
+     *            the character separating the values in a single row (e.g. {@code ','} for CSV)
+     * @throws IOException
+     *             error while writing to the given writer
+     */
+    public void writeSummary(final Writer target, final char delimiter) throws IOException {
+        final InterviewAnalysisExport.DelimitedRowWriter writer = new InterviewAnalysisExport.DelimitedRowWriter(target, delimiter);
+        writer.startRow();
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_PARTICIPANT.get());
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_FILECOUNT.get());
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_INTERVIEWCOUNT.get());
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_TOKENCOUNT.get());
+        for (final DetailCategory singleCategory : this.categories) {
+            writer.writeText(singleCategory.getCode());
+        }
+        writer.endRow();
+        for (final Entry<String, Summary> singleParticipant : this.participantSummaries.entrySet()) {
+            this.writeSummaryRow(writer, singleParticipant.getKey(), singleParticipant.getValue());
+        }
+        this.writeSummaryRow(writer, AisMessage.ANALYSIS_TABLE_HEADER_TOTAL.get(), this.totalSummary);
+        target.flush();
+    }
+
+    /**
+     * Write a single row of the summary table.
+     *
+     * @param writer
+     *            the row writer to use
+     * @param label
+     *            the row's label in the first column
+     * @param summary
+     *            the summary to write
+     * @throws IOException
+     *             error while writing delimiter-separated text
+     */
+    private void writeSummaryRow(final InterviewAnalysisExport.DelimitedRowWriter writer, final String label, final Summary summary)
+            throws IOException {
+        writer.startRow();
+        writer.writeText(label);
+        writer.writeNumber(summary.getFileCount());
+        writer.writeNumber(summary.getInterviewCount());
+        writer.writeNumber(summary.getTokenCount());
+        for (int categoryIndex = 0; categoryIndex < this.categories.size(); categoryIndex++) {
+            writer.writeNumber(summary.getOccurrenceCount(categoryIndex));
+        }
+        writer.endRow();
+    }
+
+    /**
+     * Write the pattern table as delimiter-separated text: the number of occurrences of each detail category pattern overall, followed by one
+     * column per participant.
+     *
+     * @param target
+     *            the writer to write the text to (will not be closed)
+     * @param delimiter
+     *            the character separating the values in a single row (e.g. {@code ','} for CSV)
+     * @throws IOException
+     *             error while writing to the given writer
+     */
+    public void writePatterns(final Writer target, final char delimiter) throws IOException {
+        final InterviewAnalysisExport.DelimitedRowWriter writer = new InterviewAnalysisExport.DelimitedRowWriter(target, delimiter);
+        writer.startRow();
+        writer.writeText(AisMessage.ANALYSIS_PATTERN.get());
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_TOTAL.get());
+        for (final String singleParticipantId : this.participantSummaries.keySet()) {
+            writer.writeText(singleParticipantId);
+        }
+        writer.endRow();
+        final DetailPatternCounts totalCounts = this.totalSummary.getPatternCounts();
+        final StringBuilder patternText = new StringBuilder();
+        for (final long singlePatternKey : totalCounts.getSortedPatternKeys()) {
+            patternText.setLength(0);
+            for (final DetailCategory singleCategory : totalCounts.getPattern(singlePatternKey)) {
+                if (patternText.length() > 0) {
+                    patternText.append(' ');
+                }
+                patternText.append(singleCategory.getCode());
+            }
+            writer.startRow();
+            writer.writeText(patternText.toString());
+            writer.writeNumber(totalCounts.getCount(singlePatternKey));
+            for (final Summary singleParticipantSummary : this.participantSummaries.values()) {
+                writer.writeNumber(singleParticipantSummary.getPatternCounts().getCount(singlePatternKey));
+            }
+            writer.endRow();
+        }
+        target.flush();
+    }
+
+    /** Summarized counts over multiple interviews – referring to the unified category model. */
+    public static final class Summary {
+
+        /** The number of projects containing at least one of the summarized interviews. */
+        private int fileCount = 0;
+        /** The number of summarized interviews. */
+        private int interviewCount = 0;
+        /** The number of tokens with an assigned detail category. */
+        private long tokenCount = 0;
+        /** The number of occurrences per detail category – indexed by the category's position in the unified category model. */
+        private long[] occurrenceCounts = new long[0];
+        /** The number of occurrences per detail category pattern. */
+        private final DetailPatternCounts patternCounts;
+
+        /**
+         * Constructor: for an empty summary.
+         *
+         * @param categories
+         *            the unified category model, determining the detail categories' positions being used in the pattern keys
+         */
+        Summary(final List<DetailCategory> categories) {
+            this.patternCounts = new DetailPatternCounts(categories);
+        }
+
+        /**
+         * Add the analysis result of a single interview.
+         *
+         * @param analysis
+         *            the single interview's analysis result
+         * @param unifiedIndices
+         *            the positions in the unified category model – indexed by the positions in the analyzed project's category model
+         */
+        void add(final InterviewAnalysis analysis, final int[] unifiedIndices) {
+            this.interviewCount++;
+            this.tokenCount += analysis.getTokenCount();
+            for (int categoryIndex = 0; categoryIndex < unifiedIndices.length; categoryIndex++) {
+                final int unifiedIndex = unifiedIndices[categoryIndex];
+                if (unifiedIndex >= this.occurrenceCounts.length) {
+                    this.occurrenceCounts = Arrays.copyOf(this.occurrenceCounts, unifiedIndex + 1);
+                }
+                this.occurrenceCounts[unifiedIndex] += analysis.getOccurrenceCount(categoryIndex);
+            }
+            final DetailPatternCounts interviewPatterns = analysis.getPatternCounts();
+            for (final long singlePatternKey : interviewPatterns.getPatternKeys()) {
+                this.patternCounts.add(Summary.unifyPatternKey(singlePatternKey, unifiedIndices), interviewPatterns.getCount(singlePatternKey));
+            }
+        }
+
+        /**
+         * Determine the key of the given pattern, referring to the unified category model instead of the analyzed project's category model.
+         *
+         * @param patternKey
+         *            the key of the pattern – referring to the analyzed project's category model
+         * @param unifiedIndices
+         *            the positions in the unified category model – indexed by the positions in the analyzed project's category model
+         * @return the key of the same pattern – referring to the unified category model
+         */
+        private static long unifyPatternKey(final long patternKey, final int[] unifiedIndices) {
+            long unifiedKey = 0L;
+            int shift = 0;
+            for (long remainingKey = patternKey; remainingKey != 0L; remainingKey >>>= DetailPatternCounts.BITS_PER_CATEGORY) {
+                final int categoryIndex = (int) (remainingKey & DetailPatternCounts.MAX_CATEGORY_COUNT) - 1;
+                unifiedKey |= (long) (unifiedIndices[categoryIndex] + 1) << shift;
+                shift += DetailPatternCounts.BITS_PER_CATEGORY;
+            }
+            return unifiedKey;
+        }
+
+        /**
+         * Getter for the number of projects containing at least one of the summarized interviews.
+         *
+         * @return number of projects
+         */
+        public int getFileCount() {
+            return this.fileCount;
+        }
+
+        /**
+         * Getter for the number of summarized interviews.
+         *
+         * @return number of interviews
+         */
+        public int getInterviewCount() {
+            return this.interviewCount;
+        }
+
+        /**
+         * Getter for the number of tokens (words), that are part of detail category assignments.
+         *
+         * @return number of tokens with an assigned detail category
+         */
+        public long getTokenCount() {
+            return this.tokenCount;
+        }
+
+        /**
+         * Getter for the number of occurrences of the detail category at the given position in the unified category model. This includes parent
+         * detail categories, that are not selectable by the user.
+         *
+         * @param categoryIndex
+         *            position of the detail category in the unified category model
+         * @return number of assignments of the detail category
+         */
+        public long getOccurrenceCount(final int categoryIndex) {
+            return categoryIndex < this.occurrenceCounts.length ? this.occurrenceCounts[categoryIndex] : 0L;
+        }
+
+        /**
+         * Getter for the number of occurrences of detail category patterns – referring to the unified category model.
+         *
+         * @return pattern counts
+         */
+        public DetailPatternCounts getPatternCounts() {
+            return this.patternCounts;
+        }
+    }
+
+    /** The counts of a single project's interviews, without any reference to the interviews themselves or their texts. */
+    static final class ProjectCounts {
+
+        /** The counted project file. */
+        final File file;
+        /** The error that prevented the project from being counted (is {@code null} if the project was counted successfully). */
+        final Exception error;
+        /** The project's category model. */
+        final List<DetailCategory> categories;
+        /** The participant ids of the project's interviews. */
+        final List<String> participantIds;
+        /** The analysis results of the project's interviews (in the same order as the participant ids), without their detail sequences. */
+        final List<InterviewAnalysis> analyses;
+
+        /**
+         * Constructor: for a successfully counted project.
+         *
+         * @param file
+         *            the counted project file
+         * @param categories
+         *            the project's category model
+         * @param results
+         *            the analysis results of the project's interviews
+         */
+        ProjectCounts(final File file, final List<DetailCategory> categories, final Map<Interview, InterviewAnalysis> results) {
+            this.file = file;
+            this.error = null;
+            this.categories = categories;
+            this.participantIds = new ArrayList<>(results.size());
+            this.analyses = new ArrayList<>(results.size());
+            for (final Entry<Interview, InterviewAnalysis> singleResult : results.entrySet()) {
+                final InterviewAnalysis analysis = singleResult.getValue();
+                final long[] occurrenceCounts = new long[categories.size()];
+                for (int categoryIndex = 0; categoryIndex < occurrenceCounts.length; categoryIndex++) {
+                    occurrenceCounts[categoryIndex] = analysis.getOccurrenceCount(categoryIndex);
+                }
+                this.participantIds.add(singleResult.getKey().getParticipantId());
+                // drop the detail sequence, which is growing with the interview's length
+                this.analyses.add(new InterviewAnalysis(analysis.getTokenCount(), occurrenceCounts, Collections.emptyList(),
+                        analysis.getPatternCounts()));
+            }
+        }
+
+        /**
+         * Constructor: for a project that could not be counted.
+         *
+         * @param file
+         *            the project file that could not be counted
+         * @param error
+         *            the error that prevented the project from being counted
+         */
+        ProjectCounts(final File file, final Exception error) {
+            this.file = file;
+            this.error = error;
+            this.categories = Collections.emptyList();
+            this.participantIds = Collections.emptyList();
+            this.analyses = Collections.emptyList();
+        }
+    }
+}
@@ -46,11 +46,13 @@ public interface AisModelHandler extends IModelHandler<AisProject> {
     Interview createInterview(String participantId);
 
     /**
-     * Create an interview for the participant with the given id and initial text. Ensure the interview index stays unique for the participant id.
+     * Create interviews for the participants with the given ids and initial texts. Ensure the interview indices stay unique for each participant id.
+     * The interview texts are being tokenized in parallel and all interviews are being added at once – resulting in a single model change event
+     * for the whole project.
      *
      * @param interviews
      *            interviews to create
-     * @return created interview instance
+     * @return created interview instances (in the given order)
      */
     List<Interview> createInterviews(Collection<? extends InterviewToCreate> interviews);
 
@@ -170,6 +172,23 @@ public interface AisModelHandler extends IModelHandler<AisProject> {
      */
     Map<Interview, Map<List<DetailCategory>, AtomicLong>> extractDetailPattern(List<Interview> interviews, int minLength, int maxLength);
 
+    /**
+     * Collect the number of occurrences of detail category patterns per interview – without allocating a list per pattern occurrence. The
+     * interviews are being analyzed in parallel. Use {@link DetailPatternCounts#aggregate(List, java.util.Collection)} to combine the results of
+     * multiple interviews.
+     *
+     * @param interviews
+     *            list of interviews to count the contained detail category patterns for
+     * @param minLength
+     *            minimum number (inclusive) of consecutive detail categories to be included as pattern (at least {@code 1})
+     * @param maxLength
+     *            maximum number (inclusive) of consecutive detail categories to be included as pattern (at most
+     *            {@link DetailPatternCounts#MAX_PATTERN_LENGTH})
+     * @return for each given interview: detail category patterns and their number of occurrences
+     * @see #extractDetailPattern(List, int, int)
+     */
+    Map<Interview, DetailPatternCounts> countDetailPatterns(List<Interview> interviews, int minLength, int maxLength);
+
     /**
      * Collect the full sequence of assigned detail categories in the given interview. The order is determined by the first token of the detail
      * category. Causing enclosed categories to be treated equally as following categories.
@@ -180,6 +199,25 @@ public interface AisModelHandler extends IModelHandler<AisProject> {
      */
     List<DetailCategory> extractDetailSequence(Interview interview);
 
+    /**
+     * Collect the number of tokens with assigned detail categories, the number of occurrences of each detail category, the sequence of assigned
+     * detail categories, and the number of occurrences of detail category patterns for each given interview. The interviews are being analyzed in
+     * parallel, iterating over each interview's tokens only once.
+     *
+     * @param interviews
+     *            list of interviews to analyze
+     * @param minPatternLength
+     *            minimum number (inclusive) of consecutive detail categories to be included as pattern
+     * @param maxPatternLength
+     *            maximum number (inclusive) of consecutive detail categories to be included as pattern
+     * @return for each given interview: the collected analysis results
+     * @see #countTokensWithAssignedDetail(List)
+     * @see #countDetailOccurrences(List)
+     * @see #extractDetailSequence(Interview)
+     * @see #extractDetailPattern(List, int, int)
+     */
+    Map<Interview, InterviewAnalysis> analyzeInterviews(List<Interview> interviews, int minPatternLength, int maxPatternLength);
+
     /**
      * Check if the handled project is equal to the given one.
      *
@@ -0,0 +1,824 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.i18n.Message;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+import org.hmx.scitos.domain.ModelChangeListener;
+import org.hmx.scitos.domain.ModelEvent;
+
+/**
+ * Periodic incremental autosave of a (saved) {@link AisProject}. It is supposed to be registered as {@link ModelChangeListener} at the associated
+ * model handler: each change of a single interview is collected as compact record – e.g. only the changed tokens' positions and detail category
+ * codes for a detail category assignment – and the collected records are appended to a hidden journal file next to the project file on a timer.
+ * A change of the whole project (or a journal growing too large) results in the journal being compacted into a full binary snapshot in the
+ * background. After an unexpected termination, the unsaved changes can be {@link #recover(File, AisProject) recovered} by replaying the journal.
+ */
+public final class AutosaveJournal implements ModelChangeListener {
+
+    /** Identifier of the journal's content type in its file header. */
+    private static final String JOURNAL_TYPE = "AI-Scoring/1.0/Journal";
+    /** Identifier of the snapshot's content type in its file header. */
+    private static final String SNAPSHOT_TYPE = "AI-Scoring/1.0/Autosave";
+    /** Kind of journal record: the changed tokens of a single paragraph, after (re-)assigning detail categories. */
+    private static final int RECORD_ASSIGNMENT = 1;
+    /** Kind of journal record: the complete state of a single (new or changed) interview. */
+    private static final int RECORD_INTERVIEW = 2;
+    /** Flag of a recorded token: the token is the first token of its detail range. */
+    private static final int FLAG_FIRST = 0b10;
+    /** Flag of a recorded token: the token is the last token of its detail range. */
+    private static final int FLAG_LAST = 0b01;
+    /** Number of bits in a token run's header occupied by the flags (the remaining bits hold the run's length). */
+    private static final int RUN_FLAG_BITS = 2;
+    /** Delay in milliseconds between two subsequent writes of the collected records to the journal. */
+    private static final long FLUSH_INTERVAL = 5000L;
+    /** Size in bytes of the journal, from which on it is being compacted into a full snapshot on the next change. */
+    private static final long COMPACTION_THRESHOLD = 4L << 20;
+    /** Background thread shared by all journals, writing their collected records and snapshots. */
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(task -> {
+        final Thread thread = new Thread(task, "Autosave Journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The model handler of the journaled project. */
+    private final AisModelHandler modelHandler;
+    /** The lock being held while writing or deleting the journal and snapshot files. */
+    private final Object fileLock = new Object();
+    /** The records collected since they were last written to the journal. */
+    private final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+    /** The periodic writing of the collected records to the journal. */
+    private final ScheduledFuture<?> flushTask;
+    /** The project file, next to which the journal and snapshot are being stored ({@code null} if the project has not been saved yet). */
+    private File projectFile;
+    /** The writer of the collected records – its string table covers all records since the journal's header, which it has written as well. */
+    private BinaryModelWriter recordWriter;
+    /** The identifier of the snapshot, on top of which the current journal's records are to be replayed (an empty string for the project file). */
+    private String journalGeneration;
+    /** The number of strings in the {@link #recordWriter}'s string table, that have been written to the journal file successfully. */
+    private int persistedStringCount;
+    /** The flag indicating whether the journal file needs to be replaced (instead of appended to) on the next write. */
+    private boolean replaceJournal;
+    /** The flag indicating whether any records have been collected since the journal's header. */
+    private boolean containsRecords;
+    /** The snapshot of the project to be written on the next write ({@code null} if no compaction is pending). */
+    private AisProject pendingSnapshot;
+    /** The identifier of the pending snapshot, being referenced in the header of the journal replacing the current one. */
+    private String pendingGeneration;
+    /** The interviews' clones in the last snapshot by their originals (by identity) – as long as the original interviews have not been changed. */
+    private Map<Interview, Interview> snapshotInterviews = new IdentityHashMap<>();
+    /** The flag indicating whether the journal should be compacted on the next change. */
+    private boolean compactionRequested = false;
+    /** The flag indicating whether this journal has been closed. */
+    private boolean closed = false;
+
+    /**
+     * Constructor: starting the periodic writing of collected records. It still needs to be registered via
+     * {@link AisModelHandler#addModelChangeListener(org.hmx.scitos.domain.ModelChangeListener)}.
+     *
+     * @param modelHandler
+     *            the model handler of the project to journal
+     * @param projectFile
+     *            the file containing the project's current state ({@code null} if the project has not been saved yet)
+     */
+    public AutosaveJournal(final AisModelHandler modelHandler, final File projectFile) {
+        this.modelHandler = modelHandler;
+        this.projectFile = projectFile;
+        this.startJournal("");
+        this.flushTask = AutosaveJournal.EXECUTOR.scheduleWithFixedDelay(this::flush, AutosaveJournal.FLUSH_INTERVAL,
+                AutosaveJournal.FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discard all collected records and start a new journal, which is based on the given snapshot generation.
+     *
+     * @param generation
+     *            identifier of the snapshot, on top of which the new journal's records are to be replayed (an empty string for the project file)
+     */
+    private synchronized void startJournal(final String generation) {
+        this.pendingRecords.reset();
+        this.recordWriter = new BinaryModelWriter(this.pendingRecords);
+        try {
+            this.recordWriter.writeHeader(AutosaveJournal.JOURNAL_TYPE);
+            this.recordWriter.writeString(generation);
+        } catch (final IOException ex) {
+            // writing into memory should not fail
+            throw new IllegalStateException(ex);
+        }
+        this.journalGeneration = generation;
+        this.persistedStringCount = 0;
+        this.replaceJournal = true;
+        this.containsRecords = false;
+    }
+
+    @Override
+    public synchronized void modelChanged(final ModelEvent<?> event) {
+        if (event.getTarget() instanceof Interview) {
+            // the interview's clone in the last snapshot is outdated
+            this.snapshotInterviews.remove(event.getTarget());
+        } else {
+            this.snapshotInterviews.clear();
+        }
+        if (this.closed || this.projectFile == null) {
+            // without a project file, there is no place to store the journal
+            return;
+        }
+        if (this.compactionRequested || !(event.getTarget() instanceof Interview)) {
+            // the whole project has been changed, e.g. its category model or the participant ids
+            this.compact();
+            return;
+        }
+        final Interview interview = (Interview) event.getTarget();
+        try {
+            if (event.getChange() instanceof ModelHandlerImpl.DetailAssignmentChange) {
+                this.writeAssignmentRecord(interview, (ModelHandlerImpl.DetailAssignmentChange) event.getChange());
+            } else {
+                this.writeInterviewRecord(interview);
+            }
+        } catch (final IOException ex) {
+            // writing into memory should not fail
+            throw new IllegalStateException(ex);
+        }
+        this.containsRecords = true;
+    }
+
+    /**
+     * Collect the record of a performed detail category assignment: holding the changed tokens' current detail categories and boundary flags.
+     *
+     * @param interview
+     *            the interview containing the changed paragraph
+     * @param change
+     *            the performed detail category assignment
+     * @throws IOException
+     *             error while collecting the record
+     */
+    private void writeAssignmentRecord(final Interview interview, final ModelHandlerImpl.DetailAssignmentChange change) throws IOException {
+        final TokenParagraph paragraph = interview.getParagraphs().get(change.getParagraphIndex());
+        final int[] tokenIndices = change.getTokenIndices();
+        // sort the positions in order to write only the (small) differences between them
+        Arrays.sort(tokenIndices);
+        this.recordWriter.writeByte(AutosaveJournal.RECORD_ASSIGNMENT);
+        this.recordWriter.writeString(interview.getParticipantId());
+        this.recordWriter.writeVarInt(interview.getIndex());
+        this.recordWriter.writeVarInt(change.getParagraphIndex());
+        this.recordWriter.writeVarInt(tokenIndices.length);
+        int previousIndex = 0;
+        for (final int tokenIndex : tokenIndices) {
+            this.recordWriter.writeVarInt(tokenIndex - previousIndex);
+            this.recordWriter.writeString(AutosaveJournal.getCode(paragraph.getDetail(tokenIndex)));
+            this.recordWriter.writeByte(AutosaveJournal.getFlags(paragraph, tokenIndex));
+            previousIndex = tokenIndex;
+        }
+    }
+
+    /**
+     * Collect the record of a single interview's complete state, e.g. after it has been created or its text has been changed.
+     *
+     * @param interview
+     *            the changed interview
+     * @throws IOException
+     *             error while collecting the record
+     */
+    private void writeInterviewRecord(final Interview interview) throws IOException {
+        this.recordWriter.writeByte(AutosaveJournal.RECORD_INTERVIEW);
+        this.recordWriter.writeString(interview.getParticipantId());
+        this.recordWriter.writeVarInt(interview.getIndex());
+        this.recordWriter.writeVarInt(interview.getParagraphs().size());
+        for (final TokenParagraph paragraph : interview.getParagraphs()) {
+            final int tokenCount = paragraph.size();
+            this.recordWriter.writeVarInt(tokenCount);
+            int runStart = 0;
+            while (runStart < tokenCount) {
+                final DetailCategory detail = paragraph.getDetail(runStart);
+                final int flags = AutosaveJournal.getFlags(paragraph, runStart);
+                int runEnd = runStart + 1;
+                while (runEnd < tokenCount && paragraph.getDetail(runEnd) == detail && AutosaveJournal.getFlags(paragraph, runEnd) == flags) {
+                    runEnd++;
+                }
+                this.recordWriter.writeVarInt((runEnd - runStart) << AutosaveJournal.RUN_FLAG_BITS | flags);
+                this.recordWriter.writeString(AutosaveJournal.getCode(detail));
+                for (int tokenIndex = runStart; tokenIndex < runEnd; tokenIndex++) {
+                    this.recordWriter.writeString(paragraph.getText(tokenIndex));
+                }
+                runStart = runEnd;
+            }
+        }
+    }
+
+    /**
+     * Determine the code of the given detail category.
+     *
+     * @param detail
+     *            the detail category (can be {@code null})
+     * @return the detail category's code ({@code null} if no detail category was given)
+     */
+    private static String getCode(final DetailCategory detail) {
+        return detail == null ? null : detail.getCode();
+    }
+
+    /**
+     * Determine the boundary flags of the token at the given position.
+     *
+     * @param paragraph
+     *            the paragraph containing the token
+     * @param index
+     *            the token's position in the paragraph
+     * @return combination of {@link #FLAG_FIRST} and {@link #FLAG_LAST}
+     */
+    private static int getFlags(final TokenParagraph paragraph, final int index) {
+        return (paragraph.isFirstTokenOfDetail(index) ? AutosaveJournal.FLAG_FIRST : 0)
+                | (paragraph.isLastTokenOfDetail(index) ? AutosaveJournal.FLAG_LAST : 0);
+    }
+
+    /**
+     * Compact the journal: discarding all collected records and writing a full snapshot of the project's current state in the background instead.
+     */
+    public synchronized void compact() {
+        if (this.closed || this.projectFile == null) {
+            return;
+        }
+        // the snapshot needs to be taken right away, as the project might be changed further while it is being written
+        this.pendingSnapshot = this.takeSnapshot();
+        this.pendingGeneration = UUID.randomUUID().toString();
+        this.startJournal(this.pendingGeneration);
+        this.compactionRequested = false;
+        AutosaveJournal.EXECUTOR.execute(this::flush);
+    }
+
+    /**
+     * Create a snapshot of the project's current state. Only the interviews that have been changed since the last snapshot are being cloned, while
+     * the unchanged interviews' clones are being shared with the last snapshot – which is not being changed anymore either. This is also being
+     * used for the snapshots written by the (background) save operations, which are thereby sharing their interview clones with the journal's.
+     *
+     * @return snapshot of the project (that is not to be changed)
+     */
+    public synchronized AisProject takeSnapshot() {
+        final AisProject project = this.modelHandler.getModel();
+        final Map<Interview, Interview> clonedInterviews = new IdentityHashMap<>();
+        final List<Interview> snapshotInterviewList = new ArrayList<>();
+        for (final Interview singleInterview : project.getInterviews()) {
+            Interview clone = this.snapshotInterviews.get(singleInterview);
+            if (clone == null) {
+                clone = singleInterview.clone();
+            }
+            clonedInterviews.put(singleInterview, clone);
+            snapshotInterviewList.add(clone);
+        }
+        this.snapshotInterviews = clonedInterviews;
+        // String and DetailCategory are immutable and don't need to be cloned
+        return new AisProject(project.getLabel(), project.provide()).setInterviews(snapshotInterviewList);
+    }
+
+    /**
+     * Handle the successful saving of the project: the journal is being moved to the given file and its records and snapshot are being discarded.
+     * If the project has been changed while it was being saved, a new snapshot of its current state is being written instead.
+     *
+     * @param savedProjectFile
+     *            the file the project has been saved to
+     * @param upToDate
+     *            whether the saved file contains the project's current state
+     */
+    public void projectSaved(final File savedProjectFile, final boolean upToDate) {
+        synchronized (this.fileLock) {
+            final File previousProjectFile;
+            synchronized (this) {
+                if (this.closed) {
+                    return;
+                }
+                previousProjectFile = this.projectFile;
+                this.projectFile = savedProjectFile;
+                this.pendingSnapshot = null;
+                this.compactionRequested = false;
+                this.startJournal("");
+                if (!upToDate) {
+                    this.compact();
+                }
+            }
+            // the new snapshot (if any) is only being written after the outdated files have been deleted
+            if (previousProjectFile != null) {
+                AutosaveJournal.deleteFiles(previousProjectFile);
+            }
+            AutosaveJournal.deleteFiles(savedProjectFile);
+        }
+    }
+
+    /**
+     * Stop journaling and delete the journal and snapshot files – assuming that the project has been saved or its unsaved changes are being
+     * discarded intentionally.
+     */
+    public void close() {
+        this.flushTask.cancel(false);
+        synchronized (this.fileLock) {
+            final File target;
+            synchronized (this) {
+                this.closed = true;
+                this.pendingSnapshot = null;
+                this.pendingRecords.reset();
+                target = this.projectFile;
+            }
+            if (target != null) {
+                AutosaveJournal.deleteFiles(target);
+            }
+        }
+    }
+
+    /**
+     * Write the pending snapshot (if any) and the collected records (if any) to their respective files. This is being executed periodically in the
+     * background thread.
+     */
+    void flush() {
+        synchronized (this.fileLock) {
+            final File target;
+            final AisProject snapshot;
+            final String generation;
+            final boolean replace;
+            final BinaryModelWriter writer;
+            final byte[] records;
+            final int stringCount;
+            synchronized (this) {
+                if (this.closed || this.projectFile == null) {
+                    return;
+                }
+                target = this.projectFile;
+                snapshot = this.pendingSnapshot;
+                generation = this.pendingGeneration;
+                this.pendingSnapshot = null;
+                replace = this.replaceJournal;
+                writer = this.recordWriter;
+                records = this.takeRecords();
+                stringCount = writer.getStringTableSize();
+            }
+            boolean recordsWritten = records.length == 0;
+            try {
+                if (snapshot != null) {
+                    AutosaveJournal.writeSnapshot(AutosaveJournal.getSnapshotFile(target), snapshot, generation);
+                }
+                if (records.length > 0) {
+                    final long journalSize = AutosaveJournal.writeJournal(AutosaveJournal.getJournalFile(target), records, replace);
+                    recordsWritten = true;
+                    this.confirmWrittenRecords(writer, stringCount);
+                    if (journalSize > AutosaveJournal.COMPACTION_THRESHOLD) {
+                        this.requestCompaction();
+                    }
+                } else if (replace && snapshot != null) {
+                    // the records in the existing journal are already contained in the new snapshot
+                    Files.deleteIfExists(AutosaveJournal.getJournalFile(target).toPath());
+                }
+            } catch (final IOException ex) {
+                if (!recordsWritten) {
+                    this.discardUnwrittenRecords(writer, replace);
+                }
+                // the taken records are lost: start over with a full snapshot on the next change
+                this.requestCompaction();
+            }
+        }
+    }
+
+    /**
+     * Take the collected records for writing them to the journal. The header of a new journal is only being taken along with its first record.
+     *
+     * @return the collected records to write (can be empty)
+     */
+    private synchronized byte[] takeRecords() {
+        if (this.replaceJournal && !this.containsRecords) {
+            return new byte[0];
+        }
+        try {
+            this.recordWriter.flush();
+        } catch (final IOException ex) {
+            // writing into memory should not fail
+            throw new IllegalStateException(ex);
+        }
+        final byte[] records = this.pendingRecords.toByteArray();
+        this.pendingRecords.reset();
+        this.replaceJournal = false;
+        return records;
+    }
+
+    /**
+     * Remember that the taken records have been written to the journal file, i.e. subsequent records may refer to the strings contained in them.
+     *
+     * @param writer
+     *            the writer the records have been taken from
+     * @param stringCount
+     *            the number of strings in the writer's string table when the records were taken
+     */
+    private synchronized void confirmWrittenRecords(final BinaryModelWriter writer, final int stringCount) {
+        if (writer == this.recordWriter) {
+            this.persistedStringCount = stringCount;
+        }
+    }
+
+    /**
+     * Handle the failed writing of the taken records: the records collected in the meantime are being discarded and the string table is being
+     * rolled back to the strings already written to the journal file, as subsequent records may not refer to strings contained in lost records.
+     *
+     * @param writer
+     *            the writer the records have been taken from
+     * @param replace
+     *            whether the taken records should have replaced the journal file's contents (i.e. they included the journal's header)
+     */
+    private synchronized void discardUnwrittenRecords(final BinaryModelWriter writer, final boolean replace) {
+        if (writer != this.recordWriter) {
+            // the journal has been started over in the meantime
+            return;
+        }
+        if (replace) {
+            // the journal's header has been lost as well
+            this.startJournal(this.journalGeneration);
+            return;
+        }
+        try {
+            this.recordWriter.flush();
+        } catch (final IOException ex) {
+            // writing into memory should not fail
+            throw new IllegalStateException(ex);
+        }
+        this.pendingRecords.reset();
+        this.recordWriter.truncateStringTable(this.persistedStringCount);
+    }
+
+    /** Let the journal be compacted on the next change. */
+    private synchronized void requestCompaction() {
+        this.compactionRequested = true;
+    }
+
+    /**
+     * Write the given snapshot of the project to a temporary file first, and then replace the (previous) snapshot file with it.
+     *
+     * @param snapshotFile
+     *            the snapshot file to write
+     * @param snapshot
+     *            the project state to write
+     * @param generation
+     *            the snapshot's identifier, to be referenced by the subsequent journal
+     * @throws IOException
+     *             error while writing the snapshot
+     */
+    private static void writeSnapshot(final File snapshotFile, final AisProject snapshot, final String generation) throws IOException {
+        final Path tempPath = Files.createTempFile(snapshotFile.getParentFile().toPath(), snapshotFile.getName(), ".tmp");
+        try {
+            try (FileOutputStream output = new FileOutputStream(tempPath.toFile())) {
+                final BinaryModelWriter writer = new BinaryModelWriter(output);
+                writer.writeHeader(AutosaveJournal.SNAPSHOT_TYPE);
+                writer.writeString(generation);
+                BinaryProjectFormat.write(snapshot, Collections.emptyList(), writer);
+                writer.flush();
+                output.getFD().sync();
+            }
+            try {
+                Files.move(tempPath, snapshotFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(tempPath, snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Append the given records to the journal file, or replace its contents with them. If appending fails, the journal file is being truncated to
+     * its previous size again, in order to allow subsequent records to be appended.
+     *
+     * @param journalFile
+     *            the journal file to write
+     * @param records
+     *            the records to write (preceded by the journal's header, if it is being replaced)
+     * @param replace
+     *            whether the journal file's current contents should be replaced
+     * @return resulting size of the journal file in bytes
+     * @throws IOException
+     *             error while writing the journal
+     */
+    private static long writeJournal(final File journalFile, final byte[] records, final boolean replace) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                replace ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND)) {
+            final long previousSize = channel.size();
+            try {
+                final ByteBuffer buffer = ByteBuffer.wrap(records);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (final IOException ex) {
+                try {
+                    channel.truncate(previousSize);
+                } catch (final IOException truncateEx) {
+                    ex.addSuppressed(truncateEx);
+                }
+                throw ex;
+            }
+            return channel.size();
+        }
+    }
+
+    /**
+     * Determine the journal file belonging to the given project file.
+     *
+     * @param projectFile
+     *            the project file
+     * @return the hidden journal file next to the project file
+     */
+    private static File getJournalFile(final File projectFile) {
+        return new File(projectFile.getAbsoluteFile().getParentFile(), '.' + projectFile.getName() + ".journal");
+    }
+
+    /**
+     * Determine the snapshot file belonging to the given project file.
+     *
+     * @param projectFile
+     *            the project file
+     * @return the hidden snapshot file next to the project file
+     */
+    private static File getSnapshotFile(final File projectFile) {
+        return new File(projectFile.getAbsoluteFile().getParentFile(), '.' + projectFile.getName() + ".autosave");
+    }
+
+    /**
+     * Check whether the given file exists and has been modified after the given time.
+     *
+     * @param file
+     *            the file to check
+     * @param referenceTime
+     *            the time of the last modification of the project file
+     * @return whether the file exists and is not older than the reference time
+     */
+    private static boolean isNotOlder(final File file, final long referenceTime) {
+        return file.isFile() && file.lastModified() >= referenceTime;
+    }
+
+    /**
+     * Check whether there is a journal or snapshot containing unsaved changes of the given project file, i.e. it has not been closed properly.
+     *
+     * @param projectFile
+     *            the project file to check
+     * @return whether unsaved changes can be {@link #recover(File, AisProject) recovered}
+     */
+    public static boolean hasRecoverableChanges(final File projectFile) {
+        final long projectModified = projectFile.lastModified();
+        return AutosaveJournal.isNotOlder(AutosaveJournal.getJournalFile(projectFile), projectModified)
+                || AutosaveJournal.isNotOlder(AutosaveJournal.getSnapshotFile(projectFile), projectModified);
+    }
+
+    /**
+     * Delete the journal and snapshot files belonging to the given project file, e.g. when the user decided against recovering them.
+     *
+     * @param projectFile
+     *            the project file
+     */
+    public static void deleteFiles(final File projectFile) {
+        try {
+            // delete the journal first, as it is useless without its snapshot
+            Files.deleteIfExists(AutosaveJournal.getJournalFile(projectFile).toPath());
+            Files.deleteIfExists(AutosaveJournal.getSnapshotFile(projectFile).toPath());
+        } catch (final IOException ex) {
+            // remaining files are being ignored, once they are older than the project file
+        }
+    }
+
+    /**
+     * Recover the unsaved changes of the given project file: starting from the latest snapshot (or the saved project) and replaying the journal's
+     * records on top of it. An incomplete record at the end of the journal (e.g. due to a crash while writing it) is being ignored.
+     *
+     * @param projectFile
+     *            the project file
+     * @param savedProject
+     *            the project as it has been loaded from the project file (is being changed when replaying records on top of it)
+     * @return the recovered project
+     * @throws HmxException
+     *             the snapshot could not be read
+     */
+    public static AisProject recover(final File projectFile, final AisProject savedProject) throws HmxException {
+        final long projectModified = projectFile.lastModified();
+        AisProject result = savedProject;
+        String generation = "";
+        final File snapshotFile = AutosaveJournal.getSnapshotFile(projectFile);
+        if (AutosaveJournal.isNotOlder(snapshotFile, projectModified)) {
+            final BinaryModelReader reader = AutosaveJournal.readFile(snapshotFile);
+            if (!AutosaveJournal.SNAPSHOT_TYPE.equals(reader.readHeader())) {
+                throw new HmxException(Message.ERROR_FILE_TYPE_NOT_RECOGNIZED);
+            }
+            generation = reader.readString();
+            result = BinaryProjectFormat.read(reader, projectFile).getKey();
+        }
+        final File journalFile = AutosaveJournal.getJournalFile(projectFile);
+        if (AutosaveJournal.isNotOlder(journalFile, projectModified)) {
+            final BinaryModelReader reader = AutosaveJournal.readFile(journalFile);
+            boolean applicable;
+            try {
+                // the journal's records are only applicable on top of the snapshot they have been recorded after
+                applicable = AutosaveJournal.JOURNAL_TYPE.equals(reader.readHeader()) && generation.equals(reader.readString());
+            } catch (final HmxException ex) {
+                // incomplete header: the journal has been replaced before any record was written
+                applicable = false;
+            }
+            if (applicable) {
+                AutosaveJournal.replay(reader, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load the contents of the given file.
+     *
+     * @param file
+     *            the file to read
+     * @return reader of the file's contents
+     * @throws HmxException
+     *             the file could not be read
+     */
+    private static BinaryModelReader readFile(final File file) throws HmxException {
+        try {
+            return new BinaryModelReader(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+        } catch (final IOException ex) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, ex);
+        }
+    }
+
+    /**
+     * Apply all complete records in the given journal on the given project.
+     *
+     * @param reader
+     *            the journal to replay (after its header has been read)
+     * @param project
+     *            the project to apply the records on
+     */
+    private static void replay(final BinaryModelReader reader, final AisProject project) {
+        final Map<String, DetailCategory> categories = new HashMap<>();
+        for (final DetailCategory singleCategory : project.provide()) {
+            categories.put(singleCategory.getCode(), singleCategory);
+        }
+        try {
+            while (reader.hasRemaining()) {
+                final int recordKind = reader.readByte();
+                if (recordKind == AutosaveJournal.RECORD_ASSIGNMENT) {
+                    AutosaveJournal.replayAssignmentRecord(reader, project, categories);
+                } else if (recordKind == AutosaveJournal.RECORD_INTERVIEW) {
+                    AutosaveJournal.replayInterviewRecord(reader, project, categories);
+                } else {
+                    return;
+                }
+            }
+        } catch (final HmxException ex) {
+            // the last record is incomplete (each record is only being applied after it has been read completely)
+        }
+    }
+
+    /**
+     * Read a single detail category assignment record and apply it on the given project.
+     *
+     * @param reader
+     *            the journal to read from
+     * @param project
+     *            the project to apply the record on
+     * @param categories
+     *            the project's detail categories by their codes
+     * @throws HmxException
+     *             the record is incomplete or invalid
+     */
+    private static void replayAssignmentRecord(final BinaryModelReader reader, final AisProject project,
+            final Map<String, DetailCategory> categories) throws HmxException {
+        final Interview interview = project.getInterview(reader.readString(), reader.readVarInt());
+        final int paragraphIndex = reader.readCount();
+        final int tokenCount = reader.readCount();
+        final int[] tokenIndices = new int[tokenCount];
+        final DetailCategory[] details = new DetailCategory[tokenCount];
+        final int[] flags = new int[tokenCount];
+        int tokenIndex = 0;
+        for (int changeIndex = 0; changeIndex < tokenCount; changeIndex++) {
+            tokenIndex += reader.readCount();
+            tokenIndices[changeIndex] = tokenIndex;
+            details[changeIndex] = AutosaveJournal.readDetail(reader, categories);
+            flags[changeIndex] = reader.readByte();
+        }
+        if (interview == null || paragraphIndex >= interview.getParagraphs().size()) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid paragraph reference"));
+        }
+        final TokenParagraph paragraph = interview.getParagraphs().get(paragraphIndex);
+        if (tokenCount > 0 && tokenIndex >= paragraph.size()) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid token reference"));
+        }
+        for (int changeIndex = 0; changeIndex < tokenCount; changeIndex++) {
+            paragraph.setDetail(tokenIndices[changeIndex], details[changeIndex]);
+            paragraph.setFirstTokenOfDetail(tokenIndices[changeIndex], (flags[changeIndex] & AutosaveJournal.FLAG_FIRST) != 0);
+            paragraph.setLastTokenOfDetail(tokenIndices[changeIndex], (flags[changeIndex] & AutosaveJournal.FLAG_LAST) != 0);
+        }
+    }
+
+    /**
+     * Read a single interview record and apply it on the given project, i.e. add the interview or replace its paragraphs.
+     *
+     * @param reader
+     *            the journal to read from
+     * @param project
+     *            the project to apply the record on
+     * @param categories
+     *            the project's detail categories by their codes
+     * @throws HmxException
+     *             the record is incomplete or invalid
+     */
+    private static void replayInterviewRecord(final BinaryModelReader reader, final AisProject project,
+            final Map<String, DetailCategory> categories) throws HmxException {
+        final String participantId = reader.readString();
+        final int index = reader.readVarInt();
+        final int paragraphCount = reader.readCount();
+        final List<TokenParagraph> paragraphs = new ArrayList<>(paragraphCount);
+        for (int paragraphIndex = 0; paragraphIndex < paragraphCount; paragraphIndex++) {
+            final int tokenCount = reader.readCount();
+            final TokenParagraph paragraph = new TokenParagraph(tokenCount);
+            while (paragraph.size() < tokenCount) {
+                final int runHeader = reader.readCount();
+                final int runLength = runHeader >>> AutosaveJournal.RUN_FLAG_BITS;
+                if (runLength == 0 || runLength > tokenCount - paragraph.size()) {
+                    throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid token run"));
+                }
+                final DetailCategory detail = AutosaveJournal.readDetail(reader, categories);
+                for (int tokenIndex = 0; tokenIndex < runLength; tokenIndex++) {
+                    final int addedIndex = paragraph.addToken(reader.readString(), detail);
+                    paragraph.setFirstTokenOfDetail(addedIndex, (runHeader & AutosaveJournal.FLAG_FIRST) != 0);
+                    paragraph.setLastTokenOfDetail(addedIndex, (runHeader & AutosaveJournal.FLAG_LAST) != 0);
+                }
+            }
+            paragraphs.add(paragraph);
+        }
+        Interview interview = project.getInterview(participantId, index);
+        if (interview == null) {
+            interview = new Interview(participantId, index);
+            final List<Interview> interviews = new ArrayList<>(project.getInterviews());
+            interviews.add(interview);
+            project.setInterviews(interviews);
+        }
+        interview.setParagraphs(paragraphs);
+    }
+
+    /**
+     * Read a single detail category reference.
+     *
+     * @param reader
+     *            the journal to read from
+     * @param categories
+     *            the project's detail categories by their codes
+     * @return referenced detail category ({@code null} if no detail category has been assigned)
+     * @throws HmxException
+     *             the reference is incomplete or refers to an unknown detail category
+     */
+    private static DetailCategory readDetail(final BinaryModelReader reader, final Map<String, DetailCategory> categories) throws HmxException {
+        final String code = reader.readString();
+        if (code == null) {
+            return null;
+        }
+        final DetailCategory detail = categories.get(code);
+        if (detail == null) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("unknown detail category " + code));
+        }
+        return detail;
+    }
+}
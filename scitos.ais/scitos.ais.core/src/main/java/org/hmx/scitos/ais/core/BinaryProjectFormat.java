@@ -0,0 +1,335 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.swing.KeyStroke;
+
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.MutableDetailCategoryModel;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.i18n.Message;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+
+/**
+ * Binary snapshot representation of an {@link AisProject}, as alternative to its xml structure. The snapshot consists of three consecutive sections:
+ * <ol>
+ * <li>the detail categories – in the same order as in the xml structure, each referring to its parent category by its (one-based) position,</li>
+ * <li>the interviews – each paragraph being represented by runs of tokens with the same detail category (index) and boundary flags, and</li>
+ * <li>the open view elements.</li>
+ * </ol>
+ * All token texts, category codes, and participant ids are stored in the string table of the underlying {@link BinaryModelWriter}, i.e. each
+ * distinct value is only written once.
+ */
+final class BinaryProjectFormat {
+
+    /** Flag in a token run's header: each token in the run is the first token of its detail range. */
+    private static final int RUN_FLAG_FIRST = 0b10;
+    /** Flag in a token run's header: each token in the run is the last token of its detail range. */
+    private static final int RUN_FLAG_LAST = 0b01;
+    /** Number of bits in a token run's header occupied by the flags (the remaining bits hold the run's length). */
+    private static final int RUN_FLAG_BITS = 2;
+    /** Kind of open view element: the project itself. */
+    private static final int VIEW_PROJECT = 0;
+    /** Kind of open view element: a group of interviews, identified by their participant id. */
+    private static final int VIEW_GROUP = 1;
+    /** Kind of open view element: a single interview. */
+    private static final int VIEW_INTERVIEW = 2;
+
+    /** Constructor: hidden, as this class only offers static methods. */
+    private BinaryProjectFormat() {
+        // no instances needed
+    }
+
+    /**
+     * Write the binary snapshot of the given project.
+     *
+     * @param project
+     *            the project to write
+     * @param openViewElements
+     *            list of view elements (tabs) to be remember for restoring them when loading this file again
+     * @param writer
+     *            binary snapshot to write to (after its header has been written)
+     * @throws IOException
+     *             error while writing to the snapshot
+     */
+    static void write(final AisProject project, final List<?> openViewElements, final BinaryModelWriter writer) throws IOException {
+        final Map<String, Integer> categoryReferences = BinaryProjectFormat.writeDetailCategories(project.provide(), writer);
+        final List<Interview> interviews = new ArrayList<>(project.getInterviews());
+        // add interviews in sorted order - to be consistent with the xml structure
+        Collections.sort(interviews);
+        writer.writeVarInt(interviews.size());
+        for (final Interview singleInterview : interviews) {
+            writer.writeString(singleInterview.getParticipantId());
+            writer.writeVarInt(singleInterview.getIndex());
+            writer.writeVarInt(singleInterview.getParagraphs().size());
+            for (final TokenParagraph singleParagraph : singleInterview.getParagraphs()) {
+                BinaryProjectFormat.writeParagraph(singleParagraph, categoryReferences, writer);
+            }
+        }
+        writer.writeVarInt(openViewElements.size());
+        for (final Object viewElement : openViewElements) {
+            if (viewElement instanceof Interview) {
+                writer.writeByte(BinaryProjectFormat.VIEW_INTERVIEW);
+                writer.writeString(((Interview) viewElement).getParticipantId());
+                writer.writeVarInt(((Interview) viewElement).getIndex());
+            } else if (viewElement instanceof String) {
+                writer.writeByte(BinaryProjectFormat.VIEW_GROUP);
+                writer.writeString((String) viewElement);
+            } else {
+                writer.writeByte(BinaryProjectFormat.VIEW_PROJECT);
+            }
+        }
+    }
+
+    /**
+     * Write the given detail categories in the same order as in the xml structure: each category followed by its sub categories.
+     *
+     * @param categories
+     *            the detail categories to write
+     * @param writer
+     *            binary snapshot to write to
+     * @return the written detail categories' codes associated with their (one-based) positions, to be referred to by the scored tokens
+     * @throws IOException
+     *             error while writing to the snapshot
+     */
+    private static Map<String, Integer> writeDetailCategories(final List<DetailCategory> categories, final BinaryModelWriter writer)
+            throws IOException {
+        final MutableDetailCategoryModel categoryFamily = new MutableDetailCategoryModel();
+        categoryFamily.addAll(categories);
+        final List<DetailCategory> orderedCategories = new ArrayList<>(categories.size());
+        for (final DetailCategory singleCategoryRoot : categoryFamily.getRootCategories()) {
+            BinaryProjectFormat.collectDetailCategoryTree(singleCategoryRoot, categoryFamily, orderedCategories);
+        }
+        // like in the xml structure, categories are referred to by their (unique) codes
+        final Map<String, Integer> references = new HashMap<>();
+        writer.writeVarInt(orderedCategories.size());
+        for (final DetailCategory singleCategory : orderedCategories) {
+            final DetailCategory parent = singleCategory.getParent();
+            final Integer parentReference = parent == null ? null : references.get(parent.getCode());
+            writer.writeVarInt(parentReference == null ? 0 : parentReference.intValue());
+            writer.writeString(singleCategory.getCode());
+            writer.writeString(singleCategory.getName());
+            writer.writeBoolean(singleCategory.isSelectable());
+            writer.writeVarInt(singleCategory.getColor().getRGB() & 0xFFFFFF);
+            final KeyStroke shortCut = singleCategory.getShortCut();
+            if (shortCut == null) {
+                writer.writeVarInt(0);
+            } else {
+                writer.writeVarInt(shortCut.getKeyCode() + 1);
+                writer.writeVarInt(shortCut.getModifiers());
+            }
+            references.put(singleCategory.getCode(), Integer.valueOf(references.size() + 1));
+        }
+        return references;
+    }
+
+    /**
+     * Add the given detail category and all of its sub categories (recursively) to the given list.
+     *
+     * @param target
+     *            the detail category to add
+     * @param categoryFamily
+     *            collection of all categories, to retrieve the target's sub categories from
+     * @param result
+     *            the list to add the categories to
+     */
+    private static void collectDetailCategoryTree(final DetailCategory target, final MutableDetailCategoryModel categoryFamily,
+            final List<DetailCategory> result) {
+        result.add(target);
+        for (final DetailCategory subCategory : categoryFamily.getChildCategories(target)) {
+            BinaryProjectFormat.collectDetailCategoryTree(subCategory, categoryFamily, result);
+        }
+    }
+
+    /**
+     * Write the given paragraph as runs of tokens, which share the same detail category and boundary flags.
+     *
+     * @param paragraph
+     *            the paragraph to write
+     * @param categoryReferences
+     *            the written detail categories' codes associated with their (one-based) positions
+     * @param writer
+     *            binary snapshot to write to
+     * @throws IOException
+     *             error while writing to the snapshot
+     */
+    private static void writeParagraph(final TokenParagraph paragraph, final Map<String, Integer> categoryReferences,
+            final BinaryModelWriter writer) throws IOException {
+        final int tokenCount = paragraph.size();
+        writer.writeVarInt(tokenCount);
+        int runStart = 0;
+        while (runStart < tokenCount) {
+            final DetailCategory detail = paragraph.getDetail(runStart);
+            final int flags = BinaryProjectFormat.getRunFlags(paragraph, runStart);
+            int runEnd = runStart + 1;
+            while (runEnd < tokenCount && paragraph.getDetail(runEnd) == detail && BinaryProjectFormat.getRunFlags(paragraph, runEnd) == flags) {
+                runEnd++;
+            }
+            writer.writeVarInt((runEnd - runStart) << BinaryProjectFormat.RUN_FLAG_BITS | flags);
+            final Integer detailReference = detail == null ? null : categoryReferences.get(detail.getCode());
+            writer.writeVarInt(detailReference == null ? 0 : detailReference.intValue());
+            for (int tokenIndex = runStart; tokenIndex < runEnd; tokenIndex++) {
+                writer.writeString(paragraph.getText(tokenIndex));
+            }
+            runStart = runEnd;
+        }
+    }
+
+    /**
+     * Determine the boundary flags of the token at the given position.
+     *
+     * @param paragraph
+     *            the paragraph containing the token
+     * @param index
+     *            the token's position in the paragraph
+     * @return combination of {@link #RUN_FLAG_FIRST} and {@link #RUN_FLAG_LAST}
+     */
+    private static int getRunFlags(final TokenParagraph paragraph, final int index) {
+        return (paragraph.isFirstTokenOfDetail(index) ? BinaryProjectFormat.RUN_FLAG_FIRST : 0)
+                | (paragraph.isLastTokenOfDetail(index) ? BinaryProjectFormat.RUN_FLAG_LAST : 0);
+    }
+
+    /**
+     * Parse the project from the given binary snapshot.
+     *
+     * @param reader
+     *            binary snapshot to parse (after its header has been read)
+     * @param originPath
+     *            path where the snapshot is being loaded from
+     * @return parsed project and list of open view elements
+     * @throws HmxException
+     *             the snapshot does not contain a valid project
+     */
+    static Entry<AisProject, List<?>> read(final BinaryModelReader reader, final File originPath) throws HmxException {
+        final List<DetailCategory> categories = BinaryProjectFormat.readDetailCategories(reader);
+        final AisProject project = new AisProject(originPath.getName(), categories);
+        final int interviewCount = reader.readCount();
+        final List<Interview> interviews = new ArrayList<>(interviewCount);
+        for (int interviewIndex = 0; interviewIndex < interviewCount; interviewIndex++) {
+            final Interview interview = new Interview(reader.readString(), reader.readVarInt());
+            final int paragraphCount = reader.readCount();
+            final List<TokenParagraph> paragraphs = new ArrayList<>(paragraphCount);
+            for (int paragraphIndex = 0; paragraphIndex < paragraphCount; paragraphIndex++) {
+                paragraphs.add(BinaryProjectFormat.readParagraph(reader, categories));
+            }
+            interviews.add(interview.setParagraphs(paragraphs));
+        }
+        project.setInterviews(interviews);
+        final int viewCount = reader.readCount();
+        final List<Object> openViewElements = new ArrayList<>(viewCount);
+        for (int viewIndex = 0; viewIndex < viewCount; viewIndex++) {
+            final int viewKind = reader.readByte();
+            if (viewKind == BinaryProjectFormat.VIEW_INTERVIEW) {
+                final Interview interview = project.getInterview(reader.readString(), reader.readVarInt());
+                if (interview != null) {
+                    openViewElements.add(interview);
+                }
+            } else if (viewKind == BinaryProjectFormat.VIEW_GROUP) {
+                openViewElements.add(reader.readString());
+            } else {
+                openViewElements.add(project);
+            }
+        }
+        return new SimpleEntry<>(project, openViewElements);
+    }
+
+    /**
+     * Parse the detail categories from the given binary snapshot.
+     *
+     * @param reader
+     *            binary snapshot to parse
+     * @return parsed detail categories, each followed by its sub categories
+     * @throws HmxException
+     *             the snapshot does not contain a valid detail category model
+     */
+    private static List<DetailCategory> readDetailCategories(final BinaryModelReader reader) throws HmxException {
+        final int categoryCount = reader.readCount();
+        if (categoryCount == 0) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("no detail categories defined"));
+        }
+        final List<DetailCategory> result = new ArrayList<>(categoryCount);
+        for (int categoryIndex = 0; categoryIndex < categoryCount; categoryIndex++) {
+            final int parentReference = reader.readCount();
+            if (parentReference > result.size()) {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid parent category reference"));
+            }
+            final DetailCategory parent = parentReference == 0 ? null : result.get(parentReference - 1);
+            final String code = reader.readString();
+            if (code == null || code.isEmpty()) {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid detail category definition"));
+            }
+            final String name = reader.readString();
+            final boolean selectable = reader.readBoolean();
+            final Color color = new Color(reader.readVarInt());
+            final int shortCutKeyCode = reader.readCount();
+            final KeyStroke shortCut = shortCutKeyCode == 0 ? null : KeyStroke.getKeyStroke(shortCutKeyCode - 1, reader.readVarInt(), true);
+            result.add(new DetailCategory(parent, code, name, selectable, color, shortCut));
+        }
+        return result;
+    }
+
+    /**
+     * Parse a single paragraph from the given binary snapshot.
+     *
+     * @param reader
+     *            binary snapshot to parse
+     * @param categories
+     *            the already parsed detail categories, to be referred to by their (one-based) positions
+     * @return parsed paragraph
+     * @throws HmxException
+     *             the snapshot does not contain a valid paragraph
+     */
+    private static TokenParagraph readParagraph(final BinaryModelReader reader, final List<DetailCategory> categories) throws HmxException {
+        final int tokenCount = reader.readCount();
+        final TokenParagraph paragraph = new TokenParagraph(tokenCount);
+        while (paragraph.size() < tokenCount) {
+            final int runHeader = reader.readCount();
+            final int runLength = runHeader >>> BinaryProjectFormat.RUN_FLAG_BITS;
+            final int detailReference = reader.readCount();
+            if (runLength == 0 || runLength > tokenCount - paragraph.size() || detailReference > categories.size()) {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid token run"));
+            }
+            final DetailCategory detail = detailReference == 0 ? null : categories.get(detailReference - 1);
+            final boolean first = (runHeader & BinaryProjectFormat.RUN_FLAG_FIRST) != 0;
+            final boolean last = (runHeader & BinaryProjectFormat.RUN_FLAG_LAST) != 0;
+            for (int tokenIndex = 0; tokenIndex < runLength; tokenIndex++) {
+                final int index = paragraph.addToken(reader.readString(), detail);
+                paragraph.setFirstTokenOfDetail(index, first);
+                paragraph.setLastTokenOfDetail(index, last);
+            }
+        }
+        return paragraph;
+    }
+}
@@ -0,0 +1,619 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.hmx.scitos.ais.core.i18n.AisMessage;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.hmx.scitos.core.HmxException;
+
+/**
+ * Assignment of a detail category to selected tokens of a single {@link TokenParagraph}, while maintaining the validity of the (nested) detail
+ * category sections in it. All tokens are addressed by their position in the paragraph, i.e. only the tokens in the selected range and the remainder
+ * of the sections cut by it are being visited. Moving the start/end of a cut section looks up the continuations of that section in the paragraph's
+ * index of contiguous token ranges per detail category ({@link TokenParagraph#findDetailRangeStart(DetailCategory, int)} and
+ * {@link TokenParagraph#findDetailRangeEnd(DetailCategory, int)}), i.e. any sections nested in it are being skipped without visiting their tokens.
+ * Each assignment therefore costs {@code O(log n + k)} – with {@code n} being the paragraph's length and {@code k} the number of selected tokens and
+ * of the visited ranges of the cut sections' categories. The index is created on the paragraph's first assignment and kept up-to-date by the
+ * paragraph on each detail category change from then on.<br>
+ * The original state of each modified token is remembered, in order to be able to determine the actually changed tokens afterwards.
+ */
+final class DetailCategoryAssignment {
+
+    /** The paragraph containing the tokens to assign a detail category to. */
+    private final TokenParagraph paragraph;
+    /** The original detail categories of the modified tokens – by their position in the paragraph. */
+    private final SortedMap<Integer, DetailCategory> originalDetails = new TreeMap<>();
+    /** The original section start flags of the modified tokens – by their position in the paragraph. */
+    private final Map<Integer, Boolean> originalFirstFlags = new HashMap<>();
+    /** The original section end flags of the modified tokens – by their position in the paragraph. */
+    private final Map<Integer, Boolean> originalLastFlags = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param paragraph
+     *            the paragraph containing the tokens to assign a detail category to
+     */
+    DetailCategoryAssignment(final TokenParagraph paragraph) {
+        this.paragraph = paragraph;
+    }
+
+    /**
+     * Getter for the paragraph containing the tokens to assign a detail category to.
+     *
+     * @return the paragraph
+     */
+    TokenParagraph getParagraph() {
+        return this.paragraph;
+    }
+
+    /**
+     * Getter for the positions of all tokens that have been modified (which are not necessarily different from their original state afterwards).
+     *
+     * @return positions of the modified tokens in ascending order
+     */
+    int[] getModifiedPositions() {
+        return this.originalDetails.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Getter for the original detail category of a modified token.
+     *
+     * @param position
+     *            position of the modified token (as returned by {@link #getModifiedPositions()})
+     * @return the token's detail category before the assignment
+     */
+    DetailCategory getOriginalDetail(final int position) {
+        return this.originalDetails.get(position);
+    }
+
+    /**
+     * Getter for the original section start flag of a modified token.
+     *
+     * @param position
+     *            position of the modified token (as returned by {@link #getModifiedPositions()})
+     * @return whether the token was the first of a detail section before the assignment
+     */
+    boolean isOriginallyFirstTokenOfDetail(final int position) {
+        return this.originalFirstFlags.get(position);
+    }
+
+    /**
+     * Getter for the original section end flag of a modified token.
+     *
+     * @param position
+     *            position of the modified token (as returned by {@link #getModifiedPositions()})
+     * @return whether the token was the last of a detail section before the assignment
+     */
+    boolean isOriginallyLastTokenOfDetail(final int position) {
+        return this.originalLastFlags.get(position);
+    }
+
+    /**
+     * Assign the specified detail category to the tokens at the given positions.
+     *
+     * @param positions
+     *            positions of the selected tokens in the paragraph (in ascending order)
+     * @param category
+     *            the detail category to assign (can be {@code null} to remove any assignment)
+     * @throws HmxException
+     *             assigning a detail category to the given interrupted token range would result in an invalid model state (i.e. alternate assignments
+     *             like ABAB), which cannot be represented by the assumed hierarchical structure
+     */
+    void assign(final int[] positions, final DetailCategory category) throws HmxException {
+        final int rangeStart = positions[0];
+        final int rangeEnd = positions[positions.length - 1];
+        if (rangeEnd - rangeStart + 1 == positions.length) {
+            // assigning a category to a contiguous selection always works
+            this.assignToContiguousTokens(rangeStart, rangeEnd, category);
+        } else {
+            // assigning a category to an interrupted selection may yield a HmxException, if the selection is deemed invalid
+            this.assignToInterruptedTokenRange(positions, category);
+        }
+    }
+
+    /**
+     * Assign the specified detail category to the given token range.
+     *
+     * @param rangeStart
+     *            position of the first token in the range
+     * @param rangeEnd
+     *            position of the last token in the range
+     * @param category
+     *            the detail category to assign, thereby replacing any already assigned detail category
+     */
+    void assignToContiguousTokens(final int rangeStart, final int rangeEnd, final DetailCategory category) {
+        // validate affected sections (that end or start in the selected token range)
+        final Map<DetailCategory, CategoryConflictHandler> intersectedSections = this.collectIntersectedCategories(rangeStart, rangeEnd);
+        for (final Entry<DetailCategory, CategoryConflictHandler> singleSection : intersectedSections.entrySet()) {
+            final int startsToMoveCount = singleSection.getValue().getNumberOfStartedButNotEndedConflicts();
+            if (startsToMoveCount > 0) {
+                // more sections of this category are being opened than closed in the selected tokens
+                this.moveCategorySectionStartToTheRight(rangeEnd + 1, singleSection.getKey(), startsToMoveCount);
+            }
+            final int endsToMoveCount = singleSection.getValue().getNumberOfEndedButNotStartedConflicts();
+            if (endsToMoveCount > 0) {
+                // less sections of this category are being opened than closed in the selected tokens: move section ends to the left
+                this.moveCategorySectionEndToTheLeft(rangeStart - 1, singleSection.getKey(), endsToMoveCount);
+            }
+        }
+        // replace currently assigned categories and clear start/end markers for all targeted tokens
+        this.resetTokens(rangeStart, rangeEnd, category);
+        // set start marker if separation is required
+        if (rangeStart > 0 && this.paragraph.getDetail(rangeStart - 1) == null) {
+            // previous token's category == null, only separate if assigned category != null
+            this.setLastTokenOfDetail(rangeStart - 1, category != null);
+            this.setFirstTokenOfDetail(rangeStart, category != null);
+        } else {
+            // paragraph starts or the previous token has an assigned category, we need separation
+            this.setFirstTokenOfDetail(rangeStart, true);
+        }
+        // set end marker if separation is required
+        if (rangeEnd + 1 < this.paragraph.size() && this.paragraph.getDetail(rangeEnd + 1) == null) {
+            // following token's category == null, only separate if assigned category != null
+            this.setLastTokenOfDetail(rangeEnd, category != null);
+            this.setFirstTokenOfDetail(rangeEnd + 1, category != null);
+        } else {
+            // paragraph ends or the following token has an assigned category, we need separation
+            this.setLastTokenOfDetail(rangeEnd, true);
+        }
+    }
+
+    /**
+     * Assign the specified detail category to the given tokens. At least one other token between the first and last selected token is not part of
+     * the selection – i.e. the token range is interrupted by other tokens that should maintain their currently assigned detail categories.
+     *
+     * @param positions
+     *            positions of the selected tokens in the paragraph (in ascending order)
+     * @param category
+     *            the detail category to assign, thereby replacing any already assigned detail category
+     * @throws HmxException
+     *             assigning a detail category to the given interrupted token range would result in an invalid model state (i.e. alternate assignments
+     *             like ABAB), which cannot be represented by the assumed hierarchical structure
+     */
+    private void assignToInterruptedTokenRange(final int[] positions, final DetailCategory category) throws HmxException {
+        final List<int[]> parts = DetailCategoryAssignment.collectInterruptedSelectionParts(positions);
+        /*
+         * an interrupted selection can only work if there are no intersections with other interrupted category ranges, i.e. any opened details in the
+         * first selected part can be resolved in the enclosed section, any closed details in the last selected part can also be resolved in the
+         * enclosed section, and after resolving these the enclosed section must be self-contained
+         */
+        final int maxEnclosedPartIndex = parts.size() - 2;
+        // check all intersected detail category assignments for unresolvable conflicts
+        for (int leadPartIndex = 0; leadPartIndex < maxEnclosedPartIndex; leadPartIndex += 2) {
+            // throw an Exception if this would result in an invalid model state
+            this.checkValidityOfIntersectedCategoryAssignments(parts.get(leadPartIndex), parts.get(leadPartIndex + 1), parts.get(leadPartIndex + 2));
+        }
+        // now, that the previous run did not yield an error, actually resolve those intersected detail category assignments
+        this.resolveIntersectedCategoryAssignments(parts);
+        // the currently assigned categories should be replaced
+        for (int selectedPartIndex = 0; selectedPartIndex < parts.size(); selectedPartIndex += 2) {
+            final int[] selectedPart = parts.get(selectedPartIndex);
+            this.resetTokens(selectedPart[0], selectedPart[1], category);
+        }
+        // set start/end markers for the whole selection
+        if (category != null) {
+            // set start marker on first token in first selected part (i.e. token range)
+            this.setFirstTokenOfDetail(positions[0], true);
+            // set end marker on last token in last selected part (i.e. token range)
+            this.setLastTokenOfDetail(positions[positions.length - 1], true);
+        }
+        // set start/end markers where appropriate; skip each second part, as it contains the unselected tokens
+        for (int selectedPartIndex = 0; selectedPartIndex < parts.size(); selectedPartIndex += 2) {
+            final int[] selectedPart = parts.get(selectedPartIndex);
+            final int firstTarget = selectedPart[0];
+            if (firstTarget > 0 && this.paragraph.getDetail(firstTarget - 1) == null) {
+                // previous token has no assigned category
+                this.setLastTokenOfDetail(firstTarget - 1, category != null);
+                if (category == null) {
+                    // no separation between tokens without assigned category
+                    this.setFirstTokenOfDetail(firstTarget, false);
+                }
+            } else if (category == null) {
+                // separate firstTarget from previous non-null token
+                this.setFirstTokenOfDetail(firstTarget, true);
+            }
+            final int lastTarget = selectedPart[1];
+            if (lastTarget + 1 < this.paragraph.size() && this.paragraph.getDetail(lastTarget + 1) == null) {
+                // following token has no assigned category
+                this.setFirstTokenOfDetail(lastTarget + 1, category != null);
+                if (category == null) {
+                    // no separation between tokens without assigned category
+                    this.setLastTokenOfDetail(lastTarget, false);
+                }
+            } else if (category == null) {
+                // separate lastTarget from following non-null token
+                this.setLastTokenOfDetail(lastTarget, true);
+            }
+        }
+    }
+
+    /**
+     * Resolve any detail category assignments from the odd numbered token range parts (i.e. first, third, fifth, ...) in order to assign another
+     * (new) detail category to same.
+     *
+     * @param parts
+     *            the token range parts alternating selected (i.e. going to be changed) and unselected (i.e. should maintain their current assigned
+     *            detail categories)
+     */
+    private void resolveIntersectedCategoryAssignments(final List<int[]> parts) {
+        final int maxEnclosedPartIndex = parts.size() - 2;
+        for (int leadPartIndex = 0; leadPartIndex < maxEnclosedPartIndex; leadPartIndex += 2) {
+            // resolve conflicts in first selected section
+            final int[] leadingSelection = parts.get(leadPartIndex);
+            for (final Entry<DetailCategory, CategoryConflictHandler> conflict : this.collectIntersectedCategories(leadingSelection[0],
+                    leadingSelection[1]).entrySet()) {
+                final int startsToMoveCount = conflict.getValue().getNumberOfStartedButNotEndedConflicts();
+                if (startsToMoveCount > 0) {
+                    // more sections of this category are being opened than closed in the selected tokens
+                    this.moveCategorySectionStartToTheRight(parts.get(leadPartIndex + 1)[0], conflict.getKey(), startsToMoveCount);
+                }
+                final int endsToMoveCount = conflict.getValue().getNumberOfEndedButNotStartedConflicts();
+                if (endsToMoveCount > 0 && leadPartIndex == 0) {
+                    // less sections of this category are being opened than closed in the selected tokens (only apply for first selection part)
+                    this.moveCategorySectionEndToTheLeft(leadingSelection[0] - 1, conflict.getKey(), endsToMoveCount);
+                }
+            }
+            // resolve conflicts in last selected section
+            final int[] trailingSelection = parts.get(leadPartIndex + 2);
+            for (final Entry<DetailCategory, CategoryConflictHandler> conflict : this.collectIntersectedCategories(trailingSelection[0],
+                    trailingSelection[1]).entrySet()) {
+                final int startsToMoveCount = conflict.getValue().getNumberOfStartedButNotEndedConflicts();
+                if (startsToMoveCount > 0 && leadPartIndex + 1 == maxEnclosedPartIndex) {
+                    // more sections of this category are being opened than closed in the selected tokens (only apply for last selection part)
+                    this.moveCategorySectionStartToTheRight(trailingSelection[1] + 1, conflict.getKey(), startsToMoveCount);
+                }
+                final int endsToMoveCount = conflict.getValue().getNumberOfEndedButNotStartedConflicts();
+                if (endsToMoveCount > 0) {
+                    // less sections of this category are being opened than closed in the selected tokens: move section ends to the left
+                    this.moveCategorySectionEndToTheLeft(trailingSelection[0] - 1, conflict.getKey(), endsToMoveCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Split the range between the first and last of the given positions into alternating selected and enclosed, unselected parts. The result is
+     * always an odd number of parts (one, three, five, ...). This is a single merge-like pass over the range, as the given positions are sorted.
+     *
+     * @param positions
+     *            positions of the selected tokens (in ascending order)
+     * @return list of consecutive ranges (each as pair of first and last position) with the selected ones in every odd part (first, third, fifth,
+     *         ...) and the enclosed ones in every even part (second, fourth, ...)
+     */
+    static List<int[]> collectInterruptedSelectionParts(final int[] positions) {
+        final List<int[]> parts = new ArrayList<>();
+        int partStart = positions[0];
+        for (int selectionIndex = 1; selectionIndex < positions.length; selectionIndex++) {
+            final int previousPosition = positions[selectionIndex - 1];
+            if (positions[selectionIndex] > previousPosition + 1) {
+                // the selected part ends here, followed by an enclosed unselected part
+                parts.add(new int[] { partStart, previousPosition });
+                parts.add(new int[] { previousPosition + 1, positions[selectionIndex] - 1 });
+                partStart = positions[selectionIndex];
+            }
+        }
+        // don't forget the last selected part
+        parts.add(new int[] { partStart, positions[positions.length - 1] });
+        return parts;
+    }
+
+    /**
+     * Check if the given two selection parts (each with 1..n tokens) with enclosed unselected tokens (1..n tokens) is valid to be part of a category
+     * assignment.
+     *
+     * @param leadingSelection
+     *            the selected token range – supposedly receiving a new detail category assignment – in front of the enclosed tokens
+     * @param enclosedUnselectedSection
+     *            the unselected token range – that should maintain their assigned detail categories – enclosed by selected tokens
+     * @param trailingSelection
+     *            the selected token range – supposedly receiving a new detail category assignment – following the enclosed tokens
+     * @throws HmxException
+     *             assigning a detail category to the given interrupted token range would result in an invalid model state (i.e. alternate assignments
+     *             like ABAB), which cannot be represented by the assumed hierarchical structure
+     */
+    private void checkValidityOfIntersectedCategoryAssignments(final int[] leadingSelection, final int[] enclosedUnselectedSection,
+            final int[] trailingSelection) throws HmxException {
+        // collect category assignments that need to be resolved from the leading and trailing selection
+        final Map<DetailCategory, CategoryConflictHandler> leadingConflicts =
+                this.collectIntersectedCategories(leadingSelection[0], leadingSelection[1]);
+        final Map<DetailCategory, CategoryConflictHandler> trailingConflicts =
+                this.collectIntersectedCategories(trailingSelection[0], trailingSelection[1]);
+        // collect open category assignments from the enclosed unselected tokens
+        final Map<DetailCategory, CategoryConflictHandler> enclosedConflicts =
+                this.collectIntersectedCategories(enclosedUnselectedSection[0], enclosedUnselectedSection[1]);
+        for (final Entry<DetailCategory, CategoryConflictHandler> singleConflict : enclosedConflicts.entrySet()) {
+            final DetailCategory conflictingDetail = singleConflict.getKey();
+            final int startsToMoveCount = singleConflict.getValue().getNumberOfStartedButNotEndedConflicts();
+            final int endsToMoveCount = singleConflict.getValue().getNumberOfEndedButNotStartedConflicts();
+            // detail category is not starting but ending in the enclosed part
+            final boolean requiredDetailStartNotMet = endsToMoveCount > 0
+                    && (!leadingConflicts.containsKey(conflictingDetail) || endsToMoveCount < leadingConflicts.get(conflictingDetail)
+                    .getNumberOfStartedButNotEndedConflicts());
+            // detail category is starting but not ending in the enclosed part
+            final boolean requiredDetailEndNotMet = startsToMoveCount > 0
+                    && (!trailingConflicts.containsKey(conflictingDetail) || startsToMoveCount < trailingConflicts.get(conflictingDetail)
+                    .getNumberOfEndedButNotStartedConflicts());
+            if (requiredDetailStartNotMet || requiredDetailEndNotMet) {
+                // the intersected detail category cannot be resolved
+                throw new HmxException(AisMessage.ERROR_AIS_SELECTION_INVALID);
+            }
+        }
+        // also regard category assignments, with neither start nor end in the enclosed section
+        final DetailCategory enclosedOrphan = this.collectPossibleOrphanCategory(enclosedUnselectedSection[0], enclosedUnselectedSection[1]);
+        if (enclosedOrphan != null
+                && (!leadingConflicts.containsKey(enclosedOrphan) || !trailingConflicts.containsKey(enclosedOrphan)
+                || leadingConflicts.get(enclosedOrphan).getNumberOfStartedButNotEndedConflicts() < 1 || trailingConflicts.get(
+                enclosedOrphan).getNumberOfEndedButNotStartedConflicts() < 1)) {
+            // the enclosed detail category could not be resolved
+            throw new HmxException(AisMessage.ERROR_AIS_SELECTION_INVALID);
+        }
+    }
+
+    /**
+     * Collect the intersected detail category assignments, that are not fully contained in the given token range. Each category contained in the
+     * resulting map either starts in the given range and ends outside of (i.e. after) the given range, or starts outside of (i.e. before) the given
+     * range and ends in the given range.
+     *
+     * @param rangeStart
+     *            position of the first token in the range to check for not-self-contained detail categories
+     * @param rangeEnd
+     *            position of the last token in the range to check for not-self-contained detail categories
+     * @return not-self-contained detail categories
+     */
+    private Map<DetailCategory, CategoryConflictHandler> collectIntersectedCategories(final int rangeStart, final int rangeEnd) {
+        final Map<DetailCategory, CategoryConflictHandler> affectedSections = new HashMap<>();
+        for (int position = rangeStart; position <= rangeEnd; position++) {
+            final DetailCategory detail = this.paragraph.getDetail(position);
+            final boolean isFirstToken = this.paragraph.isFirstTokenOfDetail(position);
+            // ignore null categories and single tokens that are start and stop in themselves
+            if (detail == null || isFirstToken == this.paragraph.isLastTokenOfDetail(position)) {
+                continue;
+            }
+            if (!affectedSections.containsKey(detail)) {
+                affectedSections.put(detail, new CategoryConflictHandler());
+            }
+            affectedSections.get(detail).addCategoryChange(isFirstToken);
+        }
+        // discard fully contained category assignments
+        final Iterator<CategoryConflictHandler> resultCountIterator = affectedSections.values().iterator();
+        while (resultCountIterator.hasNext()) {
+            if (!resultCountIterator.next().hasUnresolvedConflicts()) {
+                resultCountIterator.remove();
+            }
+        }
+        return affectedSections;
+    }
+
+    /**
+     * Determine the detail category, that neither starts nor ends in the given token range but encloses (parts of) it.
+     *
+     * @param rangeStart
+     *            position of the first token in the range to check
+     * @param rangeEnd
+     *            position of the last token in the range to check
+     * @return not-self-contained detail category that has neither start nor end in the given range
+     */
+    private DetailCategory collectPossibleOrphanCategory(final int rangeStart, final int rangeEnd) {
+        final Map<DetailCategory, Integer> affectedSections = new HashMap<>();
+        final Set<DetailCategory> possibleOrphans = new HashSet<>();
+        for (int position = rangeStart; position <= rangeEnd; position++) {
+            final DetailCategory detail = this.paragraph.getDetail(position);
+            if (detail == null) {
+                continue;
+            }
+            final boolean isFirstToken = this.paragraph.isFirstTokenOfDetail(position);
+            final boolean isLastToken = this.paragraph.isLastTokenOfDetail(position);
+            if (!isFirstToken && !isLastToken && affectedSections.getOrDefault(detail, 0) <= 0) {
+                possibleOrphans.add(detail);
+            }
+            // ignore single tokens that are start and stop in themselves
+            if (isFirstToken && !isLastToken) {
+                // +1 for each opened detail
+                affectedSections.merge(detail, 1, Integer::sum);
+            } else if (isLastToken && !isFirstToken) {
+                // -1 for each closed detail
+                affectedSections.merge(detail, -1, Integer::sum);
+                possibleOrphans.remove(detail);
+            }
+        }
+        if (possibleOrphans.isEmpty()) {
+            return null;
+        }
+        // there can be at most one possible orphan in a given token range
+        return possibleOrphans.iterator().next();
+    }
+
+    /**
+     * Move the start of a detail category section (of multiple tokens) to the right, in order to remove the leading token(s) from the section, while
+     * maintaining the overall model's validity. Only the first tokens of the contiguous ranges with the section's detail category are being visited
+     * until the given number of section starts has been moved, i.e. skipping any sections nested in the ones being fixed.
+     *
+     * @param firstPossibleTarget
+     *            position of the token directly behind the section part being removed
+     * @param sectionCategory
+     *            the detail category of the section to fix
+     * @param steps
+     *            the number of sections with the same detail category to fix in this method (must be a positive number {@code >0} )
+     */
+    private void moveCategorySectionStartToTheRight(final int firstPossibleTarget, final DetailCategory sectionCategory, final int steps) {
+        int stepsRemaining = steps;
+        // the first possible target is a candidate, even if it is not the first token of a contiguous range with the section's category
+        int position = sectionCategory.equals(this.paragraph.getDetail(firstPossibleTarget)) ? firstPossibleTarget
+                : this.paragraph.findDetailRangeStart(sectionCategory, firstPossibleTarget);
+        do {
+            // move section starts to the right
+            if (!this.paragraph.isFirstTokenOfDetail(position)) {
+                this.setFirstTokenOfDetail(position, true);
+                stepsRemaining--;
+            }
+            // continue with the next range to the right (there should always be one - otherwise the structure we started from was already invalid)
+            position = this.paragraph.findDetailRangeStart(sectionCategory, position + 1);
+        } while (stepsRemaining > 0);
+    }
+
+    /**
+     * Move the end of a detail category section (of multiple tokens) to the left, in order to remove the trailing token(s) from the section, while
+     * maintaining the overall model's validity. Only the last tokens of the contiguous ranges with the section's detail category are being visited
+     * until the given number of section ends has been moved, i.e. skipping any sections nested in the ones being fixed.
+     *
+     * @param firstPossibleTarget
+     *            position of the token directly in front of the section part being removed
+     * @param sectionCategory
+     *            the detail category of the section to fix
+     * @param steps
+     *            the number of sections with the same detail category to fix in this method (must be a positive number {@code >0} )
+     */
+    private void moveCategorySectionEndToTheLeft(final int firstPossibleTarget, final DetailCategory sectionCategory, final int steps) {
+        int stepsRemaining = steps;
+        // the first possible target is a candidate, even if it is not the last token of a contiguous range with the section's category
+        int position = sectionCategory.equals(this.paragraph.getDetail(firstPossibleTarget)) ? firstPossibleTarget
+                : this.paragraph.findDetailRangeEnd(sectionCategory, firstPossibleTarget);
+        do {
+            // move section ends to the left
+            if (!this.paragraph.isLastTokenOfDetail(position)) {
+                this.setLastTokenOfDetail(position, true);
+                stepsRemaining--;
+            }
+            // continue with the next range to the left (there should always be one - otherwise the structure we started from was already invalid)
+            position = this.paragraph.findDetailRangeEnd(sectionCategory, position - 1);
+        } while (stepsRemaining > 0);
+    }
+
+    /**
+     * Set the given detail category on all tokens in the given range, while clearing their section start/end flags.
+     *
+     * @param rangeStart
+     *            position of the first token in the range
+     * @param rangeEnd
+     *            position of the last token in the range
+     * @param category
+     *            the detail category to set
+     */
+    private void resetTokens(final int rangeStart, final int rangeEnd, final DetailCategory category) {
+        for (int position = rangeStart; position <= rangeEnd; position++) {
+            this.rememberOriginalState(position);
+            this.paragraph.setDetail(position, category).setFirstTokenOfDetail(position, false).setLastTokenOfDetail(position, false);
+        }
+    }
+
+    /**
+     * Set the section start flag of the specified token.
+     *
+     * @param position
+     *            position of the token to modify
+     * @param value
+     *            whether the token is the first of a detail section
+     */
+    private void setFirstTokenOfDetail(final int position, final boolean value) {
+        this.rememberOriginalState(position);
+        this.paragraph.setFirstTokenOfDetail(position, value);
+    }
+
+    /**
+     * Set the section end flag of the specified token.
+     *
+     * @param position
+     *            position of the token to modify
+     * @param value
+     *            whether the token is the last of a detail section
+     */
+    private void setLastTokenOfDetail(final int position, final boolean value) {
+        this.rememberOriginalState(position);
+        this.paragraph.setLastTokenOfDetail(position, value);
+    }
+
+    /**
+     * Remember the current state of the specified token, if it has not been modified yet.
+     *
+     * @param position
+     *            position of the token about to be modified
+     */
+    private void rememberOriginalState(final int position) {
+        if (!this.originalDetails.containsKey(position)) {
+            this.originalDetails.put(position, this.paragraph.getDetail(position));
+            this.originalFirstFlags.put(position, this.paragraph.isFirstTokenOfDetail(position));
+            this.originalLastFlags.put(position, this.paragraph.isLastTokenOfDetail(position));
+        }
+    }
+
+    /** Conflict handler class for collecting detail category sections that are being started but not ended and/or ended but not started. */
+    private static final class CategoryConflictHandler {
+
+        /** Registered unresolved detail category changes, i.e. started but not ended and/or ended but not started. */
+        private final Deque<Boolean> categoryChanges = new ArrayDeque<>();
+
+        /**
+         * Add another start or end of a detail category to this conflict handler.
+         *
+         * @param sectionStarted
+         *            whether the respective detail category section is starting
+         */
+        void addCategoryChange(final boolean sectionStarted) {
+            if (this.categoryChanges.isEmpty() || !this.categoryChanges.getLast() || sectionStarted) {
+                this.categoryChanges.add(sectionStarted);
+            } else {
+                // previous change was a section start, the current change ends that section again
+                this.categoryChanges.removeLast();
+            }
+        }
+
+        /**
+         * Check whether this handler instance contains unresolved conflicts.
+         *
+         * @return if at least one section was started but not ended or ended but not started
+         */
+        boolean hasUnresolvedConflicts() {
+            return !this.categoryChanges.isEmpty();
+        }
+
+        /**
+         * Return the number of conflicting sections that are ending but have not been started before.
+         *
+         * @return number of conflicting section ends
+         */
+        int getNumberOfEndedButNotStartedConflicts() {
+            return (int) this.categoryChanges.stream().filter(singleChange -> !singleChange).count();
+        }
+
+        /**
+         * Return the number of conflicting sections that are starting but not ending afterwards.
+         *
+         * @return number of conflicting section starts
+         */
+        int getNumberOfStartedButNotEndedConflicts() {
+            return (int) this.categoryChanges.stream().filter(singleChange -> singleChange).count();
+        }
+    }
+}
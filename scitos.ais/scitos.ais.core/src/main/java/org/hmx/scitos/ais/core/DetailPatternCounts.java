@@ -0,0 +1,228 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.domain.util.LongLongHashMap;
+
+/**
+ * Number of occurrences of detail category patterns (i.e. sequences of consecutive detail categories). Each pattern is represented by a packed
+ * {@code long} key: holding the (one-based) position of each detail category in the project's category model in {@value #BITS_PER_CATEGORY} bits,
+ * with the last category of the pattern in the lowest bits. This allows for patterns with up to {@value #MAX_PATTERN_LENGTH} detail categories
+ * from a category model with up to {@value #MAX_CATEGORY_COUNT} detail categories.
+ */
+public final class DetailPatternCounts {
+
+    /** The number of bits in a pattern key per contained detail category. */
+    public static final int BITS_PER_CATEGORY = 8;
+    /** The maximum number of detail categories in a single pattern. */
+    public static final int MAX_PATTERN_LENGTH = Long.SIZE / DetailPatternCounts.BITS_PER_CATEGORY;
+    /** The maximum number of detail categories in the category model. */
+    public static final int MAX_CATEGORY_COUNT = (1 << DetailPatternCounts.BITS_PER_CATEGORY) - 1;
+    /** Bit mask for a single detail category in a pattern key. */
+    private static final long CATEGORY_MASK = DetailPatternCounts.MAX_CATEGORY_COUNT;
+
+    /** The project's category model, determining the detail categories' positions being used in the pattern keys. */
+    private final List<DetailCategory> categories;
+    /** The actual number of occurrences per pattern key. */
+    private final LongLongHashMap counts = new LongLongHashMap();
+
+    /**
+     * Constructor: for an empty counter.
+     *
+     * @param categories
+     *            the project's category model, determining the detail categories' positions being used in the pattern keys
+     * @throws IllegalArgumentException
+     *             the category model contains more than {@link #MAX_CATEGORY_COUNT} detail categories
+     */
+    DetailPatternCounts(final List<DetailCategory> categories) {
+        if (categories.size() > DetailPatternCounts.MAX_CATEGORY_COUNT) {
+            throw new IllegalArgumentException("Patterns are limited to a category model with " + DetailPatternCounts.MAX_CATEGORY_COUNT
+                    + " detail categories");
+        }
+        this.categories = categories;
+    }
+
+    /**
+     * Create the sum of the given pattern counts, e.g. to aggregate the patterns over multiple interviews.
+     *
+     * @param categories
+     *            the project's category model, that was used for creating all the given pattern counts
+     * @param patternCounts
+     *            the pattern counts to sum up
+     * @return aggregated pattern counts
+     */
+    public static DetailPatternCounts aggregate(final List<DetailCategory> categories, final Collection<DetailPatternCounts> patternCounts) {
+        final DetailPatternCounts result = new DetailPatternCounts(categories);
+        for (final DetailPatternCounts singleCounts : patternCounts) {
+            result.counts.addAll(singleCounts.counts);
+        }
+        return result;
+    }
+
+    /**
+     * Append the detail category at the given position in the category model to the given pattern key. Leading categories that exceed the
+     * {@link #MAX_PATTERN_LENGTH} are being dropped.
+     *
+     * @param patternKey
+     *            the key of the pattern to append to (can be {@code 0} for an empty pattern)
+     * @param categoryIndex
+     *            position of the detail category to append in the category model
+     * @return key of the extended pattern
+     */
+    static long append(final long patternKey, final int categoryIndex) {
+        return patternKey << DetailPatternCounts.BITS_PER_CATEGORY | categoryIndex + 1;
+    }
+
+    /**
+     * Determine the key for the trailing part of the given pattern.
+     *
+     * @param patternKey
+     *            the key of the full pattern
+     * @param length
+     *            the number of trailing detail categories to keep (between {@code 1} and {@link #MAX_PATTERN_LENGTH})
+     * @return key of the trailing pattern with the given length
+     */
+    static long tail(final long patternKey, final int length) {
+        if (length >= DetailPatternCounts.MAX_PATTERN_LENGTH) {
+            return patternKey;
+        }
+        return patternKey & (1L << length * DetailPatternCounts.BITS_PER_CATEGORY) - 1;
+    }
+
+    /**
+     * Increase the number of occurrences of the pattern with the given key by one.
+     *
+     * @param patternKey
+     *            the key of the pattern that occurred
+     */
+    void increment(final long patternKey) {
+        this.counts.addTo(patternKey, 1L);
+    }
+
+    /**
+     * Increase the number of occurrences of the pattern with the given key by the given amount.
+     *
+     * @param patternKey
+     *            the key of the pattern that occurred
+     * @param amount
+     *            the number of additional occurrences
+     */
+    void add(final long patternKey, final long amount) {
+        this.counts.addTo(patternKey, amount);
+    }
+
+    /**
+     * Getter for the number of distinct patterns.
+     *
+     * @return number of patterns, that occur at least once
+     */
+    public int size() {
+        return this.counts.size();
+    }
+
+    /**
+     * Getter for the keys of all patterns, that occur at least once (in no particular order).
+     *
+     * @return contained pattern keys
+     */
+    public long[] getPatternKeys() {
+        return this.counts.keys();
+    }
+
+    /**
+     * Getter for the keys of all patterns, that occur at least once – sorted by the order of their detail categories in the category model (and
+     * shorter patterns before longer patterns starting with the same detail categories).
+     *
+     * @return contained pattern keys in sorted order
+     */
+    public long[] getSortedPatternKeys() {
+        final long[] patternKeys = this.counts.keys();
+        // left-align all keys, so their unsigned numeric order reflects the order of their contained detail categories
+        for (int index = 0; index < patternKeys.length; index++) {
+            patternKeys[index] <<= Long.numberOfLeadingZeros(patternKeys[index]) / DetailPatternCounts.BITS_PER_CATEGORY
+                    * DetailPatternCounts.BITS_PER_CATEGORY;
+            // flip the sign bit to allow for a signed sort
+            patternKeys[index] ^= Long.MIN_VALUE;
+        }
+        Arrays.sort(patternKeys);
+        for (int index = 0; index < patternKeys.length; index++) {
+            patternKeys[index] ^= Long.MIN_VALUE;
+            patternKeys[index] >>>= Long.numberOfTrailingZeros(patternKeys[index]) / DetailPatternCounts.BITS_PER_CATEGORY
+                    * DetailPatternCounts.BITS_PER_CATEGORY;
+        }
+        return patternKeys;
+    }
+
+    /**
+     * Getter for the number of occurrences of the pattern with the given key.
+     *
+     * @param patternKey
+     *            the key of the pattern to look-up
+     * @return number of occurrences ({@code 0} if the pattern is not contained)
+     */
+    public long getCount(final long patternKey) {
+        return this.counts.get(patternKey, 0L);
+    }
+
+    /**
+     * Getter for the number of occurrences of the given pattern.
+     *
+     * @param pattern
+     *            the pattern to look-up
+     * @return number of occurrences ({@code 0} if the pattern is not contained)
+     */
+    public long getCount(final List<DetailCategory> pattern) {
+        if (pattern.isEmpty() || pattern.size() > DetailPatternCounts.MAX_PATTERN_LENGTH) {
+            return 0L;
+        }
+        long patternKey = 0L;
+        for (final DetailCategory singleCategory : pattern) {
+            final int categoryIndex = this.categories.indexOf(singleCategory);
+            if (categoryIndex == -1) {
+                return 0L;
+            }
+            patternKey = DetailPatternCounts.append(patternKey, categoryIndex);
+        }
+        return this.getCount(patternKey);
+    }
+
+    /**
+     * Determine the actual pattern represented by the given key.
+     *
+     * @param patternKey
+     *            the key of the pattern
+     * @return the detail categories in the pattern
+     */
+    public List<DetailCategory> getPattern(final long patternKey) {
+        final List<DetailCategory> pattern = new ArrayList<>(DetailPatternCounts.MAX_PATTERN_LENGTH);
+        for (long remainingKey = patternKey; remainingKey != 0L; remainingKey >>>= DetailPatternCounts.BITS_PER_CATEGORY) {
+            pattern.add(this.categories.get((int) (remainingKey & DetailPatternCounts.CATEGORY_MASK) - 1));
+        }
+        Collections.reverse(pattern);
+        return pattern;
+    }
+}
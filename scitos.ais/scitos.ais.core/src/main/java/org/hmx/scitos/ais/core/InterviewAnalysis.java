@@ -0,0 +1,104 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+
+/**
+ * Summarized results of a single interview's detail category assignments: the number of tokens with an assigned detail category, the number of
+ * occurrences per detail category, the sequence of assigned detail categories, and the number of occurrences of detail category patterns.
+ *
+ * @see AisModelHandler#analyzeInterviews(List, int, int)
+ */
+public final class InterviewAnalysis {
+
+    /** The number of tokens with an assigned detail category. */
+    private final long tokenCount;
+    /** The number of occurrences per detail category – indexed by the category's position in the project's category model. */
+    private final long[] occurrenceCounts;
+    /** The sequence of assigned detail categories. */
+    private final List<DetailCategory> detailSequence;
+    /** The number of occurrences per detail category pattern. */
+    private final DetailPatternCounts patternCounts;
+
+    /**
+     * Constructor.
+     *
+     * @param tokenCount
+     *            the number of tokens with an assigned detail category
+     * @param occurrenceCounts
+     *            the number of occurrences per detail category – indexed by the category's position in the project's category model
+     * @param detailSequence
+     *            the sequence of assigned detail categories
+     * @param patternCounts
+     *            the number of occurrences per detail category pattern
+     */
+    InterviewAnalysis(final long tokenCount, final long[] occurrenceCounts, final List<DetailCategory> detailSequence,
+            final DetailPatternCounts patternCounts) {
+        this.tokenCount = tokenCount;
+        this.occurrenceCounts = occurrenceCounts;
+        this.detailSequence = Collections.unmodifiableList(detailSequence);
+        this.patternCounts = patternCounts;
+    }
+
+    /**
+     * Getter for the number of tokens (words), that are part of detail category assignments.
+     *
+     * @return number of tokens with an assigned detail category
+     */
+    public long getTokenCount() {
+        return this.tokenCount;
+    }
+
+    /**
+     * Getter for the number of occurrences of the detail category at the given position in the project's category model. This includes parent
+     * detail categories, that are not selectable by the user. Their respective count is the sum of the occurrences of the selectable child
+     * categories.
+     *
+     * @param categoryIndex
+     *            position of the detail category in the project's category model
+     * @return number of assignments of the detail category
+     */
+    public long getOccurrenceCount(final int categoryIndex) {
+        return this.occurrenceCounts[categoryIndex];
+    }
+
+    /**
+     * Getter for the full sequence of assigned detail categories. The order is determined by the first token of the detail category. Causing
+     * enclosed categories to be treated equally as following categories.
+     *
+     * @return all assigned detail categories in the present order
+     */
+    public List<DetailCategory> getDetailSequence() {
+        return this.detailSequence;
+    }
+
+    /**
+     * Getter for the number of occurrences of detail category patterns.
+     *
+     * @return pattern counts
+     */
+    public DetailPatternCounts getPatternCounts() {
+        return this.patternCounts;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.domain.ModelChangeListener;
+import org.hmx.scitos.domain.ModelEvent;
+
+/**
+ * Cache of {@link InterviewAnalysis} results per interview. It is supposed to be registered as {@link ModelChangeListener} at the associated model
+ * handler: a change of a single interview discards only that interview's analysis, while a change of the whole project discards all of them.
+ */
+public final class InterviewAnalysisCache implements ModelChangeListener {
+
+    /** The model handler providing the actual analysis of interviews. */
+    private final AisModelHandler modelHandler;
+    /** The cached analysis results – interviews are compared by their identity, as their equality and hash code depend on their mutable state. */
+    private final Map<Interview, InterviewAnalysis> analyses = new IdentityHashMap<>();
+    /** Minimum number (inclusive) of consecutive detail categories included as pattern in the cached results. */
+    private int minPatternLength = -1;
+    /** Maximum number (inclusive) of consecutive detail categories included as pattern in the cached results. */
+    private int maxPatternLength = -1;
+    /** Counter of the invalidations so far, to avoid caching results that have been outdated while being collected. */
+    private long invalidationCount = 0L;
+
+    /**
+     * Constructor: for an empty cache. It still needs to be registered via {@link AisModelHandler#addModelChangeListener(ModelChangeListener)}.
+     *
+     * @param modelHandler
+     *            the model handler providing the actual analysis of interviews
+     */
+    public InterviewAnalysisCache(final AisModelHandler modelHandler) {
+        this.modelHandler = modelHandler;
+    }
+
+    /**
+     * Get the analysis results for the given interviews. Only interviews without a cached (valid) result are being analyzed.
+     *
+     * @param interviews
+     *            list of interviews to get the analysis results for
+     * @param minPatternLength
+     *            minimum number (inclusive) of consecutive detail categories to be included as pattern
+     * @param maxPatternLength
+     *            maximum number (inclusive) of consecutive detail categories to be included as pattern
+     * @return for each given interview: the collected analysis results
+     * @see AisModelHandler#analyzeInterviews(List, int, int)
+     */
+    public Map<Interview, InterviewAnalysis> getAnalyses(final List<Interview> interviews, final int minPatternLength, final int maxPatternLength) {
+        final List<Interview> missingInterviews = new ArrayList<>();
+        final long invalidationCountBefore;
+        synchronized (this) {
+            if (this.minPatternLength != minPatternLength || this.maxPatternLength != maxPatternLength) {
+                // the cached results are not applicable for different pattern lengths
+                this.invalidateAll();
+                this.minPatternLength = minPatternLength;
+                this.maxPatternLength = maxPatternLength;
+            }
+            for (final Interview singleInterview : interviews) {
+                if (!this.analyses.containsKey(singleInterview)) {
+                    missingInterviews.add(singleInterview);
+                }
+            }
+            invalidationCountBefore = this.invalidationCount;
+        }
+        // analyze the missing interviews without blocking the invalidation through model change events in the meantime
+        final Map<Interview, InterviewAnalysis> missingAnalyses;
+        if (missingInterviews.isEmpty()) {
+            missingAnalyses = Collections.emptyMap();
+        } else {
+            missingAnalyses = this.modelHandler.analyzeInterviews(missingInterviews, minPatternLength, maxPatternLength);
+        }
+        final Map<Interview, InterviewAnalysis> result = new LinkedHashMap<>(interviews.size());
+        synchronized (this) {
+            final boolean stillValid = invalidationCountBefore == this.invalidationCount;
+            for (final Interview singleInterview : interviews) {
+                InterviewAnalysis analysis = this.analyses.get(singleInterview);
+                if (analysis == null) {
+                    analysis = missingAnalyses.get(singleInterview);
+                    if (stillValid) {
+                        this.analyses.put(singleInterview, analysis);
+                    }
+                }
+                result.put(singleInterview, analysis);
+            }
+        }
+        return result;
+    }
+
+    /** Discard all cached analysis results. */
+    public synchronized void invalidateAll() {
+        this.analyses.clear();
+        this.invalidationCount++;
+    }
+
+    @Override
+    public synchronized void modelChanged(final ModelEvent<?> event) {
+        if (event.getTarget() instanceof Interview) {
+            // only the targeted interview has been changed
+            this.analyses.remove(event.getTarget());
+            this.invalidationCount++;
+        } else {
+            // the whole project has been changed, e.g. its category model
+            this.invalidateAll();
+        }
+    }
+}
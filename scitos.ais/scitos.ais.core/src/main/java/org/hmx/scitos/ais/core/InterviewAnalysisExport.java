@@ -0,0 +1,597 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.hmx.scitos.ais.core.i18n.AisMessage;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.core.HmxException;
+
+/**
+ * Export of the analysis results of multiple interviews in three sheets: the summary (number of occurrences per detail category), the sequence of
+ * assigned detail categories, and the number of detail category pattern occurrences. The sheets are being written row by row, either into an Open
+ * Document Spreadsheet or into separate delimiter-separated text files (e.g. CSV or TSV).
+ */
+public final class InterviewAnalysisExport {
+
+    /** The available sheets. */
+    public enum Sheet {
+        /** Number of tokens with assigned detail categories and number of occurrences per detail category – one row per interview. */
+        SUMMARY(AisMessage.ANALYSIS_SUMMARY),
+        /** Sequence of assigned detail categories – one column per interview. */
+        SEQUENCE(AisMessage.ANALYSIS_SEQUENCE),
+        /** Number of occurrences of detail category patterns – one row per pattern and one column per interview. */
+        PATTERN(AisMessage.ANALYSIS_PATTERN);
+
+        /** The sheet's localized name. */
+        private final AisMessage name;
+
+        /**
+         * Constructor.
+         *
+         * @param name
+         *            the sheet's localized name
+         */
+        Sheet(final AisMessage name) {
+            this.name = name;
+        }
+
+        /**
+         * Getter for the sheet's localized name.
+         *
+         * @return sheet name
+         */
+        public String getName() {
+            return this.name.get();
+        }
+    }
+
+    /** Namespace of the office elements in the ODS document. */
+    private static final String NAMESPACE_OFFICE = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+    /** Namespace of the table elements in the ODS document. */
+    private static final String NAMESPACE_TABLE = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+    /** Namespace of the text elements in the ODS document. */
+    private static final String NAMESPACE_TEXT = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+    /** Namespace of the manifest elements in the ODS document. */
+    private static final String NAMESPACE_MANIFEST = "urn:oasis:names:tc:opendocument:xmlns:manifest:1.0";
+    /** The supported version of the Open Document Format. */
+    private static final String ODF_VERSION = "1.2";
+    /** The media type of an Open Document Spreadsheet. */
+    private static final String MEDIA_TYPE = "application/vnd.oasis.opendocument.spreadsheet";
+
+    /** The project's category model. */
+    private final List<DetailCategory> categories;
+    /** The interviews to export the analysis results for (in the order they should be listed). */
+    private final List<Interview> interviews;
+    /** The analysis results of the interviews. */
+    private final Map<Interview, InterviewAnalysis> results;
+    /** Provider of the label for each interview. */
+    private final Function<Interview, String> labelProvider;
+
+    /**
+     * Constructor.
+     *
+     * @param categories
+     *            the project's category model, that was used for creating the analysis results
+     * @param interviews
+     *            the interviews to export the analysis results for (in the order they should be listed)
+     * @param results
+     *            the analysis results of the given interviews
+     * @param labelProvider
+     *            provider of the label for each interview
+     */
+    public InterviewAnalysisExport(final List<DetailCategory> categories, final List<Interview> interviews,
+            final Map<Interview, InterviewAnalysis> results, final Function<Interview, String> labelProvider) {
+        this.categories = categories;
+        this.interviews = interviews;
+        this.results = results;
+        this.labelProvider = labelProvider;
+    }
+
+    /**
+     * Write all sheets into an Open Document Spreadsheet.
+     *
+     * @param target
+     *            the stream to write the spreadsheet file to (will be closed)
+     * @throws HmxException
+     *             error while writing to the given stream
+     */
+    public void writeSpreadSheet(final OutputStream target) throws HmxException {
+        try (ZipOutputStream zip = new ZipOutputStream(target)) {
+            // the mime type needs to be the first and uncompressed entry
+            final byte[] mediaType = InterviewAnalysisExport.MEDIA_TYPE.getBytes(StandardCharsets.US_ASCII);
+            final ZipEntry mediaTypeEntry = new ZipEntry("mimetype");
+            mediaTypeEntry.setMethod(ZipEntry.STORED);
+            mediaTypeEntry.setSize(mediaType.length);
+            final CRC32 checksum = new CRC32();
+            checksum.update(mediaType);
+            mediaTypeEntry.setCrc(checksum.getValue());
+            zip.putNextEntry(mediaTypeEntry);
+            zip.write(mediaType);
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("META-INF/manifest.xml"));
+            this.writeManifest(zip);
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("content.xml"));
+            this.writeContent(zip);
+            zip.closeEntry();
+        } catch (final IOException | XMLStreamException ex) {
+            throw new HmxException(AisMessage.ERROR_EXPORT_FAILED, ex);
+        }
+    }
+
+    /**
+     * Write the manifest of the Open Document Spreadsheet.
+     *
+     * @param target
+     *            the stream to write to (will not be closed)
+     * @throws XMLStreamException
+     *             error while writing to the given stream
+     */
+    private void writeManifest(final OutputStream target) throws XMLStreamException {
+        final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(target, "UTF-8");
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.setPrefix("manifest", InterviewAnalysisExport.NAMESPACE_MANIFEST);
+        writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_MANIFEST, "manifest");
+        writer.writeNamespace("manifest", InterviewAnalysisExport.NAMESPACE_MANIFEST);
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_MANIFEST, "version", InterviewAnalysisExport.ODF_VERSION);
+        writer.writeEmptyElement(InterviewAnalysisExport.NAMESPACE_MANIFEST, "file-entry");
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_MANIFEST, "full-path", "/");
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_MANIFEST, "version", InterviewAnalysisExport.ODF_VERSION);
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_MANIFEST, "media-type", InterviewAnalysisExport.MEDIA_TYPE);
+        writer.writeEmptyElement(InterviewAnalysisExport.NAMESPACE_MANIFEST, "file-entry");
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_MANIFEST, "full-path", "content.xml");
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_MANIFEST, "media-type", "text/xml");
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Write the content of the Open Document Spreadsheet, i.e. all sheets.
+     *
+     * @param target
+     *            the stream to write to (will not be closed)
+     * @throws IOException
+     *             error while writing to the given stream
+     * @throws XMLStreamException
+     *             error while writing to the given stream
+     */
+    private void writeContent(final OutputStream target) throws IOException, XMLStreamException {
+        final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(target, "UTF-8");
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.setPrefix("office", InterviewAnalysisExport.NAMESPACE_OFFICE);
+        writer.setPrefix("table", InterviewAnalysisExport.NAMESPACE_TABLE);
+        writer.setPrefix("text", InterviewAnalysisExport.NAMESPACE_TEXT);
+        writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_OFFICE, "document-content");
+        writer.writeNamespace("office", InterviewAnalysisExport.NAMESPACE_OFFICE);
+        writer.writeNamespace("table", InterviewAnalysisExport.NAMESPACE_TABLE);
+        writer.writeNamespace("text", InterviewAnalysisExport.NAMESPACE_TEXT);
+        writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_OFFICE, "version", InterviewAnalysisExport.ODF_VERSION);
+        writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_OFFICE, "body");
+        writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_OFFICE, "spreadsheet");
+        final OdsRowWriter rowWriter = new OdsRowWriter(writer);
+        for (final Sheet singleSheet : Sheet.values()) {
+            writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_TABLE, "table");
+            writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_TABLE, "name", singleSheet.getName());
+            writer.writeEmptyElement(InterviewAnalysisExport.NAMESPACE_TABLE, "table-column");
+            writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_TABLE, "number-columns-repeated",
+                    String.valueOf(this.getColumnCount(singleSheet)));
+            this.writeSheet(singleSheet, rowWriter);
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Write a single sheet as delimiter-separated text, e.g. CSV or TSV. Values containing the delimiter, a double quote, or a line break are
+     * enclosed in double quotes.
+     *
+     * @param sheet
+     *            the sheet to write
+     * @param target
+     *            the writer to write the text to (will not be closed)
+     * @param delimiter
+     *            the character separating the values in a single row (e.g. {@code ','} or {@code '\t'})
+     * @throws HmxException
+     *             error while writing to the given writer
+     */
+    public void writeDelimited(final Sheet sheet, final Writer target, final char delimiter) throws HmxException {
+        try {
+            this.writeSheet(sheet, new DelimitedRowWriter(target, delimiter));
+            target.flush();
+        } catch (final IOException | XMLStreamException ex) {
+            throw new HmxException(AisMessage.ERROR_EXPORT_FAILED, ex);
+        }
+    }
+
+    /**
+     * Determine the number of columns in the given sheet.
+     *
+     * @param sheet
+     *            the sheet to determine the number of columns for
+     * @return number of columns
+     */
+    private int getColumnCount(final Sheet sheet) {
+        final int columnCount;
+        switch (sheet) {
+        case SUMMARY:
+            columnCount = 2 + this.categories.size();
+            break;
+        case SEQUENCE:
+            columnCount = Math.max(1, this.interviews.size());
+            break;
+        default:
+            columnCount = 1 + this.interviews.size();
+            break;
+        }
+        return columnCount;
+    }
+
+    /**
+     * Write the header and all rows of the given sheet.
+     *
+     * @param sheet
+     *            the sheet to write
+     * @param writer
+     *            the row writer to use
+     * @throws IOException
+     *             error while writing delimiter-separated text
+     * @throws XMLStreamException
+     *             error while writing the spreadsheet's content
+     */
+    private void writeSheet(final Sheet sheet, final RowWriter writer) throws IOException, XMLStreamException {
+        switch (sheet) {
+        case SUMMARY:
+            this.writeSummary(writer);
+            break;
+        case SEQUENCE:
+            this.writeSequence(writer);
+            break;
+        default:
+            this.writePatterns(writer);
+            break;
+        }
+    }
+
+    /**
+     * Write the header and all rows of the {@link Sheet#SUMMARY summary} sheet.
+     *
+     * @param writer
+     *            the row writer to use
+     * @throws IOException
+     *             error while writing delimiter-separated text
+     * @throws XMLStreamException
+     *             error while writing the spreadsheet's content
+     */
+    private void writeSummary(final RowWriter writer) throws IOException, XMLStreamException {
+        writer.startRow();
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_INTERVIEW.get());
+        writer.writeText(AisMessage.ANALYSIS_TABLE_HEADER_TOKENCOUNT.get());
+        for (final DetailCategory singleCategory : this.categories) {
+            writer.writeText(singleCategory.getCode());
+        }
+        writer.endRow();
+        for (final Interview singleInterview : this.interviews) {
+            final InterviewAnalysis analysis = this.results.get(singleInterview);
+            writer.startRow();
+            writer.writeText(this.labelProvider.apply(singleInterview));
+            writer.writeNumber(analysis.getTokenCount());
+            for (int categoryIndex = 0; categoryIndex < this.categories.size(); categoryIndex++) {
+                writer.writeNumber(analysis.getOccurrenceCount(categoryIndex));
+            }
+            writer.endRow();
+        }
+    }
+
+    /**
+     * Write the header and all rows of the {@link Sheet#SEQUENCE sequence} sheet.
+     *
+     * @param writer
+     *            the row writer to use
+     * @throws IOException
+     *             error while writing delimiter-separated text
+     * @throws XMLStreamException
+     *             error while writing the spreadsheet's content
+     */
+    private void writeSequence(final RowWriter writer) throws IOException, XMLStreamException {
+        int rowCount = 0;
+        for (final Interview singleInterview : this.interviews) {
+            rowCount = Math.max(rowCount, this.results.get(singleInterview).getDetailSequence().size());
+        }
+        writer.startRow();
+        if (rowCount == 0) {
+            writer.writeText("");
+            writer.endRow();
+            writer.startRow();
+            writer.writeText(AisMessage.ANALYSIS_NOT_SCORED.get());
+            writer.endRow();
+            return;
+        }
+        for (final Interview singleInterview : this.interviews) {
+            writer.writeText(this.labelProvider.apply(singleInterview));
+        }
+        writer.endRow();
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            writer.startRow();
+            for (final Interview singleInterview : this.interviews) {
+                final List<DetailCategory> sequence = this.results.get(singleInterview).getDetailSequence();
+                writer.writeText(rowIndex < sequence.size() ? sequence.get(rowIndex).getCode() : "");
+            }
+            writer.endRow();
+        }
+    }
+
+    /**
+     * Write the header and all rows of the {@link Sheet#PATTERN pattern} sheet.
+     *
+     * @param writer
+     *            the row writer to use
+     * @throws IOException
+     *             error while writing delimiter-separated text
+     * @throws XMLStreamException
+     *             error while writing the spreadsheet's content
+     */
+    private void writePatterns(final RowWriter writer) throws IOException, XMLStreamException {
+        final DetailPatternCounts[] patternCounts = new DetailPatternCounts[this.interviews.size()];
+        for (int columnIndex = 0; columnIndex < patternCounts.length; columnIndex++) {
+            patternCounts[columnIndex] = this.results.get(this.interviews.get(columnIndex)).getPatternCounts();
+        }
+        final DetailPatternCounts aggregated = DetailPatternCounts.aggregate(this.categories, Arrays.asList(patternCounts));
+        final long[] patternKeys = aggregated.getSortedPatternKeys();
+        writer.startRow();
+        if (patternKeys.length == 0) {
+            for (int columnIndex = 0; columnIndex <= patternCounts.length; columnIndex++) {
+                writer.writeText("");
+            }
+            writer.endRow();
+            writer.startRow();
+            writer.writeText(AisMessage.ANALYSIS_NOT_SCORED.get());
+            for (int columnIndex = 0; columnIndex < patternCounts.length; columnIndex++) {
+                writer.writeText("");
+            }
+            writer.endRow();
+            return;
+        }
+        writer.writeText(AisMessage.ANALYSIS_PATTERN.get());
+        for (final Interview singleInterview : this.interviews) {
+            writer.writeText(this.labelProvider.apply(singleInterview));
+        }
+        writer.endRow();
+        final StringBuilder patternText = new StringBuilder();
+        for (final long singlePatternKey : patternKeys) {
+            patternText.setLength(0);
+            for (final DetailCategory singleCategory : aggregated.getPattern(singlePatternKey)) {
+                if (patternText.length() > 0) {
+                    patternText.append(' ');
+                }
+                patternText.append(singleCategory.getCode());
+            }
+            writer.startRow();
+            writer.writeText(patternText.toString());
+            for (final DetailPatternCounts singleInterviewCounts : patternCounts) {
+                writer.writeNumber(singleInterviewCounts.getCount(singlePatternKey));
+            }
+            writer.endRow();
+        }
+    }
+
+    /** Target of the sheets' rows, that is being filled one cell after another. */
+    interface RowWriter {
+
+        /**
+         * Start a new row.
+         *
+         * @throws IOException
+         *             error while writing delimiter-separated text
+         * @throws XMLStreamException
+         *             error while writing the spreadsheet's content
+         */
+        void startRow() throws IOException, XMLStreamException;
+
+        /**
+         * Add a cell with a text value to the current row.
+         *
+         * @param value
+         *            the cell value
+         * @throws IOException
+         *             error while writing delimiter-separated text
+         * @throws XMLStreamException
+         *             error while writing the spreadsheet's content
+         */
+        void writeText(String value) throws IOException, XMLStreamException;
+
+        /**
+         * Add a cell with a numeric value to the current row.
+         *
+         * @param value
+         *            the cell value
+         * @throws IOException
+         *             error while writing delimiter-separated text
+         * @throws XMLStreamException
+         *             error while writing the spreadsheet's content
+         */
+        void writeNumber(long value) throws IOException, XMLStreamException;
+
+        /**
+         * Finish the current row.
+         *
+         * @throws IOException
+         *             error while writing delimiter-separated text
+         * @throws XMLStreamException
+         *             error while writing the spreadsheet's content
+         */
+        void endRow() throws IOException, XMLStreamException;
+    }
+
+    /** Row writer, creating the table rows in the content of an Open Document Spreadsheet. */
+    private static final class OdsRowWriter implements RowWriter {
+
+        /** The stream to write the table rows to. */
+        private final XMLStreamWriter writer;
+
+        /**
+         * Constructor.
+         *
+         * @param writer
+         *            the stream to write the table rows to
+         */
+        OdsRowWriter(final XMLStreamWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void startRow() throws XMLStreamException {
+            this.writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_TABLE, "table-row");
+        }
+
+        @Override
+        public void writeText(final String value) throws XMLStreamException {
+            if (value.isEmpty()) {
+                this.writer.writeEmptyElement(InterviewAnalysisExport.NAMESPACE_TABLE, "table-cell");
+            } else {
+                this.writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_TABLE, "table-cell");
+                this.writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_OFFICE, "value-type", "string");
+                this.writeParagraph(value);
+                this.writer.writeEndElement();
+            }
+        }
+
+        @Override
+        public void writeNumber(final long value) throws XMLStreamException {
+            final String text = String.valueOf(value);
+            this.writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_TABLE, "table-cell");
+            this.writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_OFFICE, "value-type", "float");
+            this.writer.writeAttribute(InterviewAnalysisExport.NAMESPACE_OFFICE, "value", text);
+            this.writeParagraph(text);
+            this.writer.writeEndElement();
+        }
+
+        /**
+         * Write the displayed text of a single cell.
+         *
+         * @param text
+         *            the displayed cell text
+         * @throws XMLStreamException
+         *             error while writing the spreadsheet's content
+         */
+        private void writeParagraph(final String text) throws XMLStreamException {
+            this.writer.writeStartElement(InterviewAnalysisExport.NAMESPACE_TEXT, "p");
+            this.writer.writeCharacters(text);
+            this.writer.writeEndElement();
+        }
+
+        @Override
+        public void endRow() throws XMLStreamException {
+            this.writer.writeEndElement();
+        }
+    }
+
+    /** Row writer, creating delimiter-separated text with one line per row. */
+    static final class DelimitedRowWriter implements RowWriter {
+
+        /** The writer to write the text to. */
+        private final Writer target;
+        /** The character separating the values in a single row. */
+        private final char delimiter;
+        /** Whether the next cell is the first one in the current row. */
+        private boolean firstCellInRow;
+
+        /**
+         * Constructor.
+         *
+         * @param target
+         *            the writer to write the text to
+         * @param delimiter
+         *            the character separating the values in a single row
+         */
+        DelimitedRowWriter(final Writer target, final char delimiter) {
+            this.target = target;
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        public void startRow() {
+            this.firstCellInRow = true;
+        }
+
+        @Override
+        public void writeText(final String value) throws IOException {
+            this.startCell();
+            boolean quoted = false;
+            for (int index = 0; index < value.length() && !quoted; index++) {
+                final char character = value.charAt(index);
+                quoted = character == this.delimiter || character == '"' || character == '\n' || character == '\r';
+            }
+            if (quoted) {
+                this.target.write('"');
+                this.target.write(value.replace("\"", "\"\""));
+                this.target.write('"');
+            } else {
+                this.target.write(value);
+            }
+        }
+
+        @Override
+        public void writeNumber(final long value) throws IOException {
+            this.startCell();
+            this.target.write(Long.toString(value));
+        }
+
+        /**
+         * Write the delimiter, if this is not the first cell in the current row.
+         *
+         * @throws IOException
+         *             error while writing to the target
+         */
+        private void startCell() throws IOException {
+            if (this.firstCellInRow) {
+                this.firstCellInRow = false;
+            } else {
+                this.target.write(this.delimiter);
+            }
+        }
+
+        @Override
+        public void endRow() throws IOException {
+            this.target.write('\n');
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+
+/**
+ * Single pass analysis of interviews: collecting all values of an {@link InterviewAnalysis} while iterating over each interview's tokens only once.
+ * Multiple interviews are being analyzed in parallel.
+ */
+final class InterviewAnalyzer {
+
+    /** The positions of each detail category and its parent categories in the category model – indexed by the detail category's position. */
+    private final int[][] countedCategoryIndices;
+    /** The project's category model. */
+    private final List<DetailCategory> categories;
+    /** The position of each detail category in the category model. */
+    private final Map<DetailCategory, Integer> categoryIndices;
+    /** Minimum number (inclusive) of consecutive detail categories to be included as pattern. */
+    private final int minPatternLength;
+    /** Maximum number (inclusive) of consecutive detail categories to be included as pattern. */
+    private final int maxPatternLength;
+
+    /**
+     * Constructor.
+     *
+     * @param categories
+     *            the project's category model (determining the order of the collected occurrence counts)
+     * @param minPatternLength
+     *            minimum number (inclusive) of consecutive detail categories to be included as pattern
+     * @param maxPatternLength
+     *            maximum number (inclusive) of consecutive detail categories to be included as pattern
+     * @throws IllegalArgumentException
+     *             the pattern lengths are not within {@code 1} and {@link DetailPatternCounts#MAX_PATTERN_LENGTH}
+     */
+    InterviewAnalyzer(final List<DetailCategory> categories, final int minPatternLength, final int maxPatternLength) {
+        if (minPatternLength < 1 || maxPatternLength > DetailPatternCounts.MAX_PATTERN_LENGTH) {
+            throw new IllegalArgumentException("Pattern lengths must be between 1 and " + DetailPatternCounts.MAX_PATTERN_LENGTH);
+        }
+        this.categories = categories;
+        this.categoryIndices = new HashMap<>();
+        for (final DetailCategory singleCategory : categories) {
+            this.categoryIndices.put(singleCategory, this.categoryIndices.size());
+        }
+        this.countedCategoryIndices = new int[categories.size()][];
+        for (int categoryIndex = 0; categoryIndex < this.countedCategoryIndices.length; categoryIndex++) {
+            // count for each parent category as well
+            final List<Integer> indices = new ArrayList<>();
+            for (DetailCategory category = categories.get(categoryIndex); category != null; category = category.getParent()) {
+                indices.add(this.categoryIndices.get(category));
+            }
+            this.countedCategoryIndices[categoryIndex] = indices.stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.minPatternLength = minPatternLength;
+        this.maxPatternLength = maxPatternLength;
+    }
+
+    /**
+     * Analyze the given interviews in parallel.
+     *
+     * @param interviews
+     *            the interviews to analyze
+     * @return analysis result for each given interview (in the same order)
+     */
+    Map<Interview, InterviewAnalysis> analyze(final List<Interview> interviews) {
+        final InterviewAnalysis[] results = new InterviewAnalysis[interviews.size()];
+        ForkJoinPool.commonPool().invoke(new AnalysisTask(interviews, results, 0, results.length));
+        final Map<Interview, InterviewAnalysis> resultMap = new LinkedHashMap<>(interviews.size());
+        for (int interviewIndex = 0; interviewIndex < results.length; interviewIndex++) {
+            resultMap.put(interviews.get(interviewIndex), results[interviewIndex]);
+        }
+        return resultMap;
+    }
+
+    /**
+     * Analyze the given interview.
+     *
+     * @param interview
+     *            the interview to analyze
+     * @return analysis result
+     */
+    InterviewAnalysis analyze(final Interview interview) {
+        long tokenCount = 0;
+        final long[] occurrenceCounts = new long[this.countedCategoryIndices.length];
+        final List<DetailCategory> sequence = new ArrayList<>();
+        final DetailPatternCounts patternCounts = new DetailPatternCounts(this.categories);
+        // the key of the pattern comprised of the last (up to eight) detail categories in the sequence
+        long trailingPatternKey = 0L;
+        for (final TokenParagraph singleParagraph : interview.getParagraphs()) {
+            final int tokenCountInParagraph = singleParagraph.size();
+            for (int tokenIndex = 0; tokenIndex < tokenCountInParagraph; tokenIndex++) {
+                final DetailCategory detail = singleParagraph.getDetail(tokenIndex);
+                if (detail == null) {
+                    continue;
+                }
+                tokenCount++;
+                if (singleParagraph.isFirstTokenOfDetail(tokenIndex)) {
+                    // the assigned token range starts here
+                    sequence.add(detail);
+                    final int categoryIndex = this.categoryIndices.get(detail);
+                    for (final int countedIndex : this.countedCategoryIndices[categoryIndex]) {
+                        occurrenceCounts[countedIndex]++;
+                    }
+                    trailingPatternKey = DetailPatternCounts.append(trailingPatternKey, categoryIndex);
+                    // count all patterns of valid length, that end with the current detail category
+                    final int maxLength = Math.min(this.maxPatternLength, sequence.size());
+                    for (int patternLength = this.minPatternLength; patternLength <= maxLength; patternLength++) {
+                        patternCounts.increment(DetailPatternCounts.tail(trailingPatternKey, patternLength));
+                    }
+                }
+            }
+        }
+        return new InterviewAnalysis(tokenCount, occurrenceCounts, sequence, patternCounts);
+    }
+
+    /** Task analyzing a range of interviews, by splitting it until each sub task handles a single interview. */
+    private final class AnalysisTask extends RecursiveAction {
+
+        /** The interviews to analyze. */
+        private final List<Interview> interviews;
+        /** The array to store the analysis results in (at the same positions as the respective interviews). */
+        private final InterviewAnalysis[] results;
+        /** The position of the first interview to analyze (inclusive). */
+        private final int from;
+        /** The position of the last interview to analyze (exclusive). */
+        private final int to;
+
+        /**
+         * Constructor.
+         *
+         * @param interviews
+         *            the interviews to analyze
+         * @param results
+         *            the array to store the analysis results in
+         * @param from
+         *            the position of the first interview to analyze (inclusive)
+         * @param to
+         *            the position of the last interview to analyze (exclusive)
+         */
+        AnalysisTask(final List<Interview> interviews, final InterviewAnalysis[] results, final int from, final int to) {
+            this.interviews = interviews;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.results[this.from] = InterviewAnalyzer.this.analyze(this.interviews.get(this.from));
+            } else if (this.to > this.from) {
+                final int middle = (this.from + this.to) >>> 1;
+                RecursiveAction.invokeAll(new AnalysisTask(this.interviews, this.results, this.from, middle),
+                        new AnalysisTask(this.interviews, this.results, middle, this.to));
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+
+/**
+ * Single pass tokenizer for interview texts. A sequence of whitespaces (including Unicode space separators) containing at least one line break
+ * ({@code \n}, {@code \r}, or {@code \r\n} – regardless of the platform's line separator) separates two paragraphs. Any other sequence of
+ * whitespaces separates two tokens within a paragraph. Leading and trailing whitespaces are being ignored.
+ */
+final class InterviewTextTokenizer {
+
+    /** Expected number of tokens in a single paragraph, used as initial capacity. */
+    private static final int INITIAL_PARAGRAPH_CAPACITY = 64;
+
+    /** Constructor: private for utility class. */
+    private InterviewTextTokenizer() {
+        // no instances needed
+    }
+
+    /**
+     * Split the given interview text into paragraphs of tokens, without any assigned detail categories. If the text does not contain any tokens, a
+     * single paragraph with one empty token is being returned.
+     *
+     * @param text
+     *            interview text to split into paragraphs and separate tokens
+     * @return tokenized text
+     */
+    static List<TokenParagraph> tokenize(final CharSequence text) {
+        final List<TokenParagraph> paragraphs = new ArrayList<>();
+        final int length = text.length();
+        TokenParagraph paragraph = null;
+        int tokenStart = -1;
+        boolean lineBreakSinceLastToken = false;
+        for (int index = 0; index <= length; index++) {
+            final char character = index < length ? text.charAt(index) : '\n';
+            if (!InterviewTextTokenizer.isWhitespace(character)) {
+                if (tokenStart == -1) {
+                    // a new token starts here
+                    tokenStart = index;
+                    if (paragraph == null || lineBreakSinceLastToken) {
+                        InterviewTextTokenizer.addParagraph(paragraph, paragraphs);
+                        paragraph = new TokenParagraph(InterviewTextTokenizer.INITIAL_PARAGRAPH_CAPACITY);
+                    }
+                    lineBreakSinceLastToken = false;
+                }
+            } else {
+                if (tokenStart != -1) {
+                    // the current token ends here
+                    paragraph.addToken(text.subSequence(tokenStart, index).toString(), null);
+                    tokenStart = -1;
+                }
+                lineBreakSinceLastToken |= character == '\n' || character == '\r';
+            }
+        }
+        if (paragraph == null) {
+            return Collections.singletonList(new TokenParagraph(Collections.singletonList("")));
+        }
+        InterviewTextTokenizer.addParagraph(paragraph, paragraphs);
+        return paragraphs;
+    }
+
+    /**
+     * Mark the given paragraph's tokens as a single (unassigned) detail section and add it to the collected paragraphs.
+     *
+     * @param paragraph
+     *            the filled paragraph (can be {@code null} before the first paragraph, in which case nothing happens)
+     * @param paragraphs
+     *            the collected paragraphs to add the filled one to
+     */
+    private static void addParagraph(final TokenParagraph paragraph, final List<TokenParagraph> paragraphs) {
+        if (paragraph != null) {
+            paragraph.setFirstTokenOfDetail(0, true);
+            paragraph.setLastTokenOfDetail(paragraph.size() - 1, true);
+            paragraphs.add(paragraph.trimToSize());
+        }
+    }
+
+    /**
+     * Check whether the given character is a whitespace, i.e. a space, tab, line break, vertical tab, form feed, or Unicode space,
+     * line, or paragraph separator.
+     *
+     * @param character
+     *            the character to check
+     * @return whether the given character separates tokens
+     */
+    private static boolean isWhitespace(final char character) {
+        if (character <= ' ') {
+            return character == ' ' || character >= '\t' && character <= '\r';
+        }
+        if (character < '\u0080') {
+            return false;
+        }
+        final int type = Character.getType(character);
+        return type == Character.SPACE_SEPARATOR || type == Character.LINE_SEPARATOR || type == Character.PARAGRAPH_SEPARATOR;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Positions of the interview elements in the raw xml content of a persisted project, allowing their contents to be parsed only when they are
+ * actually needed. The positions are determined by a lightweight scan over the markup, that does not decode any text and only needs to understand
+ * the subset of xml being written by this module: comments, CDATA sections, and processing instructions are skipped, while encountering a document
+ * type declaration aborts the scan. As only the markup characters are being inspected, the content is expected to be in an ASCII compatible
+ * encoding (e.g. UTF-8 or ISO-8859-1).
+ */
+final class LazyInterviewIndex {
+
+    /** Offset in an interview's positions: the start of its element. */
+    private static final int ELEMENT_START = 0;
+    /** Offset in an interview's positions: the start of its contents (i.e. the end of its start tag). */
+    private static final int CONTENT_START = 1;
+    /** Offset in an interview's positions: the end of its contents (i.e. the start of its end tag). */
+    private static final int CONTENT_END = 2;
+    /** Offset in an interview's positions: the end of its element. */
+    private static final int ELEMENT_END = 3;
+
+    /** The complete xml content. */
+    private final byte[] content;
+    /** The positions of each interview element in the content, in document order. */
+    private final List<int[]> interviewPositions;
+
+    /**
+     * Constructor.
+     *
+     * @param content
+     *            the complete xml content
+     * @param interviewPositions
+     *            the positions of each interview element in the content, in document order
+     */
+    private LazyInterviewIndex(final byte[] content, final List<int[]> interviewPositions) {
+        this.content = content;
+        this.interviewPositions = interviewPositions;
+    }
+
+    /**
+     * Determine the positions of the interview elements in the given xml content. Only the direct children of the first interview root element
+     * (being itself a direct child of the document element) are being considered.
+     *
+     * @param content
+     *            the complete xml content to scan
+     * @param interviewRootTag
+     *            the (local) name of the element containing the interviews
+     * @param interviewTag
+     *            the (local) name of a single interview element
+     * @return the created index (is {@code null} if no interview root element was found or the content's markup is not supported)
+     */
+    static LazyInterviewIndex scan(final byte[] content, final String interviewRootTag, final String interviewTag) {
+        final List<int[]> interviewPositions = new MarkupScanner(content, interviewRootTag, interviewTag).scan();
+        return interviewPositions == null ? null : new LazyInterviewIndex(content, interviewPositions);
+    }
+
+    /**
+     * Getter for the number of interview elements found in the content.
+     *
+     * @return number of interviews
+     */
+    int getInterviewCount() {
+        return this.interviewPositions.size();
+    }
+
+    /**
+     * Provide the xml content without the contents of the interview elements, i.e. the interviews' start and end tags are kept but everything
+     * between them is omitted.
+     *
+     * @return stream over the reduced xml content
+     */
+    InputStream openSkeleton() {
+        int skeletonLength = this.content.length;
+        for (final int[] singleInterview : this.interviewPositions) {
+            skeletonLength -= singleInterview[LazyInterviewIndex.CONTENT_END] - singleInterview[LazyInterviewIndex.CONTENT_START];
+        }
+        final byte[] skeleton = new byte[skeletonLength];
+        int contentPosition = 0;
+        int skeletonPosition = 0;
+        for (final int[] singleInterview : this.interviewPositions) {
+            final int segmentLength = singleInterview[LazyInterviewIndex.CONTENT_START] - contentPosition;
+            System.arraycopy(this.content, contentPosition, skeleton, skeletonPosition, segmentLength);
+            skeletonPosition += segmentLength;
+            contentPosition = singleInterview[LazyInterviewIndex.CONTENT_END];
+        }
+        System.arraycopy(this.content, contentPosition, skeleton, skeletonPosition, this.content.length - contentPosition);
+        return new ByteArrayInputStream(skeleton);
+    }
+
+    /**
+     * Provide the complete xml element of the interview at the given position – as a standalone xml fragment (without xml declaration).
+     *
+     * @param interviewIndex
+     *            position of the interview in the document order
+     * @return stream over the interview element
+     */
+    InputStream openInterview(final int interviewIndex) {
+        final int[] positions = this.interviewPositions.get(interviewIndex);
+        final int elementStart = positions[LazyInterviewIndex.ELEMENT_START];
+        return new ByteArrayInputStream(this.content, elementStart, positions[LazyInterviewIndex.ELEMENT_END] - elementStart);
+    }
+
+    /** Single pass over the markup of the xml content, keeping track of the element depth. */
+    private static final class MarkupScanner {
+
+        /** The complete xml content to scan. */
+        private final byte[] content;
+        /** The (local) name of the element containing the interviews. */
+        private final byte[] interviewRootTag;
+        /** The (local) name of a single interview element. */
+        private final byte[] interviewTag;
+        /** The positions of each interview element found so far. */
+        private final List<int[]> interviewPositions = new ArrayList<>();
+        /** The number of currently open elements. */
+        private int depth = 0;
+        /** If the interview root element is currently open. */
+        private boolean inInterviewRoot = false;
+        /** The positions of the currently open interview element (is {@code null} if no interview element is open). */
+        private int[] openInterview = null;
+
+        /**
+         * Constructor.
+         *
+         * @param content
+         *            the complete xml content to scan
+         * @param interviewRootTag
+         *            the (local) name of the element containing the interviews
+         * @param interviewTag
+         *            the (local) name of a single interview element
+         */
+        MarkupScanner(final byte[] content, final String interviewRootTag, final String interviewTag) {
+            this.content = content;
+            this.interviewRootTag = interviewRootTag.getBytes(StandardCharsets.US_ASCII);
+            this.interviewTag = interviewTag.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Scan the content up to the end of the interview root element.
+         *
+         * @return the positions of each interview element (is {@code null} if no interview root element was found or the markup is not supported)
+         */
+        List<int[]> scan() {
+            int position = this.indexOf('<', 0);
+            while (position != -1 && position + 1 < this.content.length) {
+                final byte nextCharacter = this.content[position + 1];
+                final int markupEnd;
+                if (nextCharacter == '!' || nextCharacter == '?') {
+                    markupEnd = this.skipDeclaration(position);
+                } else if (nextCharacter == '/') {
+                    markupEnd = this.findTagEnd(position);
+                    if (markupEnd != -1 && this.handleEndTag(position, markupEnd)) {
+                        return this.interviewPositions;
+                    }
+                } else {
+                    markupEnd = this.findTagEnd(position);
+                    if (markupEnd != -1 && this.handleStartTag(position, markupEnd)) {
+                        return this.interviewPositions;
+                    }
+                }
+                if (markupEnd == -1) {
+                    break;
+                }
+                position = this.indexOf('<', markupEnd);
+            }
+            // no (complete) interview root element found or unsupported markup encountered
+            return null;
+        }
+
+        /**
+         * Handle the start tag at the given position.
+         *
+         * @param tagStart
+         *            position of the tag's leading {@code <}
+         * @param tagEnd
+         *            position right after the tag's trailing {@code >}
+         * @return whether the scan is complete, i.e. the (empty) interview root element has been found
+         */
+        private boolean handleStartTag(final int tagStart, final int tagEnd) {
+            final boolean emptyElement = this.content[tagEnd - 2] == '/';
+            if (this.depth == 1 && !this.inInterviewRoot && this.hasLocalName(tagStart + 1, this.interviewRootTag)) {
+                if (emptyElement) {
+                    return true;
+                }
+                this.inInterviewRoot = true;
+            } else if (this.depth == 2 && this.inInterviewRoot && this.hasLocalName(tagStart + 1, this.interviewTag)) {
+                if (emptyElement) {
+                    this.interviewPositions.add(new int[] { tagStart, tagEnd, tagEnd, tagEnd });
+                } else {
+                    this.openInterview = new int[] { tagStart, tagEnd, -1, -1 };
+                }
+            }
+            if (!emptyElement) {
+                this.depth++;
+            }
+            return false;
+        }
+
+        /**
+         * Handle the end tag at the given position.
+         *
+         * @param tagStart
+         *            position of the tag's leading {@code <}
+         * @param tagEnd
+         *            position right after the tag's trailing {@code >}
+         * @return whether the scan is complete, i.e. the end of the interview root element has been reached
+         */
+        private boolean handleEndTag(final int tagStart, final int tagEnd) {
+            this.depth--;
+            if (this.depth == 2 && this.openInterview != null) {
+                this.openInterview[LazyInterviewIndex.CONTENT_END] = tagStart;
+                this.openInterview[LazyInterviewIndex.ELEMENT_END] = tagEnd;
+                this.interviewPositions.add(this.openInterview);
+                this.openInterview = null;
+            }
+            return this.depth == 1 && this.inInterviewRoot;
+        }
+
+        /**
+         * Skip the comment, CDATA section, or processing instruction at the given position.
+         *
+         * @param position
+         *            position of the leading {@code <}
+         * @return position right after the skipped markup (is {@code -1} if it is not terminated or a document type declaration)
+         */
+        private int skipDeclaration(final int position) {
+            final String terminator;
+            if (this.startsWith(position, "<!--")) {
+                terminator = "-->";
+            } else if (this.startsWith(position, "<![CDATA[")) {
+                terminator = "]]>";
+            } else if (this.content[position + 1] == '?') {
+                terminator = "?>";
+            } else {
+                // document type declarations (potentially declaring entities) are not supported
+                return -1;
+            }
+            for (int index = position + 2; index <= this.content.length - terminator.length(); index++) {
+                if (this.startsWith(index, terminator)) {
+                    return index + terminator.length();
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Find the end of the tag at the given position, ignoring any {@code >} in (quoted) attribute values.
+         *
+         * @param tagStart
+         *            position of the tag's leading {@code <}
+         * @return position right after the tag's trailing {@code >} (is {@code -1} if the tag is not terminated)
+         */
+        private int findTagEnd(final int tagStart) {
+            byte openQuote = 0;
+            for (int index = tagStart + 1; index < this.content.length; index++) {
+                final byte character = this.content[index];
+                if (openQuote != 0) {
+                    if (character == openQuote) {
+                        openQuote = 0;
+                    }
+                } else if (character == '"' || character == '\'') {
+                    openQuote = character;
+                } else if (character == '>') {
+                    return index + 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Check whether the tag name starting at the given position has the given local name, i.e. ignoring any namespace prefix.
+         *
+         * @param nameStart
+         *            position of the tag name's first character
+         * @param localName
+         *            the expected local name
+         * @return whether the tag name matches
+         */
+        private boolean hasLocalName(final int nameStart, final byte[] localName) {
+            int nameEnd = nameStart;
+            int localNameStart = nameStart;
+            while (nameEnd < this.content.length && !MarkupScanner.isNameTerminator(this.content[nameEnd])) {
+                if (this.content[nameEnd] == ':') {
+                    localNameStart = nameEnd + 1;
+                }
+                nameEnd++;
+            }
+            if (nameEnd - localNameStart != localName.length) {
+                return false;
+            }
+            for (int index = 0; index < localName.length; index++) {
+                if (this.content[localNameStart + index] != localName[index]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Check whether the given character terminates a tag name.
+         *
+         * @param character
+         *            the character to check
+         * @return whether the character is a white space, {@code /}, or {@code >}
+         */
+        private static boolean isNameTerminator(final byte character) {
+            return character == ' ' || character == '\t' || character == '\r' || character == '\n' || character == '/' || character == '>';
+        }
+
+        /**
+         * Check whether the content contains the given (ASCII) text at the given position.
+         *
+         * @param position
+         *            position to check
+         * @param text
+         *            the expected text
+         * @return whether the text was found
+         */
+        private boolean startsWith(final int position, final String text) {
+            if (position + text.length() > this.content.length) {
+                return false;
+            }
+            for (int index = 0; index < text.length(); index++) {
+                if (this.content[position + index] != text.charAt(index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Find the next occurrence of the given (ASCII) character.
+         *
+         * @param character
+         *            the character to find
+         * @param fromPosition
+         *            position to start searching from
+         * @return position of the found character (is {@code -1} if there is none)
+         */
+        private int indexOf(final char character, final int fromPosition) {
+            for (int index = fromPosition; index < this.content.length; index++) {
+                if (this.content[index] == character) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    }
+}
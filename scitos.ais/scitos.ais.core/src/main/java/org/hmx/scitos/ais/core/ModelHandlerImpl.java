@@ -23,41 +23,29 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import org.hmx.scitos.ais.core.i18n.AisMessage;
 import org.hmx.scitos.ais.domain.IDetailCategoryProvider;
 import org.hmx.scitos.ais.domain.model.AisProject;
 import org.hmx.scitos.ais.domain.model.DetailCategory;
 import org.hmx.scitos.ais.domain.model.Interview;
 import org.hmx.scitos.ais.domain.model.TextToken;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
 import org.hmx.scitos.core.AbstractModelHandler;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.domain.IReversibleChange;
 import org.hmx.scitos.domain.util.CollectionUtil;
-import org.hmx.scitos.domain.util.ComparisonUtil;
 
 /**
  * Single manager for handling model changes in an {@link AisProject}.
  */
 public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> implements AisModelHandler {
 
-    /** RegEx: where to split an interview's text into separate paragraphs (at line separators). */
-    private static final String REGEX_PARAGRAPH_SEPARATOR = "[\\s\\p{Z}]*[" + System.getProperty("line.separator") + "]([\\s\\p{Z}]*["
-            + System.getProperty("line.separator") + "]*[\\s\\p{Z}]*)+";
-    /** RegEx: where to split an interview's paragraph text into separate tokens (at whitespaces). */
-    private static final String REGEX_TOKEN_SEPARATOR = "[\\s\\p{Z}]+";
-
     /**
      * Main constructor.
      *
@@ -79,17 +67,12 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         // get rid of leading/trailing whitespaces
         final String cleanId = participantId.trim();
         // determine the highest interview index for this participant, that is in use
-        int maxUsedIndex = 0;
-        for (final Interview singleInterview : this.getModel().getInterviews()) {
-            if (cleanId.equals(singleInterview.getParticipantId())) {
-                maxUsedIndex = Math.max(maxUsedIndex, singleInterview.getIndex());
-            }
-        }
+        final List<Interview> participantsInterviews = this.getModel().getInterviews(cleanId);
+        final int maxUsedIndex = participantsInterviews.isEmpty() ? 0 : participantsInterviews.get(participantsInterviews.size() - 1).getIndex();
         // instantiate a new Interview for the given participant with the next higher index
         final Interview interview = new Interview(cleanId, maxUsedIndex + 1);
         if (text != null) {
-            final List<TextToken> paragraphs = this.determineTokensFromText(text);
-            interview.setText(paragraphs);
+            interview.setParagraphs(this.determineTokensFromText(text));
         }
         final List<Interview> interviews = new ArrayList<>(this.getModel().getInterviews());
         interviews.add(interview);
@@ -105,19 +88,50 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
 
     @Override
     public List<Interview> createInterviews(final Collection<? extends InterviewToCreate> interviewsToCreate) {
-        final List<Interview> newInterviews = interviewsToCreate.stream()
-                .map(toCreate -> this.createInterview(toCreate.getParticipantId(), toCreate.getInterviewText()))
+        final List<InterviewToCreate> toCreate = new ArrayList<>(interviewsToCreate);
+        // tokenize all interview texts in parallel, before touching the model
+        final List<List<TokenParagraph>> tokenizedTexts = toCreate.parallelStream()
+                .map(InterviewToCreate::getInterviewText)
+                .map(text -> text == null ? null : this.determineTokensFromText(text))
                 .collect(Collectors.toList());
+        final List<Interview> newInterviews = new ArrayList<>(toCreate.size());
+        synchronized (this) {
+            // determine the highest interview index for each participant, that is in use
+            final Map<String, Integer> maxUsedIndices = new HashMap<>();
+            for (final Interview singleInterview : this.getModel().getInterviews()) {
+                maxUsedIndices.merge(singleInterview.getParticipantId(), singleInterview.getIndex(), Math::max);
+            }
+            for (int interviewIndex = 0; interviewIndex < toCreate.size(); interviewIndex++) {
+                // get rid of leading/trailing whitespaces
+                final String cleanId = toCreate.get(interviewIndex).getParticipantId().trim();
+                // instantiate a new Interview for the given participant with the next higher index
+                final Interview interview = new Interview(cleanId, maxUsedIndices.merge(cleanId, 1, Integer::sum));
+                final List<TokenParagraph> paragraphs = tokenizedTexts.get(interviewIndex);
+                if (paragraphs != null) {
+                    interview.setParagraphs(paragraphs);
+                }
+                newInterviews.add(interview);
+            }
+            if (!newInterviews.isEmpty()) {
+                final List<Interview> interviews = new ArrayList<>(this.getModel().getInterviews().size() + newInterviews.size());
+                interviews.addAll(this.getModel().getInterviews());
+                interviews.addAll(newInterviews);
+                this.getModel().setInterviews(interviews);
+                // trigger a single model change event for the whole model (instead of one per created interview)
+                this.notifyListeners(this.getModel(), false);
+            }
+        }
         return newInterviews;
     }
 
     @Override
     public synchronized void setInterviewText(final Interview interview, final String text) {
-        final List<TextToken> paragraphs = this.determineTokensFromText(text);
+        final List<TokenParagraph> replacedParagraphs = new ArrayList<>(interview.getParagraphs());
+        final List<TokenParagraph> paragraphs = this.determineTokensFromText(text);
         // add the collected paragraphs to the given interview
-        interview.setText(paragraphs);
+        interview.setParagraphs(paragraphs);
         // trigger model change event for the modified interview
-        this.notifyListeners(interview, true);
+        this.notifyListeners(interview, true, new InterviewTextChange(interview, replacedParagraphs));
     }
 
     /**
@@ -126,26 +140,9 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
      * @param text interview text to split into paragraphs and separate tokens
      * @return tokenized text
      */
-    private List<TextToken> determineTokensFromText(final String text) {
-        final List<TextToken> paragraphs = new ArrayList<>();
-        // split text into paragraphs at line separators
-        for (final String singleParagraph : text.split(ModelHandlerImpl.REGEX_PARAGRAPH_SEPARATOR)) {
-            // separate paragraph into tokens (ideally words) at whitespaces
-            final String[] texts = singleParagraph.split(ModelHandlerImpl.REGEX_TOKEN_SEPARATOR);
-            // tokens are stored as a double linked list (each token knows the previous and following token)
-            final TextToken firstToken = new TextToken(texts[0]).setFirstTokenOfDetail(true);
-            // iterate over all tokens to build that double linked list for this paragraph
-            TextToken previousToken = firstToken;
-            for (final String singleTokenText : Arrays.asList(texts).subList(1, texts.length)) {
-                final TextToken currentToken = new TextToken(singleTokenText).setPreviousToken(previousToken);
-                previousToken.setFollowingToken(currentToken);
-                previousToken = currentToken;
-            }
-            previousToken.setLastTokenOfDetail(true);
-            // add paragraph represented by the first token (of the double linked list) to the list of paragraphs
-            paragraphs.add(firstToken);
-        }
-        return paragraphs;
+    private List<TokenParagraph> determineTokensFromText(final String text) {
+        // split text into paragraphs at line breaks and separate each paragraph into tokens (ideally words) at whitespaces
+        return InterviewTextTokenizer.tokenize(text);
     }
 
     @Override
@@ -153,7 +150,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         // collect all interviews of the model (to modify and reset this list to the model)
         final List<Interview> interviews = new ArrayList<>(this.getModel().getInterviews());
         // get the list of interviews for the same participant (as they might be affected by changing indices)
-        final List<Interview> affectedInterviews = this.getModel().getSubModelObjects().get(interview.getParticipantId());
+        final List<Interview> affectedInterviews = this.getModel().getInterviews(interview.getParticipantId());
         if (affectedInterviews.size() > interview.getIndex()) {
             // reduce the index of all following interviews of the same participant by one
             for (final Interview followingInterview : affectedInterviews.subList(interview.getIndex(), affectedInterviews.size())) {
@@ -171,28 +168,13 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
     @Override
     public synchronized void assignDetailCategory(final Interview interview, final List<TextToken> tokens, final DetailCategory category)
             throws HmxException {
-        // check if the designated tokens are interrupted by other tokens
-        boolean isContiguous = true;
         // assume the given tokens are in the same paragraph and the correct order
-        TextToken expectedToken = tokens.get(0);
-        for (final TextToken singleToken : tokens) {
-            if (expectedToken == singleToken) {
-                expectedToken = expectedToken.getFollowingToken();
-            } else {
-                // encountered another token that is not in the given list
-                isContiguous = false;
-                break;
-            }
-        }
-        if (isContiguous) {
-            // assigning a category to a contiguous selection always works
-            this.assignDetailCategoryToContiguousTokens(tokens, category);
-        } else {
-            // assigning a category to an interrupted selection may yield a HmxException, if the selection is deemed invalid
-            this.assignDetailCategoryToInterruptedTokenRange(tokens, category);
-        }
+        final TokenParagraph paragraph = tokens.get(0).getParagraph();
+        final int[] positions = tokens.stream().mapToInt(TextToken::getPosition).toArray();
+        final DetailCategoryAssignment assignment = new DetailCategoryAssignment(paragraph);
+        assignment.assign(positions, category);
         // trigger model change event for the modified interview
-        this.notifyListeners(interview, true);
+        this.notifyListeners(interview, true, new DetailAssignmentChange(interview, assignment));
     }
 
     @Override
@@ -202,19 +184,18 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         // remove or replace all old detail categories in all interviews
         for (final Interview singleInterview : this.getModel().getInterviews()) {
             // iterate over each paragraph
-            for (final TextToken paragraphStart : singleInterview.getText()) {
-                // iterate over double linked list of tokens (each token knows the previous and following token)
-                TextToken currentToken = paragraphStart;
-                while (currentToken != null) {
+            for (final TokenParagraph singleParagraph : singleInterview.getParagraphs()) {
+                // iterate over all tokens in the paragraph
+                for (int tokenIndex = 0; tokenIndex < singleParagraph.size(); tokenIndex++) {
+                    final DetailCategory oldDetail = singleParagraph.getDetail(tokenIndex);
                     // check if the token has an assigned (old) detail category and if a mapping was provided for it
-                    if (currentToken.getDetail() != null && mappedOldToNew.containsKey(currentToken.getDetail())) {
+                    if (oldDetail != null && mappedOldToNew.containsKey(oldDetail)) {
                         // apply mapping to set new category instead of old (leave start/end unchanged)
-                        currentToken.setDetail(mappedOldToNew.get(currentToken.getDetail()));
-                    } else if (currentToken.getDetail() != null) {
+                        singleParagraph.setDetail(tokenIndex, mappedOldToNew.get(oldDetail));
+                    } else if (oldDetail != null) {
                         // no mapping for old category provided, remove it while making sure the scoring stays valid
-                        this.assignDetailCategoryToContiguousTokens(Arrays.asList(currentToken), null);
+                        new DetailCategoryAssignment(singleParagraph).assignToContiguousTokens(tokenIndex, tokenIndex, null);
                     }
-                    currentToken = currentToken.getFollowingToken();
                 }
             }
         }
@@ -222,390 +203,6 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         this.notifyListeners(this.getModel(), true);
     }
 
-    /**
-     * Assign the specified detail category to the given token range. The given tokens are assumed to be in the correct, uninterrupted order as they
-     * are appearing in a single paragraph of an interview.
-     *
-     * @param tokens
-     *            the range of tokens to assign the specified detail category to, thereby replacing any already assigned detail category
-     * @param category
-     *            the detail category to assign
-     */
-    private void assignDetailCategoryToContiguousTokens(final List<TextToken> tokens, final DetailCategory category) {
-        // validate affected sections (that end or start in the selected token range)
-        for (final Entry<DetailCategory, CategoryConflictHandler> singleSection : this.collectIntersectedCategories(tokens).entrySet()) {
-            final int startsToMoveCount = singleSection.getValue().getNumberOfStartedButNotEndedConflicts();
-            if (startsToMoveCount > 0) {
-                // more sections of this category are being opened than closed in the selected tokens
-                this.moveCategorySectionStartToTheRight(tokens.get(tokens.size() - 1).getFollowingToken(), singleSection.getKey(),
-                        startsToMoveCount);
-            }
-            final int endsToMoveCount = singleSection.getValue().getNumberOfEndedButNotStartedConflicts();
-            if (endsToMoveCount > 0) {
-                // less sections of this category are being opened than closed in the selected tokens: move section ends to the left
-                this.moveCategorySectionEndToTheLeft(tokens.get(0).getPreviousToken(), singleSection.getKey(), endsToMoveCount);
-            }
-        }
-        // replace currently assigned categories and clear start/end markers for all targeted tokens
-        tokens.forEach(selectedToken -> selectedToken.setDetail(category).setFirstTokenOfDetail(false).setLastTokenOfDetail(false));
-        // set start marker if separation is required
-        final TextToken firstTarget = tokens.get(0);
-        final TextToken lastBeforeSelection = firstTarget.getPreviousToken();
-        if (lastBeforeSelection != null && lastBeforeSelection.getDetail() == null) {
-            // previous token's category == null, only separate if assigned category != null
-            lastBeforeSelection.setLastTokenOfDetail(category != null);
-            firstTarget.setFirstTokenOfDetail(category != null);
-        } else {
-            // paragraph starts or the previous token has an assigned category, we need separation
-            firstTarget.setFirstTokenOfDetail(true);
-        }
-        // set end marker if separation is required
-        final TextToken lastTarget = tokens.get(tokens.size() - 1);
-        final TextToken firstAfterSelection = lastTarget.getFollowingToken();
-        if (firstAfterSelection != null && firstAfterSelection.getDetail() == null) {
-            // following token's category == null, only separate if assigned category != null
-            lastTarget.setLastTokenOfDetail(category != null);
-            firstAfterSelection.setFirstTokenOfDetail(category != null);
-        } else {
-            // paragraph ends or the following token has an assigned category, we need separation
-            lastTarget.setLastTokenOfDetail(true);
-        }
-    }
-
-    /**
-     * Assign the specified detail category to the given token range. The given tokens are assumed to be in the correct order as they are appearing in
-     * a single paragraph of an interview. But at least one other token between the first and last token of the given range is not part of the given
-     * tokens – i.e. the token range is interrupted by other tokens that should maintain their currently assigned detail categories.
-     *
-     * @param tokens
-     *            the tokens to assign the specified detail category to, thereby replacing any already assigned detail category
-     * @param category
-     *            the detail category to assign
-     * @throws HmxException
-     *             assigning a detail category to the given interrupted token range would result in an invalid model state (i.e. alternate assignments
-     *             like ABAB), which cannot be represented by the assumed hierarchical structure
-     */
-    private void assignDetailCategoryToInterruptedTokenRange(final List<TextToken> tokens, final DetailCategory category) throws HmxException {
-        final List<List<TextToken>> parts = this.collectInterruptedSelectionParts(tokens);
-        /*
-         * an interrupted selection can only work if there are no intersections with other interrupted category ranges, i.e. any opened details in the
-         * first selected part can be resolved in the enclosed section, any closed details in the last selected part can also be resolved in the
-         * enclosed section, and after resolving these the enclosed section must be self-contained
-         */
-        final int maxEnclosedPartIndex = parts.size() - 2;
-        // check all intersected detail category assignments for unresolvable conflicts
-        for (int leadPartIndex = 0; leadPartIndex < maxEnclosedPartIndex; leadPartIndex += 2) {
-            final List<TextToken> leadingSelection = parts.get(leadPartIndex);
-            final List<TextToken> enclosedUnselectedSection = parts.get(leadPartIndex + 1);
-            final List<TextToken> trailingSelection = parts.get(leadPartIndex + 2);
-            // throw an Exception if this would result in an invalid model state
-            this.checkValidityOfIntersectedCategoryAssignments(leadingSelection, enclosedUnselectedSection, trailingSelection);
-        }
-        // now, that the previous run did not yield an error, actually resolve those intersected detail category assignments
-        this.resolveIntersectedCategoryAssignments(parts);
-        // the currently assigned categories should be replaced
-        tokens.forEach(selectedToken -> selectedToken.setDetail(category).setFirstTokenOfDetail(false).setLastTokenOfDetail(false));
-        // set start/end markers for the whole selection
-        if (category != null) {
-            // set start marker on first token in first selected part (i.e. token range)
-            parts.get(0).get(0).setFirstTokenOfDetail(true);
-            // set end marker on last token in last selected part (i.e. token range)
-            final List<TextToken> lastSelectedPart = parts.get(parts.size() - 1);
-            lastSelectedPart.get(lastSelectedPart.size() - 1).setLastTokenOfDetail(true);
-        }
-        // set start/end markers where appropriate; skip each second part, as it contains the unselected tokens
-        for (int selectedPartIndex = 0; selectedPartIndex < parts.size(); selectedPartIndex += 2) {
-            final List<TextToken> selectedPart = parts.get(selectedPartIndex);
-            final TextToken firstTarget = selectedPart.get(0);
-            final TextToken lastBeforeSelection = firstTarget.getPreviousToken();
-            if (lastBeforeSelection != null && lastBeforeSelection.getDetail() == null) {
-                // previous token has no assigned category
-                lastBeforeSelection.setLastTokenOfDetail(category != null);
-                if (category == null) {
-                    // no separation between tokens without assigned category
-                    firstTarget.setFirstTokenOfDetail(false);
-                }
-            } else if (category == null) {
-                // separate firstTarget from previous non-null token
-                firstTarget.setFirstTokenOfDetail(true);
-            }
-            final TextToken lastTarget = selectedPart.get(selectedPart.size() - 1);
-            final TextToken firstAfterSelection = lastTarget.getFollowingToken();
-            if (firstAfterSelection != null && firstAfterSelection.getDetail() == null) {
-                // following token has no assigned category
-                firstAfterSelection.setFirstTokenOfDetail(category != null);
-                if (category == null) {
-                    // no separation between tokens without assigned category
-                    lastTarget.setLastTokenOfDetail(false);
-                }
-            } else if (category == null) {
-                // separate lastTarget from following non-null token
-                lastTarget.setLastTokenOfDetail(true);
-            }
-        }
-    }
-
-    /**
-     * Resolve any detail category assignments from the odd numbered token list parts (i.e. first, third, fifth, ...) in order to assign another (new)
-     * detail category to same
-     *
-     * @param parts
-     *            the text token range parts alternating selected (i.e. going to be changed) and unselected (i.e. should maintain their current
-     *            assigned detail categories)
-     * @see #assignDetailCategoryToInterruptedTokenRange(List, DetailCategory)
-     */
-    private void resolveIntersectedCategoryAssignments(final List<List<TextToken>> parts) {
-        final int maxEnclosedPartIndex = parts.size() - 2;
-        for (int leadPartIndex = 0; leadPartIndex < maxEnclosedPartIndex; leadPartIndex += 2) {
-            // resolve conflicts in first selected section
-            final List<TextToken> leadingSelection = parts.get(leadPartIndex);
-            for (final Entry<DetailCategory, CategoryConflictHandler> conflict : this.collectIntersectedCategories(leadingSelection).entrySet()) {
-                final int startsToMoveCount = conflict.getValue().getNumberOfStartedButNotEndedConflicts();
-                if (startsToMoveCount > 0) {
-                    // more sections of this category are being opened than closed in the selected tokens
-                    final TextToken firstEnclosedToken = parts.get(leadPartIndex + 1).get(0);
-                    this.moveCategorySectionStartToTheRight(firstEnclosedToken, conflict.getKey(), startsToMoveCount);
-                }
-                final int endsToMoveCount = conflict.getValue().getNumberOfEndedButNotStartedConflicts();
-                if (endsToMoveCount > 0 && leadPartIndex == 0) {
-                    // less sections of this category are being opened than closed in the selected tokens (only apply for first selection part)
-                    final TextToken lastTokenBeforeParts = leadingSelection.get(0).getPreviousToken();
-                    this.moveCategorySectionEndToTheLeft(lastTokenBeforeParts, conflict.getKey(), endsToMoveCount);
-                }
-            }
-            // resolve conflicts in last selected section
-            final List<TextToken> trailingSelection = parts.get(leadPartIndex + 2);
-            for (final Entry<DetailCategory, CategoryConflictHandler> conflict : this.collectIntersectedCategories(trailingSelection).entrySet()) {
-                final int startsToMoveCount = conflict.getValue().getNumberOfStartedButNotEndedConflicts();
-                if (startsToMoveCount > 0 && leadPartIndex + 1 == maxEnclosedPartIndex) {
-                    // more sections of this category are being opened than closed in the selected tokens (only apply for last selection part)
-                    final TextToken firstTokenAfterParts = trailingSelection.get(trailingSelection.size() - 1).getFollowingToken();
-                    this.moveCategorySectionStartToTheRight(firstTokenAfterParts, conflict.getKey(), startsToMoveCount);
-                }
-                final int endsToMoveCount = conflict.getValue().getNumberOfEndedButNotStartedConflicts();
-                if (endsToMoveCount > 0) {
-                    // less sections of this category are being opened than closed in the selected tokens: move section ends to the left
-                    final TextToken lastEnclosedToken = trailingSelection.get(0).getPreviousToken();
-                    this.moveCategorySectionEndToTheLeft(lastEnclosedToken, conflict.getKey(), endsToMoveCount);
-                }
-            }
-        }
-    }
-
-    /**
-     * Assemble a list of consecutive tokens from the given list of selected one, producing a result list of alternating selected and enclosed,
-     * unselected tokens. The result is always an odd number of parts (one, three, five, ...).
-     *
-     * @param selectedTokens
-     *            the tokens to be deemed as selected, and to determine any enclosed tokens from
-     * @return list of consecutive tokens with the the selected ones in every odd part (first, third, fifth, ...) and the enclosed tokens in every
-     *         even part (second, fourth, ...)
-     */
-    private List<List<TextToken>> collectInterruptedSelectionParts(final List<TextToken> selectedTokens) {
-        final List<List<TextToken>> parts = new ArrayList<>();
-        // determine the first token out of the targeted range to end the following loop on
-        final TextToken firstTokenAfterSelection = selectedTokens.get(selectedTokens.size() - 1).getFollowingToken();
-        List<TextToken> currentPart = new ArrayList<>();
-        // alternate between selected and unselected sections (i.e. token ranges)
-        boolean currentPartSelected = true;
-        TextToken currentToken = selectedTokens.get(0);
-        do {
-            if (currentPartSelected != CollectionUtil.containsInstance(selectedTokens, currentToken)) {
-                // switch between selected/unselected section
-                currentPartSelected = !currentPartSelected;
-                // add current part to result list
-                parts.add(currentPart);
-                // create a new part list
-                currentPart = new ArrayList<>();
-            }
-            currentPart.add(currentToken);
-            currentToken = currentToken.getFollowingToken();
-        } while (currentToken != firstTokenAfterSelection);
-        // don't forget the last part list
-        parts.add(currentPart);
-        return parts;
-    }
-
-    /**
-     * Check if the given two selection parts (each with 1..n tokens) with enclosed unselected tokens (1..n tokens) is valid to be part of a category
-     * assignment. The given tokens are assumed to be in the correct order (leadingSelection, enclosedUnselectedSection, trailingSection).
-     *
-     * @param leadingSelection
-     *            the selected tokens – supposedly receiving a new detail category assignment – in front of the enclosed tokens
-     * @param enclosedUnselectedSection
-     *            the unselected tokens – that should maintain their assigned detail categories – enclosed by selected tokens
-     * @param trailingSelection
-     *            the selected tokens – supposedly receiving a new detail category assignment – following the enclosed tokens
-     * @throws HmxException
-     *             assigning a detail category to the given interrupted token range would result in an invalid model state (i.e. alternate assignments
-     *             like ABAB), which cannot be represented by the assumed hierarchical structure
-     */
-    private void checkValidityOfIntersectedCategoryAssignments(final List<TextToken> leadingSelection,
-            final List<TextToken> enclosedUnselectedSection, final List<TextToken> trailingSelection) throws HmxException {
-        // collect category assignments that need to be resolved from the leading and trailing selection
-        final Map<DetailCategory, CategoryConflictHandler> leadingConflicts = this.collectIntersectedCategories(leadingSelection);
-        final Map<DetailCategory, CategoryConflictHandler> trailingConflicts = this.collectIntersectedCategories(trailingSelection);
-        // collect open category assignments from the enclosed unselected tokens
-        final Map<DetailCategory, CategoryConflictHandler> enclosedConflicts = this.collectIntersectedCategories(enclosedUnselectedSection);
-        for (final Entry<DetailCategory, CategoryConflictHandler> singleConflict : enclosedConflicts.entrySet()) {
-            final DetailCategory conflictingDetail = singleConflict.getKey();
-            final int startsToMoveCount = singleConflict.getValue().getNumberOfStartedButNotEndedConflicts();
-            final int endsToMoveCount = singleConflict.getValue().getNumberOfEndedButNotStartedConflicts();
-            // detail category is not starting but ending in the enclosed part
-            final boolean requiredDetailStartNotMet = endsToMoveCount > 0
-                    && (!leadingConflicts.containsKey(conflictingDetail) || endsToMoveCount < leadingConflicts.get(conflictingDetail)
-                    .getNumberOfStartedButNotEndedConflicts());
-            // detail category is starting but not ending in the enclosed part
-            final boolean requiredDetailEndNotMet = startsToMoveCount > 0
-                    && (!trailingConflicts.containsKey(conflictingDetail) || startsToMoveCount < trailingConflicts.get(conflictingDetail)
-                    .getNumberOfEndedButNotStartedConflicts());
-            if (requiredDetailStartNotMet || requiredDetailEndNotMet) {
-                // the intersected detail category cannot be resolved
-                throw new HmxException(AisMessage.ERROR_AIS_SELECTION_INVALID);
-            }
-        }
-        // also regard category assignments, with neither start nor end in the enclosed section
-        final DetailCategory enclosedOrphan = this.collectPossibleOrphanCategory(enclosedUnselectedSection);
-        if (enclosedOrphan != null
-                && (!leadingConflicts.containsKey(enclosedOrphan) || !trailingConflicts.containsKey(enclosedOrphan)
-                || leadingConflicts.get(enclosedOrphan).getNumberOfStartedButNotEndedConflicts() < 1 || trailingConflicts.get(
-                enclosedOrphan).getNumberOfEndedButNotStartedConflicts() < 1)) {
-            // the enclosed detail category could not be resolved
-            throw new HmxException(AisMessage.ERROR_AIS_SELECTION_INVALID);
-        }
-    }
-
-    /**
-     * Collect the intersected detail category assignments, that are not fully contained in the given token range. Each category contained in the
-     * resulting map either starts in the given range and ends outside of (i.e. after) the given range (+1 for each opened detail without a close), or
-     * starts outside of (i.e. before) the given range and ends in the given range (-1 for each closed detail without a start).
-     *
-     * @param tokenRange
-     *            range of tokens to check for not-self-contained detail categories
-     * @return not-self-contained detail categories: {@code +1} for each opened detail without a close, and {@code -1} for each closed detail without
-     *         a start
-     */
-    private Map<DetailCategory, CategoryConflictHandler> collectIntersectedCategories(final List<TextToken> tokenRange) {
-        final Map<DetailCategory, CategoryConflictHandler> affectedSections = new HashMap<>();
-        for (final TextToken selectedToken : tokenRange) {
-            // ignore null categories and single tokens that are start and stop in themselves
-            if (selectedToken.getDetail() == null || selectedToken.isFirstTokenOfDetail() == selectedToken.isLastTokenOfDetail()) {
-                continue;
-            }
-            if (!affectedSections.containsKey(selectedToken.getDetail())) {
-                affectedSections.put(selectedToken.getDetail(), new CategoryConflictHandler());
-            }
-            affectedSections.get(selectedToken.getDetail()).addCategoryChange(selectedToken.isFirstTokenOfDetail());
-        }
-        // discard fully contained category assignments
-        final Iterator<CategoryConflictHandler> resultCountIterator = affectedSections.values().iterator();
-        while (resultCountIterator.hasNext()) {
-            if (!resultCountIterator.next().hasUnresolvedConflicts()) {
-                resultCountIterator.remove();
-            }
-        }
-        return affectedSections;
-    }
-
-    /**
-     * Collect the intersected detail category assignments, that are not fully contained in the given token range. Each category contained in the
-     * resulting map either starts in the given range and ends outside of (i.e. after) the given range (+1 for each opened detail without a close), or
-     * starts outside of (i.e. before) the given range and ends in the given range (-1 for each closed detail without a start).
-     *
-     * @param tokenRange
-     *            range of tokens to check for not-self-contained detail categories
-     * @return not-self-contained detail category that has neither start nor end in the given range
-     * @throws HmxException
-     *             the token range contains a detail category that neither starts or ends there (and throwExceptionOnOrphanedToken was set to true)
-     */
-    private DetailCategory collectPossibleOrphanCategory(final List<TextToken> tokenRange) throws HmxException {
-        final Map<DetailCategory, AtomicInteger> affectedSections = new HashMap<>();
-        final Set<DetailCategory> possibleOrphans = new HashSet<>();
-        for (final TextToken selectedToken : tokenRange) {
-            if (selectedToken.getDetail() != null && !selectedToken.isFirstTokenOfDetail() && !selectedToken.isLastTokenOfDetail()
-                    && (!affectedSections.containsKey(selectedToken.getDetail()) || affectedSections.get(selectedToken.getDetail()).get() <= 0)) {
-                possibleOrphans.add(selectedToken.getDetail());
-            }
-            // ignore null categories and single tokens that are start and stop in themselves
-            if (selectedToken.getDetail() != null && selectedToken.isFirstTokenOfDetail() != selectedToken.isLastTokenOfDetail()) {
-                if (!affectedSections.containsKey(selectedToken.getDetail())) {
-                    affectedSections.put(selectedToken.getDetail(), new AtomicInteger(0));
-                }
-                if (selectedToken.isFirstTokenOfDetail()) {
-                    // +1 for each opened detail
-                    affectedSections.get(selectedToken.getDetail()).incrementAndGet();
-                } else if (selectedToken.isLastTokenOfDetail()) {
-                    // -1 for each closed detail
-                    affectedSections.get(selectedToken.getDetail()).decrementAndGet();
-                    possibleOrphans.remove(selectedToken.getDetail());
-                }
-            }
-        }
-        if (possibleOrphans.isEmpty()) {
-            return null;
-        }
-        // there can be at most one possible orphan in a given token range
-        return possibleOrphans.iterator().next();
-    }
-
-    /**
-     * Move the start of a detail category section (of multiple tokens) to the right, in order to remove the leading token(s) from the section, while
-     * maintaining the overall model's validity.
-     *
-     * @param firstPossibleTarget
-     *            token directly behind the section part being removed
-     * @param sectionCategory
-     *            the detail category of the section to fix
-     * @param steps
-     *            the number of sections with the same detail category to fix in this method (must be a positive number {@code >0} )
-     */
-    private void moveCategorySectionStartToTheRight(final TextToken firstPossibleTarget, final DetailCategory sectionCategory, final int steps) {
-        int stepsRemaining = steps;
-        TextToken currentToken = firstPossibleTarget;
-        DetailCategory previousCategory = null;
-        do {
-            // move section starts to the right
-            if (sectionCategory.equals(currentToken.getDetail()) && !currentToken.isFirstTokenOfDetail()
-                    && !ComparisonUtil.isNullAwareEqual(previousCategory, currentToken.getDetail())) {
-                currentToken.setFirstTokenOfDetail(true);
-                stepsRemaining--;
-            }
-            // continue with the next to the right
-            previousCategory = currentToken.getDetail();
-            // this should never be null - otherwise the structure we started from was already invalid
-            currentToken = currentToken.getFollowingToken();
-        } while (stepsRemaining > 0);
-    }
-
-    /**
-     * Move the end of a detail category section (of multiple tokens) to the left, in order to remove the trailing token(s) from the section, while
-     * maintaining the overall model's validity.
-     *
-     * @param firstPossibleTarget
-     *            token directly in front of the section part being removed
-     * @param sectionCategory
-     *            the detail category of the section to fix
-     * @param steps
-     *            the number of sections with the same detail category to fix in this method (must be a positive number {@code >0} )
-     */
-    private void moveCategorySectionEndToTheLeft(final TextToken firstPossibleTarget, final DetailCategory sectionCategory, final int steps) {
-        int stepsRemaining = steps;
-        TextToken currentToken = firstPossibleTarget;
-        DetailCategory followingCategory = null;
-        do {
-            // move section ends to the left
-            if (sectionCategory.equals(currentToken.getDetail()) && !currentToken.isLastTokenOfDetail()
-                    && !ComparisonUtil.isNullAwareEqual(followingCategory, currentToken.getDetail())) {
-                currentToken.setLastTokenOfDetail(true);
-                stepsRemaining--;
-            }
-            // continue with the next to the left
-            followingCategory = currentToken.getDetail();
-            // this should never be null - otherwise the structure we started from was already invalid
-            currentToken = currentToken.getPreviousToken();
-        } while (stepsRemaining > 0);
-    }
-
     @Override
     public void setParticipantId(final Interview interview, final String newParticipantId) {
         final Map<String, List<Interview>> groupedInterviews = this.getModel().getSubModelObjects();
@@ -669,7 +266,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         }
         final int affectedRangeStart = Math.min(newIndex, oldIndex) - 1;
         final int affectedRangeEnd = Math.max(newIndex, oldIndex);
-        final List<Interview> participantsInterviews = this.getModel().getSubModelObjects().get(interview.getParticipantId());
+        final List<Interview> participantsInterviews = this.getModel().getInterviews(interview.getParticipantId());
         participantsInterviews.subList(affectedRangeStart, affectedRangeEnd)
                 .forEach(affectedInterview -> affectedInterview.setIndex(affectedInterview.getIndex() + offset));
         interview.setIndex(newIndex);
@@ -679,9 +276,10 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
 
     @Override
     public void reset(final Interview interview, final Interview resetState) {
+        final InterviewResetChange change = new InterviewResetChange(interview);
         interview.reset(resetState);
         // trigger model change event for the modified interview
-        this.notifyListeners(interview, false);
+        this.notifyListeners(interview, false, change);
     }
 
     @Override
@@ -714,14 +312,12 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         final Map<Interview, AtomicLong> result = new LinkedHashMap<>(interviews.size());
         for (final Interview singleInterview : interviews) {
             final AtomicLong counter = new AtomicLong();
-            for (final TextToken singleParagraph : singleInterview.getText()) {
-                TextToken currentToken = singleParagraph;
-                do {
-                    if (currentToken.getDetail() != null) {
+            for (final TokenParagraph singleParagraph : singleInterview.getParagraphs()) {
+                for (int tokenIndex = 0; tokenIndex < singleParagraph.size(); tokenIndex++) {
+                    if (singleParagraph.getDetail(tokenIndex) != null) {
                         counter.incrementAndGet();
                     }
-                    currentToken = currentToken.getFollowingToken();
-                } while (currentToken != null);
+                }
             }
             result.put(singleInterview, counter);
         }
@@ -765,24 +361,38 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         return result;
     }
 
+    @Override
+    public synchronized Map<Interview, DetailPatternCounts> countDetailPatterns(final List<Interview> interviews, final int minLength,
+            final int maxLength) {
+        final Map<Interview, DetailPatternCounts> result = new LinkedHashMap<>(interviews.size());
+        new InterviewAnalyzer(this.getModel().provide(), minLength, maxLength).analyze(interviews)
+                .forEach((interview, analysis) -> result.put(interview, analysis.getPatternCounts()));
+        return result;
+    }
+
     @Override
     public List<DetailCategory> extractDetailSequence(final Interview interview) {
         final List<DetailCategory> sequence = new ArrayList<>();
         // iterate over all paragraphs
-        for (final TextToken singleParagraph : interview.getText()) {
+        for (final TokenParagraph singleParagraph : interview.getParagraphs()) {
             // iterate over all tokens of the current paragraph
-            TextToken currentToken = singleParagraph;
-            do {
-                if (currentToken.isFirstTokenOfDetail() && currentToken.getDetail() != null) {
+            for (int tokenIndex = 0; tokenIndex < singleParagraph.size(); tokenIndex++) {
+                final DetailCategory detail = singleParagraph.getDetail(tokenIndex);
+                if (detail != null && singleParagraph.isFirstTokenOfDetail(tokenIndex)) {
                     // add assigned detail category to the sequence, for the assigned token range starting here
-                    sequence.add(currentToken.getDetail());
+                    sequence.add(detail);
                 }
-                currentToken = currentToken.getFollowingToken();
-            } while (currentToken != null);
+            }
         }
         return sequence;
     }
 
+    @Override
+    public synchronized Map<Interview, InterviewAnalysis> analyzeInterviews(final List<Interview> interviews, final int minPatternLength,
+            final int maxPatternLength) {
+        return new InterviewAnalyzer(this.getModel().provide(), minPatternLength, maxPatternLength).analyze(interviews);
+    }
+
     @Override
     public String validateEquality(final AisProject otherProject) {
         if (!this.getModel().provide().equals(otherProject.provide())) {
@@ -901,52 +511,261 @@ public final class ModelHandlerImpl extends AbstractModelHandler<AisProject> imp
         }
     }
 
-    /** Conflict handler class for collecting detail category sections that are being started but not ended and/or ended but not started. */
-    private static class CategoryConflictHandler {
+    /**
+     * Change record for the replacement of an interview's whole text. Rolling back and re-applying it switches between the interview's current
+     * paragraphs and the ones it had before, i.e. it does not depend on the interview to still hold the same paragraph instances afterwards.
+     */
+    private final class InterviewTextChange implements IReversibleChange {
+
+        /** The interview whose text has been replaced. */
+        private final Interview interview;
+        /** The paragraphs to set on the next call of {@link #revert()} or {@link #apply()}. */
+        private List<TokenParagraph> otherParagraphs;
+
+        /**
+         * Constructor.
+         *
+         * @param interview
+         *            the interview whose text has been replaced
+         * @param paragraphsBefore
+         *            the interview's paragraphs before the change
+         */
+        InterviewTextChange(final Interview interview, final List<TokenParagraph> paragraphsBefore) {
+            this.interview = interview;
+            this.otherParagraphs = paragraphsBefore;
+        }
+
+        @Override
+        public void revert() {
+            this.switchParagraphs();
+        }
+
+        @Override
+        public void apply() {
+            this.switchParagraphs();
+        }
+
+        /**
+         * Replace the interview's paragraphs with the stored other ones, while remembering the replaced ones.
+         */
+        private void switchParagraphs() {
+            final List<TokenParagraph> replacedParagraphs = new ArrayList<>(this.interview.getParagraphs());
+            this.interview.setParagraphs(this.otherParagraphs);
+            this.otherParagraphs = replacedParagraphs;
+            ModelHandlerImpl.this.notifyListeners(this.interview, true);
+        }
+    }
+
+    /**
+     * Change record for the reset of an interview to another state. Rolling back and re-applying it switches between the interview's current
+     * participant id, index, and paragraphs and the ones it had before – the replaced paragraphs are no longer referenced by the interview, i.e.
+     * they are retained as they are instead of being copied.
+     */
+    private final class InterviewResetChange implements IReversibleChange {
+
+        /** The interview being reset. */
+        private final Interview interview;
+        /** The participant id to set on the next call of {@link #revert()} or {@link #apply()}. */
+        private String otherParticipantId;
+        /** The index to set on the next call of {@link #revert()} or {@link #apply()}. */
+        private int otherIndex;
+        /** The paragraphs to set on the next call of {@link #revert()} or {@link #apply()}. */
+        private List<TokenParagraph> otherParagraphs;
+
+        /**
+         * Constructor: to be called before the interview is being reset.
+         *
+         * @param interview
+         *            the interview being reset
+         */
+        InterviewResetChange(final Interview interview) {
+            this.interview = interview;
+            this.otherParticipantId = interview.getParticipantId();
+            this.otherIndex = interview.getIndex();
+            this.otherParagraphs = new ArrayList<>(interview.getParagraphs());
+        }
+
+        @Override
+        public void revert() {
+            this.switchState();
+        }
+
+        @Override
+        public void apply() {
+            this.switchState();
+        }
 
-        /** Registered unresolved detail category changes, i.e. started but not ended and/or ended but not started. */
-        final Deque<Boolean> categoryChanges = new LinkedList<>();
+        /**
+         * Replace the interview's participant id, index, and paragraphs with the stored other ones, while remembering the replaced ones.
+         */
+        private void switchState() {
+            final String replacedParticipantId = this.interview.getParticipantId();
+            final int replacedIndex = this.interview.getIndex();
+            final List<TokenParagraph> replacedParagraphs = new ArrayList<>(this.interview.getParagraphs());
+            this.interview.setParticipantId(this.otherParticipantId);
+            this.interview.setIndex(this.otherIndex);
+            this.interview.setParagraphs(this.otherParagraphs);
+            this.otherParticipantId = replacedParticipantId;
+            this.otherIndex = replacedIndex;
+            this.otherParagraphs = replacedParagraphs;
+            ModelHandlerImpl.this.notifyListeners(this.interview, false);
+        }
+    }
+
+    /**
+     * Change record for the (re-)assignment of detail categories within a single paragraph, only holding the tokens whose detail category or
+     * section boundaries have actually changed. The paragraph is identified by its position in the interview, in order to also be applicable
+     * after the interview has been reset to an equal copy of its state.
+     */
+    final class DetailAssignmentChange implements IReversibleChange {
+
+        /** Flag in the stored boundaries: the token is the first of a detail section. */
+        private static final byte FIRST_TOKEN_OF_DETAIL = 1;
+        /** Flag in the stored boundaries: the token is the last of a detail section. */
+        private static final byte LAST_TOKEN_OF_DETAIL = 2;
+
+        /** The interview containing the changed paragraph. */
+        private final Interview interview;
+        /** The position of the changed paragraph in the interview. */
+        private final int paragraphIndex;
+        /** The positions of the changed tokens in the paragraph. */
+        private final int[] tokenIndices;
+        /** The changed tokens' detail categories before the change. */
+        private final DetailCategory[] detailsBefore;
+        /** The changed tokens' detail categories after the change. */
+        private final DetailCategory[] detailsAfter;
+        /** The changed tokens' section boundary flags before the change. */
+        private final byte[] boundariesBefore;
+        /** The changed tokens' section boundary flags after the change. */
+        private final byte[] boundariesAfter;
 
         /**
-         * Add another start or end of a detail category to this conflict handler.
+         * Constructor: determining the changed tokens from the original states remembered by the given (performed) assignment.
          *
-         * @param sectionStarted
-         *            whether the respective detail category section is starting
+         * @param interview
+         *            the interview containing the changed paragraph
+         * @param assignment
+         *            the performed detail category assignment
          */
-        void addCategoryChange(final boolean sectionStarted) {
-            if (this.categoryChanges.isEmpty() || !this.categoryChanges.getLast() || sectionStarted) {
-                this.categoryChanges.add(sectionStarted);
-            } else {
-                // previous change was a section start, the current change ends that section again
-                this.categoryChanges.removeLast();
+        DetailAssignmentChange(final Interview interview, final DetailCategoryAssignment assignment) {
+            this.interview = interview;
+            final TokenParagraph paragraph = assignment.getParagraph();
+            this.paragraphIndex = CollectionUtil.indexOfInstance(interview.getParagraphs(), paragraph);
+            final int[] modifiedIndices = assignment.getModifiedPositions();
+            int changedCount = 0;
+            final int[] changedIndices = new int[modifiedIndices.length];
+            for (final int tokenIndex : modifiedIndices) {
+                if (paragraph.getDetail(tokenIndex) != assignment.getOriginalDetail(tokenIndex)
+                        || this.getBoundaries(paragraph, tokenIndex) != this.getOriginalBoundaries(assignment, tokenIndex)) {
+                    changedIndices[changedCount] = tokenIndex;
+                    changedCount++;
+                }
+            }
+            this.tokenIndices = Arrays.copyOf(changedIndices, changedCount);
+            this.detailsBefore = new DetailCategory[changedCount];
+            this.detailsAfter = new DetailCategory[changedCount];
+            this.boundariesBefore = new byte[changedCount];
+            this.boundariesAfter = new byte[changedCount];
+            for (int changeIndex = 0; changeIndex < changedCount; changeIndex++) {
+                final int tokenIndex = this.tokenIndices[changeIndex];
+                this.detailsBefore[changeIndex] = assignment.getOriginalDetail(tokenIndex);
+                this.detailsAfter[changeIndex] = paragraph.getDetail(tokenIndex);
+                this.boundariesBefore[changeIndex] = this.getOriginalBoundaries(assignment, tokenIndex);
+                this.boundariesAfter[changeIndex] = this.getBoundaries(paragraph, tokenIndex);
             }
         }
 
         /**
-         * Check whether this handler instance contains unresolved conflicts.
+         * Getter for the position of the changed paragraph in the interview.
          *
-         * @return if at least one section was started but not ended or ended but not started
+         * @return the changed paragraph's position
          */
-        boolean hasUnresolvedConflicts() {
-            return !this.categoryChanges.isEmpty();
+        int getParagraphIndex() {
+            return this.paragraphIndex;
         }
 
         /**
-         * Return the number of conflicting sections that are ending but have not been started before.
+         * Getter for the positions of the changed tokens in the paragraph.
          *
-         * @return number of conflicting section ends
+         * @return the changed tokens' positions
          */
-        int getNumberOfEndedButNotStartedConflicts() {
-            return (int) this.categoryChanges.stream().filter(singleChange -> !singleChange).count();
+        int[] getTokenIndices() {
+            return this.tokenIndices.clone();
         }
 
         /**
-         * Return the number of conflicting sections that are starting but not ending afterwards.
+         * Determine the current section boundary flags of the specified token.
          *
-         * @return number of conflicting section starts
+         * @param paragraph
+         *            the paragraph containing the token
+         * @param tokenIndex
+         *            the token's position in the paragraph
+         * @return combination of {@link #FIRST_TOKEN_OF_DETAIL} and {@link #LAST_TOKEN_OF_DETAIL}
          */
-        int getNumberOfStartedButNotEndedConflicts() {
-            return (int) this.categoryChanges.stream().filter(singleChange -> singleChange).count();
+        private byte getBoundaries(final TokenParagraph paragraph, final int tokenIndex) {
+            return this.toBoundaries(paragraph.isFirstTokenOfDetail(tokenIndex), paragraph.isLastTokenOfDetail(tokenIndex));
+        }
+
+        /**
+         * Determine the section boundary flags of the specified token before the given assignment was performed.
+         *
+         * @param assignment
+         *            the performed detail category assignment
+         * @param tokenIndex
+         *            the (modified) token's position in the paragraph
+         * @return combination of {@link #FIRST_TOKEN_OF_DETAIL} and {@link #LAST_TOKEN_OF_DETAIL}
+         */
+        private byte getOriginalBoundaries(final DetailCategoryAssignment assignment, final int tokenIndex) {
+            return this.toBoundaries(assignment.isOriginallyFirstTokenOfDetail(tokenIndex), assignment.isOriginallyLastTokenOfDetail(tokenIndex));
+        }
+
+        /**
+         * Combine the given section boundary flags.
+         *
+         * @param firstTokenOfDetail
+         *            whether the token is the first of a detail section
+         * @param lastTokenOfDetail
+         *            whether the token is the last of a detail section
+         * @return combination of {@link #FIRST_TOKEN_OF_DETAIL} and {@link #LAST_TOKEN_OF_DETAIL}
+         */
+        private byte toBoundaries(final boolean firstTokenOfDetail, final boolean lastTokenOfDetail) {
+            byte boundaries = 0;
+            if (firstTokenOfDetail) {
+                boundaries |= DetailAssignmentChange.FIRST_TOKEN_OF_DETAIL;
+            }
+            if (lastTokenOfDetail) {
+                boundaries |= DetailAssignmentChange.LAST_TOKEN_OF_DETAIL;
+            }
+            return boundaries;
+        }
+
+        @Override
+        public void revert() {
+            this.setTokenStates(this.detailsBefore, this.boundariesBefore);
+        }
+
+        @Override
+        public void apply() {
+            this.setTokenStates(this.detailsAfter, this.boundariesAfter);
+        }
+
+        /**
+         * Set the given detail categories and section boundary flags on the changed tokens.
+         *
+         * @param details
+         *            detail categories to set
+         * @param boundaries
+         *            section boundary flags to set
+         */
+        private void setTokenStates(final DetailCategory[] details, final byte[] boundaries) {
+            final TokenParagraph paragraph = this.interview.getParagraphs().get(this.paragraphIndex);
+            for (int changeIndex = 0; changeIndex < this.tokenIndices.length; changeIndex++) {
+                final int tokenIndex = this.tokenIndices[changeIndex];
+                paragraph.setDetail(tokenIndex, details[changeIndex]);
+                paragraph.setFirstTokenOfDetail(tokenIndex, (boundaries[changeIndex] & DetailAssignmentChange.FIRST_TOKEN_OF_DETAIL) != 0);
+                paragraph.setLastTokenOfDetail(tokenIndex, (boundaries[changeIndex] & DetailAssignmentChange.LAST_TOKEN_OF_DETAIL) != 0);
+            }
+            ModelHandlerImpl.this.notifyListeners(this.interview, true);
         }
     }
 }
@@ -20,6 +20,7 @@
 package org.hmx.scitos.ais.core;
 
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,15 +28,19 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.swing.KeyStroke;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.hmx.scitos.ais.core.i18n.AisMessage;
 import org.hmx.scitos.ais.domain.IDetailCategoryProvider;
@@ -43,12 +48,17 @@ import org.hmx.scitos.ais.domain.model.AisProject;
 import org.hmx.scitos.ais.domain.model.DetailCategory;
 import org.hmx.scitos.ais.domain.model.Interview;
 import org.hmx.scitos.ais.domain.model.MutableDetailCategoryModel;
-import org.hmx.scitos.ais.domain.model.TextToken;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.IBinaryModelParseService;
+import org.hmx.scitos.core.ILazyModelParseService;
 import org.hmx.scitos.core.IModelParseService;
 import org.hmx.scitos.core.i18n.Message;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
 import org.hmx.scitos.core.util.DomUtil;
+import org.hmx.scitos.core.util.StaxUtil;
 import org.hmx.scitos.domain.IModel;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -57,7 +67,7 @@ import org.xml.sax.SAXException;
 /**
  * Implementation of the {@link IModelParseService} for the AIS module.
  */
-public class ModelParseServiceImpl implements IModelParseService<AisProject> {
+public class ModelParseServiceImpl implements ILazyModelParseService<AisProject>, IBinaryModelParseService<AisProject> {
 
     /** The embedded/export stylesheet for the conversion to a html page. */
     private static final ExportOption HTML_EXPORT = new ExportOption(AisMessage.PROJECT_EXPORT_HTML, ExportOption.TargetFileType.HTML,
@@ -69,6 +79,8 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
     private static final String NAMESPACE = "http://www.hermeneutix.org/schema/ais/1.0";
     private static final String SCHEMA_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
     private static final String SCHEMA_REF_ATTRIBUTE = "xsi:schemaLocation";
+    private static final String SCHEMA_PREFIX = "xsi";
+    private static final String SCHEMA_REF_ATTRIBUTE_NAME = "schemaLocation";
     private static final String SCHEMA_LOCATION =
             "https://raw.githubusercontent.com/scientific-tool-set/scitos/master/scitos.ais/schema/ais-v1.0.xsd";
     private static final String TAG_ROOT = "AisProject";
@@ -94,6 +106,11 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
     private static final String TAG_VIEWS_INTERVIEW = ModelParseServiceImpl.TAG_INTERVIEW;
     private static final String ATTR_VIEWS_INTERVIEW_PARTICIPANT = ModelParseServiceImpl.ATTR_INTERVIEW_PARTICIPANT;
     private static final String ATTR_VIEWS_INTERVIEW_INDEX = ModelParseServiceImpl.ATTR_INTERVIEW_INDEX;
+    private static final String STYLESHEET_INSTRUCTION = "xml-stylesheet";
+    private static final String STYLESHEET_INSTRUCTION_DATA = "type=\"text/xml\" href=\"#embedded_stylesheet\"";
+    private static final Map<String, String> STYLESHEET_ID = Collections.singletonMap("id", "embedded_stylesheet");
+    /** Initial number of tokens to reserve space for, when parsing a paragraph (any unused capacity is released afterwards). */
+    private static final int INITIAL_PARAGRAPH_CAPACITY = 64;
 
     /**
      * Main constructor for the state-less service implementation.
@@ -154,11 +171,11 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
             stylesheet = ModelParseServiceImpl.class.getResourceAsStream(ModelParseServiceImpl.HTML_EXPORT.getStylesheetPath());
             // parse stylesheet into xml structure
             final Element stylesheetRoot = factory.newDocumentBuilder().parse(stylesheet).getDocumentElement();
-            stylesheetRoot.setAttribute("id", "embedded_stylesheet");
+            ModelParseServiceImpl.STYLESHEET_ID.forEach(stylesheetRoot::setAttribute);
             doc.getDocumentElement().appendChild(doc.adoptNode(stylesheetRoot));
             doc.setXmlStandalone(true);
-            doc.insertBefore(doc.createProcessingInstruction("xml-stylesheet", "type=\"text/xml\" href=\"#embedded_stylesheet\""),
-                    doc.getDocumentElement());
+            doc.insertBefore(doc.createProcessingInstruction(ModelParseServiceImpl.STYLESHEET_INSTRUCTION,
+                    ModelParseServiceImpl.STYLESHEET_INSTRUCTION_DATA), doc.getDocumentElement());
         } catch (final ParserConfigurationException pce) {
             // error while creating a DocumentBuilder instance from factory or while accessing file
             pce.printStackTrace();
@@ -297,27 +314,9 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
                         + " definition"));
             }
             // parse optional color attribute
-            final Color color;
-            final String[] colorValues =
-                    singleCategoryElement.getAttribute(ModelParseServiceImpl.ATTR_CATEGORY_COLOR).replaceAll("[^0-9]+", " ").trim().split(" ");
-            if (colorValues.length == 3) {
-                final int red = Integer.valueOf(colorValues[0]).intValue();
-                final int green = Integer.valueOf(colorValues[1]).intValue();
-                final int blue = Integer.valueOf(colorValues[2]).intValue();
-                color = new Color(red, green, blue);
-            } else {
-                color = Color.BLACK;
-            }
+            final Color color = this.parseCategoryColor(singleCategoryElement.getAttribute(ModelParseServiceImpl.ATTR_CATEGORY_COLOR));
             // retrieve short cut from string value (returns NULL if no valid string was found)
-            final String[] shortCutParts =
-                    singleCategoryElement.getAttribute(ModelParseServiceImpl.ATTR_CATEGORY_SHORTCUT).replaceAll("[^0-9]+", " ").trim().split(" ");
-            final KeyStroke shortCut;
-            if (shortCutParts.length == 2) {
-                shortCut =
-                        KeyStroke.getKeyStroke(Integer.valueOf(shortCutParts[0]).intValue(), Integer.valueOf(shortCutParts[1]).intValue(), true);
-            } else {
-                shortCut = null;
-            }
+            final KeyStroke shortCut = this.parseCategoryShortCut(singleCategoryElement.getAttribute(ModelParseServiceImpl.ATTR_CATEGORY_SHORTCUT));
             // check for potential child categories
             final List<Element> subCategories = DomUtil.getChildElements(singleCategoryElement, ModelParseServiceImpl.TAG_CATEGORY);
             // only categories without any children are deemed selectable
@@ -330,6 +329,39 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
         return result;
     }
 
+    /**
+     * Parse the optional color attribute value of a detail category.
+     *
+     * @param attributeValue
+     *            the attribute value to parse (e.g. {@code rgb(255, 51, 0)})
+     * @return the parsed color (or {@link Color#BLACK} if the value is not a valid color definition)
+     */
+    private Color parseCategoryColor(final String attributeValue) {
+        final String[] colorValues = attributeValue.replaceAll("[^0-9]+", " ").trim().split(" ");
+        if (colorValues.length == 3) {
+            final int red = Integer.valueOf(colorValues[0]).intValue();
+            final int green = Integer.valueOf(colorValues[1]).intValue();
+            final int blue = Integer.valueOf(colorValues[2]).intValue();
+            return new Color(red, green, blue);
+        }
+        return Color.BLACK;
+    }
+
+    /**
+     * Parse the optional short cut attribute value of a detail category.
+     *
+     * @param attributeValue
+     *            the attribute value to parse (e.g. {@code 49:0})
+     * @return the parsed short cut (or {@code null} if the value is not a valid short cut definition)
+     */
+    private KeyStroke parseCategoryShortCut(final String attributeValue) {
+        final String[] shortCutParts = attributeValue.replaceAll("[^0-9]+", " ").trim().split(" ");
+        if (shortCutParts.length == 2) {
+            return KeyStroke.getKeyStroke(Integer.valueOf(shortCutParts[0]).intValue(), Integer.valueOf(shortCutParts[1]).intValue(), true);
+        }
+        return null;
+    }
+
     /**
      * Create a single xml node representing the given {@link Interview} including the scored text.
      *
@@ -345,98 +377,100 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
         interviewElement.setAttribute(ModelParseServiceImpl.ATTR_INTERVIEW_PARTICIPANT, target.getParticipantId());
         interviewElement.setAttribute(ModelParseServiceImpl.ATTR_INTERVIEW_INDEX, String.valueOf(target.getIndex()));
         // include the scored text
-        for (final TextToken singleParagraph : target.getText()) {
+        for (final TokenParagraph singleParagraph : target.getParagraphs()) {
             interviewElement.appendChild(this.parseXmlFromInterviewParagraph(doc, singleParagraph));
         }
         return interviewElement;
     }
 
     /**
-     * Create a single xml node representing the {@link Interview} paragraph starting with the given token.
+     * Create a single xml node representing the given {@link Interview} paragraph.
      *
      * @param doc
      *            xml document, API to use for creating xml nodes
-     * @param paragraphStart
-     *            first token of the paragraph to represent as a xml node
+     * @param paragraph
+     *            the paragraph to represent as a xml node
      * @return created {@value #TAG_INTERVIEW_PARAGRAPH} node
      */
-    private Element parseXmlFromInterviewParagraph(final Document doc, final TextToken paragraphStart) {
+    private Element parseXmlFromInterviewParagraph(final Document doc, final TokenParagraph paragraph) {
         // create paragraph wrapping element
         final Element paragraphElement = doc.createElementNS(ModelParseServiceImpl.NAMESPACE, ModelParseServiceImpl.TAG_INTERVIEW_PARAGRAPH);
         // iterate through tokens
-        TextToken currentToken = paragraphStart;
+        int currentIndex = 0;
         do {
-            if (currentToken.getDetail() == null) {
+            if (paragraph.getDetail(currentIndex) == null) {
                 // omitting detail wrapper of top level tokens without assigned category
-                paragraphElement.appendChild(this.parseXmlFromTokenText(doc, currentToken));
-                currentToken = currentToken.getFollowingToken();
+                paragraphElement.appendChild(this.parseXmlFromTokenText(doc, paragraph.getText(currentIndex)));
+                currentIndex++;
             } else {
                 // wrap all tokens with the same assigned category in one detail element (to make it easier readable in a text editor)
-                final Entry<Element, TextToken> detailRange = this.parseXmlFromTokenRange(doc, currentToken);
+                final Entry<Element, Integer> detailRange = this.parseXmlFromTokenRange(doc, paragraph, currentIndex);
                 paragraphElement.appendChild(detailRange.getKey());
-                currentToken = detailRange.getValue();
+                currentIndex = detailRange.getValue();
             }
-        } while (currentToken != null);
+        } while (currentIndex < paragraph.size());
         return paragraphElement;
     }
 
     /**
-     * Create a single xml node representing a range of {@link TextToken} with the same assigned {@link DetailCategory}, starting with the given one.
+     * Create a single xml node representing a range of tokens with the same assigned {@link DetailCategory}, starting with the specified one.
      *
      * @param doc
      *            xml document, API to use for creating xml nodes
+     * @param paragraph
+     *            the paragraph containing the range to represent as a xml node
      * @param rangeStart
-     *            first token of the range with the same assigned category to represent as a xml node
-     * @return created {@value #TAG_INTERVIEW_DETAIL} node and the next token after the represented range (token reference is {@code null} if
-     *         there is no following token to the last in the represented range)
+     *            position of the first token of the range with the same assigned category
+     * @return created {@value #TAG_INTERVIEW_DETAIL} node and the position of the next token after the represented range (equal to the paragraph's
+     *         size if there is no following token to the last in the represented range)
      */
-    private Entry<Element, TextToken> parseXmlFromTokenRange(final Document doc, final TextToken rangeStart) {
+    private Entry<Element, Integer> parseXmlFromTokenRange(final Document doc, final TokenParagraph paragraph, final int rangeStart) {
         // create range wrapping element and set assigned category by its code
         final Element detailElement = doc.createElementNS(ModelParseServiceImpl.NAMESPACE, ModelParseServiceImpl.TAG_INTERVIEW_DETAIL);
-        final DetailCategory category = rangeStart.getDetail();
+        final DetailCategory category = paragraph.getDetail(rangeStart);
         // ranges inside ranges can have no category assigned
         if (category != null) {
             detailElement.setAttribute(ModelParseServiceImpl.ATTR_INTERVIEW_DETAIL_CODE, category.getCode());
         }
-        TextToken currentToken = rangeStart;
+        int currentIndex = rangeStart;
         // no need for any iterations if this range consists only of this single token
-        if (!rangeStart.isLastTokenOfDetail()) {
+        if (!paragraph.isLastTokenOfDetail(rangeStart)) {
             // iterate through tokens of this range (include enclosed ranges by recursively calling this method)
             do {
-                if (currentToken.getDetail() == category && !currentToken.isFirstTokenOfDetail() || currentToken == rangeStart) {
+                if (paragraph.getDetail(currentIndex) == category && !paragraph.isFirstTokenOfDetail(currentIndex) || currentIndex == rangeStart) {
                     // token belongs to this range, include it directly
-                    detailElement.appendChild(this.parseXmlFromTokenText(doc, currentToken));
+                    detailElement.appendChild(this.parseXmlFromTokenText(doc, paragraph.getText(currentIndex)));
                     // continue iteration
-                    currentToken = currentToken.getFollowingToken();
+                    currentIndex++;
                 } else {
                     // token is (the start of) an enclosed range, wrap it recursively in its own detail element
-                    final Entry<Element, TextToken> enclosedRange = this.parseXmlFromTokenRange(doc, currentToken);
+                    final Entry<Element, Integer> enclosedRange = this.parseXmlFromTokenRange(doc, paragraph, currentIndex);
                     detailElement.appendChild(enclosedRange.getKey());
                     // the second part of the return value is already the next token
-                    currentToken = enclosedRange.getValue();
+                    currentIndex = enclosedRange.getValue();
                 }
                 // do not stop at an (other) enclosed token/range, only at the last taken of this range
-            } while (currentToken.isFirstTokenOfDetail() || !currentToken.isLastTokenOfDetail());
+            } while (paragraph.isFirstTokenOfDetail(currentIndex) || !paragraph.isLastTokenOfDetail(currentIndex));
         }
         // include last token of this range
-        detailElement.appendChild(this.parseXmlFromTokenText(doc, currentToken));
+        detailElement.appendChild(this.parseXmlFromTokenText(doc, paragraph.getText(currentIndex)));
         // return create wrapper element (including its tokens) and the token where to continue the parsing
-        return new SimpleEntry<>(detailElement, currentToken.getFollowingToken());
+        return new SimpleEntry<>(detailElement, currentIndex + 1);
     }
 
     /**
-     * Create a single xml node representing the given {@link TextToken}.
+     * Create a single xml node representing a token with the given text.
      *
      * @param doc
      *            xml document, API to use for creating xml nodes
-     * @param target
-     *            token to represent as a xml node
+     * @param tokenText
+     *            text of the token to represent as a xml node
      * @return create {@value #TAG_INTERVIEW_TOKEN} node
      */
-    private Element parseXmlFromTokenText(final Document doc, final TextToken target) {
+    private Element parseXmlFromTokenText(final Document doc, final String tokenText) {
         // after converting all the category info into wrapping xml structure, the node for the token contains only its text
         final Element tokenElement = doc.createElementNS(ModelParseServiceImpl.NAMESPACE, ModelParseServiceImpl.TAG_INTERVIEW_TOKEN);
-        tokenElement.appendChild(doc.createTextNode(target.getText()));
+        tokenElement.appendChild(doc.createTextNode(tokenText));
         return tokenElement;
     }
 
@@ -458,63 +492,54 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
             throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid " + ModelParseServiceImpl.TAG_INTERVIEW
                     + " definition"));
         }
-        final List<TextToken> text = new ArrayList<>();
+        final List<TokenParagraph> paragraphs = new ArrayList<>();
         for (final Element singleParagraph : DomUtil.getChildElements(interviewElement, ModelParseServiceImpl.TAG_INTERVIEW_PARAGRAPH)) {
-            text.add(this.parseTextParagraphFromXml(singleParagraph, categories));
+            final TokenParagraph paragraph = new TokenParagraph(ModelParseServiceImpl.INITIAL_PARAGRAPH_CAPACITY);
+            this.parseTextRangeFromXml(singleParagraph, categories, paragraph);
+            paragraphs.add(paragraph.trimToSize());
         }
-        return new Interview(participantId, indexValue).setText(text);
+        return new Interview(participantId, indexValue).setParagraphs(paragraphs);
     }
 
     /**
-     * Parse the text paragraph contained in the given xml element.
+     * Parse the text paragraph or enclosed detail range contained in the given xml element – appending the parsed tokens to the given paragraph.
      *
-     * @param paragraphElement
-     *            wrapping xml element containing the text paragraph to parse
+     * @param rangeElement
+     *            wrapping xml element containing the text paragraph or detail range to parse
      * @param categories
      *            detail category model to apply (identifying assigned detail categories by their unique codes)
-     * @return leading token of the successfully parsed text paragraph
+     * @param paragraph
+     *            the paragraph to add the parsed tokens to
      * @throws HmxException
      *             encountered unexpected/invalid xml tag while parsing given xml element
      */
-    private TextToken parseTextParagraphFromXml(final Element paragraphElement, final MutableDetailCategoryModel categories) throws HmxException {
-        final String detailCode = DomUtil.getNullableAttribute(paragraphElement, ModelParseServiceImpl.ATTR_INTERVIEW_DETAIL_CODE);
+    private void parseTextRangeFromXml(final Element rangeElement, final MutableDetailCategoryModel categories, final TokenParagraph paragraph)
+            throws HmxException {
+        final String detailCode = DomUtil.getNullableAttribute(rangeElement, ModelParseServiceImpl.ATTR_INTERVIEW_DETAIL_CODE);
         final DetailCategory category = categories.getDetailByCode(detailCode);
-        TextToken previousToken = null;
-        for (final Element singleChild : DomUtil.getChildElements(paragraphElement, ModelParseServiceImpl.TAG_INTERVIEW_TOKEN,
+        final int rangeStart = paragraph.size();
+        for (final Element singleChild : DomUtil.getChildElements(rangeElement, ModelParseServiceImpl.TAG_INTERVIEW_TOKEN,
                 ModelParseServiceImpl.TAG_INTERVIEW_DETAIL)) {
-            final TextToken enclosedToken;
+            final int previousIndex = paragraph.size() - 1;
             if (ModelParseServiceImpl.TAG_INTERVIEW_TOKEN.equals(singleChild.getTagName())) {
-                enclosedToken = new TextToken(singleChild.getTextContent()).setDetail(category);
-                if (category == null && previousToken != null && previousToken.getDetail() != null) {
-                    enclosedToken.setFirstTokenOfDetail(true);
+                final int tokenIndex = paragraph.addToken(singleChild.getTextContent(), category);
+                if (category == null && previousIndex >= rangeStart && paragraph.getDetail(previousIndex) != null) {
+                    paragraph.setFirstTokenOfDetail(tokenIndex, true);
                 }
             } else {
-                enclosedToken = this.parseTextParagraphFromXml(singleChild, categories);
-                if (category == null && previousToken != null && previousToken.getDetail() == null) {
-                    previousToken.setLastTokenOfDetail(true);
+                this.parseTextRangeFromXml(singleChild, categories, paragraph);
+                if (category == null && previousIndex >= rangeStart && paragraph.getDetail(previousIndex) == null) {
+                    paragraph.setLastTokenOfDetail(previousIndex, true);
                 }
             }
-            if (previousToken != null) {
-                previousToken.setFollowingToken(enclosedToken);
-            }
-            previousToken = enclosedToken.setPreviousToken(previousToken);
-            // if this was an enclosed range, we need the last token to continue our parsing
-            while (previousToken.getFollowingToken() != null) {
-                previousToken = previousToken.getFollowingToken();
-            }
         }
-        if (previousToken == null) {
-            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException(paragraphElement.getTagName()
+        if (paragraph.size() == rangeStart) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException(rangeElement.getTagName()
                     + " does not contain any children (expected " + ModelParseServiceImpl.TAG_INTERVIEW_DETAIL + " and/or "
                     + ModelParseServiceImpl.TAG_INTERVIEW_TOKEN + ')'));
         }
-        previousToken.setLastTokenOfDetail(true);
-        // get the first token from the parsed range
-        while (previousToken.getPreviousToken() != null) {
-            previousToken = previousToken.getPreviousToken();
-        }
-        previousToken.setFirstTokenOfDetail(true);
-        return previousToken;
+        paragraph.setLastTokenOfDetail(paragraph.size() - 1, true);
+        paragraph.setFirstTokenOfDetail(rangeStart, true);
     }
 
     /**
@@ -568,18 +593,753 @@ public class ModelParseServiceImpl implements IModelParseService<AisProject> {
                 } else if (ModelParseServiceImpl.TAG_VIEWS_INTERVIEW.equals(singleView.getTagName())) {
                     final String participantId = singleView.getAttribute(ModelParseServiceImpl.ATTR_VIEWS_INTERVIEW_PARTICIPANT);
                     final int indexValue = DomUtil.getIntAttribute(singleView, ModelParseServiceImpl.ATTR_VIEWS_INTERVIEW_INDEX, -1);
-                    final Map<String, List<Interview>> interviews = parsedProject.getSubModelObjects();
-                    if (interviews.containsKey(participantId) && indexValue != -1) {
-                        for (final Interview singleInterview : interviews.get(participantId)) {
-                            if (singleInterview.getIndex() == indexValue) {
-                                openViewElements.add(singleInterview);
-                                break;
+                    final Interview interview = indexValue == -1 ? null : parsedProject.getInterview(participantId, indexValue);
+                    if (interview != null) {
+                        openViewElements.add(interview);
+                    }
+                }
+            }
+        }
+        return openViewElements;
+    }
+
+    @Override
+    public void writeModelToStream(final IModel<?> model, final List<?> openViewElements, final XMLStreamWriter writer,
+            final Map<String, String> rootAttributes) throws HmxException {
+        final AisProject project = (AisProject) model;
+        try (InputStream stylesheetInput = ModelParseServiceImpl.class.getResourceAsStream(ModelParseServiceImpl.HTML_EXPORT.getStylesheetPath())) {
+            final XMLStreamReader stylesheet = this.openXsltStylesheet(stylesheetInput);
+            try {
+                this.writeProjectToStream(writer, project, openViewElements, rootAttributes, stylesheet);
+            } finally {
+                if (stylesheet != null) {
+                    stylesheet.close();
+                }
+            }
+        } catch (final IOException | XMLStreamException ex) {
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
+    /**
+     * Write the given project as xml document, including the given XSLT stylesheet for in-browser rendering.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param project
+     *            the project to write
+     * @param openViewElements
+     *            the list of elements to be initially displayed when the generated file is opened
+     * @param rootAttributes
+     *            additional attributes to set on the document element (can be {@code null})
+     * @param stylesheet
+     *            stream positioned on the stylesheet's document element (can be {@code null})
+     * @throws XMLStreamException
+     *             error while reading the stylesheet or writing to the stream
+     */
+    private void writeProjectToStream(final XMLStreamWriter writer, final AisProject project, final List<?> openViewElements,
+            final Map<String, String> rootAttributes, final XMLStreamReader stylesheet) throws XMLStreamException {
+        writer.writeStartDocument("UTF-8", "1.0");
+        if (stylesheet != null) {
+            writer.writeProcessingInstruction(ModelParseServiceImpl.STYLESHEET_INSTRUCTION, ModelParseServiceImpl.STYLESHEET_INSTRUCTION_DATA);
+        }
+        writer.setDefaultNamespace(ModelParseServiceImpl.NAMESPACE);
+        writer.writeStartElement(ModelParseServiceImpl.NAMESPACE, ModelParseServiceImpl.TAG_ROOT);
+        StaxUtil.writeAttributes(writer, rootAttributes);
+        // add schema reference
+        writer.writeNamespace(ModelParseServiceImpl.SCHEMA_PREFIX, ModelParseServiceImpl.SCHEMA_NAMESPACE);
+        writer.writeAttribute(ModelParseServiceImpl.SCHEMA_PREFIX, ModelParseServiceImpl.SCHEMA_NAMESPACE,
+                ModelParseServiceImpl.SCHEMA_REF_ATTRIBUTE_NAME, ModelParseServiceImpl.NAMESPACE + ' ' + ModelParseServiceImpl.SCHEMA_LOCATION);
+        writer.writeDefaultNamespace(ModelParseServiceImpl.NAMESPACE);
+        // include categories used
+        this.writeDetailCategoriesToStream(writer, project);
+        // include scored interviews, in sorted order - just for a user who opens the file in a text editor
+        final List<Interview> interviews = new ArrayList<>(project.getInterviews());
+        Collections.sort(interviews);
+        StaxUtil.writeIndentation(writer, 1);
+        if (interviews.isEmpty()) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_INTERVIEW_ROOT);
+        } else {
+            writer.writeStartElement(ModelParseServiceImpl.TAG_INTERVIEW_ROOT);
+            for (final Interview singleInterview : interviews) {
+                this.writeInterviewToStream(writer, singleInterview);
+            }
+            StaxUtil.writeIndentation(writer, 1);
+            writer.writeEndElement();
+        }
+        // include open view elements for displaying them when loading the generated document again
+        if (openViewElements != null && !openViewElements.isEmpty()) {
+            this.writeOpenViewElementsToStream(writer, openViewElements);
+        }
+        // embed stylesheet
+        if (stylesheet != null) {
+            StaxUtil.writeIndentation(writer, 1);
+            StaxUtil.copyElement(stylesheet, writer, ModelParseServiceImpl.STYLESHEET_ID);
+        }
+        StaxUtil.writeIndentation(writer, 0);
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Open the XSLT stylesheet for in-browser rendering, to embed it in the generated project file. If this fails for any reason, just continue
+     * without the stylesheet.
+     *
+     * @param stylesheet
+     *            the stylesheet resource to read (is not being closed; can be {@code null})
+     * @return stream positioned on the stylesheet's document element (is {@code null} if the stylesheet could not be opened)
+     */
+    private XMLStreamReader openXsltStylesheet(final InputStream stylesheet) {
+        if (stylesheet == null) {
+            return null;
+        }
+        XMLStreamReader reader = null;
+        try {
+            reader = XMLInputFactory.newInstance().createXMLStreamReader(stylesheet);
+            reader.nextTag();
+            return reader;
+        } catch (final XMLStreamException ex) {
+            // error while interpreting (invalid) xml structure
+            ex.printStackTrace();
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final XMLStreamException expected) {
+                    // the stylesheet is being skipped anyway
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Write the {@link DetailCategory} tree applied in the given project. In order to reproduce it on opening.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param categoryProvider
+     *            provider to retrieve the detail categories from
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeDetailCategoriesToStream(final XMLStreamWriter writer, final IDetailCategoryProvider categoryProvider)
+            throws XMLStreamException {
+        // extract hierarchical representation of category's sub elements
+        final MutableDetailCategoryModel categoryFamily = new MutableDetailCategoryModel();
+        categoryFamily.addAll(categoryProvider.provide());
+        StaxUtil.writeIndentation(writer, 1);
+        writer.writeStartElement(ModelParseServiceImpl.TAG_CATEGORY_ROOT);
+        // add only the root categories, which in turn add their own children recursively
+        for (final DetailCategory singleCategoryRoot : categoryFamily.getRootCategories()) {
+            this.writeDetailCategoryTreeToStream(writer, singleCategoryRoot, categoryFamily, 2);
+        }
+        StaxUtil.writeIndentation(writer, 1);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Write the given {@link DetailCategory} and its sub categories (recursively).
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param target
+     *            category to write
+     * @param categoryFamily
+     *            collection of all categories in the currently generated structure, to retrieve the target's sub categories from
+     * @param depth
+     *            nesting depth of the category element to write (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeDetailCategoryTreeToStream(final XMLStreamWriter writer, final DetailCategory target,
+            final MutableDetailCategoryModel categoryFamily, final int depth) throws XMLStreamException {
+        final List<DetailCategory> subCategories = categoryFamily.getChildCategories(target);
+        StaxUtil.writeIndentation(writer, depth);
+        if (subCategories.isEmpty()) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_CATEGORY);
+        } else {
+            writer.writeStartElement(ModelParseServiceImpl.TAG_CATEGORY);
+        }
+        // attributes in the same (alphabetical) order as when transforming a document
+        writer.writeAttribute(ModelParseServiceImpl.ATTR_CATEGORY_CODE, target.getCode());
+        final Color color = target.getColor();
+        writer.writeAttribute(ModelParseServiceImpl.ATTR_CATEGORY_COLOR, String.format(ModelParseServiceImpl.ATTR_CATEGORY_COLOR_VALUE,
+                Integer.valueOf(color.getRed()), Integer.valueOf(color.getGreen()), Integer.valueOf(color.getBlue())));
+        writer.writeAttribute(ModelParseServiceImpl.ATTR_CATEGORY_NAME, target.getName());
+        final KeyStroke shortCut = target.getShortCut();
+        if (shortCut != null) {
+            writer.writeAttribute(ModelParseServiceImpl.ATTR_CATEGORY_SHORTCUT, shortCut.getKeyCode() + ":" + shortCut.getModifiers());
+        }
+        if (!subCategories.isEmpty()) {
+            for (final DetailCategory subCategory : subCategories) {
+                this.writeDetailCategoryTreeToStream(writer, subCategory, categoryFamily, depth + 1);
+            }
+            StaxUtil.writeIndentation(writer, depth);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Write the given {@link Interview} including the scored text.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param target
+     *            interview to write
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeInterviewToStream(final XMLStreamWriter writer, final Interview target) throws XMLStreamException {
+        final List<TokenParagraph> paragraphs = target.getParagraphs();
+        StaxUtil.writeIndentation(writer, 2);
+        if (paragraphs.isEmpty()) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_INTERVIEW);
+        } else {
+            writer.writeStartElement(ModelParseServiceImpl.TAG_INTERVIEW);
+        }
+        writer.writeAttribute(ModelParseServiceImpl.ATTR_INTERVIEW_INDEX, String.valueOf(target.getIndex()));
+        writer.writeAttribute(ModelParseServiceImpl.ATTR_INTERVIEW_PARTICIPANT, target.getParticipantId());
+        if (!paragraphs.isEmpty()) {
+            // include the scored text
+            for (final TokenParagraph singleParagraph : paragraphs) {
+                this.writeInterviewParagraphToStream(writer, singleParagraph);
+            }
+            StaxUtil.writeIndentation(writer, 2);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Write the given {@link Interview} paragraph.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param paragraph
+     *            the paragraph to write
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeInterviewParagraphToStream(final XMLStreamWriter writer, final TokenParagraph paragraph) throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, 3);
+        writer.writeStartElement(ModelParseServiceImpl.TAG_INTERVIEW_PARAGRAPH);
+        // iterate through tokens
+        int currentIndex = 0;
+        do {
+            if (paragraph.getDetail(currentIndex) == null) {
+                // omitting detail wrapper of top level tokens without assigned category
+                this.writeTokenTextToStream(writer, paragraph.getText(currentIndex), 4);
+                currentIndex++;
+            } else {
+                // wrap all tokens with the same assigned category in one detail element (to make it easier readable in a text editor)
+                currentIndex = this.writeTokenRangeToStream(writer, paragraph, currentIndex, 4);
+            }
+        } while (currentIndex < paragraph.size());
+        StaxUtil.writeIndentation(writer, 3);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Write a range of tokens with the same assigned {@link DetailCategory}, starting with the specified one.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param paragraph
+     *            the paragraph containing the range to write
+     * @param rangeStart
+     *            position of the first token of the range with the same assigned category
+     * @param depth
+     *            nesting depth of the detail element to write (for indentation)
+     * @return position of the next token after the written range (equal to the paragraph's size if there is no following token to the last in the
+     *         written range)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     * @see #parseXmlFromTokenRange(Document, TokenParagraph, int)
+     */
+    private int writeTokenRangeToStream(final XMLStreamWriter writer, final TokenParagraph paragraph, final int rangeStart, final int depth)
+            throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, depth);
+        writer.writeStartElement(ModelParseServiceImpl.TAG_INTERVIEW_DETAIL);
+        final DetailCategory category = paragraph.getDetail(rangeStart);
+        // ranges inside ranges can have no category assigned
+        if (category != null) {
+            writer.writeAttribute(ModelParseServiceImpl.ATTR_INTERVIEW_DETAIL_CODE, category.getCode());
+        }
+        int currentIndex = rangeStart;
+        // no need for any iterations if this range consists only of this single token
+        if (!paragraph.isLastTokenOfDetail(rangeStart)) {
+            // iterate through tokens of this range (include enclosed ranges by recursively calling this method)
+            do {
+                if (paragraph.getDetail(currentIndex) == category && !paragraph.isFirstTokenOfDetail(currentIndex) || currentIndex == rangeStart) {
+                    // token belongs to this range, include it directly
+                    this.writeTokenTextToStream(writer, paragraph.getText(currentIndex), depth + 1);
+                    currentIndex++;
+                } else {
+                    // token is (the start of) an enclosed range, wrap it recursively in its own detail element
+                    currentIndex = this.writeTokenRangeToStream(writer, paragraph, currentIndex, depth + 1);
+                }
+                // do not stop at an (other) enclosed token/range, only at the last taken of this range
+            } while (paragraph.isFirstTokenOfDetail(currentIndex) || !paragraph.isLastTokenOfDetail(currentIndex));
+        }
+        // include last token of this range
+        this.writeTokenTextToStream(writer, paragraph.getText(currentIndex), depth + 1);
+        StaxUtil.writeIndentation(writer, depth);
+        writer.writeEndElement();
+        return currentIndex + 1;
+    }
+
+    /**
+     * Write a token with the given text.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param tokenText
+     *            text of the token to write
+     * @param depth
+     *            nesting depth of the token element to write (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeTokenTextToStream(final XMLStreamWriter writer, final String tokenText, final int depth) throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, depth);
+        if (tokenText.isEmpty()) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_INTERVIEW_TOKEN);
+        } else {
+            // after converting all the category info into wrapping xml structure, the element for the token contains only its text
+            writer.writeStartElement(ModelParseServiceImpl.TAG_INTERVIEW_TOKEN);
+            writer.writeCharacters(tokenText);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Write identifiers for the given list's elements, to be initially displayed when the containing document is loaded again.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param openViewElements
+     *            list of view elements (tabs) to be remember for restoring them when loading this file again
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeOpenViewElementsToStream(final XMLStreamWriter writer, final List<?> openViewElements) throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, 1);
+        writer.writeStartElement(ModelParseServiceImpl.TAG_VIEWS);
+        for (final Object viewElement : openViewElements) {
+            StaxUtil.writeIndentation(writer, 2);
+            if (viewElement instanceof Interview) {
+                writer.writeEmptyElement(ModelParseServiceImpl.TAG_VIEWS_INTERVIEW);
+                writer.writeAttribute(ModelParseServiceImpl.ATTR_VIEWS_INTERVIEW_INDEX, String.valueOf(((Interview) viewElement).getIndex()));
+                writer.writeAttribute(ModelParseServiceImpl.ATTR_VIEWS_INTERVIEW_PARTICIPANT, ((Interview) viewElement).getParticipantId());
+            } else if (viewElement instanceof String) {
+                writer.writeEmptyElement(ModelParseServiceImpl.TAG_VIEWS_GROUP);
+                writer.writeAttribute(ModelParseServiceImpl.ATTR_VIEWS_GROUP_NAME, (String) viewElement);
+            } else {
+                writer.writeEmptyElement(ModelParseServiceImpl.TAG_VIEWS_PROJECT);
+            }
+        }
+        StaxUtil.writeIndentation(writer, 1);
+        writer.writeEndElement();
+    }
+
+    @Override
+    public Entry<AisProject, List<?>> parseModelFromStream(final XMLStreamReader reader, final File originPath) throws HmxException {
+        return this.parseModelFromStream(reader, originPath, null);
+    }
+
+    /**
+     * Parse the model from the given xml stream. The stream is expected to be positioned on the start of the document element.
+     *
+     * @param reader
+     *            xml stream to parse
+     * @param originPath
+     *            path where the given stream has been opened from
+     * @param interviewIndex
+     *            positions of the interviews' contents, that have been omitted from the given stream and should only be parsed on demand (is
+     *            {@code null} if the stream contains the complete interviews)
+     * @return parsed model instance and list of view elements to be displayed
+     * @throws HmxException
+     *             wrapped error that occurred while parsing the stream
+     */
+    private Entry<AisProject, List<?>> parseModelFromStream(final XMLStreamReader reader, final File originPath,
+            final LazyInterviewIndex interviewIndex) throws HmxException {
+        try {
+            MutableDetailCategoryModel categories = null;
+            AisProject project = null;
+            List<Object> openViewElements = Collections.emptyList();
+            while (StaxUtil.nextChildElement(reader)) {
+                final String tagName = reader.getLocalName();
+                if (ModelParseServiceImpl.TAG_CATEGORY_ROOT.equals(tagName) && categories == null) {
+                    // retrieve used detail categories
+                    categories = this.parseDetailCategoriesFromStream(reader);
+                } else if (ModelParseServiceImpl.TAG_INTERVIEW_ROOT.equals(tagName) && project == null) {
+                    // retrieve interviews, the detail categories are expected to be defined in front of them
+                    project = this.createProject(categories, originPath);
+                    final List<Interview> containedInterviews = new ArrayList<>();
+                    while (StaxUtil.nextChildElement(reader)) {
+                        if (ModelParseServiceImpl.TAG_INTERVIEW.equals(reader.getLocalName())) {
+                            final Interview interview = this.parseInterviewFromStream(reader, categories);
+                            if (interviewIndex != null) {
+                                interview.setParagraphLoader(this.createParagraphLoader(interviewIndex, containedInterviews.size(), categories,
+                                        reader.getEncoding()));
                             }
+                            containedInterviews.add(interview);
+                        } else {
+                            StaxUtil.skipElement(reader);
                         }
                     }
+                    if (interviewIndex != null && interviewIndex.getInterviewCount() != containedInterviews.size()) {
+                        throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("unexpected number of "
+                                + ModelParseServiceImpl.TAG_INTERVIEW + " elements"));
+                    }
+                    project.setInterviews(containedInterviews);
+                } else if (ModelParseServiceImpl.TAG_VIEWS.equals(tagName)) {
+                    if (project == null) {
+                        project = this.createProject(categories, originPath);
+                    }
+                    openViewElements = this.parseOpenViewElementsFromStream(reader, project);
+                } else {
+                    // ignore the embedded stylesheet and any unknown elements
+                    StaxUtil.skipElement(reader);
+                }
+            }
+            if (project == null) {
+                project = this.createProject(categories, originPath);
+            }
+            return new SimpleEntry<>(project, openViewElements);
+        } catch (final XMLStreamException ex) {
+            // error while interpreting (invalid) xml structure
+            throw new HmxException(Message.ERROR_FILE_INVALID, ex);
+        }
+    }
+
+    @Override
+    public Entry<AisProject, List<?>> parseModelLazily(final byte[] content, final File originPath) throws HmxException {
+        final LazyInterviewIndex interviewIndex =
+                LazyInterviewIndex.scan(content, ModelParseServiceImpl.TAG_INTERVIEW_ROOT, ModelParseServiceImpl.TAG_INTERVIEW);
+        try {
+            // without the interviews' contents, only the detail categories and open view elements are left to be parsed right away
+            final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(
+                    interviewIndex == null ? new ByteArrayInputStream(content) : interviewIndex.openSkeleton());
+            try {
+                reader.nextTag();
+                return this.parseModelFromStream(reader, originPath, interviewIndex);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException ex) {
+            // error while interpreting (invalid) xml structure
+            throw new HmxException(Message.ERROR_FILE_INVALID, ex);
+        }
+    }
+
+    /**
+     * Create an empty project with the given detail category model.
+     *
+     * @param categories
+     *            the already parsed detail category model
+     * @param originPath
+     *            path where the project is being loaded from
+     * @return created project instance
+     * @throws HmxException
+     *             no valid detail category model has been parsed (yet)
+     */
+    private AisProject createProject(final MutableDetailCategoryModel categories, final File originPath) throws HmxException {
+        if (categories == null) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException(ModelParseServiceImpl.TAG_CATEGORY_ROOT
+                    + " contains no children (expected multiple " + ModelParseServiceImpl.TAG_CATEGORY + " entries)"));
+        }
+        return new AisProject(originPath.getName(), categories.provide());
+    }
+
+    /**
+     * Parse the detail category model from the given stream.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_CATEGORY_ROOT} element
+     * @return successfully parsed detail category model
+     * @throws HmxException
+     *             given stream does not contain a valid detail category model
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private MutableDetailCategoryModel parseDetailCategoriesFromStream(final XMLStreamReader reader) throws HmxException, XMLStreamException {
+        final List<CategoryDefinition> topLevelCategories = this.parseCategoryDefinitionsFromStream(reader);
+        if (topLevelCategories.isEmpty()) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException(ModelParseServiceImpl.TAG_CATEGORY_ROOT
+                    + " contains no children (expected multiple " + ModelParseServiceImpl.TAG_CATEGORY + " entries)"));
+        }
+        final MutableDetailCategoryModel categories = new MutableDetailCategoryModel();
+        categories.addAll(this.createDetailCategories(topLevelCategories, null));
+        return categories;
+    }
+
+    /**
+     * Collect the raw detail category definitions contained in the element the given stream is positioned on. As a category is only selectable if it
+     * has no children, the actual {@link DetailCategory} instances can only be created after its whole element has been read.
+     *
+     * @param reader
+     *            stream positioned on the start of the element containing the {@value #TAG_CATEGORY} elements to parse
+     * @return parsed category definitions (including their respective child categories)
+     * @throws HmxException
+     *             at least one of the parsed elements did contain an invalid detail category definition
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private List<CategoryDefinition> parseCategoryDefinitionsFromStream(final XMLStreamReader reader) throws HmxException, XMLStreamException {
+        final List<CategoryDefinition> result = new ArrayList<>();
+        while (StaxUtil.nextChildElement(reader)) {
+            if (!ModelParseServiceImpl.TAG_CATEGORY.equals(reader.getLocalName())) {
+                StaxUtil.skipElement(reader);
+                continue;
+            }
+            final CategoryDefinition definition = new CategoryDefinition(StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_CATEGORY_CODE),
+                    StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_CATEGORY_NAME),
+                    this.parseCategoryColor(StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_CATEGORY_COLOR)),
+                    this.parseCategoryShortCut(StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_CATEGORY_SHORTCUT)));
+            if (definition.code.isEmpty()) {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid " + ModelParseServiceImpl.TAG_CATEGORY
+                        + " definition"));
+            }
+            definition.children.addAll(this.parseCategoryDefinitionsFromStream(reader));
+            result.add(definition);
+        }
+        return result;
+    }
+
+    /**
+     * Create the detail categories from the given raw definitions.
+     *
+     * @param definitions
+     *            the raw definitions to create the detail categories from
+     * @param parentCategory
+     *            (already created) detail category to assign as parent to the detail categories to create
+     * @return created detail categories, each followed by its sub categories
+     */
+    private List<DetailCategory> createDetailCategories(final List<CategoryDefinition> definitions, final DetailCategory parentCategory) {
+        final List<DetailCategory> result = new ArrayList<>();
+        for (final CategoryDefinition singleDefinition : definitions) {
+            // only categories without any children are deemed selectable
+            final DetailCategory category = new DetailCategory(parentCategory, singleDefinition.code, singleDefinition.name,
+                    singleDefinition.children.isEmpty(), singleDefinition.color, singleDefinition.shortCut);
+            result.add(category);
+            result.addAll(this.createDetailCategories(singleDefinition.children, category));
+        }
+        return result;
+    }
+
+    /**
+     * Parse the interview the given stream is positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_INTERVIEW} element
+     * @param categories
+     *            detail category model to apply to parsed tokens (identifying assigned detail categories by their unique codes)
+     * @return successfully parsed interview
+     * @throws HmxException
+     *             the stream does not contain a valid interview definition
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private Interview parseInterviewFromStream(final XMLStreamReader reader, final MutableDetailCategoryModel categories) throws HmxException,
+            XMLStreamException {
+        final String participantId = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_INTERVIEW_PARTICIPANT);
+        final int indexValue = StaxUtil.getIntAttribute(reader, ModelParseServiceImpl.ATTR_INTERVIEW_INDEX, -1);
+        if (participantId.isEmpty() || indexValue == -1) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid " + ModelParseServiceImpl.TAG_INTERVIEW
+                    + " definition"));
+        }
+        return new Interview(participantId, indexValue).setParagraphs(this.parseParagraphsFromStream(reader, categories));
+    }
+
+    /**
+     * Parse the paragraphs of the interview the given stream is positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_INTERVIEW} element
+     * @param categories
+     *            detail category model to apply to parsed tokens (identifying assigned detail categories by their unique codes)
+     * @return successfully parsed paragraphs
+     * @throws HmxException
+     *             the stream contains an invalid paragraph
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private List<TokenParagraph> parseParagraphsFromStream(final XMLStreamReader reader, final MutableDetailCategoryModel categories)
+            throws HmxException, XMLStreamException {
+        final List<TokenParagraph> paragraphs = new ArrayList<>();
+        while (StaxUtil.nextChildElement(reader)) {
+            if (ModelParseServiceImpl.TAG_INTERVIEW_PARAGRAPH.equals(reader.getLocalName())) {
+                final TokenParagraph paragraph = new TokenParagraph(ModelParseServiceImpl.INITIAL_PARAGRAPH_CAPACITY);
+                this.parseTextRangeFromStream(reader, categories, paragraph);
+                paragraphs.add(paragraph.trimToSize());
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+        return paragraphs;
+    }
+
+    /**
+     * Create the provider of an interview's paragraphs, that parses the interview's contents from the original xml content when it is called.
+     * As the content has already been checked for a valid interview element beforehand, errors while parsing its contents are not expected and
+     * are only being reported as {@link IllegalStateException}.
+     *
+     * @param interviewIndex
+     *            positions of the interviews in the original xml content
+     * @param interviewPosition
+     *            position of the targeted interview in the document order
+     * @param categories
+     *            detail category model to apply to parsed tokens (identifying assigned detail categories by their unique codes)
+     * @param encoding
+     *            character encoding of the original xml content (can be {@code null} if it is UTF-8)
+     * @return provider of the interview's paragraphs
+     */
+    private Supplier<List<TokenParagraph>> createParagraphLoader(final LazyInterviewIndex interviewIndex, final int interviewPosition,
+            final MutableDetailCategoryModel categories, final String encoding) {
+        return () -> {
+            try {
+                final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(interviewIndex.openInterview(interviewPosition),
+                        encoding == null ? "UTF-8" : encoding);
+                try {
+                    reader.nextTag();
+                    return this.parseParagraphsFromStream(reader, categories);
+                } finally {
+                    reader.close();
+                }
+            } catch (final HmxException ex) {
+                throw new IllegalStateException(ex);
+            } catch (final XMLStreamException ex) {
+                throw new IllegalStateException(new HmxException(Message.ERROR_FILE_INVALID, ex));
+            }
+        };
+    }
+
+    /**
+     * Parse the text paragraph or enclosed detail range the given stream is positioned on – appending the parsed tokens to the given paragraph.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_INTERVIEW_PARAGRAPH} or {@value #TAG_INTERVIEW_DETAIL} element
+     * @param categories
+     *            detail category model to apply (identifying assigned detail categories by their unique codes)
+     * @param paragraph
+     *            the paragraph to add the parsed tokens to
+     * @throws HmxException
+     *             encountered an empty paragraph or detail range
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     * @see #parseTextRangeFromXml(Element, MutableDetailCategoryModel, TokenParagraph)
+     */
+    private void parseTextRangeFromStream(final XMLStreamReader reader, final MutableDetailCategoryModel categories,
+            final TokenParagraph paragraph) throws HmxException, XMLStreamException {
+        final String tagName = reader.getLocalName();
+        final String detailCode = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATTR_INTERVIEW_DETAIL_CODE);
+        final DetailCategory category = categories.getDetailByCode(detailCode);
+        final int rangeStart = paragraph.size();
+        while (StaxUtil.nextChildElement(reader)) {
+            final int previousIndex = paragraph.size() - 1;
+            if (ModelParseServiceImpl.TAG_INTERVIEW_TOKEN.equals(reader.getLocalName())) {
+                final int tokenIndex = paragraph.addToken(reader.getElementText(), category);
+                if (category == null && previousIndex >= rangeStart && paragraph.getDetail(previousIndex) != null) {
+                    paragraph.setFirstTokenOfDetail(tokenIndex, true);
                 }
+            } else if (ModelParseServiceImpl.TAG_INTERVIEW_DETAIL.equals(reader.getLocalName())) {
+                this.parseTextRangeFromStream(reader, categories, paragraph);
+                if (category == null && previousIndex >= rangeStart && paragraph.getDetail(previousIndex) == null) {
+                    paragraph.setLastTokenOfDetail(previousIndex, true);
+                }
+            } else {
+                StaxUtil.skipElement(reader);
             }
         }
+        if (paragraph.size() == rangeStart) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException(tagName + " does not contain any children (expected "
+                    + ModelParseServiceImpl.TAG_INTERVIEW_DETAIL + " and/or " + ModelParseServiceImpl.TAG_INTERVIEW_TOKEN + ')'));
+        }
+        paragraph.setLastTokenOfDetail(paragraph.size() - 1, true);
+        paragraph.setFirstTokenOfDetail(rangeStart, true);
+    }
+
+    /**
+     * Parse the list of open view elements from the given stream.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_VIEWS} element
+     * @param parsedProject
+     *            (already parsed) project from the same stream, to retrieve the actual model elements from
+     * @return successfully parsed list of model elements that were open in the view, when the stream was created
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private List<Object> parseOpenViewElementsFromStream(final XMLStreamReader reader, final AisProject parsedProject) throws XMLStreamException {
+        final List<Object> openViewElements = new ArrayList<>();
+        while (StaxUtil.nextChildElement(reader)) {
+            final String tagName = reader.getLocalName();
+            if (ModelParseServiceImpl.TAG_VIEWS_PROJECT.equals(tagName)) {
+                openViewElements.add(parsedProject);
+            } else if (ModelParseServiceImpl.TAG_VIEWS_GROUP.equals(tagName)
+                    && !StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_VIEWS_GROUP_NAME).isEmpty()) {
+                openViewElements.add(StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_VIEWS_GROUP_NAME));
+            } else if (ModelParseServiceImpl.TAG_VIEWS_INTERVIEW.equals(tagName)) {
+                final String participantId = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATTR_VIEWS_INTERVIEW_PARTICIPANT);
+                final int indexValue = StaxUtil.getIntAttribute(reader, ModelParseServiceImpl.ATTR_VIEWS_INTERVIEW_INDEX, -1);
+                final Interview interview = indexValue == -1 ? null : parsedProject.getInterview(participantId, indexValue);
+                if (interview != null) {
+                    openViewElements.add(interview);
+                }
+            }
+            StaxUtil.skipElement(reader);
+        }
         return openViewElements;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void writeModelToBinary(final IModel<?> model, final List<?> openViewElements, final BinaryModelWriter writer) throws HmxException {
+        try {
+            BinaryProjectFormat.write((AisProject) model, openViewElements, writer);
+        } catch (final IOException ex) {
+            // error while writing to the underlying stream
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
+    @Override
+    public Entry<AisProject, List<?>> parseModelFromBinary(final BinaryModelReader reader, final File originPath) throws HmxException {
+        return BinaryProjectFormat.read(reader, originPath);
+    }
+
+    /** Raw detail category definition, as long as not all of its child categories have been parsed from a stream. */
+    private static final class CategoryDefinition {
+
+        /** The category's short identifier. */
+        final String code;
+        /** The category's descriptive name. */
+        final String name;
+        /** The category's highlight color. */
+        final Color color;
+        /** The category's short cut (can be {@code null}). */
+        final KeyStroke shortCut;
+        /** The definitions of the category's sub categories. */
+        final List<CategoryDefinition> children = new ArrayList<>();
+
+        /**
+         * Constructor.
+         *
+         * @param code
+         *            the category's short identifier
+         * @param name
+         *            the category's descriptive name
+         * @param color
+         *            the category's highlight color
+         * @param shortCut
+         *            the category's short cut (can be {@code null})
+         */
+        CategoryDefinition(final String code, final String name, final Color color, final KeyStroke shortCut) {
+            this.code = code;
+            this.name = name;
+            this.color = color;
+            this.shortCut = shortCut;
+        }
+    }
+}
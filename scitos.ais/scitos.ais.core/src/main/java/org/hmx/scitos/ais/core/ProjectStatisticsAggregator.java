@@ -0,0 +1,184 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hmx.scitos.ais.core.AggregatedStatistics.ProjectCounts;
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.core.HmxException;
+
+/**
+ * Engine for aggregating the statistics of multiple project files – without opening them in the client. The files are being read and analyzed in
+ * parallel on a bounded number of threads. Each project is dropped right after its interviews have been counted, i.e. the memory usage depends on
+ * the number of threads and the size of the largest projects, but not on the number of files.
+ */
+public final class ProjectStatisticsAggregator {
+
+    /** Source of the projects to aggregate. */
+    @FunctionalInterface
+    public interface ProjectReader {
+
+        /**
+         * Read the project from the given file. This is being called on multiple threads in parallel.
+         *
+         * @param file
+         *            the project file to read
+         * @return the read project
+         * @throws HmxException
+         *             the file could not be read or does not contain a valid project
+         */
+        AisProject read(File file) throws HmxException;
+    }
+
+    /** Source of the projects to aggregate. */
+    private final ProjectReader reader;
+    /** Minimum number (inclusive) of consecutive detail categories to be counted as pattern. */
+    private final int minPatternLength;
+    /** Maximum number (inclusive) of consecutive detail categories to be counted as pattern. */
+    private final int maxPatternLength;
+
+    /**
+     * Constructor.
+     *
+     * @param reader
+     *            source of the projects to aggregate
+     * @param minPatternLength
+     *            minimum number (inclusive) of consecutive detail categories to be counted as pattern
+     * @param maxPatternLength
+     *            maximum number (inclusive) of consecutive detail categories to be counted as pattern
+     * @throws IllegalArgumentException
+     *             the pattern lengths are not between {@code 1} and {@link DetailPatternCounts#MAX_PATTERN_LENGTH}
+     */
+    public ProjectStatisticsAggregator(final ProjectReader reader, final int minPatternLength, final int maxPatternLength) {
+        if (minPatternLength < 1 || maxPatternLength < minPatternLength || maxPatternLength > DetailPatternCounts.MAX_PATTERN_LENGTH) {
+            throw new IllegalArgumentException("Pattern lengths must be between 1 and " + DetailPatternCounts.MAX_PATTERN_LENGTH);
+        }
+        this.reader = reader;
+        this.minPatternLength = minPatternLength;
+        this.maxPatternLength = maxPatternLength;
+    }
+
+    /**
+     * Read and count all given project files – in parallel on the given number of threads. The counts are being added to the aggregated statistics
+     * in the order of the given files, i.e. the result does not depend on the number of threads. Files that cannot be read are being reported in
+     * the {@link AggregatedStatistics#getFailures() failures}.
+     *
+     * @param files
+     *            the project files to aggregate
+     * @param threadCount
+     *            the maximum number of files to read and count in parallel
+     * @return the aggregated statistics
+     */
+    public AggregatedStatistics aggregate(final List<File> files, final int threadCount) {
+        final OrderedMerge merge = new OrderedMerge(new AggregatedStatistics());
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, task -> {
+            final Thread thread = new Thread(task, "Aggregation Worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Callable<Void>> tasks = new ArrayList<>(files.size());
+            for (int index = 0; index < files.size(); index++) {
+                final int position = index;
+                tasks.add(() -> {
+                    merge.add(position, this.countProject(files.get(position)));
+                    return null;
+                });
+            }
+            for (final Future<Void> singleTask : executor.invokeAll(tasks)) {
+                singleTask.get();
+            }
+            return merge.target;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            // countProject() is catching all expected errors itself
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Read and count the given project file.
+     *
+     * @param file
+     *            the project file to count
+     * @return the project's counts (or the error that prevented them from being determined)
+     */
+    private ProjectCounts countProject(final File file) {
+        try {
+            final AisProject project = this.reader.read(file);
+            return new ProjectCounts(file, project.provide(), new InterviewAnalyzer(project.provide(), this.minPatternLength,
+                    this.maxPatternLength).analyze(project.getInterviews()));
+        } catch (final HmxException | RuntimeException ex) {
+            return new ProjectCounts(file, ex);
+        }
+    }
+
+    /** Merge of the single projects' counts into the aggregated statistics, in the order of their positions – regardless of their completion. */
+    private static final class OrderedMerge {
+
+        /** The aggregated statistics to add the single projects' counts to. */
+        final AggregatedStatistics target;
+        /** The completed counts, that are waiting for the counts of preceding projects. */
+        private final Map<Integer, ProjectCounts> pendingCounts = new HashMap<>();
+        /** The position of the next project to add to the aggregated statistics. */
+        private int nextPosition = 0;
+
+        /**
+         * Constructor.
+         *
+         * @param target
+         *            the aggregated statistics to add the single projects' counts to
+         */
+        OrderedMerge(final AggregatedStatistics target) {
+            this.target = target;
+        }
+
+        /**
+         * Add the given project's counts to the aggregated statistics – as soon as the counts of all preceding projects have been added.
+         *
+         * @param position
+         *            the project's position in the list of files to aggregate
+         * @param counts
+         *            the project's counts
+         */
+        synchronized void add(final int position, final ProjectCounts counts) {
+            this.pendingCounts.put(Integer.valueOf(position), counts);
+            ProjectCounts nextCounts;
+            while ((nextCounts = this.pendingCounts.remove(Integer.valueOf(this.nextPosition))) != null) {
+                this.target.add(nextCounts);
+                this.nextPosition++;
+            }
+        }
+    }
+}
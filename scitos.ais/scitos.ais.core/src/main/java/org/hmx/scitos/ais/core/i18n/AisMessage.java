@@ -38,6 +38,8 @@ public enum AisMessage implements ILocalizableMessage {
     PROJECT_IMPORT_INTERVIEWS_PREVIEW_SELECT("Ais.Project.Import.Interviews.Ods.Preview.Select"),
     PROJECT_IMPORT_INTERVIEWS_PREVIEW_PARTICIPANT("Ais.Project.Import.Interviews.Ods.Preview.Participant"),
     PROJECT_IMPORT_INTERVIEWS_PREVIEW_TEXT("Ais.Project.Import.Interviews.Ods.Preview.Text"),
+    PROJECT_RECOVER("Ais.Project.Recover"),
+    PROJECT_RECOVER_QUESTION("Ais.Project.Recover.Question"),
     PROJECT_CHANGE_CATEGORIES("Ais.Project.ChangeDetailCategories"),
     // the matching dialog for detail category changes on an active project
     PROJECT_CHANGE_CATEGORIES_MATCHING("Ais.Project.ChangeDetailCategories.MatchOldToNew"),
@@ -65,6 +67,10 @@ public enum AisMessage implements ILocalizableMessage {
     ANALYSIS_PATTERN("Ais.Analysis.Pattern"),
     ANALYSIS_TABLE_HEADER_INTERVIEW("Ais.Analysis.TableHeader.Interview"),
     ANALYSIS_TABLE_HEADER_TOKENCOUNT("Ais.Analysis.TableHeader.TokenCount"),
+    ANALYSIS_TABLE_HEADER_PARTICIPANT("Ais.Analysis.TableHeader.Participant"),
+    ANALYSIS_TABLE_HEADER_FILECOUNT("Ais.Analysis.TableHeader.FileCount"),
+    ANALYSIS_TABLE_HEADER_INTERVIEWCOUNT("Ais.Analysis.TableHeader.InterviewCount"),
+    ANALYSIS_TABLE_HEADER_TOTAL("Ais.Analysis.TableHeader.Total"),
     ANALYSIS_NOT_SCORED("Ais.Analysis.TableContent.NoDetailsScored"),
     ANALYSIS_EXPORT("Ais.Analysis.ExportToSpreadsheet"),
     ERROR_EXPORT_FAILED("Ais.Analysis.ExportToSpreadSheet.Failure"),
@@ -0,0 +1,699 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.TextToken;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.UndoManager;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+
+/**
+ * Benchmarks for the AIS core services on large synthetic projects. These are skipped unless the system property {@code scitos.benchmark} is set
+ * to {@code true} (e.g. {@code mvn test -Dscitos.benchmark=true}). The measured durations and heap usages are printed to the standard output.
+ */
+public class AisPerformanceTest {
+
+    /** Number of interviews in the synthetic project. */
+    private static final int INTERVIEW_COUNT = 500;
+    /** Number of paragraphs in each synthetic interview. */
+    private static final int PARAGRAPH_COUNT = 20;
+    /** Number of tokens in each paragraph of the synthetic interviews. */
+    private static final int TOKENS_PER_PARAGRAPH = 50;
+
+    /** Number of tokens to compare the memory consumption of the token representations with. */
+    private static final int MEMORY_TOKEN_COUNT = 1_000_000;
+
+    /** Temporary directory for the written files. */
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    /** The synthetic project to measure with. */
+    private AisProject project;
+
+    /** Skip all benchmarks if they have not been requested explicitly. */
+    @BeforeClass
+    public static void checkBenchmarkEnabled() {
+        Assume.assumeTrue("Benchmarks are only executed with -Dscitos.benchmark=true", Boolean.getBoolean("scitos.benchmark"));
+    }
+
+    /** Initialize the synthetic project. */
+    @Before
+    public void setUp() {
+        this.project = AisPerformanceTest.createSyntheticProject(AisPerformanceTest.INTERVIEW_COUNT);
+    }
+
+    /**
+     * Create a project with the given number of interviews, each containing {@link #PARAGRAPH_COUNT} paragraphs with {@link #TOKENS_PER_PARAGRAPH}
+     * tokens and non-overlapping as well as nested detail category assignments.
+     *
+     * @param interviewCount
+     *            number of interviews to create
+     * @return created project
+     */
+    static AisProject createSyntheticProject(final int interviewCount) {
+        final AisProject project = new AisProject("benchmark.aisp", AisOption.createDefaultCategoryModel().provide());
+        final AisModelHandler modelHandler = new ModelHandlerImpl(project);
+        final List<DetailCategory> categories = AisOption.createDefaultCategoryModel().provideSelectables();
+        final StringBuilder text = new StringBuilder();
+        for (int paragraphIndex = 0; paragraphIndex < AisPerformanceTest.PARAGRAPH_COUNT; paragraphIndex++) {
+            if (paragraphIndex > 0) {
+                text.append('\n');
+            }
+            for (int tokenIndex = 0; tokenIndex < AisPerformanceTest.TOKENS_PER_PARAGRAPH; tokenIndex++) {
+                text.append("word").append(tokenIndex).append(' ');
+            }
+        }
+        for (int interviewIndex = 0; interviewIndex < interviewCount; interviewIndex++) {
+            final Interview interview = modelHandler.createInterview("P" + interviewIndex % 50);
+            modelHandler.setInterviewText(interview, text.toString());
+            int categoryIndex = interviewIndex;
+            for (final TextToken paragraphStart : interview.getText()) {
+                TextToken token = paragraphStart;
+                while (token != null) {
+                    final TextToken start = token;
+                    final List<TextToken> range = new ArrayList<>(5);
+                    for (int rangeIndex = 0; rangeIndex < 5 && token != null; rangeIndex++) {
+                        range.add(token);
+                        token = token.getFollowingToken();
+                    }
+                    try {
+                        modelHandler.assignDetailCategory(interview, range, categories.get(categoryIndex++ % categories.size()));
+                        modelHandler.assignDetailCategory(interview, Collections.singletonList(start),
+                                categories.get(categoryIndex++ % categories.size()));
+                    } catch (final HmxException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            }
+        }
+        return project;
+    }
+
+    /**
+     * Measure the currently used heap, after requesting a garbage collection.
+     *
+     * @return used heap in bytes
+     */
+    static long measureUsedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < 3; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Print the given benchmark result.
+     *
+     * @param label
+     *            name of the measured action
+     * @param startNanos
+     *            start time of the measured action
+     * @param heapBytes
+     *            heap usage to report (ignored if negative)
+     */
+    static void report(final String label, final long startNanos, final long heapBytes) {
+        final long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        if (heapBytes < 0) {
+            System.out.println(String.format("[benchmark] %s: %d ms", label, millis));
+        } else {
+            System.out.println(String.format("[benchmark] %s: %d ms, %d KiB heap", label, millis, heapBytes / 1024));
+        }
+    }
+
+    /**
+     * Benchmark: writing and reading a project with 500 interviews – via the document based and the streamed xml handling (also deferring the
+     * parsing of the interviews' contents), as well as via the memory mapped binary snapshot.
+     *
+     * @throws Exception
+     *             error when writing or reading a file
+     */
+    @Test
+    public void benchmarkSaveAndOpen() throws Exception {
+        final ModelParseServiceImpl service = new ModelParseServiceImpl();
+        final File domFile = this.tempFolder.newFile("dom.aisp");
+        final File streamFile = this.tempFolder.newFile("stream.aisp");
+        final File binaryFile = this.tempFolder.newFile("binary.aisb");
+
+        long heapBefore = AisPerformanceTest.measureUsedHeap();
+        long start = System.nanoTime();
+        final Document xml = service.parseXmlFromModel(this.project, Collections.emptyList());
+        long heapPeak = AisPerformanceTest.measureUsedHeap() - heapBefore;
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
+        transformer.transform(new DOMSource(xml), new StreamResult(domFile));
+        AisPerformanceTest.report("save (DOM)", start, heapPeak);
+
+        start = System.nanoTime();
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(streamFile))) {
+            service.writeModelToStream(this.project, Collections.emptyList(),
+                    XMLOutputFactory.newInstance().createXMLStreamWriter(output, "UTF-8"), null);
+        }
+        AisPerformanceTest.report("save (StAX)", start, -1);
+
+        start = System.nanoTime();
+        try (OutputStream output = new FileOutputStream(binaryFile)) {
+            final BinaryModelWriter writer = new BinaryModelWriter(output);
+            writer.writeHeader("AI-Scoring/1.0");
+            service.writeModelToBinary(this.project, Collections.emptyList(), writer);
+            writer.flush();
+        }
+        AisPerformanceTest.report("save (binary)", start, -1);
+
+        heapBefore = AisPerformanceTest.measureUsedHeap();
+        start = System.nanoTime();
+        final Document parsedXml = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(domFile);
+        heapPeak = AisPerformanceTest.measureUsedHeap() - heapBefore;
+        final AisProject domResult = service.parseModelFromXml(parsedXml, domFile).getKey();
+        AisPerformanceTest.report("open (DOM)", start, heapPeak);
+
+        start = System.nanoTime();
+        final Entry<AisProject, List<?>> streamResult;
+        try (InputStream input = new BufferedInputStream(new FileInputStream(streamFile))) {
+            final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(input);
+            reader.nextTag();
+            streamResult = service.parseModelFromStream(reader, streamFile);
+        }
+        AisPerformanceTest.report("open (StAX)", start, -1);
+
+        start = System.nanoTime();
+        final Entry<AisProject, List<?>> lazyResult = service.parseModelLazily(Files.readAllBytes(streamFile.toPath()), streamFile);
+        AisPerformanceTest.report("open (StAX, lazy)", start, -1);
+
+        start = System.nanoTime();
+        final Entry<AisProject, List<?>> binaryResult;
+        try (FileChannel channel = FileChannel.open(binaryFile.toPath(), StandardOpenOption.READ)) {
+            final BinaryModelReader reader = new BinaryModelReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            reader.readHeader();
+            binaryResult = service.parseModelFromBinary(reader, binaryFile);
+        }
+        AisPerformanceTest.report("open (binary)", start, -1);
+        System.out.println(String.format("[benchmark] file size: %d KiB (xml), %d KiB (binary)", streamFile.length() / 1024,
+                binaryFile.length() / 1024));
+
+        final AisModelHandler modelHandler = new ModelHandlerImpl(this.project);
+        Assert.assertNull(modelHandler.validateEquality(domResult));
+        Assert.assertNull(modelHandler.validateEquality(streamResult.getKey()));
+        Assert.assertNull(modelHandler.validateEquality(lazyResult.getKey()));
+        Assert.assertNull(modelHandler.validateEquality(binaryResult.getKey()));
+    }
+
+    /**
+     * Benchmark: heap usage and scan duration of the columnar {@link TokenParagraph} compared to the previous representation as doubly-linked
+     * token objects (replicated here by {@link LinkedToken}).
+     */
+    @Test
+    public void benchmarkTokenMemory() {
+        final List<DetailCategory> categories = AisOption.createDefaultCategoryModel().provideSelectables();
+        final String text = "word";
+        long heapBefore = AisPerformanceTest.measureUsedHeap();
+        long start = System.nanoTime();
+        final List<LinkedToken> linkedParagraphs = new ArrayList<>();
+        LinkedToken previous = null;
+        for (int index = 0; index < AisPerformanceTest.MEMORY_TOKEN_COUNT; index++) {
+            // splitting a text via regular expression creates a separate String instance per token
+            final LinkedToken token = new LinkedToken(new String(text + index % 1000));
+            token.detail = index % 3 == 0 ? null : categories.get(index % categories.size());
+            token.firstTokenOfDetail = true;
+            token.lastTokenOfDetail = true;
+            if (index % AisPerformanceTest.TOKENS_PER_PARAGRAPH == 0) {
+                linkedParagraphs.add(token);
+            } else {
+                previous.followingToken = token;
+                token.previousToken = previous;
+            }
+            previous = token;
+        }
+        AisPerformanceTest.report("1M tokens (linked objects)", start, AisPerformanceTest.measureUsedHeap() - heapBefore);
+        start = System.nanoTime();
+        long assignedCount = 0;
+        for (final LinkedToken paragraphStart : linkedParagraphs) {
+            for (LinkedToken token = paragraphStart; token != null; token = token.followingToken) {
+                if (token.detail != null && token.firstTokenOfDetail) {
+                    assignedCount++;
+                }
+            }
+        }
+        AisPerformanceTest.report("scan 1M tokens (linked objects)", start, -1);
+
+        heapBefore = AisPerformanceTest.measureUsedHeap();
+        start = System.nanoTime();
+        final List<TokenParagraph> paragraphs = new ArrayList<>();
+        TokenParagraph paragraph = null;
+        for (int index = 0; index < AisPerformanceTest.MEMORY_TOKEN_COUNT; index++) {
+            if (index % AisPerformanceTest.TOKENS_PER_PARAGRAPH == 0) {
+                paragraph = new TokenParagraph(AisPerformanceTest.TOKENS_PER_PARAGRAPH);
+                paragraphs.add(paragraph);
+            }
+            final int position = paragraph.addToken(new String(text + index % 1000), index % 3 == 0 ? null : categories.get(index
+                    % categories.size()));
+            paragraph.setFirstTokenOfDetail(position, true).setLastTokenOfDetail(position, true);
+        }
+        AisPerformanceTest.report("1M tokens (columnar)", start, AisPerformanceTest.measureUsedHeap() - heapBefore);
+        start = System.nanoTime();
+        long columnarAssignedCount = 0;
+        for (final TokenParagraph singleParagraph : paragraphs) {
+            for (int index = 0; index < singleParagraph.size(); index++) {
+                if (singleParagraph.getDetail(index) != null && singleParagraph.isFirstTokenOfDetail(index)) {
+                    columnarAssignedCount++;
+                }
+            }
+        }
+        AisPerformanceTest.report("scan 1M tokens (columnar)", start, -1);
+        Assert.assertEquals(assignedCount, columnarAssignedCount);
+        Assert.assertEquals(linkedParagraphs.size(), paragraphs.size());
+    }
+
+    /**
+     * Benchmark: throughput of cloning a single paragraph with 100,000 tokens and of cloning whole interviews (as on every undoable edit).
+     */
+    @Test
+    public void benchmarkClone() {
+        final int tokenCount = 100_000;
+        final List<DetailCategory> categories = AisOption.createDefaultCategoryModel().provideSelectables();
+        final TokenParagraph paragraph = new TokenParagraph(tokenCount);
+        for (int index = 0; index < tokenCount; index++) {
+            final int position = paragraph.addToken("word" + index % 1000, index % 3 == 0 ? null : categories.get(index % categories.size()));
+            paragraph.setFirstTokenOfDetail(position, true).setLastTokenOfDetail(position, true);
+        }
+        final int repetitions = 200;
+        long start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            Assert.assertEquals(tokenCount, paragraph.getFirstToken().clone().getParagraph().size());
+        }
+        final long paragraphNanos = System.nanoTime() - start;
+        AisPerformanceTest.report(String.format("clone 100k-token paragraph (%.1f M tokens/s)",
+                (double) tokenCount * repetitions * 1000 / paragraphNanos), start, -1);
+
+        final Interview interview = this.project.getInterviews().get(0);
+        start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions * 10; repetition++) {
+            Assert.assertEquals(interview, interview.clone());
+        }
+        AisPerformanceTest.report("clone and compare interview with 1,000 tokens (x" + repetitions * 10 + ")", start, -1);
+    }
+
+    /**
+     * Benchmark: removing the leading token from 100 detail sections – each enclosing a nested section of 1,000 tokens – in a single paragraph, via
+     * the {@link DetailCategoryAssignment} (skipping the nested sections by means of the paragraph's index) versus the
+     * {@link LegacyDetailCategoryAssignment} (scanning all tokens of the nested sections).
+     *
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    @Test
+    public void benchmarkNestedAssignment() throws HmxException {
+        final int sectionCount = 100;
+        final int nestedLength = 1000;
+        final List<DetailCategory> categories = AisOption.createDefaultCategoryModel().provideSelectables();
+        final DetailCategory outerCategory = categories.get(0);
+        final DetailCategory nestedCategory = categories.get(1);
+        final TokenParagraph paragraph = new TokenParagraph(sectionCount * (nestedLength + 2));
+        for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++) {
+            paragraph.setFirstTokenOfDetail(paragraph.addToken("outer", outerCategory), true);
+            for (int index = 0; index < nestedLength; index++) {
+                final int position = paragraph.addToken("nested", nestedCategory);
+                paragraph.setFirstTokenOfDetail(position, index == 0).setLastTokenOfDetail(position, index == nestedLength - 1);
+            }
+            paragraph.setLastTokenOfDetail(paragraph.addToken("outer", outerCategory), true);
+        }
+        final TokenParagraph legacyParagraph = paragraph.clone();
+        long start = System.nanoTime();
+        paragraph.findDetailRangeStart(outerCategory, 0);
+        AisPerformanceTest.report("create detail range index of paragraph with " + paragraph.size() + " tokens", start, -1);
+        start = System.nanoTime();
+        for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++) {
+            new DetailCategoryAssignment(paragraph).assign(new int[] { sectionIndex * (nestedLength + 2) }, categories.get(2));
+        }
+        AisPerformanceTest.report("cut " + sectionCount + " sections around nested ones (indexed)", start, -1);
+        start = System.nanoTime();
+        for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++) {
+            new LegacyDetailCategoryAssignment().assignDetailCategory(
+                    Collections.singletonList(legacyParagraph.getToken(sectionIndex * (nestedLength + 2))), categories.get(2));
+        }
+        AisPerformanceTest.report("cut " + sectionCount + " sections around nested ones (scanning)", start, -1);
+        Assert.assertEquals(legacyParagraph, paragraph);
+    }
+
+    /**
+     * Benchmark: taking the snapshot of a project with 500 interviews before each background save operation – as full copy of the project versus
+     * via the {@link AutosaveJournal}, only cloning the interviews that have been changed since the last snapshot.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    @Test
+    public void benchmarkSaveSnapshot() throws HmxException {
+        final AisModelHandler modelHandler = new ModelHandlerImpl(this.project);
+        final AutosaveJournal journal = new AutosaveJournal(modelHandler, null);
+        modelHandler.addModelChangeListener(journal);
+        final List<DetailCategory> categories = AisOption.createDefaultCategoryModel().provideSelectables();
+        final List<Interview> interviews = this.project.getInterviews();
+        final int repetitions = 20;
+        long start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            Assert.assertEquals(interviews.size(), this.project.clone().getInterviews().size());
+        }
+        AisPerformanceTest.report("full copy of project with 500 interviews (x" + repetitions + ")", start, -1);
+        AisProject lastSnapshot = journal.takeSnapshot();
+        start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            // change a single interview in between two save operations
+            final Interview changedInterview = interviews.get(repetition);
+            modelHandler.assignDetailCategory(changedInterview, changedInterview.getText().subList(0, 1), categories.get(repetition % 2));
+            final AisProject snapshot = journal.takeSnapshot();
+            Assert.assertEquals(changedInterview, snapshot.getInterviews().get(repetition));
+            Assert.assertNotSame(lastSnapshot.getInterviews().get(repetition), snapshot.getInterviews().get(repetition));
+            Assert.assertSame(lastSnapshot.getInterviews().get(repetition + 1), snapshot.getInterviews().get(repetition + 1));
+            lastSnapshot = snapshot;
+        }
+        AisPerformanceTest.report("snapshot of project with 500 interviews after changing one (x" + repetitions + ")", start, -1);
+        journal.close();
+    }
+
+    /**
+     * Benchmark: heap retained by the {@link UndoManager} after 100 detail category assignments in an interview with 100,000 tokens – storing a
+     * full copy of the interview per edit versus storing only the recorded changes.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    @Test
+    public void benchmarkUndoMemory() throws HmxException {
+        final int editCount = 100;
+        final long snapshotHeap = AisPerformanceTest.measureUndoMemory(editCount, false);
+        final long changeHeap = AisPerformanceTest.measureUndoMemory(editCount, true);
+        Assert.assertTrue(changeHeap * 10 < snapshotHeap);
+    }
+
+    /**
+     * Perform the given number of detail category assignments in a new interview with 100,000 tokens, while an {@link UndoManager} is recording
+     * them (limited to the same number of edits). When the change records are being stored, it is asserted that no copy of the interview is being
+     * created – i.e. that the memory allocated for all edits together is less than the memory allocated for a single copy of the interview.
+     *
+     * @param editCount
+     *            number of edits to perform
+     * @param useChangeRecords
+     *            whether the recorded changes should be stored, instead of full copies of the interview
+     * @return the additionally used heap in bytes after all edits
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    private static long measureUndoMemory(final int editCount, final boolean useChangeRecords) throws HmxException {
+        final AisProject project = new AisProject("undo.aisp", AisOption.createDefaultCategoryModel().provide());
+        final ModelHandlerImpl modelHandler = new ModelHandlerImpl(project);
+        final List<DetailCategory> categories = AisOption.createDefaultCategoryModel().provideSelectables();
+        final StringBuilder text = new StringBuilder();
+        for (int paragraphIndex = 0; paragraphIndex < 200; paragraphIndex++) {
+            for (int tokenIndex = 0; tokenIndex < 500; tokenIndex++) {
+                text.append("word").append(tokenIndex).append(' ');
+            }
+            text.append('\n');
+        }
+        final Interview interview = modelHandler.createInterview("P1");
+        modelHandler.setInterviewText(interview, text.toString());
+        long allocationStart = AisPerformanceTest.measureAllocatedBytes();
+        interview.clone();
+        final long copyAllocation = AisPerformanceTest.measureAllocatedBytes() - allocationStart;
+        final UndoManager<Interview> undoManager = new UndoManager<>(interview);
+        undoManager.setLimit(editCount);
+        if (useChangeRecords) {
+            modelHandler.addModelChangeListener(event -> {
+                if (event.getTarget() == interview) {
+                    undoManager.undoableEditHappened(interview, event.getChange());
+                }
+            });
+        }
+        final long heapBefore = AisPerformanceTest.measureUsedHeap();
+        final long start = System.nanoTime();
+        allocationStart = AisPerformanceTest.measureAllocatedBytes();
+        for (int edit = 0; edit < editCount; edit++) {
+            final TokenParagraph paragraph = interview.getParagraphs().get(edit % interview.getParagraphs().size());
+            final int position = edit * 3 % (paragraph.size() - 3);
+            final Interview stateBefore = useChangeRecords ? null : interview.clone();
+            modelHandler.assignDetailCategory(interview,
+                    Arrays.asList(paragraph.getToken(position), paragraph.getToken(position + 1), paragraph.getToken(position + 2)),
+                    categories.get(edit % categories.size()));
+            if (!useChangeRecords) {
+                undoManager.undoableEditHappened(stateBefore, interview);
+            }
+        }
+        final long editAllocation = AisPerformanceTest.measureAllocatedBytes() - allocationStart;
+        final long heapDelta = Math.max(0, AisPerformanceTest.measureUsedHeap() - heapBefore);
+        AisPerformanceTest.report(String.format("%d undoable edits in interview with 100k tokens (%s)", editCount,
+                useChangeRecords ? "change records" : "full copies"), start, heapDelta);
+        Assert.assertTrue(undoManager.canUndo());
+        if (useChangeRecords) {
+            Assert.assertTrue(editAllocation < copyAllocation);
+        }
+        return heapDelta;
+    }
+
+    /**
+     * Determine the number of bytes allocated by the current thread so far.
+     *
+     * @return allocated bytes
+     */
+    private static long measureAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Benchmark: collecting the values of all analysis tables for 1,000 interviews – via the individual methods versus the parallel single pass.
+     */
+    @Test
+    public void benchmarkAnalysis() {
+        final AisProject largeProject = AisPerformanceTest.createSyntheticProject(1000);
+        final AisModelHandler modelHandler = new ModelHandlerImpl(largeProject);
+        final List<Interview> interviews = largeProject.getInterviews();
+        final int repetitions = 20;
+        long start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            modelHandler.countTokensWithAssignedDetail(interviews);
+            modelHandler.countDetailOccurrences(interviews);
+            interviews.forEach(modelHandler::extractDetailSequence);
+            modelHandler.extractDetailPattern(interviews, 2, 3);
+        }
+        AisPerformanceTest.report("analyze 1,000 interviews via individual methods (x" + repetitions + ")", start, -1);
+        start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            Assert.assertEquals(interviews.size(), modelHandler.analyzeInterviews(interviews, 2, 3).size());
+        }
+        AisPerformanceTest.report("analyze 1,000 interviews in parallel single pass (x" + repetitions + ", "
+                + Runtime.getRuntime().availableProcessors() + " cores)", start, -1);
+    }
+
+    /**
+     * Benchmark: counting detail category patterns with length two to eight for 1,000 interviews – via lists as map keys versus packed keys.
+     */
+    @Test
+    public void benchmarkPatternCount() {
+        final AisProject largeProject = AisPerformanceTest.createSyntheticProject(1000);
+        final AisModelHandler modelHandler = new ModelHandlerImpl(largeProject);
+        final List<Interview> interviews = largeProject.getInterviews();
+        final int repetitions = 10;
+        long heapBefore = AisPerformanceTest.measureUsedHeap();
+        long start = System.nanoTime();
+        Object result = null;
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            result = modelHandler.extractDetailPattern(interviews, 2, DetailPatternCounts.MAX_PATTERN_LENGTH);
+        }
+        AisPerformanceTest.report("count 2- to 8-grams in 1,000 interviews via list keys (x" + repetitions + ")", start,
+                AisPerformanceTest.measureUsedHeap() - heapBefore);
+        result = null;
+        heapBefore = AisPerformanceTest.measureUsedHeap();
+        start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            result = modelHandler.countDetailPatterns(interviews, 2, DetailPatternCounts.MAX_PATTERN_LENGTH);
+        }
+        AisPerformanceTest.report("count 2- to 8-grams in 1,000 interviews via packed keys (x" + repetitions + ")", start,
+                AisPerformanceTest.measureUsedHeap() - heapBefore);
+        Assert.assertNotNull(result);
+    }
+
+    /**
+     * Benchmark: tokenizing an interview text of about 8 MB – via the previous regular expressions (replicated here by
+     * {@link #tokenizeViaRegex(String)}) versus the single pass {@link InterviewTextTokenizer}.
+     */
+    @Test
+    public void benchmarkTokenizer() {
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < 8_000_000) {
+            for (int tokenIndex = 0; tokenIndex < 100; tokenIndex++) {
+                builder.append("word").append(tokenIndex).append(tokenIndex % 7 == 0 ? "\t" : " ");
+            }
+            builder.append('\n');
+        }
+        final String text = builder.toString();
+        final int repetitions = 5;
+        List<TokenParagraph> regexResult = null;
+        long start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            regexResult = AisPerformanceTest.tokenizeViaRegex(text);
+        }
+        AisPerformanceTest.report("tokenize 8 MB text via regular expressions (x" + repetitions + ")", start, -1);
+        List<TokenParagraph> result = null;
+        start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            result = InterviewTextTokenizer.tokenize(text);
+        }
+        AisPerformanceTest.report("tokenize 8 MB text in single pass (x" + repetitions + ")", start, -1);
+        Assert.assertEquals(regexResult, result);
+    }
+
+    /**
+     * Benchmark: determining the labels of 5,000 interviews (as when rendering the summary table) – via regrouping all interviews for each label
+     * (replicated here by {@link #groupViaSort(List)}) versus the participant index maintained by the project.
+     */
+    @Test
+    public void benchmarkParticipantLookup() {
+        final List<Interview> interviews = new ArrayList<>();
+        for (int interviewIndex = 0; interviewIndex < 5000; interviewIndex++) {
+            interviews.add(new Interview("P" + interviewIndex % 1000, interviewIndex / 1000 + 1));
+        }
+        final AisProject largeProject = new AisProject("benchmark.aisp", AisOption.createDefaultCategoryModel().provide());
+        largeProject.setInterviews(interviews);
+        final int repetitions = 5;
+        int regroupedCount = 0;
+        long start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            for (final Interview singleInterview : interviews) {
+                regroupedCount += AisPerformanceTest.groupViaSort(interviews).get(singleInterview.getParticipantId()).size();
+            }
+        }
+        AisPerformanceTest.report("label 5,000 interviews via regrouping (x" + repetitions + ")", start, -1);
+        int indexedCount = 0;
+        start = System.nanoTime();
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            for (final Interview singleInterview : interviews) {
+                indexedCount += largeProject.getInterviews(singleInterview.getParticipantId()).size();
+                Assert.assertSame(singleInterview, largeProject.getInterview(singleInterview.getParticipantId(), singleInterview.getIndex()));
+            }
+        }
+        AisPerformanceTest.report("label 5,000 interviews via participant index (x" + repetitions + ")", start, -1);
+        Assert.assertEquals(regroupedCount, indexedCount);
+    }
+
+    /**
+     * Replica of the previous grouping of interviews by their participant id: sorting and grouping all interviews on each call.
+     *
+     * @param interviews
+     *            interviews to group
+     * @return grouped interviews
+     */
+    private static Map<String, List<Interview>> groupViaSort(final List<Interview> interviews) {
+        final Map<String, List<Interview>> subModelMap = new HashMap<>();
+        final List<Interview> sortedInterviews = new ArrayList<>(interviews);
+        Collections.sort(sortedInterviews);
+        for (final Interview singleInterview : sortedInterviews) {
+            subModelMap.computeIfAbsent(singleInterview.getParticipantId(), key -> new ArrayList<>()).add(singleInterview);
+        }
+        return subModelMap;
+    }
+
+    /**
+     * Replica of the previous tokenization of interview texts: splitting via regular expressions.
+     *
+     * @param text
+     *            interview text to split into paragraphs and separate tokens
+     * @return tokenized text
+     */
+    private static List<TokenParagraph> tokenizeViaRegex(final String text) {
+        final String lineSeparator = System.getProperty("line.separator");
+        final List<TokenParagraph> paragraphs = new ArrayList<>();
+        for (final String singleParagraph : text.split("[\\s\\p{Z}]*[" + lineSeparator + "]([\\s\\p{Z}]*[" + lineSeparator
+                + "]*[\\s\\p{Z}]*)+")) {
+            paragraphs.add(new TokenParagraph(Arrays.asList(singleParagraph.split("[\\s\\p{Z}]+"))));
+        }
+        return paragraphs;
+    }
+
+    /**
+     * Replica of the previous token representation: one object per token in a doubly-linked list.
+     */
+    private static final class LinkedToken {
+
+        /** The preceding token in the paragraph. */
+        LinkedToken previousToken;
+        /** The next token in the paragraph. */
+        LinkedToken followingToken;
+        /** The text this token is comprised of. */
+        final String text;
+        /** The assigned detail category. */
+        DetailCategory detail;
+        /** If this is the first token in the section with the assigned detail category. */
+        boolean firstTokenOfDetail;
+        /** If this is the last token in the section with the assigned detail category. */
+        boolean lastTokenOfDetail;
+
+        /**
+         * Constructor.
+         *
+         * @param text
+         *            the text this token is comprised of
+         */
+        LinkedToken(final String text) {
+            this.text = text;
+        }
+    }
+}
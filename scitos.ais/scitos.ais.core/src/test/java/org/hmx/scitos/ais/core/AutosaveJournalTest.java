@@ -0,0 +1,262 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.TextToken;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.hmx.scitos.core.HmxException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of the {@link AutosaveJournal} class.
+ */
+public class AutosaveJournalTest {
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private ModelHandlerImpl modelHandler;
+    private AisProject savedProject;
+    private File projectFile;
+    private AutosaveJournal journal;
+    private Interview firstInterview;
+    private Interview secondInterview;
+
+    /**
+     * Preparation for each test: create a new handled project with two interviews, which is assumed to be saved in a file with a registered
+     * {@link AutosaveJournal}.
+     *
+     * @throws IOException
+     *             error when creating the project file
+     */
+    @Before
+    public void prepareProject() throws IOException {
+        this.modelHandler = new ModelHandlerImpl(new AisProject("test", AisOption.createDefaultCategoryModel().provide()));
+        this.firstInterview = this.modelHandler.createInterview("Subj1");
+        this.modelHandler.setInterviewText(this.firstInterview, "1 2 3 4 5\n6 7 8");
+        this.secondInterview = this.modelHandler.createInterview("Subj2");
+        this.modelHandler.setInterviewText(this.secondInterview, "9 10 11 12");
+        this.savedProject = this.modelHandler.getModel().clone();
+        this.projectFile = this.tempFolder.newFile("test.aisp");
+        this.projectFile.setLastModified(System.currentTimeMillis() - 10000L);
+        this.journal = new AutosaveJournal(this.modelHandler, this.projectFile);
+        this.modelHandler.addModelChangeListener(this.journal);
+    }
+
+    /** Cleanup after each test: stop the periodic writing of the journal. */
+    @After
+    public void closeJournal() {
+        this.journal.close();
+    }
+
+    /**
+     * Test: detail category assignments and changes of single interviews are being recovered from the journal.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category or recovering the journal
+     */
+    @Test
+    public void testRecoverInterviewChanges() throws HmxException {
+        Assert.assertFalse(AutosaveJournal.hasRecoverableChanges(this.projectFile));
+        final DetailCategory first = this.modelHandler.getModel().provideSelectables().get(0);
+        final DetailCategory second = this.modelHandler.getModel().provideSelectables().get(1);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 1, 4), first);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 2, 3), second);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 1, 1, 3), second);
+        this.modelHandler.setInterviewText(this.secondInterview, "9 10 11 12 13");
+        this.modelHandler.assignDetailCategory(this.secondInterview, this.getTokens(this.secondInterview, 0, 0, 5), first);
+        this.modelHandler.setInterviewText(this.modelHandler.createInterview("Subj3"), "14 15");
+        this.journal.flush();
+
+        Assert.assertTrue(AutosaveJournal.hasRecoverableChanges(this.projectFile));
+        final AisProject recovered = AutosaveJournal.recover(this.projectFile, this.savedProject);
+        Assert.assertNull(this.modelHandler.validateEquality(recovered));
+    }
+
+    /**
+     * Test: after a change of the whole project, the journal is being compacted into a snapshot, which is the basis for subsequent records.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category or recovering the journal
+     */
+    @Test
+    public void testRecoverAfterCompaction() throws HmxException {
+        final DetailCategory category = this.modelHandler.getModel().provideSelectables().get(0);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 0, 2), category);
+        this.journal.flush();
+        this.modelHandler.setParticipantId(this.secondInterview, "Subj1");
+        this.modelHandler.assignDetailCategory(this.secondInterview, this.getTokens(this.secondInterview, 0, 1, 3), category);
+        this.journal.flush();
+
+        final AisProject recovered = AutosaveJournal.recover(this.projectFile, this.savedProject);
+        Assert.assertNotSame(this.savedProject, recovered);
+        Assert.assertNull(this.modelHandler.validateEquality(recovered));
+    }
+
+    /**
+     * Test: a subsequent compaction only clones the changed interviews again, while the unchanged interviews are being taken over from the previous
+     * snapshot.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category or recovering the journal
+     */
+    @Test
+    public void testRecoverAfterRepeatedCompaction() throws HmxException {
+        final DetailCategory category = this.modelHandler.getModel().provideSelectables().get(0);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 0, 2), category);
+        this.journal.compact();
+        this.journal.flush();
+        this.modelHandler.assignDetailCategory(this.secondInterview, this.getTokens(this.secondInterview, 0, 1, 3), category);
+        this.journal.compact();
+        this.journal.flush();
+
+        final AisProject recovered = AutosaveJournal.recover(this.projectFile, this.savedProject);
+        Assert.assertNull(this.modelHandler.validateEquality(recovered));
+    }
+
+    /**
+     * Test: a snapshot taken for a save operation only contains clones of the interviews changed since the last snapshot, while the unchanged
+     * interviews' clones are being shared with it.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    @Test
+    public void testTakeSnapshot() throws HmxException {
+        final AisProject firstSnapshot = this.journal.takeSnapshot();
+        Assert.assertNull(this.modelHandler.validateEquality(firstSnapshot));
+        Assert.assertNotSame(this.firstInterview, firstSnapshot.getInterviews().get(0));
+        final DetailCategory category = this.modelHandler.getModel().provideSelectables().get(0);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 0, 2), category);
+        final AisProject secondSnapshot = this.journal.takeSnapshot();
+        Assert.assertNull(this.modelHandler.validateEquality(secondSnapshot));
+        Assert.assertNotEquals(firstSnapshot.getInterviews().get(0), secondSnapshot.getInterviews().get(0));
+        Assert.assertSame(firstSnapshot.getInterviews().get(1), secondSnapshot.getInterviews().get(1));
+    }
+
+    /**
+     * Test: after the journal could not be written, the next change results in a full snapshot – allowing all changes to be recovered.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category or recovering the journal
+     * @throws IOException
+     *             error when blocking or restoring the journal file
+     */
+    @Test
+    public void testRecoverAfterFailedWrite() throws HmxException, IOException {
+        final DetailCategory first = this.modelHandler.getModel().provideSelectables().get(0);
+        final DetailCategory second = this.modelHandler.getModel().provideSelectables().get(1);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 0, 2), first);
+        this.journal.flush();
+        // block the journal file by a directory
+        final File journalFile = new File(this.projectFile.getParentFile(), ".test.aisp.journal");
+        final File movedJournalFile = new File(this.projectFile.getParentFile(), "moved.journal");
+        Files.move(journalFile.toPath(), movedJournalFile.toPath());
+        Files.createDirectory(journalFile.toPath());
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 1, 0, 2), second);
+        this.journal.flush();
+        Files.delete(journalFile.toPath());
+        Files.move(movedJournalFile.toPath(), journalFile.toPath());
+
+        this.modelHandler.assignDetailCategory(this.secondInterview, this.getTokens(this.secondInterview, 0, 1, 3), second);
+        this.journal.flush();
+        final AisProject recovered = AutosaveJournal.recover(this.projectFile, this.savedProject);
+        Assert.assertNull(this.modelHandler.validateEquality(recovered));
+    }
+
+    /**
+     * Test: an incomplete record at the end of the journal is being ignored.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category or recovering the journal
+     * @throws IOException
+     *             error when appending to the journal file
+     */
+    @Test
+    public void testIgnoreIncompleteRecord() throws HmxException, IOException {
+        final DetailCategory category = this.modelHandler.getModel().provideSelectables().get(0);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 0, 2), category);
+        this.journal.flush();
+        final File journalFile = new File(this.projectFile.getParentFile(), ".test.aisp.journal");
+        Files.write(journalFile.toPath(), new byte[] { 1, 2 }, StandardOpenOption.APPEND);
+
+        final AisProject recovered = AutosaveJournal.recover(this.projectFile, this.savedProject);
+        Assert.assertNull(this.modelHandler.validateEquality(recovered));
+    }
+
+    /**
+     * Test: the journal is being discarded once the project has been saved, and when it is being closed.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    @Test
+    public void testDiscardOnSaveAndClose() throws HmxException {
+        final DetailCategory category = this.modelHandler.getModel().provideSelectables().get(0);
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 0, 2), category);
+        this.journal.flush();
+        Assert.assertTrue(AutosaveJournal.hasRecoverableChanges(this.projectFile));
+        this.journal.projectSaved(this.projectFile, true);
+        Assert.assertFalse(AutosaveJournal.hasRecoverableChanges(this.projectFile));
+
+        this.modelHandler.assignDetailCategory(this.firstInterview, this.getTokens(this.firstInterview, 0, 3, 5), category);
+        this.journal.flush();
+        Assert.assertTrue(AutosaveJournal.hasRecoverableChanges(this.projectFile));
+        this.journal.close();
+        Assert.assertFalse(AutosaveJournal.hasRecoverableChanges(this.projectFile));
+    }
+
+    /**
+     * Collect the specified range of tokens in a single paragraph.
+     *
+     * @param interview
+     *            the interview containing the paragraph
+     * @param paragraphIndex
+     *            the paragraph's position in the interview
+     * @param fromIndex
+     *            position of the first token (inclusive)
+     * @param toIndex
+     *            position of the last token (exclusive)
+     * @return specified tokens
+     */
+    private List<TextToken> getTokens(final Interview interview, final int paragraphIndex, final int fromIndex, final int toIndex) {
+        final TokenParagraph paragraph = interview.getParagraphs().get(paragraphIndex);
+        final List<TextToken> tokens = new ArrayList<>();
+        for (int tokenIndex = fromIndex; tokenIndex < toIndex; tokenIndex++) {
+            tokens.add(paragraph.getToken(tokenIndex));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.TextToken;
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.hmx.scitos.core.HmxException;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test of the {@link DetailCategoryAssignment} class – comparing its results with the ones of the {@link LegacyDetailCategoryAssignment} for
+ * randomly generated sequences of (contiguous and interrupted) selections. As the same paragraph receives all assignments of a sequence, this also
+ * covers the paragraph's incrementally maintained index of contiguous detail ranges the assignment relies on.
+ */
+public class DetailCategoryAssignmentTest {
+
+    private static List<DetailCategory> categories;
+
+    /**
+     * Initial setup: get the categories of the default category model from {@link AisOption#createDefaultCategoryModel()}.
+     */
+    @BeforeClass
+    public static void setUp() {
+        DetailCategoryAssignmentTest.categories = AisOption.createDefaultCategoryModel().provide();
+    }
+
+    /**
+     * Test: random sequences of detail category assignments on a short paragraph (with many nested and adjacent sections).
+     */
+    @Test
+    public void testRandomAssignmentsOnShortParagraph() {
+        for (long seed = 0; seed < 200; seed++) {
+            DetailCategoryAssignmentTest.runRandomAssignments(seed, 12, 60, 10);
+        }
+    }
+
+    /**
+     * Test: random sequences of detail category assignments on a longer paragraph – with wider selections, resulting in deeper nested sections.
+     */
+    @Test
+    public void testRandomAssignmentsOnLongParagraph() {
+        for (long seed = 0; seed < 20; seed++) {
+            DetailCategoryAssignmentTest.runRandomAssignments(seed, 150, 300, 40);
+        }
+    }
+
+    /**
+     * Test: splitting interrupted selections into alternating selected and enclosed parts.
+     */
+    @Test
+    public void testCollectInterruptedSelectionParts() {
+        final List<int[]> parts = DetailCategoryAssignment.collectInterruptedSelectionParts(new int[] { 2, 3, 5, 8, 9, 10 });
+        Assert.assertEquals(5, parts.size());
+        Assert.assertArrayEquals(new int[] { 2, 3 }, parts.get(0));
+        Assert.assertArrayEquals(new int[] { 4, 4 }, parts.get(1));
+        Assert.assertArrayEquals(new int[] { 5, 5 }, parts.get(2));
+        Assert.assertArrayEquals(new int[] { 6, 7 }, parts.get(3));
+        Assert.assertArrayEquals(new int[] { 8, 10 }, parts.get(4));
+        final List<int[]> singlePart = DetailCategoryAssignment.collectInterruptedSelectionParts(new int[] { 4, 5, 6 });
+        Assert.assertEquals(1, singlePart.size());
+        Assert.assertArrayEquals(new int[] { 4, 6 }, singlePart.get(0));
+    }
+
+    /**
+     * Create a paragraph with the given number of tokens without any assigned detail categories.
+     *
+     * @param tokenCount
+     *            number of tokens in the paragraph
+     * @return created paragraph
+     */
+    private static TokenParagraph createParagraph(final int tokenCount) {
+        final List<String> texts = new ArrayList<>(tokenCount);
+        for (int index = 0; index < tokenCount; index++) {
+            texts.add("t" + index);
+        }
+        return new TokenParagraph(texts);
+    }
+
+    /**
+     * Apply the given number of random assignments to two equal paragraphs – one via the {@link DetailCategoryAssignment}, the other via the
+     * {@link LegacyDetailCategoryAssignment} – and check that both end up in the same state after each assignment (or both reject it without
+     * changing the paragraph). Selections the reference implementation cannot handle (running over a paragraph boundary) are skipped, before being
+     * applied to either paragraph. Additionally, the remembered original states of the modified tokens must reproduce the respective previous state.
+     *
+     * @param seed
+     *            the seed for generating the selections and categories
+     * @param tokenCount
+     *            number of tokens in the paragraph
+     * @param assignmentCount
+     *            number of assignments to generate
+     * @param maxSelectionLength
+     *            maximum number of tokens between the first and last selected token (inclusive)
+     */
+    private static void runRandomAssignments(final long seed, final int tokenCount, final int assignmentCount, final int maxSelectionLength) {
+        final Random random = new Random(seed);
+        final TokenParagraph paragraph = DetailCategoryAssignmentTest.createParagraph(tokenCount);
+        TokenParagraph referenceParagraph = DetailCategoryAssignmentTest.createParagraph(tokenCount);
+        int appliedCount = 0;
+        for (int assignmentIndex = 0; assignmentIndex < assignmentCount; assignmentIndex++) {
+            final int[] positions = DetailCategoryAssignmentTest.createRandomSelection(random, tokenCount, maxSelectionLength);
+            final DetailCategory category = random.nextInt(5) == 0 ? null
+                    : DetailCategoryAssignmentTest.categories.get(random.nextInt(DetailCategoryAssignmentTest.categories.size()));
+            final String location = "seed " + seed + ", assignment " + assignmentIndex + ": " + Arrays.toString(positions) + " -> " + category;
+            // apply the reference implementation on a copy first, in order to skip selections it cannot handle
+            final TokenParagraph referenceResult = referenceParagraph.clone();
+            final List<TextToken> referenceTokens = new ArrayList<>(positions.length);
+            for (final int position : positions) {
+                referenceTokens.add(referenceResult.getToken(position));
+            }
+            String referenceError = null;
+            try {
+                new LegacyDetailCategoryAssignment().assignDetailCategory(referenceTokens, category);
+            } catch (final HmxException ex) {
+                referenceError = ex.getMessage();
+            } catch (final RuntimeException ex) {
+                continue;
+            }
+            final TokenParagraph stateBefore = paragraph.clone();
+            final DetailCategoryAssignment assignment = new DetailCategoryAssignment(paragraph);
+            String error = null;
+            try {
+                assignment.assign(positions, category);
+            } catch (final HmxException ex) {
+                error = ex.getMessage();
+            }
+            Assert.assertEquals(location, referenceError, error);
+            if (error == null) {
+                referenceParagraph = referenceResult;
+                appliedCount++;
+            }
+            // the textual representations show the first diverging token in the assertion message
+            Assert.assertEquals(location, DetailCategoryAssignmentTest.describe(referenceParagraph),
+                    DetailCategoryAssignmentTest.describe(paragraph));
+            Assert.assertEquals(location, referenceParagraph, paragraph);
+            // restoring the remembered original states must result in the previous state again
+            final TokenParagraph restored = paragraph.clone();
+            for (final int position : assignment.getModifiedPositions()) {
+                restored.setDetail(position, assignment.getOriginalDetail(position))
+                        .setFirstTokenOfDetail(position, assignment.isOriginallyFirstTokenOfDetail(position))
+                        .setLastTokenOfDetail(position, assignment.isOriginallyLastTokenOfDetail(position));
+            }
+            Assert.assertEquals(location, stateBefore, restored);
+        }
+        // ensure the comparison is not void, because of too many skipped or rejected selections
+        Assert.assertTrue("seed " + seed + ": " + appliedCount, appliedCount > assignmentCount / 4);
+    }
+
+    /**
+     * Create a random selection of tokens – being contiguous in about half of the cases.
+     *
+     * @param random
+     *            the source of randomness
+     * @param tokenCount
+     *            number of tokens in the paragraph
+     * @param maxSelectionLength
+     *            maximum number of tokens between the first and last selected token (inclusive)
+     * @return positions of the selected tokens (in ascending order)
+     */
+    private static int[] createRandomSelection(final Random random, final int tokenCount, final int maxSelectionLength) {
+        final int rangeStart = random.nextInt(tokenCount);
+        final int rangeEnd = rangeStart + random.nextInt(Math.min(tokenCount - rangeStart, maxSelectionLength));
+        final List<Integer> selected = new ArrayList<>();
+        final boolean contiguous = random.nextBoolean();
+        for (int position = rangeStart; position <= rangeEnd; position++) {
+            if (contiguous || position == rangeStart || position == rangeEnd || random.nextBoolean()) {
+                selected.add(position);
+            }
+        }
+        return selected.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Create the textual representation of the given paragraph's state: each token's detail category code ({@code -} for none), with a leading
+     * {@code [} if it is the first and a trailing {@code ]} if it is the last token of a detail category section.
+     *
+     * @param paragraph
+     *            the paragraph to describe
+     * @return textual representation
+     */
+    private static String describe(final TokenParagraph paragraph) {
+        final StringBuilder description = new StringBuilder();
+        for (int position = 0; position < paragraph.size(); position++) {
+            if (position > 0) {
+                description.append(' ');
+            }
+            if (paragraph.isFirstTokenOfDetail(position)) {
+                description.append('[');
+            }
+            final DetailCategory detail = paragraph.getDetail(position);
+            description.append(detail == null ? "-" : detail.getCode());
+            if (paragraph.isLastTokenOfDetail(position)) {
+                description.append(']');
+            }
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.core.HmxException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test of the {@link InterviewAnalysisCache} class.
+ */
+public class InterviewAnalysisCacheTest {
+
+    private ModelHandlerImpl modelHandler;
+    private InterviewAnalysisCache cache;
+    private Interview firstInterview;
+    private Interview secondInterview;
+
+    /**
+     * Preparation for each test: create a new handled project with two interviews and a registered {@link InterviewAnalysisCache}.
+     */
+    @Before
+    public void prepareProject() {
+        this.modelHandler = new ModelHandlerImpl(new AisProject("test", AisOption.createDefaultCategoryModel().provide()));
+        this.firstInterview = this.modelHandler.createInterview("Subj1");
+        this.modelHandler.setInterviewText(this.firstInterview, "1 2 3 4 5");
+        this.secondInterview = this.modelHandler.createInterview("Subj2");
+        this.modelHandler.setInterviewText(this.secondInterview, "6 7 8 9 10");
+        this.cache = new InterviewAnalysisCache(this.modelHandler);
+        this.modelHandler.addModelChangeListener(this.cache);
+    }
+
+    /**
+     * Test: only the interview targeted by a model change event is being analyzed again.
+     *
+     * @throws HmxException
+     *             error when assigning a detail category
+     */
+    @Test
+    public void testInvalidateSingleInterview() throws HmxException {
+        final List<Interview> interviews = this.modelHandler.getModel().getInterviews();
+        final Map<Interview, InterviewAnalysis> initial = this.cache.getAnalyses(interviews, 2, 3);
+        Assert.assertEquals(interviews, new ArrayList<>(initial.keySet()));
+        Assert.assertSame(initial.get(this.firstInterview), this.cache.getAnalyses(interviews, 2, 3).get(this.firstInterview));
+
+        final DetailCategory category = this.modelHandler.getModel().provideSelectables().get(0);
+        this.modelHandler.assignDetailCategory(this.secondInterview, this.secondInterview.getText().subList(0, 1), category);
+        final Map<Interview, InterviewAnalysis> updated = this.cache.getAnalyses(interviews, 2, 3);
+        Assert.assertSame(initial.get(this.firstInterview), updated.get(this.firstInterview));
+        Assert.assertNotSame(initial.get(this.secondInterview), updated.get(this.secondInterview));
+        Assert.assertEquals(0, initial.get(this.secondInterview).getTokenCount());
+        Assert.assertEquals(1, updated.get(this.secondInterview).getTokenCount());
+        Assert.assertEquals(Collections.singletonList(category), updated.get(this.secondInterview).getDetailSequence());
+    }
+
+    /**
+     * Test: all interviews are being analyzed again after a project level model change event or when requesting different pattern lengths.
+     */
+    @Test
+    public void testInvalidateAll() {
+        final List<Interview> interviews = this.modelHandler.getModel().getInterviews();
+        final Map<Interview, InterviewAnalysis> initial = this.cache.getAnalyses(interviews, 2, 3);
+        this.modelHandler.setParticipantId(this.secondInterview, "Subj1");
+        final Map<Interview, InterviewAnalysis> afterProjectChange = this.cache.getAnalyses(interviews, 2, 3);
+        Assert.assertNotSame(initial.get(this.firstInterview), afterProjectChange.get(this.firstInterview));
+        Assert.assertNotSame(initial.get(this.secondInterview), afterProjectChange.get(this.secondInterview));
+        final Map<Interview, InterviewAnalysis> otherLengths = this.cache.getAnalyses(interviews, 1, 3);
+        Assert.assertNotSame(afterProjectChange.get(this.firstInterview), otherLengths.get(this.firstInterview));
+        Assert.assertSame(otherLengths.get(this.firstInterview), this.cache.getAnalyses(interviews, 1, 3).get(this.firstInterview));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.hmx.scitos.ais.core.i18n.AisMessage;
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.TextToken;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Test of the {@link InterviewAnalysisExport} class.
+ */
+public class InterviewAnalysisExportTest {
+
+    private static final String NAMESPACE_TABLE = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+
+    private List<DetailCategory> categories;
+    private List<Interview> interviews;
+    private InterviewAnalysisExport export;
+
+    /**
+     * Preparation for each test: create a project with two interviews (one of them with assigned detail categories) and the export of their
+     * analysis results.
+     *
+     * @throws Exception
+     *             error when assigning detail categories
+     */
+    @Before
+    public void prepareExport() throws Exception {
+        final ModelHandlerImpl modelHandler = new ModelHandlerImpl(new AisProject("test", AisOption.createDefaultCategoryModel().provide()));
+        final Interview scored = modelHandler.createInterview("Subj1");
+        modelHandler.setInterviewText(scored, "1 2 3 4 5");
+        modelHandler.createInterview("Subj, \"2\"");
+        this.categories = modelHandler.getModel().provide();
+        final List<DetailCategory> selectables = modelHandler.getModel().provideSelectables();
+        final List<TextToken> tokens = new ArrayList<>();
+        for (TextToken token = scored.getText().get(0); token != null; token = token.getFollowingToken()) {
+            tokens.add(token);
+        }
+        modelHandler.assignDetailCategory(scored, tokens.subList(0, 2), selectables.get(1));
+        modelHandler.assignDetailCategory(scored, tokens.subList(2, 3), selectables.get(0));
+        modelHandler.assignDetailCategory(scored, tokens.subList(3, 4), selectables.get(1));
+        this.interviews = modelHandler.getModel().getInterviews();
+        final Map<Interview, InterviewAnalysis> results = modelHandler.analyzeInterviews(this.interviews, 1, 2);
+        this.export = new InterviewAnalysisExport(this.categories, this.interviews, results, Interview::getParticipantId);
+    }
+
+    /**
+     * Test: write the summary as CSV, with quoted values where necessary.
+     *
+     * @throws Exception
+     *             error while writing
+     */
+    @Test
+    public void testWriteSummaryAsCsv() throws Exception {
+        final StringWriter output = new StringWriter();
+        this.export.writeDelimited(InterviewAnalysisExport.Sheet.SUMMARY, output, ',');
+        final String[] lines = output.toString().split("\n");
+        Assert.assertEquals(3, lines.length);
+        Assert.assertTrue(lines[0].startsWith(AisMessage.ANALYSIS_TABLE_HEADER_INTERVIEW.get() + ','));
+        Assert.assertEquals(2 + this.categories.size(), lines[0].split(",").length);
+        Assert.assertTrue(lines[1].startsWith("Subj1,4,"));
+        Assert.assertTrue(lines[2].startsWith("\"Subj, \"\"2\"\"\",0,"));
+    }
+
+    /**
+     * Test: write the sequence and patterns as TSV.
+     *
+     * @throws Exception
+     *             error while writing
+     */
+    @Test
+    public void testWriteSequenceAndPatternsAsTsv() throws Exception {
+        final StringWriter sequence = new StringWriter();
+        this.export.writeDelimited(InterviewAnalysisExport.Sheet.SEQUENCE, sequence, '\t');
+        final String first = this.categories.stream().filter(DetailCategory::isSelectable).findFirst().get().getCode();
+        final String second = this.categories.stream().filter(DetailCategory::isSelectable).skip(1).findFirst().get().getCode();
+        Assert.assertEquals("Subj1\t\"Subj, \"\"2\"\"\"\n" + second + "\t\n" + first + "\t\n" + second + "\t\n", sequence.toString());
+
+        final StringWriter patterns = new StringWriter();
+        this.export.writeDelimited(InterviewAnalysisExport.Sheet.PATTERN, patterns, '\t');
+        Assert.assertEquals(AisMessage.ANALYSIS_PATTERN.get() + "\tSubj1\t\"Subj, \"\"2\"\"\"\n"
+                + first + "\t1\t0\n"
+                + first + ' ' + second + "\t1\t0\n"
+                + second + "\t2\t0\n"
+                + second + ' ' + first + "\t1\t0\n", patterns.toString());
+    }
+
+    /**
+     * Test: write all sheets into an Open Document Spreadsheet.
+     *
+     * @throws Exception
+     *             error while writing or reading the spreadsheet
+     */
+    @Test
+    public void testWriteSpreadSheet() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.export.writeSpreadSheet(output);
+        final List<String> entryNames = new ArrayList<>();
+        byte[] content = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entryNames.add(entry.getName());
+                final ByteArrayOutputStream entryContent = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[1024];
+                for (int length = zip.read(buffer); length > 0; length = zip.read(buffer)) {
+                    entryContent.write(buffer, 0, length);
+                }
+                if ("mimetype".equals(entry.getName())) {
+                    Assert.assertEquals(ZipEntry.STORED, entry.getMethod());
+                    Assert.assertEquals("application/vnd.oasis.opendocument.spreadsheet",
+                            new String(entryContent.toByteArray(), StandardCharsets.US_ASCII));
+                } else if ("content.xml".equals(entry.getName())) {
+                    content = entryContent.toByteArray();
+                }
+            }
+        }
+        Assert.assertEquals(Arrays.asList("mimetype", "META-INF/manifest.xml", "content.xml"), entryNames);
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final Document document = factory.newDocumentBuilder().parse(new ByteArrayInputStream(content));
+        final NodeList tables = document.getElementsByTagNameNS(InterviewAnalysisExportTest.NAMESPACE_TABLE, "table");
+        Assert.assertEquals(3, tables.getLength());
+        final Element summary = (Element) tables.item(0);
+        Assert.assertEquals(AisMessage.ANALYSIS_SUMMARY.get(), summary.getAttributeNS(InterviewAnalysisExportTest.NAMESPACE_TABLE, "name"));
+        final NodeList summaryRows = summary.getElementsByTagNameNS(InterviewAnalysisExportTest.NAMESPACE_TABLE, "table-row");
+        Assert.assertEquals(3, summaryRows.getLength());
+        final NodeList firstInterviewCells =
+                ((Element) summaryRows.item(1)).getElementsByTagNameNS(InterviewAnalysisExportTest.NAMESPACE_TABLE, "table-cell");
+        Assert.assertEquals(2 + this.categories.size(), firstInterviewCells.getLength());
+        Assert.assertEquals("Subj1", firstInterviewCells.item(0).getTextContent());
+        Assert.assertEquals("4", firstInterviewCells.item(1).getTextContent());
+        final NodeList patternRows =
+                ((Element) tables.item(2)).getElementsByTagNameNS(InterviewAnalysisExportTest.NAMESPACE_TABLE, "table-row");
+        Assert.assertEquals(5, patternRows.getLength());
+    }
+}
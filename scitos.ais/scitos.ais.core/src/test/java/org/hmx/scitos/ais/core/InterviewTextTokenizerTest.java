@@ -0,0 +1,71 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hmx.scitos.ais.domain.model.TokenParagraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of the {@link InterviewTextTokenizer} class.
+ */
+public class InterviewTextTokenizerTest {
+
+    /**
+     * Test: split a single line at spaces, tabs and Unicode space separators.
+     */
+    @Test
+    public void testSingleParagraph() {
+        final List<TokenParagraph> result = InterviewTextTokenizer.tokenize("One  two\tthree\u00A0four\u2003five");
+        Assert.assertEquals(Collections.singletonList(new TokenParagraph(Arrays.asList("One", "two", "three", "four", "five"))), result);
+        final TokenParagraph paragraph = result.get(0);
+        Assert.assertTrue(paragraph.isFirstTokenOfDetail(0));
+        Assert.assertFalse(paragraph.isLastTokenOfDetail(0));
+        Assert.assertFalse(paragraph.isFirstTokenOfDetail(4));
+        Assert.assertTrue(paragraph.isLastTokenOfDetail(4));
+    }
+
+    /**
+     * Test: split multiple lines – regardless of the used line breaks and ignoring blank lines as well as leading/trailing whitespaces.
+     */
+    @Test
+    public void testMultipleParagraphs() {
+        final List<TokenParagraph> expected = Arrays.asList(new TokenParagraph(Arrays.asList("a", "b")),
+                new TokenParagraph(Collections.singletonList("c")), new TokenParagraph(Arrays.asList("d", "e")),
+                new TokenParagraph(Collections.singletonList("f")));
+        Assert.assertEquals(expected, InterviewTextTokenizer.tokenize("a b\nc\nd e\nf"));
+        Assert.assertEquals(expected, InterviewTextTokenizer.tokenize("a b\r\nc\r\n\r\nd e\rf"));
+        Assert.assertEquals(expected, InterviewTextTokenizer.tokenize(" \t a b \n  \n c   \nd\u3000e \r\n f \r\n \n"));
+    }
+
+    /**
+     * Test: a text without any tokens results in a single paragraph with one empty token.
+     */
+    @Test
+    public void testEmptyText() {
+        final List<TokenParagraph> expected = Collections.singletonList(new TokenParagraph(Collections.singletonList("")));
+        Assert.assertEquals(expected, InterviewTextTokenizer.tokenize(""));
+        Assert.assertEquals(expected, InterviewTextTokenizer.tokenize(" \n\r\n\t "));
+    }
+}
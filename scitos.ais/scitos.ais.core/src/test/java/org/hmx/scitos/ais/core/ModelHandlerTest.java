@@ -37,6 +37,7 @@ import org.hmx.scitos.ais.domain.model.Interview;
 import org.hmx.scitos.ais.domain.model.MutableDetailCategoryModel;
 import org.hmx.scitos.ais.domain.model.TextToken;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.UndoManager;
 import org.hmx.scitos.domain.util.CollectionUtil;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -109,6 +110,55 @@ public class ModelHandlerTest {
         Assert.assertFalse(CollectionUtil.containsInstance(this.project.getInterviews(), deleteTargetTwo));
     }
 
+    /**
+     * Test: create multiple interviews at once via the {@link AisModelHandler} interface, resulting in a single model change event.
+     */
+    @Test
+    public void testCreateInterviews() {
+        final List<Object> eventTargets = new ArrayList<>();
+        this.modelHandler.addModelChangeListener(event -> eventTargets.add(event.getTarget()));
+        final List<InterviewToCreate> toCreate = Arrays.asList(ModelHandlerTest.interviewToCreate(" Subj123 ", "a b\nc"),
+                ModelHandlerTest.interviewToCreate("Subj124", null), ModelHandlerTest.interviewToCreate("Subj123", "d"));
+        final List<Interview> created = this.modelHandler.createInterviews(toCreate);
+        Assert.assertEquals(Collections.singletonList(this.project), eventTargets);
+        Assert.assertEquals(3, created.size());
+        Assert.assertEquals("Subj123", created.get(0).getParticipantId());
+        Assert.assertEquals(2, created.get(0).getIndex());
+        Assert.assertEquals(2, created.get(0).getParagraphs().size());
+        Assert.assertEquals("Subj124", created.get(1).getParticipantId());
+        Assert.assertEquals(1, created.get(1).getIndex());
+        Assert.assertEquals(3, created.get(2).getIndex());
+        Assert.assertEquals("d", created.get(2).getText().get(0).getText());
+        Assert.assertEquals(4, this.project.getInterviews().size());
+        Assert.assertTrue(created.stream().allMatch(interview -> CollectionUtil.containsInstance(this.project.getInterviews(), interview)));
+        Assert.assertTrue(this.modelHandler.createInterviews(Collections.emptyList()).isEmpty());
+        Assert.assertEquals(1, eventTargets.size());
+    }
+
+    /**
+     * Create a representation of an interview to be created.
+     *
+     * @param participantId
+     *            the participant id to associate the new interview with
+     * @param text
+     *            the interview text
+     * @return interview to create
+     */
+    private static InterviewToCreate interviewToCreate(final String participantId, final String text) {
+        return new InterviewToCreate() {
+
+            @Override
+            public String getParticipantId() {
+                return participantId;
+            }
+
+            @Override
+            public String getInterviewText() {
+                return text;
+            }
+        };
+    }
+
     /**
      * Test: replace the project's category model with another one, replacing already assigned categories 1-to-0 (effectively removing the
      * assignment), 1-to-1, and 2-to-1 (combining assignments of two old categories to a single new one).
@@ -1152,6 +1202,78 @@ public class ModelHandlerTest {
         Assert.assertEquals(resetState, this.interview);
     }
 
+    /**
+     * Test: undo and redo the changes recorded for detail category assignments and text changes, while the interview is reset to an equal copy of
+     * itself in between.
+     *
+     * @throws HmxException
+     *             internal error when assigning category
+     */
+    @Test
+    public void testUndoRedoRecordedChanges() throws HmxException {
+        final UndoManager<Interview> undoManager = new UndoManager<>(this.interview);
+        undoManager.setLimit(10);
+        final boolean[] undoInProgress = { false };
+        this.modelHandler.addModelChangeListener(event -> {
+            if (!undoInProgress[0] && event.getTarget() == this.interview) {
+                Assert.assertNotNull(event.getChange());
+                undoManager.undoableEditHappened(this.interview, event.getChange());
+            }
+        });
+        final List<DetailCategory> details = ModelHandlerTest.categoryModel.provideSelectables();
+        final List<Interview> states = new ArrayList<>();
+        states.add(this.interview.clone());
+        this.modelHandler.assignDetailCategory(this.interview, this.interview.getText().subList(0, 1), details.get(0));
+        states.add(this.interview.clone());
+        this.modelHandler.assignDetailCategory(this.interview, this.interview.getText().subList(0, 1), details.get(1));
+        states.add(this.interview.clone());
+        this.modelHandler.setInterviewText(this.interview, "1 2 3 4 5\n6 7");
+        states.add(this.interview.clone());
+        final TextToken firstToken = this.interview.getText().get(0);
+        this.modelHandler.assignDetailCategory(this.interview,
+                Arrays.asList(firstToken.getFollowingToken(), firstToken.getFollowingToken().getFollowingToken()), details.get(2));
+        states.add(this.interview.clone());
+        undoInProgress[0] = true;
+        // replace the interview's paragraphs by equal copies, that are not known to the recorded changes
+        this.modelHandler.reset(this.interview, this.interview.clone());
+        for (int stateIndex = states.size() - 2; stateIndex >= 0; stateIndex--) {
+            Assert.assertNull(undoManager.undo());
+            Assert.assertEquals(states.get(stateIndex), this.interview);
+        }
+        Assert.assertFalse(undoManager.canUndo());
+        for (int stateIndex = 1; stateIndex < states.size(); stateIndex++) {
+            Assert.assertNull(undoManager.redo());
+            Assert.assertEquals(states.get(stateIndex), this.interview);
+        }
+        Assert.assertFalse(undoManager.canRedo());
+    }
+
+    /**
+     * Test: undo and redo the change recorded for resetting an interview to another state.
+     *
+     * @throws HmxException
+     *             internal error when assigning category
+     */
+    @Test
+    public void testUndoRedoReset() throws HmxException {
+        final UndoManager<Interview> undoManager = new UndoManager<>(this.interview);
+        this.modelHandler.addModelChangeListener(event -> {
+            if (event.getTarget() == this.interview && event.getChange() != null) {
+                undoManager.undoableEditHappened(this.interview, event.getChange());
+            }
+        });
+        final Interview stateBefore = this.interview.clone();
+        final Interview resetState = this.interview.clone();
+        this.modelHandler.assignDetailCategory(resetState, resetState.getText().subList(0, 1), ModelHandlerTest.categoryModel.provideSelectables()
+                .get(0));
+        this.modelHandler.reset(this.interview, resetState);
+        Assert.assertEquals(resetState, this.interview);
+        Assert.assertNull(undoManager.undo());
+        Assert.assertEquals(stateBefore, this.interview);
+        Assert.assertNull(undoManager.redo());
+        Assert.assertEquals(resetState, this.interview);
+    }
+
     /**
      * Test: count occurrences of assigned detail categories from an interview.
      *
@@ -1251,6 +1373,38 @@ public class ModelHandlerTest {
         Assert.assertEquals(1, result.get(Arrays.asList(thirdDetail, firstDetail)).get());
     }
 
+    /**
+     * Test: count detail category patterns with length one to eight from an interview, and aggregate them over multiple interviews.
+     *
+     * @throws HmxException
+     *             error when setting up the interview with assigned detail categories
+     */
+    @Test
+    public void testCountDetailPatterns() throws HmxException {
+        final List<DetailCategory> selectables = ModelHandlerTest.categoryModel.provideSelectables();
+        final List<TextToken> text = this.getFlatTokenList(this.paragraphStartToken);
+        for (int tokenIndex = 0; tokenIndex < text.size(); tokenIndex++) {
+            this.modelHandler.assignDetailCategory(this.interview, text.subList(tokenIndex, tokenIndex + 1),
+                    selectables.get(tokenIndex * tokenIndex % 5));
+        }
+        final Map<List<DetailCategory>, AtomicLong> expected =
+                this.modelHandler.extractDetailPattern(this.project.getInterviews(), 1, DetailPatternCounts.MAX_PATTERN_LENGTH).get(this.interview);
+        final DetailPatternCounts result =
+                this.modelHandler.countDetailPatterns(this.project.getInterviews(), 1, DetailPatternCounts.MAX_PATTERN_LENGTH).get(this.interview);
+        Assert.assertEquals(expected.size(), result.size());
+        for (final long singlePatternKey : result.getPatternKeys()) {
+            final List<DetailCategory> pattern = result.getPattern(singlePatternKey);
+            Assert.assertEquals(expected.get(pattern).get(), result.getCount(singlePatternKey));
+            Assert.assertEquals(expected.get(pattern).get(), result.getCount(pattern));
+        }
+        final DetailPatternCounts aggregated = DetailPatternCounts.aggregate(this.project.provide(), Arrays.asList(result, result));
+        Assert.assertEquals(result.size(), aggregated.size());
+        for (final long singlePatternKey : result.getPatternKeys()) {
+            Assert.assertEquals(2 * result.getCount(singlePatternKey), aggregated.getCount(singlePatternKey));
+        }
+        Assert.assertEquals(0L, result.getCount(Collections.nCopies(DetailPatternCounts.MAX_PATTERN_LENGTH + 1, selectables.get(0))));
+    }
+
     /**
      * Test: extract detail category sequence from interview.
      *
@@ -1292,6 +1446,58 @@ public class ModelHandlerTest {
         Assert.assertEquals(expectedSequence, result);
     }
 
+    /**
+     * Test: analyze interviews in a single pass, producing the same results as the individual methods.
+     *
+     * @throws HmxException
+     *             error when setting up the interview with assigned detail categories
+     */
+    @Test
+    public void testAnalyzeInterviews() throws HmxException {
+        final List<DetailCategory> selectables = ModelHandlerTest.categoryModel.provideSelectables();
+        final List<TextToken> text = this.getFlatTokenList(this.paragraphStartToken);
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(1, 4), selectables.get(0));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(5, 6), selectables.get(1));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(6, 7), selectables.get(0));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(7, 8), selectables.get(2));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(8, 10), selectables.get(2));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(10, 11), selectables.get(3));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(11, 13), selectables.get(1));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(13, 14), selectables.get(0));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(15, 16), selectables.get(0));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(16, 18), selectables.get(2));
+        this.modelHandler.assignDetailCategory(this.interview, text.subList(18, 20), selectables.get(0));
+        // enclose some of the assignments in another one
+        this.modelHandler.assignDetailCategory(this.interview, Arrays.asList(text.get(4), text.get(14)), selectables.get(4));
+        this.modelHandler.createInterview("other");
+        final List<Interview> interviews = this.project.getInterviews();
+        final Map<Interview, InterviewAnalysis> result = this.modelHandler.analyzeInterviews(interviews, 2, 3);
+        Assert.assertEquals(interviews, new ArrayList<>(result.keySet()));
+        final List<DetailCategory> categories = this.project.provide();
+        final Map<Interview, AtomicLong> expectedTokenCounts = this.modelHandler.countTokensWithAssignedDetail(interviews);
+        final Map<Interview, Map<DetailCategory, AtomicLong>> expectedOccurrences = this.modelHandler.countDetailOccurrences(interviews);
+        final Map<Interview, Map<List<DetailCategory>, AtomicLong>> expectedPatterns = this.modelHandler.extractDetailPattern(interviews, 2, 3);
+        for (final Interview singleInterview : interviews) {
+            final InterviewAnalysis analysis = result.get(singleInterview);
+            Assert.assertEquals(expectedTokenCounts.get(singleInterview).get(), analysis.getTokenCount());
+            for (int categoryIndex = 0; categoryIndex < categories.size(); categoryIndex++) {
+                Assert.assertEquals(expectedOccurrences.get(singleInterview).get(categories.get(categoryIndex)).get(),
+                        analysis.getOccurrenceCount(categoryIndex));
+            }
+            Assert.assertEquals(this.modelHandler.extractDetailSequence(singleInterview), analysis.getDetailSequence());
+            final DetailPatternCounts patternCounts = analysis.getPatternCounts();
+            Assert.assertEquals(expectedPatterns.get(singleInterview).size(), patternCounts.size());
+            for (final Map.Entry<List<DetailCategory>, AtomicLong> singlePattern : expectedPatterns.get(singleInterview).entrySet()) {
+                Assert.assertEquals(singlePattern.getValue().get(), patternCounts.getCount(singlePattern.getKey()));
+            }
+            for (final long singlePatternKey : patternCounts.getPatternKeys()) {
+                Assert.assertEquals(expectedPatterns.get(singleInterview).get(patternCounts.getPattern(singlePatternKey)).get(),
+                        patternCounts.getCount(singlePatternKey));
+            }
+        }
+        Assert.assertEquals(19, result.get(this.interview).getTokenCount());
+    }
+
     /**
      * Test: clone project and successfully validate equality of the two projects.
      */
@@ -3,16 +3,33 @@ package org.hmx.scitos.ais.core;
 import java.awt.Color;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import javax.swing.KeyStroke;
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.SchemaFactory;
 
 import org.hmx.scitos.ais.domain.model.AisProject;
 import org.hmx.scitos.ais.domain.model.DetailCategory;
@@ -20,17 +37,22 @@ import org.hmx.scitos.ais.domain.model.Interview;
 import org.hmx.scitos.ais.domain.model.MutableDetailCategoryModel;
 import org.hmx.scitos.ais.domain.model.TextToken;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
 
 /**
  * Test for the {@link ModelParseServiceImpl} class.
  */
 public class ModelParseServiceTest {
 
+    /** The file type declaration on the document element of a persisted project. */
+    private static final Map<String, String> FILE_TYPE_ATTRIBUTE = Collections.singletonMap("FileType", "AI-Scoring/1.0");
     /** The default detail category model to apply. */
     private static MutableDetailCategoryModel DEFAULT_CATEGORY_MODEL;
     /** The service implementation to test. */
@@ -169,4 +191,296 @@ public class ModelParseServiceTest {
         xml.appendChild(xml.createElement("Test")).appendChild(this.service.parseXmlFromDetailCategories(xml, categoryModel));
         Assert.assertEquals(categoryModel, this.service.parseDetailCategoriesFromXml(xml));
     }
+
+    /**
+     * Test: for writeModelToStream and parseModelFromStream methods – with multiple interviews and nested detail categories. Also ensuring that the
+     * streamed and the document based representations are interchangeable.
+     *
+     * @throws Exception
+     *             error when parsing to/from xml
+     */
+    @Test
+    public void testParseModelToAndFromStream_1() throws Exception {
+        final AisProject model = this.createScoredProject();
+        final List<Object> openViewElements = new ArrayList<>(model.getInterviews());
+        openViewElements.add("a");
+        openViewElements.add(model);
+        final byte[] streamed = this.writeToStream(model, openViewElements);
+        // streamed write, streamed read
+        final Entry<AisProject, List<?>> parsedFromStream = this.readFromStream(streamed);
+        Assert.assertEquals(model, parsedFromStream.getKey());
+        Assert.assertEquals(openViewElements.subList(0, 4), parsedFromStream.getValue().subList(0, 4));
+        Assert.assertSame(parsedFromStream.getKey(), parsedFromStream.getValue().get(4));
+        // streamed write, document read
+        final Document streamedDocument = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(streamed));
+        Assert.assertEquals(model, this.service.parseModelFromXml(streamedDocument, new File("test.aisp")).getKey());
+        // document write, streamed read
+        final Entry<AisProject, List<?>> parsedFromDocument = this.readFromStream(this.writeToDocument(model, openViewElements));
+        Assert.assertEquals(model, parsedFromDocument.getKey());
+        Assert.assertEquals(openViewElements.subList(0, 4), parsedFromDocument.getValue().subList(0, 4));
+    }
+
+    /**
+     * Test: for writeModelToStream and parseModelFromStream methods – empty project.
+     *
+     * @throws Exception
+     *             error when parsing to/from xml
+     */
+    @Test
+    public void testParseModelToAndFromStream_2() throws Exception {
+        final AisProject model = new AisProject("test.aisp", ModelParseServiceTest.DEFAULT_CATEGORY_MODEL.provide());
+        final Entry<AisProject, List<?>> parsed = this.readFromStream(this.writeToStream(model, Collections.emptyList()));
+        Assert.assertEquals(model, parsed.getKey());
+        Assert.assertTrue(parsed.getValue().isEmpty());
+    }
+
+    /**
+     * Test: for writeModelToStream method – the streamed output is identical to the transformed document (apart from the whitespaces in the embedded
+     * stylesheet) and is valid against the schema definition.
+     *
+     * @throws Exception
+     *             error when generating xml
+     */
+    @Test
+    public void testWriteModelToStream() throws Exception {
+        final AisProject model = this.createScoredProject();
+        final List<?> openViewElements = Arrays.asList(model.getInterviews().get(0), "a");
+        final String streamed = new String(this.writeToStream(model, openViewElements), StandardCharsets.UTF_8);
+        final String transformed = new String(this.writeToDocument(model, openViewElements), StandardCharsets.UTF_8);
+        final int stylesheetStart = transformed.indexOf("<xsl:stylesheet");
+        Assert.assertTrue(stylesheetStart > 0);
+        Assert.assertEquals(transformed.substring(0, stylesheetStart), streamed.substring(0, stylesheetStart));
+        this.validateAgainstSchema(streamed.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test: for parseModelLazily method – the interviews' contents are only parsed on their first access, for both the streamed and the document
+     * based representations.
+     *
+     * @throws Exception
+     *             error when parsing to/from xml
+     */
+    @Test
+    public void testParseModelLazily() throws Exception {
+        final AisProject model = this.createScoredProject();
+        final List<Object> openViewElements = new ArrayList<>(model.getInterviews());
+        openViewElements.add("a");
+        openViewElements.add(model);
+        for (final byte[] xml : Arrays.asList(this.writeToStream(model, openViewElements), this.writeToDocument(model, openViewElements))) {
+            final Entry<AisProject, List<?>> parsed = this.service.parseModelLazily(xml, new File("test.aisp"));
+            final List<Interview> parsedInterviews = parsed.getKey().getInterviews();
+            Assert.assertEquals(3, parsedInterviews.size());
+            for (final Interview singleInterview : parsedInterviews) {
+                Assert.assertFalse(singleInterview.isTextLoaded());
+            }
+            // a clone is sharing the pending loader, but not the loaded contents
+            final Interview clonedInterview = parsedInterviews.get(0).clone();
+            Assert.assertFalse(clonedInterview.isTextLoaded());
+            Assert.assertEquals(model.getInterviews().get(0), clonedInterview);
+            Assert.assertFalse(parsedInterviews.get(0).isTextLoaded());
+            Assert.assertNotSame(clonedInterview.getParagraphs().get(0), parsedInterviews.get(0).getParagraphs().get(0));
+            Assert.assertEquals(model, parsed.getKey());
+            for (final Interview singleInterview : parsedInterviews) {
+                Assert.assertTrue(singleInterview.isTextLoaded());
+            }
+            Assert.assertEquals(openViewElements.subList(0, 4), parsed.getValue().subList(0, 4));
+            Assert.assertSame(parsed.getKey(), parsed.getValue().get(4));
+        }
+    }
+
+    /**
+     * Test: for writeModelToBinary and parseModelFromBinary methods – with multiple interviews, nested detail category assignments, and open views.
+     *
+     * @throws Exception
+     *             error when writing/reading the binary snapshot
+     */
+    @Test
+    public void testParseModelToAndFromBinary_1() throws Exception {
+        final AisProject model = this.createScoredProject();
+        final AisModelHandler modelHandler = new ModelHandlerImpl(model);
+        final List<Object> openViewElements = new ArrayList<>(model.getInterviews());
+        openViewElements.add("a");
+        openViewElements.add(model);
+        final Entry<AisProject, List<?>> parsed = this.readFromBinary(this.writeToBinary(model, openViewElements));
+        Assert.assertNull(modelHandler.validateEquality(parsed.getKey()));
+        Assert.assertEquals(model, parsed.getKey());
+        Assert.assertEquals(openViewElements.subList(0, 4), parsed.getValue().subList(0, 4));
+        Assert.assertSame(parsed.getKey(), parsed.getValue().get(4));
+        // the binary snapshot should be the same after another round trip
+        final byte[] binary = this.writeToBinary(model, openViewElements);
+        Assert.assertArrayEquals(binary, this.writeToBinary(parsed.getKey(), parsed.getValue()));
+    }
+
+    /**
+     * Test: for writeModelToBinary and parseModelFromBinary methods – empty project with custom detail categories.
+     *
+     * @throws Exception
+     *             error when writing/reading the binary snapshot
+     */
+    @Test
+    public void testParseModelToAndFromBinary_2() throws Exception {
+        final DetailCategory parent = new DetailCategory(null, "ab", "Parent", false, Color.GREEN, null);
+        final DetailCategory childA = new DetailCategory(parent, "a", "", true, Color.BLUE, KeyStroke.getKeyStroke(KeyEvent.VK_3, 0, true));
+        final DetailCategory childB =
+                new DetailCategory(parent, "b", "\u00e4\u00f6\u00fc", true, new Color(1, 2, 3), KeyStroke.getKeyStroke(KeyEvent.VK_B,
+                        InputEvent.SHIFT_DOWN_MASK, true));
+        final AisProject model = new AisProject("test.aisp", Arrays.asList(parent, childA, childB));
+        final Entry<AisProject, List<?>> parsed = this.readFromBinary(this.writeToBinary(model, Collections.emptyList()));
+        Assert.assertNull(new ModelHandlerImpl(model).validateEquality(parsed.getKey()));
+        Assert.assertEquals(Arrays.asList(parent, childA, childB), parsed.getKey().provide());
+        Assert.assertTrue(parsed.getValue().isEmpty());
+    }
+
+    /**
+     * Test: for parseModelFromBinary method – truncated snapshot.
+     *
+     * @throws Exception
+     *             error when writing the binary snapshot
+     */
+    @Test(expected = HmxException.class)
+    public void testParseModelFromBinary_Truncated() throws Exception {
+        final byte[] binary = this.writeToBinary(this.createScoredProject(), Collections.emptyList());
+        this.readFromBinary(Arrays.copyOf(binary, binary.length / 2));
+    }
+
+    /**
+     * Create a project with three interviews, of which the first contains multiple nested detail category assignments.
+     *
+     * @return created project
+     * @throws HmxException
+     *             error when assigning detail categories
+     */
+    private AisProject createScoredProject() throws HmxException {
+        final AisProject model = new AisProject("test.aisp", ModelParseServiceTest.DEFAULT_CATEGORY_MODEL.provide());
+        final AisModelHandler modelHandler = new ModelHandlerImpl(model);
+        final Interview interview = modelHandler.createInterview("a");
+        modelHandler.setInterviewText(interview, "1a 2b 3c 4b 5a 6d 7d 8a\n<9> & \"10\"");
+        final List<DetailCategory> categories = ModelParseServiceTest.DEFAULT_CATEGORY_MODEL.provideSelectables();
+        final TextToken firstToken = interview.getText().get(0);
+        final TextToken thirdToken = firstToken.getFollowingToken().getFollowingToken();
+        final TextToken fifthToken = thirdToken.getFollowingToken().getFollowingToken();
+        final TextToken eightToken = fifthToken.getFollowingToken().getFollowingToken().getFollowingToken();
+        modelHandler.assignDetailCategory(interview, Arrays.asList(firstToken, fifthToken, eightToken), categories.get(0));
+        modelHandler.assignDetailCategory(interview, Arrays.asList(firstToken.getFollowingToken(), thirdToken.getFollowingToken()),
+                categories.get(1));
+        modelHandler.assignDetailCategory(interview, Arrays.asList(thirdToken), categories.get(2));
+        modelHandler.assignDetailCategory(interview, Arrays.asList(fifthToken.getFollowingToken(), eightToken.getPreviousToken()),
+                categories.get(3));
+        modelHandler.assignDetailCategory(interview, Arrays.asList(interview.getText().get(1)), categories.get(4));
+        modelHandler.setInterviewText(modelHandler.createInterview("a"), "1 2 3\n4 5 6 7 8 9\n10");
+        modelHandler.createInterview("b");
+        return model;
+    }
+
+    /**
+     * Write the given project via {@link ModelParseServiceImpl#writeModelToStream(org.hmx.scitos.domain.IModel, List, javax.xml.stream.XMLStreamWriter,
+     * Map) writeModelToStream()}.
+     *
+     * @param model
+     *            project to write
+     * @param openViewElements
+     *            view elements to include
+     * @return written bytes
+     * @throws Exception
+     *             error when generating xml
+     */
+    private byte[] writeToStream(final AisProject model, final List<?> openViewElements) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.service.writeModelToStream(model, openViewElements, XMLOutputFactory.newInstance().createXMLStreamWriter(output, "UTF-8"),
+                ModelParseServiceTest.FILE_TYPE_ATTRIBUTE);
+        return output.toByteArray();
+    }
+
+    /**
+     * Write the given project via {@link ModelParseServiceImpl#parseXmlFromModel(org.hmx.scitos.domain.IModel, List) parseXmlFromModel()} – using
+     * the same transformation settings as when saving a file.
+     *
+     * @param model
+     *            project to write
+     * @param openViewElements
+     *            view elements to include
+     * @return written bytes
+     * @throws Exception
+     *             error when generating xml
+     */
+    private byte[] writeToDocument(final AisProject model, final List<?> openViewElements) throws Exception {
+        final Document xml = this.service.parseXmlFromModel(model, openViewElements);
+        ModelParseServiceTest.FILE_TYPE_ATTRIBUTE.forEach(xml.getDocumentElement()::setAttribute);
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        transformer.transform(new DOMSource(xml), new StreamResult(output));
+        return output.toByteArray();
+    }
+
+    /**
+     * Read a project via {@link ModelParseServiceImpl#parseModelFromStream(XMLStreamReader, File) parseModelFromStream()}.
+     *
+     * @param xml
+     *            bytes to read
+     * @return parsed project and open view elements
+     * @throws XMLStreamException
+     *             error when reading xml
+     * @throws HmxException
+     *             error when parsing the xml
+     */
+    private Entry<AisProject, List<?>> readFromStream(final byte[] xml) throws XMLStreamException, HmxException {
+        final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new ByteArrayInputStream(xml));
+        reader.nextTag();
+        return this.service.parseModelFromStream(reader, new File("test.aisp"));
+    }
+
+    /**
+     * Write the given project via {@link ModelParseServiceImpl#writeModelToBinary(org.hmx.scitos.domain.IModel, List, BinaryModelWriter)
+     * writeModelToBinary()}.
+     *
+     * @param model
+     *            project to write
+     * @param openViewElements
+     *            view elements to include
+     * @return written bytes
+     * @throws Exception
+     *             error when writing the binary snapshot
+     */
+    private byte[] writeToBinary(final AisProject model, final List<?> openViewElements) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BinaryModelWriter writer = new BinaryModelWriter(output);
+        writer.writeHeader(ModelParseServiceTest.FILE_TYPE_ATTRIBUTE.get("FileType"));
+        this.service.writeModelToBinary(model, openViewElements, writer);
+        writer.flush();
+        return output.toByteArray();
+    }
+
+    /**
+     * Read a project via {@link ModelParseServiceImpl#parseModelFromBinary(BinaryModelReader, File) parseModelFromBinary()}.
+     *
+     * @param binary
+     *            bytes to read
+     * @return parsed project and open view elements
+     * @throws HmxException
+     *             error when parsing the binary snapshot
+     */
+    private Entry<AisProject, List<?>> readFromBinary(final byte[] binary) throws HmxException {
+        final BinaryModelReader reader = new BinaryModelReader(ByteBuffer.wrap(binary));
+        Assert.assertEquals(ModelParseServiceTest.FILE_TYPE_ATTRIBUTE.get("FileType"), reader.readHeader());
+        return this.service.parseModelFromBinary(reader, new File("test.aisp"));
+    }
+
+    /**
+     * Validate the given xml against the schema definition of the AIS file format.
+     *
+     * @param xml
+     *            bytes to validate
+     * @throws Exception
+     *             xml is invalid or schema could not be loaded
+     */
+    private void validateAgainstSchema(final byte[] xml) throws Exception {
+        try {
+            SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new File("../schema/ais-v1.0.xsd")).newValidator()
+                    .validate(new StreamSource(new ByteArrayInputStream(xml)));
+        } catch (final SAXException ex) {
+            Assert.fail(ex.getMessage());
+        }
+    }
 }
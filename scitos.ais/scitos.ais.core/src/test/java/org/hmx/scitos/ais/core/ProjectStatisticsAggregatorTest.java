@@ -0,0 +1,273 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.core;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.stream.XMLOutputFactory;
+
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.DetailCategory;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.ais.domain.model.TextToken;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test of the {@link ProjectStatisticsAggregator} and {@link AggregatedStatistics} classes – on a synthetic corpus of project files.
+ */
+public class ProjectStatisticsAggregatorTest {
+
+    private static final int FILE_COUNT = 200;
+    private static final int PARTICIPANT_COUNT = 7;
+    private static final int TOKENS_PER_INTERVIEW = 40;
+
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final ModelParseServiceImpl service = new ModelParseServiceImpl();
+    private List<File> files;
+    /** Expected number of occurrences per participant id (and {@code null} for the total), and detail category code. */
+    private Map<String, Map<String, Long>> expectedOccurrences;
+    /** Expected number of tokens with an assigned detail category per participant id (and {@code null} for the total). */
+    private Map<String, Long> expectedTokenCounts;
+    /** Expected number of occurrences per pattern (as list of detail category codes) over all interviews. */
+    private Map<List<String>, Long> expectedPatterns;
+
+    /**
+     * Preparation for each test: write the synthetic corpus of randomly scored projects – every tenth of them with an additional detail category
+     * preceding the default category model – and determine the expected statistics via the {@link ModelHandlerImpl}.
+     *
+     * @throws Exception
+     *             error when creating or writing a project
+     */
+    @Before
+    public void writeCorpus() throws Exception {
+        this.files = new ArrayList<>(ProjectStatisticsAggregatorTest.FILE_COUNT);
+        this.expectedOccurrences = new HashMap<>();
+        this.expectedTokenCounts = new HashMap<>();
+        this.expectedPatterns = new HashMap<>();
+        final List<DetailCategory> defaultCategories = AisOption.createDefaultCategoryModel().provide();
+        final List<DetailCategory> extendedCategories = new ArrayList<>();
+        extendedCategories.add(new DetailCategory(null, "Z", "Extra", true, Color.RED, null));
+        extendedCategories.addAll(defaultCategories);
+        final Random random = new Random(42);
+        for (int fileIndex = 0; fileIndex < ProjectStatisticsAggregatorTest.FILE_COUNT; fileIndex++) {
+            final AisProject project = new AisProject("file" + fileIndex, fileIndex % 10 == 9 ? extendedCategories : defaultCategories);
+            final ModelHandlerImpl modelHandler = new ModelHandlerImpl(project);
+            for (int interviewIndex = fileIndex % 3; interviewIndex < 4; interviewIndex++) {
+                final Interview interview = modelHandler.createInterview("P" + (fileIndex + interviewIndex) % 3 % 2
+                        + (fileIndex % ProjectStatisticsAggregatorTest.PARTICIPANT_COUNT));
+                this.scoreRandomly(modelHandler, interview, random);
+            }
+            this.addExpectedCounts(modelHandler);
+            final File file = this.tempFolder.newFile(String.format("file%03d.aisp", fileIndex));
+            try (OutputStream output = new FileOutputStream(file)) {
+                this.service.writeModelToStream(project, Collections.emptyList(),
+                        XMLOutputFactory.newInstance().createXMLStreamWriter(output, "UTF-8"), Collections.emptyMap());
+            }
+            this.files.add(file);
+        }
+    }
+
+    /**
+     * Set a text for the given interview and assign random detail categories to some of its tokens.
+     *
+     * @param modelHandler
+     *            the model handler for the interview's project
+     * @param interview
+     *            the interview to score
+     * @param random
+     *            the source of randomness
+     * @throws Exception
+     *             error when assigning a detail category
+     */
+    private void scoreRandomly(final ModelHandlerImpl modelHandler, final Interview interview, final Random random) throws Exception {
+        final StringBuilder text = new StringBuilder();
+        for (int tokenIndex = 0; tokenIndex < ProjectStatisticsAggregatorTest.TOKENS_PER_INTERVIEW; tokenIndex++) {
+            text.append(tokenIndex % 10 == 9 ? '\n' : ' ').append("w").append(tokenIndex);
+        }
+        modelHandler.setInterviewText(interview, text.toString().trim());
+        final List<DetailCategory> selectables = modelHandler.getModel().provideSelectables();
+        for (TextToken token = interview.getText().get(0); token != null; token = token.getFollowingToken()) {
+            if (random.nextInt(3) > 0) {
+                final DetailCategory category = selectables.get(random.nextInt(selectables.size()));
+                modelHandler.assignDetailCategory(interview, Collections.singletonList(token), category);
+            }
+        }
+    }
+
+    /**
+     * Add the statistics of the given project's interviews to the expected statistics.
+     *
+     * @param modelHandler
+     *            the model handler for the project to add
+     */
+    private void addExpectedCounts(final ModelHandlerImpl modelHandler) {
+        final List<Interview> interviews = modelHandler.getModel().getInterviews();
+        final Map<Interview, AtomicLong> tokenCounts = modelHandler.countTokensWithAssignedDetail(interviews);
+        final Map<Interview, Map<DetailCategory, AtomicLong>> occurrences = modelHandler.countDetailOccurrences(interviews);
+        final Map<Interview, Map<List<DetailCategory>, AtomicLong>> patterns = modelHandler.extractDetailPattern(interviews, 2, 3);
+        for (final Interview singleInterview : interviews) {
+            for (final String key : Arrays.asList(singleInterview.getParticipantId(), null)) {
+                this.expectedTokenCounts.merge(key, tokenCounts.get(singleInterview).get(), Long::sum);
+                final Map<String, Long> occurrenceCounts = this.expectedOccurrences.computeIfAbsent(key, k -> new HashMap<>());
+                occurrences.get(singleInterview).forEach((category, count) -> occurrenceCounts.merge(category.getCode(), count.get(), Long::sum));
+            }
+            for (final Entry<List<DetailCategory>, AtomicLong> singlePattern : patterns.get(singleInterview).entrySet()) {
+                final List<String> codes = new ArrayList<>();
+                singlePattern.getKey().forEach(category -> codes.add(category.getCode()));
+                this.expectedPatterns.merge(codes, singlePattern.getValue().get(), Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Aggregate the corpus on the given number of threads – reading each file lazily.
+     *
+     * @param threadCount
+     *            the maximum number of files to read in parallel
+     * @return the aggregated statistics
+     */
+    private AggregatedStatistics aggregate(final int threadCount) {
+        return new ProjectStatisticsAggregator(file -> {
+            try {
+                return this.service.parseModelLazily(Files.readAllBytes(file.toPath()), file).getKey();
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }, 2, 3).aggregate(this.files, threadCount);
+    }
+
+    /**
+     * Test: the aggregated statistics match the sum of the single projects' statistics – with the unified category model in the order of the
+     * codes' first appearance.
+     */
+    @Test
+    public void testAggregate() {
+        final AggregatedStatistics statistics = this.aggregate(4);
+        Assert.assertTrue(statistics.getFailures().isEmpty());
+        final List<DetailCategory> categories = statistics.getCategories();
+        final List<DetailCategory> defaultCategories = AisOption.createDefaultCategoryModel().provide();
+        Assert.assertEquals(defaultCategories, categories.subList(0, defaultCategories.size()));
+        Assert.assertEquals(defaultCategories.size() + 1, categories.size());
+        Assert.assertEquals("Z", categories.get(defaultCategories.size()).getCode());
+
+        final List<String> participantIds = statistics.getParticipantIds();
+        Assert.assertEquals(ProjectStatisticsAggregatorTest.PARTICIPANT_COUNT * 2, participantIds.size());
+        int interviewCount = 0;
+        for (final String singleParticipantId : participantIds) {
+            final AggregatedStatistics.Summary summary = statistics.getParticipantSummary(singleParticipantId);
+            this.assertSummary(categories, this.expectedOccurrences.get(singleParticipantId), this.expectedTokenCounts.get(singleParticipantId),
+                    summary);
+            interviewCount += summary.getInterviewCount();
+        }
+        final AggregatedStatistics.Summary total = statistics.getTotalSummary();
+        Assert.assertEquals(ProjectStatisticsAggregatorTest.FILE_COUNT, total.getFileCount());
+        Assert.assertEquals(interviewCount, total.getInterviewCount());
+        this.assertSummary(categories, this.expectedOccurrences.get(null), this.expectedTokenCounts.get(null), total);
+
+        final DetailPatternCounts patternCounts = total.getPatternCounts();
+        Assert.assertEquals(this.expectedPatterns.size(), patternCounts.size());
+        for (final long singlePatternKey : patternCounts.getPatternKeys()) {
+            final List<String> codes = new ArrayList<>();
+            patternCounts.getPattern(singlePatternKey).forEach(category -> codes.add(category.getCode()));
+            Assert.assertEquals(codes.toString(), this.expectedPatterns.get(codes).longValue(), patternCounts.getCount(singlePatternKey));
+        }
+    }
+
+    /**
+     * Check the given summary against the expected counts.
+     *
+     * @param categories
+     *            the unified category model
+     * @param expectedOccurrences
+     *            the expected number of occurrences per detail category code
+     * @param expectedTokenCount
+     *            the expected number of tokens with an assigned detail category
+     * @param summary
+     *            the summary to check
+     */
+    private void assertSummary(final List<DetailCategory> categories, final Map<String, Long> expectedOccurrences, final Long expectedTokenCount,
+            final AggregatedStatistics.Summary summary) {
+        Assert.assertEquals(expectedTokenCount.longValue(), summary.getTokenCount());
+        for (int categoryIndex = 0; categoryIndex < categories.size(); categoryIndex++) {
+            final Long expected = expectedOccurrences.get(categories.get(categoryIndex).getCode());
+            Assert.assertEquals(expected == null ? 0L : expected.longValue(), summary.getOccurrenceCount(categoryIndex));
+        }
+    }
+
+    /**
+     * Test: the written tables do not depend on the number of threads, and invalid files are reported without affecting the other files.
+     *
+     * @throws Exception
+     *             error when writing the invalid file or the tables
+     */
+    @Test
+    public void testAggregate_DeterministicWithFailures() throws Exception {
+        final File invalidFile = this.tempFolder.newFile("invalid.aisp");
+        Files.write(invalidFile.toPath(), "<Interviews>".getBytes("UTF-8"));
+        this.files.add(ProjectStatisticsAggregatorTest.FILE_COUNT / 2, invalidFile);
+        final AggregatedStatistics sequential = this.aggregate(1);
+        final AggregatedStatistics parallel = this.aggregate(8);
+        Assert.assertEquals(Collections.singleton(invalidFile), parallel.getFailures().keySet());
+        Assert.assertEquals(ProjectStatisticsAggregatorTest.FILE_COUNT, parallel.getTotalSummary().getFileCount());
+        Assert.assertEquals(this.writeTables(sequential), this.writeTables(parallel));
+
+        final String[] summaryRows = this.writeTables(parallel).split("\n");
+        // header, participants, and total
+        Assert.assertTrue(summaryRows[0].startsWith("Participant,File Count,Interview Count,Token Count," + parallel.getCategories().get(0).getCode()));
+        Assert.assertTrue(summaryRows[ProjectStatisticsAggregatorTest.PARTICIPANT_COUNT * 2 + 1].startsWith("Total,200,"));
+    }
+
+    /**
+     * Write both tables of the given statistics as CSV.
+     *
+     * @param statistics
+     *            the statistics to write
+     * @return the summary table followed by the pattern table
+     * @throws Exception
+     *             error when writing the tables
+     */
+    private String writeTables(final AggregatedStatistics statistics) throws Exception {
+        final StringWriter writer = new StringWriter();
+        statistics.writeSummary(writer, ',');
+        statistics.writePatterns(writer, ',');
+        return writer.toString();
+    }
+}
@@ -21,9 +21,9 @@ package org.hmx.scitos.ais.domain.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.hmx.scitos.ais.domain.IDetailCategoryProvider;
 import org.hmx.scitos.domain.IMultiObjectModel;
@@ -40,6 +40,11 @@ public final class AisProject implements IMultiObjectModel<AisProject, Interview
     private final List<DetailCategory> categories;
     /** The contained interviews. */
     private final List<Interview> interviews = new ArrayList<>();
+    /**
+     * The contained interviews grouped by their participant id and sorted by their index; {@code null} if it needs to be rebuilt (after the
+     * contained interviews or any of their participant ids or indices have been changed).
+     */
+    private Map<String, List<Interview>> participantIndex;
 
     /**
      * Main constructor.
@@ -84,6 +89,52 @@ public final class AisProject implements IMultiObjectModel<AisProject, Interview
         return Collections.unmodifiableList(this.interviews);
     }
 
+    /**
+     * Getter for the contained interviews associated with the given participant id.
+     *
+     * @param participantId
+     *            the participant id to look-up
+     * @return the participant's interviews sorted by their index (empty list if there are none)
+     */
+    public List<Interview> getInterviews(final String participantId) {
+        final List<Interview> participantsInterviews = this.getSubModelObjects().get(participantId);
+        if (participantsInterviews == null) {
+            return Collections.emptyList();
+        }
+        return participantsInterviews;
+    }
+
+    /**
+     * Getter for the contained interview with the given participant id and index.
+     *
+     * @param participantId
+     *            the participant id to look-up
+     * @param index
+     *            the index of the interview to look-up
+     * @return the interview (or {@code null} if there is none)
+     */
+    public Interview getInterview(final String participantId, final int index) {
+        final List<Interview> participantsInterviews = this.getInterviews(participantId);
+        // the indices are usually consecutive, allowing for a direct access
+        if (index > 0 && index <= participantsInterviews.size() && participantsInterviews.get(index - 1).getIndex() == index) {
+            return participantsInterviews.get(index - 1);
+        }
+        int low = 0;
+        int high = participantsInterviews.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int middleIndex = participantsInterviews.get(middle).getIndex();
+            if (middleIndex < index) {
+                low = middle + 1;
+            } else if (middleIndex > index) {
+                high = middle - 1;
+            } else {
+                return participantsInterviews.get(middle);
+            }
+        }
+        return null;
+    }
+
     /**
      * Setter for the contained interviews.
      *
@@ -91,14 +142,31 @@ public final class AisProject implements IMultiObjectModel<AisProject, Interview
      *            contained interviews
      * @return self reference
      */
-    public AisProject setInterviews(final List<Interview> value) {
+    public synchronized AisProject setInterviews(final List<Interview> value) {
+        for (final Interview removedInterview : this.interviews) {
+            if (removedInterview.getProject() == this) {
+                removedInterview.setProject(null);
+            }
+        }
         this.interviews.clear();
         if (value != null) {
             this.interviews.addAll(value);
+            for (final Interview addedInterview : value) {
+                addedInterview.setProject(this);
+            }
         }
+        this.invalidateParticipantIndex();
         return this;
     }
 
+    /**
+     * Discard the index of the contained interviews by their participant id and index, forcing it to be rebuilt on the next access. This is being
+     * called by the contained interviews when their participant id or index is changed.
+     */
+    synchronized void invalidateParticipantIndex() {
+        this.participantIndex = null;
+    }
+
     /**
      * Setter for the contained detail category model.
      *
@@ -118,22 +186,32 @@ public final class AisProject implements IMultiObjectModel<AisProject, Interview
     }
 
     @Override
-    public Map<String, List<Interview>> getSubModelObjects() {
-        final Map<String, List<Interview>> subModelMap = new HashMap<>();
+    public synchronized Map<String, List<Interview>> getSubModelObjects() {
+        if (this.participantIndex == null) {
+            this.participantIndex = this.buildParticipantIndex();
+        }
+        return this.participantIndex;
+    }
+
+    /**
+     * Group the contained interviews by their participant ids and sort each group by the interviews' indices. The returned map and lists are not
+     * modifiable and are not affected by any subsequent changes – they are being replaced by a new index instead.
+     *
+     * @return the sorted index of the contained interviews by their participant id
+     */
+    private Map<String, List<Interview>> buildParticipantIndex() {
         final List<Interview> sortedInterviews = new ArrayList<>(this.interviews);
         Collections.sort(sortedInterviews);
-        for (final Interview singleInterview : sortedInterviews) {
-            final String groupKey = this.getGroupKey(singleInterview);
-            final List<Interview> groupedInterviews;
-            if (subModelMap.containsKey(groupKey)) {
-                groupedInterviews = subModelMap.get(groupKey);
-            } else {
-                groupedInterviews = new ArrayList<>();
-                subModelMap.put(groupKey, groupedInterviews);
+        final TreeMap<String, List<Interview>> index = new TreeMap<>();
+        int groupStart = 0;
+        for (int position = 1; position <= sortedInterviews.size(); position++) {
+            final String groupKey = this.getGroupKey(sortedInterviews.get(groupStart));
+            if (position == sortedInterviews.size() || !groupKey.equals(this.getGroupKey(sortedInterviews.get(position)))) {
+                index.put(groupKey, Collections.unmodifiableList(sortedInterviews.subList(groupStart, position)));
+                groupStart = position;
             }
-            groupedInterviews.add(singleInterview);
         }
-        return subModelMap;
+        return Collections.unmodifiableMap(index);
     }
 
     @Override
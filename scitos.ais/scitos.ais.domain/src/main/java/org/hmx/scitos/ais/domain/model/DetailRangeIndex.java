@@ -0,0 +1,165 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.domain.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Index of the contiguous token ranges with the same assigned detail category in a single {@link TokenParagraph}. A detail section containing
+ * nested sections consists of multiple such ranges, i.e. the index allows to skip any nested sections when looking for the continuation of a section
+ * in {@code O(log n)}. The index only depends on the assigned detail categories (not on the section start/end flags) and is being updated
+ * incrementally whenever a single token's detail category changes – affecting at most its own and its direct neighbours' entries.
+ */
+final class DetailRangeIndex {
+
+    /** The paragraph being indexed. */
+    private final TokenParagraph paragraph;
+    /** Positions of the first token of each contiguous range – by the range's detail category. */
+    private final Map<DetailCategory, NavigableSet<Integer>> rangeStarts = new HashMap<>();
+    /** Positions of the last token of each contiguous range – by the range's detail category. */
+    private final Map<DetailCategory, NavigableSet<Integer>> rangeEnds = new HashMap<>();
+
+    /**
+     * Constructor: indexing all tokens currently contained in the given paragraph.
+     *
+     * @param paragraph
+     *            the paragraph to index
+     */
+    DetailRangeIndex(final TokenParagraph paragraph) {
+        this.paragraph = paragraph;
+        for (int position = 0; position < paragraph.size(); position++) {
+            this.register(position);
+        }
+    }
+
+    /**
+     * Remove the entries of the specified token and its direct neighbours, before the token's detail category is being changed.
+     *
+     * @param index
+     *            position of the token about to be changed
+     * @see #registerAround(int)
+     */
+    void unregisterAround(final int index) {
+        final int maxPosition = Math.min(index + 1, this.paragraph.size() - 1);
+        for (int position = Math.max(0, index - 1); position <= maxPosition; position++) {
+            this.unregister(position);
+        }
+    }
+
+    /**
+     * Add the entries of the specified token and its direct neighbours, after the token's detail category has been changed.
+     *
+     * @param index
+     *            position of the changed token
+     * @see #unregisterAround(int)
+     */
+    void registerAround(final int index) {
+        final int maxPosition = Math.min(index + 1, this.paragraph.size() - 1);
+        for (int position = Math.max(0, index - 1); position <= maxPosition; position++) {
+            this.register(position);
+        }
+    }
+
+    /**
+     * Add the entries of the specified token, if it is the first and/or last token of a contiguous range with its assigned detail category.
+     *
+     * @param position
+     *            position of the token to add
+     */
+    private void register(final int position) {
+        final DetailCategory detail = this.paragraph.getDetail(position);
+        if (detail == null) {
+            return;
+        }
+        if (position == 0 || !detail.equals(this.paragraph.getDetail(position - 1))) {
+            this.rangeStarts.computeIfAbsent(detail, key -> new TreeSet<>()).add(position);
+        }
+        if (position == this.paragraph.size() - 1 || !detail.equals(this.paragraph.getDetail(position + 1))) {
+            this.rangeEnds.computeIfAbsent(detail, key -> new TreeSet<>()).add(position);
+        }
+    }
+
+    /**
+     * Remove any entries of the specified token.
+     *
+     * @param position
+     *            position of the token to remove
+     */
+    private void unregister(final int position) {
+        final DetailCategory detail = this.paragraph.getDetail(position);
+        if (detail == null) {
+            return;
+        }
+        DetailRangeIndex.remove(this.rangeStarts, detail, position);
+        DetailRangeIndex.remove(this.rangeEnds, detail, position);
+    }
+
+    /**
+     * Remove the given position from the entries of the given detail category – discarding the category's entry set when it becomes empty.
+     *
+     * @param entries
+     *            the range starts or ends to remove the position from
+     * @param detail
+     *            the detail category assigned to the token at the given position
+     * @param position
+     *            position of the token to remove
+     */
+    private static void remove(final Map<DetailCategory, NavigableSet<Integer>> entries, final DetailCategory detail, final int position) {
+        final NavigableSet<Integer> positions = entries.get(detail);
+        if (positions != null && positions.remove(position) && positions.isEmpty()) {
+            entries.remove(detail);
+        }
+    }
+
+    /**
+     * Find the first token of the next contiguous range with the given detail category, starting at the given position.
+     *
+     * @param detail
+     *            the detail category to look for
+     * @param fromIndex
+     *            position of the first token to consider
+     * @return position of the first token of the next range with the given detail category (that starts at or after {@code fromIndex}), or
+     *         {@code -1} if there is none
+     */
+    int findRangeStart(final DetailCategory detail, final int fromIndex) {
+        final NavigableSet<Integer> positions = this.rangeStarts.get(detail);
+        final Integer result = positions == null ? null : positions.ceiling(fromIndex);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * Find the last token of the previous contiguous range with the given detail category, starting at the given position.
+     *
+     * @param detail
+     *            the detail category to look for
+     * @param fromIndex
+     *            position of the last token to consider
+     * @return position of the last token of the previous range with the given detail category (that ends at or before {@code fromIndex}), or
+     *         {@code -1} if there is none
+     */
+    int findRangeEnd(final DetailCategory detail, final int fromIndex) {
+        final NavigableSet<Integer> positions = this.rangeEnds.get(detail);
+        final Integer result = positions == null ? null : positions.floor(fromIndex);
+        return result == null ? -1 : result;
+    }
+}
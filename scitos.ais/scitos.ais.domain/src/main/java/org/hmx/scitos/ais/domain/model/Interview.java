@@ -19,10 +19,10 @@
 
 package org.hmx.scitos.ais.domain.model;
 
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.hmx.scitos.domain.IModel;
 
@@ -36,7 +36,14 @@ public final class Interview implements IModel<Interview>, Comparable<Interview>
     /** The index (i.e. number) of this interview in the project containing it. */
     private int index;
     /** The actual interview including assigned details (i.e. applied scoring). */
-    private final List<TextToken> text = new ArrayList<>();
+    private final List<TokenParagraph> paragraphs = new ArrayList<>();
+    /**
+     * The provider of the actual interview text, as long as it has not been loaded yet (is {@code null} once it has been loaded). Being volatile,
+     * the loaded {@link #paragraphs} are visible to any thread that sees this reset to {@code null}.
+     */
+    private volatile Supplier<List<TokenParagraph>> paragraphLoader;
+    /** The project containing this interview, to be informed about changes of the participant id or index. */
+    private AisProject project;
 
     /**
      * Main constructor.
@@ -69,6 +76,7 @@ public final class Interview implements IModel<Interview>, Comparable<Interview>
      */
     public Interview setParticipantId(final String value) {
         this.participantId = value;
+        this.invalidateProjectIndex();
         return this;
     }
 
@@ -90,33 +98,138 @@ public final class Interview implements IModel<Interview>, Comparable<Interview>
      */
     public Interview setIndex(final int value) {
         this.index = value;
+        this.invalidateProjectIndex();
         return this;
     }
 
     /**
-     * Getter for the actual interview firstTextToken, including the assigned details (i.e. applied scoring).
+     * Setter for the project containing this interview, which maintains an index of its interviews by participant id and index.
+     *
+     * @param value
+     *            the containing project (can be {@code null} if this interview is no longer contained in any project)
+     */
+    void setProject(final AisProject value) {
+        this.project = value;
+    }
+
+    /**
+     * Getter for the project containing this interview.
      *
-     * @return the (scored) interview firstTextToken
+     * @return the containing project (can be {@code null})
+     */
+    AisProject getProject() {
+        return this.project;
+    }
+
+    /**
+     * Inform the containing project (if there is any) that its index of interviews by participant id and index needs to be rebuilt.
+     */
+    private void invalidateProjectIndex() {
+        if (this.project != null) {
+            this.project.invalidateParticipantIndex();
+        }
+    }
+
+    /**
+     * Getter for the actual interview text, including the assigned details (i.e. applied scoring).
+     *
+     * @return the first token of each paragraph in the (scored) interview text
      */
     public List<TextToken> getText() {
-        return Collections.unmodifiableList(this.text);
+        final List<TokenParagraph> loadedParagraphs = this.getParagraphs();
+        final List<TextToken> text = new ArrayList<>(loadedParagraphs.size());
+        for (final TokenParagraph singleParagraph : loadedParagraphs) {
+            text.add(singleParagraph.getFirstToken());
+        }
+        return Collections.unmodifiableList(text);
     }
 
     /**
      * Setter for the actual interview text.
      *
      * @param text
-     *            the interview text to set
+     *            the first token of each paragraph in the interview text to set
      * @return self reference
      */
     public Interview setText(final List<TextToken> text) {
-        this.text.clear();
+        final List<TokenParagraph> paragraphsToSet = new ArrayList<>();
         if (text != null) {
-            this.text.addAll(text);
+            for (final TextToken paragraphStart : text) {
+                if (paragraphStart.getPosition() == 0) {
+                    paragraphsToSet.add(paragraphStart.getParagraph());
+                } else {
+                    paragraphsToSet.add(paragraphStart.getParagraph().copyFrom(paragraphStart.getPosition()));
+                }
+            }
+        }
+        return this.setParagraphs(paragraphsToSet);
+    }
+
+    /**
+     * Getter for the paragraphs of the actual interview text, including the assigned details (i.e. applied scoring).
+     *
+     * @return the (scored) interview paragraphs
+     */
+    public List<TokenParagraph> getParagraphs() {
+        if (this.paragraphLoader != null) {
+            this.loadParagraphs();
+        }
+        return Collections.unmodifiableList(this.paragraphs);
+    }
+
+    /**
+     * Call the {@link #paragraphLoader} – unless another thread has done so already, while this one was waiting for the lock.
+     */
+    private synchronized void loadParagraphs() {
+        final Supplier<List<TokenParagraph>> loader = this.paragraphLoader;
+        if (loader != null) {
+            this.paragraphs.addAll(loader.get());
+            // only discard the loader after it succeeded, so that a failed attempt can be repeated
+            this.paragraphLoader = null;
+        }
+    }
+
+    /**
+     * Setter for the paragraphs of the actual interview text.
+     *
+     * @param paragraphs
+     *            the interview paragraphs to set
+     * @return self reference
+     */
+    public synchronized Interview setParagraphs(final List<TokenParagraph> paragraphs) {
+        this.paragraphLoader = null;
+        this.paragraphs.clear();
+        if (paragraphs != null) {
+            this.paragraphs.addAll(paragraphs);
         }
         return this;
     }
 
+    /**
+     * Setter for the provider of the actual interview text, that is being called on the first access to it – i.e. on the first call of
+     * {@link #getText()} or {@link #getParagraphs()}. This allows deferring the (potentially expensive) creation of all text tokens until they are
+     * actually needed. The loader is expected to return a new list of new paragraphs on each call, as it is being shared by the interview's clones.
+     *
+     * @param loader
+     *            provider of the interview paragraphs to set
+     * @return self reference
+     */
+    public synchronized Interview setParagraphLoader(final Supplier<List<TokenParagraph>> loader) {
+        this.paragraphs.clear();
+        this.paragraphLoader = loader;
+        return this;
+    }
+
+    /**
+     * Check whether the actual interview text has already been loaded, i.e. whether it is not waiting for its {@link #setParagraphLoader(Supplier)
+     * loader} to be called.
+     *
+     * @return whether the interview paragraphs are present
+     */
+    public boolean isTextLoaded() {
+        return this.paragraphLoader == null;
+    }
+
     /**
      * Preserve the current instance, but replace the contained state and values by the ones in the given other interview instance.
      *
@@ -127,11 +240,16 @@ public final class Interview implements IModel<Interview>, Comparable<Interview>
     public Interview reset(final Interview replacingState) {
         this.setParticipantId(replacingState.getParticipantId());
         this.setIndex(replacingState.getIndex());
-        final List<TextToken> copiedParagraphs = new ArrayList<>();
-        for (final TextToken singleParagraph : replacingState.getText()) {
+        final Supplier<List<TokenParagraph>> loader = replacingState.paragraphLoader;
+        if (loader != null) {
+            // the loader provides new paragraphs on each call, i.e. there is no need to load and copy them here
+            return this.setParagraphLoader(loader);
+        }
+        final List<TokenParagraph> copiedParagraphs = new ArrayList<>(replacingState.paragraphs.size());
+        for (final TokenParagraph singleParagraph : replacingState.paragraphs) {
             copiedParagraphs.add(singleParagraph.clone());
         }
-        this.setText(copiedParagraphs);
+        this.setParagraphs(copiedParagraphs);
         return this;
     }
 
@@ -158,47 +276,8 @@ public final class Interview implements IModel<Interview>, Comparable<Interview>
             return false;
         }
         final Interview otherInterview = (Interview) otherObject;
-        if (this.index != otherInterview.index || !this.participantId.equals(otherInterview.participantId)
-                || this.text.size() != otherInterview.text.size()) {
-            return false;
-        }
-        final Iterator<TextToken> otherParagraphIterator = otherInterview.text.iterator();
-        for (final TextToken oneParagraphStart : this.text) {
-            if (!this.areParagraphsEqual(oneParagraphStart, otherParagraphIterator.next())) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Check the equality of the given paragraphs, represented by their respective first tokens.
-     *
-     * @param oneParagraphStart
-     *            the paragraph to check against
-     * @param otherParagraphStart
-     *            the other paragraph to compare with
-     * @return if both paragraphs are equal
-     */
-    private boolean areParagraphsEqual(final TextToken oneParagraphStart, final TextToken otherParagraphStart) {
-        TextToken oneToken = oneParagraphStart;
-        TextToken otherToken = otherParagraphStart;
-        do {
-            // check token text and detail category assignment
-            if (!oneToken.getText().equals(otherToken.getText())
-                    || oneToken.isFirstTokenOfDetail() != otherToken.isFirstTokenOfDetail()
-                    || oneToken.isLastTokenOfDetail() != otherToken.isLastTokenOfDetail()
-                    || oneToken.getDetail() != otherToken.getDetail()
-                    && (oneToken.getDetail() == null || otherToken.getDetail() == null || !oneToken.getDetail().getCode()
-                            .equals(otherToken.getDetail().getCode()))) {
-                return false;
-            }
-            // iterate through whole (linked) list of tokens
-            oneToken = oneToken.getFollowingToken();
-            otherToken = otherToken.getFollowingToken();
-        } while (oneToken != null && otherToken != null);
-        // check if number not one of the paragraphs was longer than the other
-        return oneToken == null && otherToken == null;
+        return this.index == otherInterview.index && this.participantId.equals(otherInterview.participantId)
+                && this.getParagraphs().equals(otherInterview.getParagraphs());
     }
 
     @Override
@@ -25,34 +25,72 @@ import org.hmx.scitos.domain.util.ComparisonUtil;
 
 /**
  * Representation of a text token (usually a single word) in an autobiographical interview scoring, that can be assigned a {@link DetailCategory}.
+ * This is a view on a single position in a {@link TokenParagraph}, which holds the actual data.
  */
 public final class TextToken implements Cloneable, Serializable {
 
+    /** The paragraph containing this token's data (only changes when linking tokens via the deprecated setters). */
+    private TokenParagraph paragraph;
+    /** The position of this token in its {@link #paragraph}. */
+    private int position;
+
     /**
-     * The preceding token in the interview's paragraph (is {@code null} if this is the first token in the paragraph).
+     * Constructor: for a single token in its own paragraph, that can be linked with other tokens via {@link #setPreviousToken(TextToken)} and
+     * {@link #setFollowingToken(TextToken)}.
+     *
+     * @param text
+     *            the text this token is comprised of (usually a single word)
+     * @deprecated create a {@link TokenParagraph} with all its tokens at once instead, and access them via {@link TokenParagraph#getToken(int)}
      */
-    private TextToken previousToken;
+    @Deprecated
+    public TextToken(final String text) {
+        final TokenParagraph singleTokenParagraph = new TokenParagraph(1);
+        singleTokenParagraph.addToken(text, null);
+        singleTokenParagraph.attachToken(0, this);
+    }
+
     /**
-     * The next token in the interview's paragraph (is {@code null} if this is the last token in the paragraph).
+     * Main constructor – only to be called by the {@link TokenParagraph#getToken(int) containing paragraph}.
+     *
+     * @param paragraph
+     *            the paragraph containing this token's data
+     * @param position
+     *            the position of this token in the given paragraph
      */
-    private TextToken followingToken;
-    /** The text this token is comprised of (usually a single word). */
-    private final String text;
-    /** The assigned detail category (i.e. the actual scoring). */
-    private DetailCategory detail = null;
-    /** If this is the first token in the section with the assigned detail category. */
-    private boolean firstTokenOfDetail = false;
-    /** If this is the last token in the section with the assigned detail category. */
-    private boolean lastTokenOfDetail = false;
+    TextToken(final TokenParagraph paragraph, final int position) {
+        this.paragraph = paragraph;
+        this.position = position;
+    }
 
     /**
-     * Main constructor.
+     * Point this view to the given position in the given paragraph – after the token's data has been moved there.
      *
-     * @param text
-     *            the text this token is comprised of (usually a single word)
+     * @param targetParagraph
+     *            the paragraph now containing this token's data
+     * @param targetPosition
+     *            the position of this token in the given paragraph
      */
-    public TextToken(final String text) {
-        this.text = text;
+    void moveTo(final TokenParagraph targetParagraph, final int targetPosition) {
+        this.paragraph = targetParagraph;
+        this.position = targetPosition;
+    }
+
+    /**
+     * Getter for the paragraph containing this token.
+     *
+     * @return the containing paragraph
+     */
+    public TokenParagraph getParagraph() {
+        return this.paragraph;
+    }
+
+    /**
+     * Getter for the position of this token in its paragraph.
+     *
+     * @return the zero-based position in the {@link #getParagraph() containing paragraph}
+     */
+    public int getPosition() {
+        return this.position;
     }
 
     /**
@@ -61,18 +99,28 @@ public final class TextToken implements Cloneable, Serializable {
      * @return the previous token (is {@code null} if this is the first token in the paragraph)
      */
     public TextToken getPreviousToken() {
-        return this.previousToken;
+        if (this.position == 0) {
+            return null;
+        }
+        return this.paragraph.getToken(this.position - 1);
     }
 
     /**
-     * Setter for the preceding token.
+     * Setter for the preceding token. As both tokens are part of the same paragraph afterwards, this also sets the given token's following token.
      *
      * @param token
-     *            the previous token
+     *            the previous token ({@code null} to split this token and its followers off into their own paragraph)
      * @return self reference
+     * @deprecated create a {@link TokenParagraph} with all its tokens at once instead
+     * @see #setFollowingToken(TextToken)
      */
+    @Deprecated
     public TextToken setPreviousToken(final TextToken token) {
-        this.previousToken = token;
+        if (token != null) {
+            token.setFollowingToken(this);
+        } else if (this.position > 0) {
+            this.paragraph.splitFrom(this.position);
+        }
         return this;
     }
 
@@ -82,18 +130,40 @@ public final class TextToken implements Cloneable, Serializable {
      * @return the following token (is {@code null} if this is the last token in the paragraph)
      */
     public TextToken getFollowingToken() {
-        return this.followingToken;
+        if (this.position + 1 == this.paragraph.size()) {
+            return null;
+        }
+        return this.paragraph.getToken(this.position + 1);
     }
 
     /**
-     * Setter for the next token.
+     * Setter for the next token. As both tokens are part of the same paragraph afterwards, this also sets the given token's preceding token. Any
+     * tokens previously following this one, or preceding the given one, are split off into their own paragraphs.
      *
      * @param token
-     *            the following token
+     *            the following token ({@code null} to split the current followers off into their own paragraph)
      * @return self reference
+     * @throws IllegalArgumentException
+     *             the given token is this one or already precedes it in the same paragraph, i.e. linking them would create a cycle
+     * @deprecated create a {@link TokenParagraph} with all its tokens at once instead
      */
+    @Deprecated
     public TextToken setFollowingToken(final TextToken token) {
-        this.followingToken = token;
+        if (this.getFollowingToken() == token) {
+            return this;
+        }
+        if (token != null && token.paragraph == this.paragraph && token.position <= this.position) {
+            throw new IllegalArgumentException();
+        }
+        if (this.position + 1 < this.paragraph.size()) {
+            this.paragraph.splitFrom(this.position + 1);
+        }
+        if (token != null) {
+            if (token.position > 0) {
+                token.paragraph.splitFrom(token.position);
+            }
+            this.paragraph.append(token.paragraph);
+        }
         return this;
     }
 
@@ -103,7 +173,7 @@ public final class TextToken implements Cloneable, Serializable {
      * @return the token's text
      */
     public String getText() {
-        return this.text;
+        return this.paragraph.getText(this.position);
     }
 
     /**
@@ -112,7 +182,7 @@ public final class TextToken implements Cloneable, Serializable {
      * @return the assigned detail (can be {@code null})
      */
     public DetailCategory getDetail() {
-        return this.detail;
+        return this.paragraph.getDetail(this.position);
     }
 
     /**
@@ -123,7 +193,7 @@ public final class TextToken implements Cloneable, Serializable {
      * @return self reference
      */
     public TextToken setDetail(final DetailCategory detail) {
-        this.detail = detail;
+        this.paragraph.setDetail(this.position, detail);
         return this;
     }
 
@@ -134,7 +204,7 @@ public final class TextToken implements Cloneable, Serializable {
      * @see #getDetail()
      */
     public boolean isFirstTokenOfDetail() {
-        return this.firstTokenOfDetail;
+        return this.paragraph.isFirstTokenOfDetail(this.position);
     }
 
     /**
@@ -145,7 +215,7 @@ public final class TextToken implements Cloneable, Serializable {
      * @return self reference
      */
     public TextToken setFirstTokenOfDetail(final boolean value) {
-        this.firstTokenOfDetail = value;
+        this.paragraph.setFirstTokenOfDetail(this.position, value);
         return this;
     }
 
@@ -156,7 +226,7 @@ public final class TextToken implements Cloneable, Serializable {
      * @see #getDetail()
      */
     public boolean isLastTokenOfDetail() {
-        return this.lastTokenOfDetail;
+        return this.paragraph.isLastTokenOfDetail(this.position);
     }
 
     /**
@@ -167,20 +237,18 @@ public final class TextToken implements Cloneable, Serializable {
      * @return self reference
      */
     public TextToken setLastTokenOfDetail(final boolean value) {
-        this.lastTokenOfDetail = value;
+        this.paragraph.setLastTokenOfDetail(this.position, value);
         return this;
     }
 
+    /**
+     * Create an independent copy of this token and all its following tokens in the same paragraph.
+     *
+     * @return the first token of the copied paragraph
+     */
     @Override
     public TextToken clone() {
-        final TextToken cloned = new TextToken(this.getText()).setDetail(this.getDetail());
-        cloned.setFirstTokenOfDetail(this.isFirstTokenOfDetail()).setLastTokenOfDetail(this.isLastTokenOfDetail());
-        if (this.getFollowingToken() != null) {
-            final TextToken followerClone = this.getFollowingToken().clone();
-            followerClone.setPreviousToken(cloned);
-            cloned.setFollowingToken(followerClone);
-        }
-        return cloned;
+        return this.paragraph.copyFrom(this.position).getFirstToken();
     }
 
     @Override
@@ -0,0 +1,585 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.domain.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact (columnar) representation of a single paragraph in an {@link Interview}. Instead of one object per token, the token texts, assigned
+ * detail categories and section boundaries are stored in parallel arrays:
+ * <ul>
+ * <li>the token texts are interned, i.e. recurring words share the same {@code String} instance,</li>
+ * <li>the assigned detail categories are stored as {@code short} indices into a small paragraph-specific lookup table,</li>
+ * <li>the flags marking the first/last token of a detail section are packed into a bit set (two bits per token).</li>
+ * </ul>
+ * The individual tokens are still accessible as {@link TextToken} instances, which are merely views on a position in this paragraph. These views are
+ * created lazily and only once per position, i.e. the same token is always represented by the same {@link TextToken} instance.
+ */
+public final class TokenParagraph implements Cloneable, Serializable {
+
+    /** Number of bits per token in the {@link #boundaryFlags}. */
+    private static final int BITS_PER_TOKEN = 2;
+    /** Number of tokens whose flags are stored in a single element of the {@link #boundaryFlags}. */
+    private static final int TOKENS_PER_FLAG_WORD = Long.SIZE / TokenParagraph.BITS_PER_TOKEN;
+
+    /** The number of tokens in this paragraph. */
+    private int size;
+    /** The (interned) texts of the contained tokens. */
+    private String[] texts;
+    /** The assigned detail categories, as one-based indices in the {@link #categoryTable} ({@code 0} meaning no assigned detail category). */
+    private short[] detailIndices;
+    /**
+     * The distinct detail categories assigned to any token in this paragraph. This array is never modified but replaced when a category is added,
+     * allowing it to be shared between copies.
+     */
+    private DetailCategory[] categoryTable = new DetailCategory[0];
+    /** Two bits per token: the first one if it is the first token of a detail section, the second one if it is the last token of one. */
+    private long[] boundaryFlags;
+    /** The lazily created token views, to ensure a stable identity of each token. */
+    private transient TextToken[] tokens;
+    /** The lazily created index of the contiguous token ranges per detail category, being updated on each detail change from then on. */
+    private transient DetailRangeIndex detailRanges;
+
+    /**
+     * Constructor: for an empty paragraph, that is being filled via {@link #addToken(String, DetailCategory)}.
+     *
+     * @param initialCapacity
+     *            the expected number of tokens
+     */
+    public TokenParagraph(final int initialCapacity) {
+        final int capacity = Math.max(1, initialCapacity);
+        this.texts = new String[capacity];
+        this.detailIndices = new short[capacity];
+        this.boundaryFlags = new long[TokenParagraph.getFlagWordCount(capacity)];
+    }
+
+    /**
+     * Constructor: for a paragraph with the given tokens, without any assigned detail categories.
+     *
+     * @param tokenTexts
+     *            the texts of the tokens to contain (must not be empty)
+     */
+    public TokenParagraph(final List<String> tokenTexts) {
+        this(tokenTexts.size());
+        for (final String singleText : tokenTexts) {
+            this.addToken(singleText, null);
+        }
+        this.setFirstTokenOfDetail(0, true);
+        this.setLastTokenOfDetail(this.size - 1, true);
+    }
+
+    /**
+     * Constructor: for an independent copy of the given paragraph's tokens – starting at the specified position. All arrays are copied in bulk,
+     * without creating any objects per token.
+     *
+     * @param original
+     *            the paragraph to copy
+     * @param fromIndex
+     *            the position of the first token to copy
+     */
+    private TokenParagraph(final TokenParagraph original, final int fromIndex) {
+        this.size = original.size - fromIndex;
+        this.texts = Arrays.copyOfRange(original.texts, fromIndex, original.size);
+        this.detailIndices = Arrays.copyOfRange(original.detailIndices, fromIndex, original.size);
+        this.categoryTable = original.categoryTable;
+        this.boundaryFlags = TokenParagraph.copyBits(original.boundaryFlags, fromIndex * TokenParagraph.BITS_PER_TOKEN,
+                this.size * TokenParagraph.BITS_PER_TOKEN);
+    }
+
+    /**
+     * Determine the number of {@code long} values required to store the flags of the given number of tokens.
+     *
+     * @param tokenCount
+     *            number of tokens
+     * @return required length of the {@link #boundaryFlags}
+     */
+    private static int getFlagWordCount(final int tokenCount) {
+        return (tokenCount + TokenParagraph.TOKENS_PER_FLAG_WORD - 1) / TokenParagraph.TOKENS_PER_FLAG_WORD;
+    }
+
+    /**
+     * Copy the specified range of bits into a new bit set, starting at its beginning.
+     *
+     * @param source
+     *            the bit set to copy from
+     * @param fromBit
+     *            index of the first bit to copy
+     * @param bitCount
+     *            number of bits to copy
+     * @return the copied bits
+     */
+    private static long[] copyBits(final long[] source, final int fromBit, final int bitCount) {
+        final int wordOffset = fromBit >>> 6;
+        final int bitOffset = fromBit & 63;
+        final long[] target;
+        if (bitOffset == 0) {
+            target = Arrays.copyOfRange(source, wordOffset, wordOffset + (bitCount + 63 >>> 6));
+        } else {
+            target = new long[bitCount + 63 >>> 6];
+            for (int targetIndex = 0; targetIndex < target.length; targetIndex++) {
+                final int sourceIndex = wordOffset + targetIndex;
+                long word = source[sourceIndex] >>> bitOffset;
+                if (sourceIndex + 1 < source.length) {
+                    word |= source[sourceIndex + 1] << Long.SIZE - bitOffset;
+                }
+                target[targetIndex] = word;
+            }
+        }
+        final int usedBitsInLastWord = bitCount & 63;
+        if (usedBitsInLastWord != 0) {
+            // clear any bits beyond the copied range
+            target[target.length - 1] &= (1L << usedBitsInLastWord) - 1;
+        }
+        return target;
+    }
+
+    /**
+     * Append a single token to the end of this paragraph. This should only be used while constructing a paragraph, i.e. before it is being added
+     * to an {@link Interview}.
+     *
+     * @param text
+     *            the token's text
+     * @param detail
+     *            the assigned detail category (can be {@code null})
+     * @return position of the added token
+     */
+    public int addToken(final String text, final DetailCategory detail) {
+        if (this.size == this.texts.length) {
+            this.ensureCapacity(this.size + (this.size >> 1) + 1);
+        }
+        final int index = this.size;
+        this.size++;
+        this.texts[index] = text.intern();
+        this.setDetail(index, detail);
+        return index;
+    }
+
+    /**
+     * Ensure the internal arrays can hold at least the given number of tokens.
+     *
+     * @param capacity
+     *            the minimum number of tokens to be able to store
+     */
+    private void ensureCapacity(final int capacity) {
+        this.texts = Arrays.copyOf(this.texts, capacity);
+        this.detailIndices = Arrays.copyOf(this.detailIndices, capacity);
+        this.boundaryFlags = Arrays.copyOf(this.boundaryFlags, TokenParagraph.getFlagWordCount(capacity));
+        if (this.tokens != null) {
+            this.tokens = Arrays.copyOf(this.tokens, capacity);
+        }
+    }
+
+    /**
+     * Release any unused capacity, after the paragraph has been filled via {@link #addToken(String, DetailCategory)}.
+     *
+     * @return self reference
+     */
+    public TokenParagraph trimToSize() {
+        if (this.size < this.texts.length) {
+            this.ensureCapacity(this.size);
+        }
+        return this;
+    }
+
+    /**
+     * Getter for the number of tokens in this paragraph.
+     *
+     * @return number of tokens
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter for the view on the token at the given position.
+     *
+     * @param index
+     *            position of the token to retrieve
+     * @return token view (always the same instance for the same position)
+     */
+    public TextToken getToken(final int index) {
+        Objects.checkIndex(index, this.size);
+        if (this.tokens == null) {
+            this.tokens = new TextToken[this.texts.length];
+        }
+        TextToken token = this.tokens[index];
+        if (token == null) {
+            token = new TextToken(this, index);
+            this.tokens[index] = token;
+        }
+        return token;
+    }
+
+    /**
+     * Register the given token view for the given position, e.g. after it has been moved here from another paragraph.
+     *
+     * @param index
+     *            position of the token
+     * @param token
+     *            token view to register (and to point to this paragraph)
+     */
+    void attachToken(final int index, final TextToken token) {
+        if (this.tokens == null) {
+            this.tokens = new TextToken[this.texts.length];
+        }
+        this.tokens[index] = token;
+        token.moveTo(this, index);
+    }
+
+    /**
+     * Move all tokens of the given other paragraph to the end of this one – including their existing views. The other paragraph is empty
+     * afterwards. This only serves the (deprecated) linking of individual {@link TextToken}s.
+     *
+     * @param other
+     *            the paragraph whose tokens to append
+     * @see TextToken#setFollowingToken(TextToken)
+     */
+    void append(final TokenParagraph other) {
+        final int offset = this.size;
+        for (int index = 0; index < other.size; index++) {
+            this.addToken(other.texts[index], other.getDetail(index));
+            this.setFlag(offset + index, 0, other.getFlag(index, 0));
+            this.setFlag(offset + index, 1, other.getFlag(index, 1));
+            if (other.tokens != null && other.tokens[index] != null) {
+                this.attachToken(offset + index, other.tokens[index]);
+            }
+        }
+        other.truncate(0);
+    }
+
+    /**
+     * Move the tokens from the given position onwards into a new paragraph – including their existing views. This only serves the (deprecated)
+     * linking of individual {@link TextToken}s.
+     *
+     * @param fromIndex
+     *            position of the first token to move
+     * @see TextToken#setFollowingToken(TextToken)
+     * @see TextToken#setPreviousToken(TextToken)
+     */
+    void splitFrom(final int fromIndex) {
+        final TokenParagraph tail = this.copyFrom(fromIndex);
+        for (int index = fromIndex; this.tokens != null && index < this.size; index++) {
+            if (this.tokens[index] != null) {
+                tail.attachToken(index - fromIndex, this.tokens[index]);
+            }
+        }
+        this.truncate(fromIndex);
+    }
+
+    /**
+     * Discard all tokens from the given position onwards, without touching their views.
+     *
+     * @param newSize
+     *            the number of tokens to keep
+     */
+    private void truncate(final int newSize) {
+        for (int index = newSize; index < this.size; index++) {
+            this.texts[index] = null;
+            this.detailIndices[index] = 0;
+            this.setFlag(index, 0, false);
+            this.setFlag(index, 1, false);
+            if (this.tokens != null) {
+                this.tokens[index] = null;
+            }
+        }
+        this.size = newSize;
+        // the index is being re-created when it is needed the next time
+        this.detailRanges = null;
+    }
+
+    /**
+     * Getter for the view on the first token in this paragraph.
+     *
+     * @return first token view
+     */
+    public TextToken getFirstToken() {
+        return this.getToken(0);
+    }
+
+    /**
+     * Getter for the text of the token at the given position.
+     *
+     * @param index
+     *            position of the targeted token
+     * @return the token's text
+     */
+    public String getText(final int index) {
+        Objects.checkIndex(index, this.size);
+        return this.texts[index];
+    }
+
+    /**
+     * Getter for the detail category assigned to the token at the given position.
+     *
+     * @param index
+     *            position of the targeted token
+     * @return the assigned detail (can be {@code null})
+     */
+    public DetailCategory getDetail(final int index) {
+        Objects.checkIndex(index, this.size);
+        final int tableIndex = this.detailIndices[index];
+        return tableIndex == 0 ? null : this.categoryTable[tableIndex - 1];
+    }
+
+    /**
+     * Setter for the detail category assigned to the token at the given position.
+     *
+     * @param index
+     *            position of the targeted token
+     * @param detail
+     *            the detail to assign (can be {@code null})
+     * @return self reference
+     */
+    public TokenParagraph setDetail(final int index, final DetailCategory detail) {
+        Objects.checkIndex(index, this.size);
+        final short tableIndex = this.getTableIndex(detail);
+        if (this.detailRanges == null || this.detailIndices[index] == tableIndex) {
+            this.detailIndices[index] = tableIndex;
+        } else {
+            this.detailRanges.unregisterAround(index);
+            this.detailIndices[index] = tableIndex;
+            this.detailRanges.registerAround(index);
+        }
+        return this;
+    }
+
+    /**
+     * Find the first token of the next contiguous token range with the given detail category, e.g. to skip any sections nested in a section of that
+     * detail category. The respective index is being created on the first call and kept up-to-date from then on, i.e. subsequent calls only cost
+     * {@code O(log n)}.
+     *
+     * @param detail
+     *            the detail category to look for
+     * @param fromIndex
+     *            position of the first token to consider
+     * @return position of the first token of the next range with the given detail category (that starts at or after {@code fromIndex}), or
+     *         {@code -1} if there is none
+     */
+    public int findDetailRangeStart(final DetailCategory detail, final int fromIndex) {
+        return this.getDetailRanges().findRangeStart(detail, fromIndex);
+    }
+
+    /**
+     * Find the last token of the previous contiguous token range with the given detail category, e.g. to skip any sections nested in a section of
+     * that detail category. The respective index is being created on the first call and kept up-to-date from then on, i.e. subsequent calls only
+     * cost {@code O(log n)}.
+     *
+     * @param detail
+     *            the detail category to look for
+     * @param fromIndex
+     *            position of the last token to consider
+     * @return position of the last token of the previous range with the given detail category (that ends at or before {@code fromIndex}), or
+     *         {@code -1} if there is none
+     */
+    public int findDetailRangeEnd(final DetailCategory detail, final int fromIndex) {
+        return this.getDetailRanges().findRangeEnd(detail, fromIndex);
+    }
+
+    /**
+     * Getter for the index of the contiguous token ranges per detail category – creating it if necessary.
+     *
+     * @return the index
+     */
+    private DetailRangeIndex getDetailRanges() {
+        if (this.detailRanges == null) {
+            this.detailRanges = new DetailRangeIndex(this);
+        }
+        return this.detailRanges;
+    }
+
+    /**
+     * Determine the one-based index of the given detail category in the {@link #categoryTable} – adding it if it is not yet contained.
+     *
+     * @param detail
+     *            the detail category to look-up (can be {@code null})
+     * @return index to store in the {@link #detailIndices}
+     */
+    private short getTableIndex(final DetailCategory detail) {
+        if (detail == null) {
+            return 0;
+        }
+        for (int tableIndex = 0; tableIndex < this.categoryTable.length; tableIndex++) {
+            if (this.categoryTable[tableIndex] == detail) {
+                return (short) (tableIndex + 1);
+            }
+        }
+        if (this.categoryTable.length == Short.MAX_VALUE) {
+            throw new IllegalStateException("too many different detail categories in a single paragraph");
+        }
+        this.categoryTable = Arrays.copyOf(this.categoryTable, this.categoryTable.length + 1);
+        this.categoryTable[this.categoryTable.length - 1] = detail;
+        return (short) this.categoryTable.length;
+    }
+
+    /**
+     * Getter for the flag indicating if the token at the given position is the first of the section marked with its assigned detail category.
+     *
+     * @param index
+     *            position of the targeted token
+     * @return if the token is the first element in the token section with the assigned detail
+     */
+    public boolean isFirstTokenOfDetail(final int index) {
+        Objects.checkIndex(index, this.size);
+        return this.getFlag(index, 0);
+    }
+
+    /**
+     * Setter for the flag indicating if the token at the given position is the first of the section marked with its assigned detail category.
+     *
+     * @param index
+     *            position of the targeted token
+     * @param value
+     *            if the token is the first element in the token section with the assigned detail
+     * @return self reference
+     */
+    public TokenParagraph setFirstTokenOfDetail(final int index, final boolean value) {
+        Objects.checkIndex(index, this.size);
+        this.setFlag(index, 0, value);
+        return this;
+    }
+
+    /**
+     * Getter for the flag indicating if the token at the given position is the last of the section marked with its assigned detail category.
+     *
+     * @param index
+     *            position of the targeted token
+     * @return if the token is the last element in the token section with the assigned detail
+     */
+    public boolean isLastTokenOfDetail(final int index) {
+        Objects.checkIndex(index, this.size);
+        return this.getFlag(index, 1);
+    }
+
+    /**
+     * Setter for the flag indicating if the token at the given position is the last of the section marked with its assigned detail category.
+     *
+     * @param index
+     *            position of the targeted token
+     * @param value
+     *            if the token is the last element in the token section with the assigned detail
+     * @return self reference
+     */
+    public TokenParagraph setLastTokenOfDetail(final int index, final boolean value) {
+        Objects.checkIndex(index, this.size);
+        this.setFlag(index, 1, value);
+        return this;
+    }
+
+    /**
+     * Read a single bit from the {@link #boundaryFlags}.
+     *
+     * @param index
+     *            position of the targeted token
+     * @param offset
+     *            {@code 0} for the first-token flag, {@code 1} for the last-token flag
+     * @return the flag's value
+     */
+    private boolean getFlag(final int index, final int offset) {
+        final int bitIndex = index * TokenParagraph.BITS_PER_TOKEN + offset;
+        return (this.boundaryFlags[bitIndex >>> 6] & 1L << bitIndex) != 0;
+    }
+
+    /**
+     * Write a single bit in the {@link #boundaryFlags}.
+     *
+     * @param index
+     *            position of the targeted token
+     * @param offset
+     *            {@code 0} for the first-token flag, {@code 1} for the last-token flag
+     * @param value
+     *            the flag's value to set
+     */
+    private void setFlag(final int index, final int offset, final boolean value) {
+        final int bitIndex = index * TokenParagraph.BITS_PER_TOKEN + offset;
+        if (value) {
+            this.boundaryFlags[bitIndex >>> 6] |= 1L << bitIndex;
+        } else {
+            this.boundaryFlags[bitIndex >>> 6] &= ~(1L << bitIndex);
+        }
+    }
+
+    /**
+     * Create an independent copy of the tokens in this paragraph – starting at the specified position.
+     *
+     * @param fromIndex
+     *            position of the first token to copy
+     * @return created paragraph copy
+     */
+    public TokenParagraph copyFrom(final int fromIndex) {
+        Objects.checkIndex(fromIndex, this.size);
+        return new TokenParagraph(this, fromIndex);
+    }
+
+    @Override
+    public TokenParagraph clone() {
+        return new TokenParagraph(this, 0);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.size;
+        for (int index = 0; index < this.size; index++) {
+            hash = 31 * hash + this.texts[index].hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object otherObject) {
+        if (this == otherObject) {
+            return true;
+        }
+        if (!(otherObject instanceof TokenParagraph)) {
+            return false;
+        }
+        final TokenParagraph otherParagraph = (TokenParagraph) otherObject;
+        if (this.size != otherParagraph.size) {
+            return false;
+        }
+        for (int index = 0; index < this.size; index++) {
+            // check token text and detail category assignment
+            final DetailCategory oneDetail = this.getDetail(index);
+            final DetailCategory otherDetail = otherParagraph.getDetail(index);
+            if (!this.texts[index].equals(otherParagraph.texts[index])
+                    || this.getFlag(index, 0) != otherParagraph.getFlag(index, 0)
+                    || this.getFlag(index, 1) != otherParagraph.getFlag(index, 1)
+                    || oneDetail != otherDetail
+                    && (oneDetail == null || otherDetail == null || !oneDetail.getCode().equals(otherDetail.getCode()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < this.size; index++) {
+            if (index > 0) {
+                builder.append(' ');
+            }
+            builder.append(this.texts[index]);
+        }
+        return builder.toString();
+    }
+}
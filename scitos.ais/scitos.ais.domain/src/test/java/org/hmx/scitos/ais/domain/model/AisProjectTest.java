@@ -1,6 +1,7 @@
 package org.hmx.scitos.ais.domain.model;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +36,47 @@ public class AisProjectTest {
         Assert.assertEquals(Arrays.asList(modelC), actual.get("c"));
     }
 
+    /** Test: for getInterviews and getInterview methods (looking up interviews by participant id and index). */
+    @Test
+    public void testGetInterviewByParticipant() {
+        final AisProject project = new AisProject("", Arrays.asList(new DetailCategory(null, "x", "", true, null, null)));
+        final Interview modelA1 = new Interview("a", 1);
+        final Interview modelA2 = new Interview("a", 2);
+        final Interview modelB = new Interview("b", 3);
+        project.setInterviews(Arrays.asList(modelB, modelA2, modelA1));
+        Assert.assertEquals(Arrays.asList(modelA1, modelA2), project.getInterviews("a"));
+        Assert.assertEquals(Collections.emptyList(), project.getInterviews("c"));
+        Assert.assertSame(modelA2, project.getInterview("a", 2));
+        Assert.assertSame(modelB, project.getInterview("b", 3));
+        Assert.assertNull(project.getInterview("b", 1));
+        Assert.assertNull(project.getInterview("c", 1));
+    }
+
+    /** Test: for getSubModelObjects method, after changing the participant id and index of contained interviews. */
+    @Test
+    public void testGetSubModelObjectsAfterChange() {
+        final AisProject project = new AisProject("", Arrays.asList(new DetailCategory(null, "x", "", true, null, null)));
+        final Interview modelA1 = new Interview("a", 1);
+        final Interview modelA2 = new Interview("a", 2);
+        final Interview modelB = new Interview("b", 1);
+        project.setInterviews(Arrays.asList(modelA1, modelA2, modelB));
+        final Map<String, List<Interview>> before = project.getSubModelObjects();
+        Assert.assertSame(before, project.getSubModelObjects());
+        modelA1.setParticipantId("b").setIndex(2);
+        modelA2.setIndex(1);
+        final Map<String, List<Interview>> actual = project.getSubModelObjects();
+        Assert.assertEquals(Arrays.asList(modelA2), actual.get("a"));
+        Assert.assertEquals(Arrays.asList(modelB, modelA1), actual.get("b"));
+        Assert.assertSame(modelA1, project.getInterview("b", 2));
+        // the previously returned index is not affected
+        Assert.assertEquals(Arrays.asList(modelA1, modelA2), before.get("a"));
+        // interviews that have been removed from the project no longer affect it
+        project.setInterviews(Arrays.asList(modelA2));
+        final Map<String, List<Interview>> afterRemoval = project.getSubModelObjects();
+        modelB.setParticipantId("a");
+        Assert.assertSame(afterRemoval, project.getSubModelObjects());
+    }
+
     /** Test: for provide method (flat model). */
     @Test
     public void testProvide_1() {
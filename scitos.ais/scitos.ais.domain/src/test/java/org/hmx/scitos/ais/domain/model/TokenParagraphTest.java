@@ -0,0 +1,342 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.ais.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the {@link TokenParagraph} class and the {@link TextToken} views on it.
+ */
+public class TokenParagraphTest {
+
+    /** Test: for constructor with token texts – initial detail section boundaries. */
+    @Test
+    public void testConstructor() {
+        final TokenParagraph paragraph = new TokenParagraph(Arrays.asList("a", "b", "c"));
+        Assert.assertEquals(3, paragraph.size());
+        Assert.assertEquals("b", paragraph.getText(1));
+        Assert.assertTrue(paragraph.isFirstTokenOfDetail(0));
+        Assert.assertFalse(paragraph.isLastTokenOfDetail(0));
+        Assert.assertFalse(paragraph.isFirstTokenOfDetail(1));
+        Assert.assertFalse(paragraph.isLastTokenOfDetail(1));
+        Assert.assertFalse(paragraph.isFirstTokenOfDetail(2));
+        Assert.assertTrue(paragraph.isLastTokenOfDetail(2));
+        for (int index = 0; index < paragraph.size(); index++) {
+            Assert.assertNull(paragraph.getDetail(index));
+        }
+    }
+
+    /** Test: for addToken method – exceeding the initial capacity and interning the token texts. */
+    @Test
+    public void testAddToken() {
+        final TokenParagraph paragraph = new TokenParagraph(1);
+        final DetailCategory category = new DetailCategory(null, "x", "", true, null, null);
+        for (int index = 0; index < 100; index++) {
+            Assert.assertEquals(index, paragraph.addToken(new String(new char[] { 'w', (char) ('0' + index % 10) }), index % 2 == 0 ? category
+                    : null));
+        }
+        paragraph.trimToSize();
+        Assert.assertEquals(100, paragraph.size());
+        Assert.assertSame(paragraph.getText(3), paragraph.getText(13));
+        Assert.assertSame(category, paragraph.getDetail(98));
+        Assert.assertNull(paragraph.getDetail(99));
+    }
+
+    /** Test: for setDetail method – multiple categories and removing an assignment. */
+    @Test
+    public void testSetDetail() {
+        final DetailCategory categoryA = new DetailCategory(null, "a", "", true, null, null);
+        final DetailCategory categoryB = new DetailCategory(null, "b", "", true, null, null);
+        final TokenParagraph paragraph = new TokenParagraph(Arrays.asList("1", "2", "3"));
+        paragraph.setDetail(0, categoryA).setDetail(1, categoryB).setDetail(2, categoryA);
+        Assert.assertSame(categoryA, paragraph.getDetail(0));
+        Assert.assertSame(categoryB, paragraph.getDetail(1));
+        Assert.assertSame(categoryA, paragraph.getDetail(2));
+        paragraph.setDetail(1, null);
+        Assert.assertNull(paragraph.getDetail(1));
+        Assert.assertSame(categoryA, paragraph.getDetail(2));
+    }
+
+    /** Test: for the first/last flags – not interfering with each other across multiple words of the bit set. */
+    @Test
+    public void testBoundaryFlags() {
+        final List<String> texts = new ArrayList<>();
+        for (int index = 0; index < 70; index++) {
+            texts.add(String.valueOf(index));
+        }
+        final TokenParagraph paragraph = new TokenParagraph(texts);
+        paragraph.setFirstTokenOfDetail(32, true).setLastTokenOfDetail(31, true).setLastTokenOfDetail(64, true);
+        for (int index = 0; index < 70; index++) {
+            Assert.assertEquals(String.valueOf(index), index == 0 || index == 32, paragraph.isFirstTokenOfDetail(index));
+            Assert.assertEquals(String.valueOf(index), index == 31 || index == 64 || index == 69, paragraph.isLastTokenOfDetail(index));
+        }
+        paragraph.setLastTokenOfDetail(64, false);
+        Assert.assertFalse(paragraph.isLastTokenOfDetail(64));
+        Assert.assertFalse(paragraph.isFirstTokenOfDetail(64));
+    }
+
+    /**
+     * Test: for findDetailRangeStart/findDetailRangeEnd methods – the index being kept up-to-date on random detail changes, appended tokens and
+     * split paragraphs, as compared to scanning all tokens.
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testFindDetailRange() {
+        final List<DetailCategory> categories = Arrays.asList(new DetailCategory(null, "a", "", true, null, null),
+                new DetailCategory(null, "b", "", true, null, null), null);
+        for (long seed = 0; seed < 50; seed++) {
+            final Random random = new Random(seed);
+            final TokenParagraph paragraph = new TokenParagraph(Collections.nCopies(40, "t"));
+            for (int step = 0; step < 200; step++) {
+                final String location = "seed " + seed + ", step " + step;
+                if (step == 100) {
+                    // the index is being dropped and re-created for the remaining tokens
+                    paragraph.getToken(19).setFollowingToken(null);
+                } else if (step % 20 == 0) {
+                    paragraph.addToken("t", categories.get(random.nextInt(categories.size())));
+                } else {
+                    paragraph.setDetail(random.nextInt(paragraph.size()), categories.get(random.nextInt(categories.size())));
+                }
+                for (final DetailCategory singleCategory : categories.subList(0, 2)) {
+                    for (int index = 0; index < paragraph.size(); index++) {
+                        Assert.assertEquals(location, TokenParagraphTest.scanForRangeStart(paragraph, singleCategory, index),
+                                paragraph.findDetailRangeStart(singleCategory, index));
+                        Assert.assertEquals(location, TokenParagraphTest.scanForRangeEnd(paragraph, singleCategory, index),
+                                paragraph.findDetailRangeEnd(singleCategory, index));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the first token of the next contiguous range with the given detail category by checking each token from the given position onwards.
+     *
+     * @param paragraph
+     *            the paragraph to scan
+     * @param detail
+     *            the detail category to look for
+     * @param fromIndex
+     *            position of the first token to check
+     * @return position of the first token of the next range, or {@code -1} if there is none
+     */
+    private static int scanForRangeStart(final TokenParagraph paragraph, final DetailCategory detail, final int fromIndex) {
+        for (int index = fromIndex; index < paragraph.size(); index++) {
+            if (detail.equals(paragraph.getDetail(index)) && (index == 0 || !detail.equals(paragraph.getDetail(index - 1)))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the last token of the previous contiguous range with the given detail category by checking each token from the given position backwards.
+     *
+     * @param paragraph
+     *            the paragraph to scan
+     * @param detail
+     *            the detail category to look for
+     * @param fromIndex
+     *            position of the last token to check
+     * @return position of the last token of the previous range, or {@code -1} if there is none
+     */
+    private static int scanForRangeEnd(final TokenParagraph paragraph, final DetailCategory detail, final int fromIndex) {
+        for (int index = fromIndex; index >= 0; index--) {
+            if (detail.equals(paragraph.getDetail(index)) && (index == paragraph.size() - 1 || !detail.equals(paragraph.getDetail(index + 1)))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /** Test: for the {@link TextToken} views – stable identity, navigation and write-through. */
+    @Test
+    public void testTokenViews() {
+        final TokenParagraph paragraph = new TokenParagraph(Arrays.asList("a", "b", "c"));
+        final TextToken first = paragraph.getFirstToken();
+        Assert.assertSame(first, paragraph.getToken(0));
+        Assert.assertNull(first.getPreviousToken());
+        final TextToken second = first.getFollowingToken();
+        Assert.assertSame(paragraph.getToken(1), second);
+        Assert.assertSame(first, second.getPreviousToken());
+        Assert.assertNull(second.getFollowingToken().getFollowingToken());
+        final DetailCategory category = new DetailCategory(null, "x", "", true, null, null);
+        second.setDetail(category).setFirstTokenOfDetail(true).setLastTokenOfDetail(true);
+        Assert.assertSame(category, paragraph.getDetail(1));
+        Assert.assertTrue(paragraph.isFirstTokenOfDetail(1));
+        Assert.assertTrue(paragraph.isLastTokenOfDetail(1));
+    }
+
+    /** Test: for copyFrom and clone methods – creating independent copies. */
+    @Test
+    public void testCopy() {
+        final DetailCategory category = new DetailCategory(null, "x", "", true, null, null);
+        final TokenParagraph paragraph = new TokenParagraph(Arrays.asList("a", "b", "c"));
+        paragraph.setDetail(1, category).setFirstTokenOfDetail(1, true).setLastTokenOfDetail(1, true);
+        final TokenParagraph clone = paragraph.clone();
+        Assert.assertEquals(paragraph, clone);
+        Assert.assertNotSame(paragraph.getFirstToken(), clone.getFirstToken());
+        clone.setDetail(1, null);
+        Assert.assertSame(category, paragraph.getDetail(1));
+        Assert.assertNotEquals(paragraph, clone);
+        final TokenParagraph tail = paragraph.getToken(1).clone().getParagraph();
+        Assert.assertEquals(2, tail.size());
+        Assert.assertSame(category, tail.getDetail(0));
+        Assert.assertTrue(tail.isFirstTokenOfDetail(0));
+        Assert.assertTrue(tail.isLastTokenOfDetail(0));
+        Assert.assertEquals("c", tail.getText(1));
+    }
+
+    /** Test: for copyFrom method – copying the boundary flags from positions that are not aligned with the underlying bit set's words. */
+    @Test
+    public void testCopyFrom_unaligned() {
+        final List<String> texts = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            texts.add(String.valueOf(index));
+        }
+        final TokenParagraph paragraph = new TokenParagraph(texts);
+        for (int index = 0; index < 200; index += 7) {
+            paragraph.setFirstTokenOfDetail(index, true);
+            paragraph.setLastTokenOfDetail(Math.min(index + 3, 199), true);
+        }
+        for (final int fromIndex : new int[] { 1, 31, 32, 33, 63, 100, 199 }) {
+            final TokenParagraph copy = paragraph.copyFrom(fromIndex);
+            Assert.assertEquals(200 - fromIndex, copy.size());
+            for (int index = 0; index < copy.size(); index++) {
+                Assert.assertEquals(paragraph.getText(fromIndex + index), copy.getText(index));
+                Assert.assertEquals(paragraph.isFirstTokenOfDetail(fromIndex + index), copy.isFirstTokenOfDetail(index));
+                Assert.assertEquals(paragraph.isLastTokenOfDetail(fromIndex + index), copy.isLastTokenOfDetail(index));
+            }
+        }
+    }
+
+    /** Stress test: cloning paragraphs with 100,000 tokens – directly, via the first token, and via the containing interview. */
+    @Test
+    public void testClone_longParagraph() {
+        final int tokenCount = 100_000;
+        final List<String> texts = new ArrayList<>(tokenCount);
+        for (int index = 0; index < tokenCount; index++) {
+            texts.add("word" + index % 500);
+        }
+        final TokenParagraph paragraph = new TokenParagraph(texts);
+        final DetailCategory categoryA = new DetailCategory(null, "a", "", true, null, null);
+        final DetailCategory categoryB = new DetailCategory(null, "b", "", true, null, null);
+        for (int index = 0; index < tokenCount; index += 10) {
+            paragraph.setDetail(index, index % 20 == 0 ? categoryA : categoryB).setFirstTokenOfDetail(index, true).setLastTokenOfDetail(index, true);
+        }
+        Assert.assertEquals(paragraph, paragraph.clone());
+        Assert.assertEquals(paragraph, paragraph.getFirstToken().clone().getParagraph());
+        final Interview interview = new Interview("a", 1).setParagraphs(Arrays.asList(paragraph, paragraph.copyFrom(tokenCount / 2)));
+        final Interview clone = interview.clone();
+        Assert.assertEquals(interview, clone);
+        Assert.assertNotSame(paragraph, clone.getParagraphs().get(0));
+        Assert.assertEquals(tokenCount / 2, clone.getParagraphs().get(1).size());
+    }
+
+    /** Test: for the deprecated linking of individual tokens – resulting in a single paragraph, while keeping the token instances. */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLinkTokens() {
+        final DetailCategory category = new DetailCategory(null, "x", "", true, null, null);
+        final TextToken first = new TextToken("a");
+        final TextToken second = new TextToken("b").setDetail(category).setFirstTokenOfDetail(true);
+        final TextToken third = new TextToken("c").setDetail(category).setLastTokenOfDetail(true);
+        first.setFollowingToken(second);
+        second.setPreviousToken(first);
+        second.setFollowingToken(third);
+        third.setPreviousToken(second);
+        final TokenParagraph paragraph = first.getParagraph();
+        Assert.assertEquals(3, paragraph.size());
+        Assert.assertSame(paragraph, third.getParagraph());
+        Assert.assertSame(second, paragraph.getToken(1));
+        Assert.assertSame(third, second.getFollowingToken());
+        Assert.assertSame(first, second.getPreviousToken());
+        Assert.assertEquals(2, third.getPosition());
+        Assert.assertSame(category, paragraph.getDetail(1));
+        Assert.assertTrue(paragraph.isFirstTokenOfDetail(1));
+        Assert.assertTrue(paragraph.isLastTokenOfDetail(2));
+        Assert.assertFalse(paragraph.isLastTokenOfDetail(1));
+        // splitting off the last token again
+        second.setFollowingToken(null);
+        Assert.assertEquals(2, paragraph.size());
+        Assert.assertNull(second.getFollowingToken());
+        Assert.assertNull(third.getPreviousToken());
+        Assert.assertEquals(0, third.getPosition());
+        Assert.assertTrue(third.isLastTokenOfDetail());
+        // linking the tokens in a different order
+        third.setFollowingToken(first);
+        Assert.assertEquals("c a b", third.getParagraph().toString());
+        Assert.assertSame(third.getParagraph(), second.getParagraph());
+        try {
+            second.setFollowingToken(third);
+            Assert.fail("cycle was not rejected");
+        } catch (final IllegalArgumentException expected) {
+            // linking the last token to the first one of the same paragraph is not possible
+        }
+    }
+
+    /**
+     * Test: for the lazy loading of an interview's paragraphs – calling the loader only once, even if multiple threads access them at once.
+     *
+     * @throws InterruptedException
+     *             interrupted while waiting for the accessing threads
+     */
+    @Test
+    public void testParagraphLoader_concurrent() throws InterruptedException {
+        final AtomicInteger loaderCalls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Interview interview = new Interview("a", 1).setParagraphLoader(() -> {
+            loaderCalls.incrementAndGet();
+            return Arrays.asList(new TokenParagraph(Arrays.asList("a", "b")), new TokenParagraph(Arrays.asList("c")));
+        });
+        final List<Thread> threads = new ArrayList<>();
+        final List<List<TokenParagraph>> results = Collections.synchronizedList(new ArrayList<>());
+        for (int index = 0; index < 8; index++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    results.add(interview.getParagraphs());
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (final Thread singleThread : threads) {
+            singleThread.join();
+        }
+        Assert.assertEquals(1, loaderCalls.get());
+        Assert.assertEquals(8, results.size());
+        for (final List<TokenParagraph> singleResult : results) {
+            Assert.assertEquals(2, singleResult.size());
+        }
+    }
+}
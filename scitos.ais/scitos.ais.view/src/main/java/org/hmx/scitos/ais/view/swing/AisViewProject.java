@@ -24,10 +24,15 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import javax.swing.SwingUtilities;
 import org.hmx.scitos.ais.core.AisModelHandler;
+import org.hmx.scitos.ais.core.AutosaveJournal;
+import org.hmx.scitos.ais.core.InterviewAnalysisCache;
+import org.hmx.scitos.ais.core.ModelHandlerImpl;
 import org.hmx.scitos.ais.core.i18n.AisMessage;
 import org.hmx.scitos.ais.domain.model.AisProject;
 import org.hmx.scitos.ais.domain.model.Interview;
@@ -35,6 +40,7 @@ import org.hmx.scitos.ais.view.swing.components.SpreadsheetInterviewImportDialog
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.HmxException;
 import org.hmx.scitos.core.i18n.Message;
+import org.hmx.scitos.core.option.Option;
 import org.hmx.scitos.domain.IModel;
 import org.hmx.scitos.domain.ModelChangeListener;
 import org.hmx.scitos.domain.ModelEvent;
@@ -52,8 +58,16 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
     private final ScitosClient client;
     /** The dedicated model handler for the represented model project instance. */
     private final AisModelHandler modelHandler;
+    /** The cached analysis results of the represented project's interviews – being invalidated on model changes. */
+    private final InterviewAnalysisCache analysisCache;
+    /** The journal of unsaved changes, allowing them to be recovered after an unexpected termination. */
+    private final AutosaveJournal autosaveJournal;
     /** The flag indicating whether the current state contains no unsaved changes. */
     private boolean saved = true;
+    /** The number of model changes so far – to determine whether the project has been changed while it was being saved in the background. */
+    private int modelChangeCount = 0;
+    /** The number of save operations started so far – to ignore verification results of a saved file that has been replaced again since. */
+    private int saveCount = 0;
     /** The path this project has been loaded from and/or last saved to. It is used as the default path for the next requested save operation. */
     private File savePath;
     /** The elements displayed in open tabs when this view project was last loaded/saved. */
@@ -72,7 +86,11 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
     public AisViewProject(final ScitosClient client, final AisModelHandler modelHandler, final File savePath) {
         this.client = client;
         this.modelHandler = modelHandler;
+        this.analysisCache = new InterviewAnalysisCache(modelHandler);
+        this.autosaveJournal = new AutosaveJournal(modelHandler, savePath);
         this.setSavePath(savePath);
+        modelHandler.addModelChangeListener(this.analysisCache);
+        modelHandler.addModelChangeListener(this.autosaveJournal);
         SwingUtilities.invokeLater(() -> modelHandler.addModelChangeListener(this));
     }
 
@@ -90,6 +108,24 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
         return this.modelHandler;
     }
 
+    /**
+     * Getter for the cached analysis results of the represented project's interviews.
+     *
+     * @return the associated analysis cache
+     */
+    public InterviewAnalysisCache getAnalysisCache() {
+        return this.analysisCache;
+    }
+
+    /**
+     * Mark this project as containing unsaved changes, that have been recovered from its autosave journal. The journal is being compacted right
+     * away, as the recovered state is the new starting point for any subsequent changes.
+     */
+    public void markAsRecovered() {
+        this.setSaved(false);
+        this.autosaveJournal.compact();
+    }
+
     @Override
     public AisProject getModelObject() {
         return this.getModelHandler().getModel();
@@ -100,9 +136,9 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
         String label;
         if (element instanceof Interview) {
             final Interview interview = (Interview) element;
-            final List<Interview> interviewList = this.getModelObject().getSubModelObjects().get(interview.getParticipantId());
+            final List<Interview> interviewList = this.getModelObject().getInterviews(interview.getParticipantId());
             label = interview.getParticipantId();
-            if (interviewList == null || interviewList.size() > 1) {
+            if (interviewList.size() != 1) {
                 // display only the participant id, if there is just one interview for this participant
                 label += " (" + interview.getIndex() + ")";
             }
@@ -119,11 +155,11 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
         final boolean valid;
         if (element instanceof Interview) {
             // check if this interview was not deleted
-            valid = this.getModelObject().getInterviews().contains(element);
+            final Interview interview = (Interview) element;
+            valid = interview.equals(this.getModelObject().getInterview(interview.getParticipantId(), interview.getIndex()));
         } else if (element instanceof String) {
             // check if the participant with the given id still has at least two interview assigned
-            final List<Interview> interviews = this.getModelObject().getSubModelObjects().get(element);
-            valid = interviews != null && interviews.size() > 1;
+            valid = this.getModelObject().getInterviews((String) element).size() > 1;
         } else {
             // check if the given element was actually this project
             valid = this == element || this.getModelObject() == element;
@@ -145,6 +181,7 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
             }
             this.client.getMainView().validateTabsForProject(this);
         }
+        this.modelChangeCount++;
         this.saved = false;
         SwingUtilities.invokeLater(this.client::revalidate);
     }
@@ -161,10 +198,34 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
         // reset remembered open tabs
         this.openTabElements.clear();
         if (tabElements != null) {
-            this.openTabElements.addAll(tabElements);
+            for (final Object singleElement : tabElements) {
+                final Object resolvedElement = this.resolveTabElement(singleElement);
+                if (resolvedElement != null) {
+                    this.openTabElements.add(resolvedElement);
+                }
+            }
         }
     }
 
+    /**
+     * Find the element in the represented project, that corresponds to the given tab element – which might refer to another instance of the same
+     * project, e.g. if its unsaved changes have been recovered after it has been loaded.
+     *
+     * @param tabElement
+     *            the tab element to resolve
+     * @return the corresponding element in the represented project ({@code null} if it does not exist)
+     */
+    private Object resolveTabElement(final Object tabElement) {
+        if (tabElement instanceof Interview) {
+            final Interview interview = (Interview) tabElement;
+            return this.getModelObject().getInterview(interview.getParticipantId(), interview.getIndex());
+        }
+        if (tabElement instanceof AisProject) {
+            return this.getModelObject();
+        }
+        return tabElement;
+    }
+
     @Override
     public boolean save() throws HmxException {
         final File defaultSaveTarget = this.savePath;
@@ -177,24 +238,95 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
 
     @Override
     public void saveAs(final File path) throws HmxException {
+        final int changeCount = this.modelChangeCount;
+        final int saveNumber = ++this.saveCount;
         this.client.getModelParseProvider().save(this.getModelObject(), this.getOpenTabElements(), path);
-        final Entry<? extends IModel<?>, List<?>> reloadedModel;
-        try {
-            reloadedModel = this.client.getModelParseProvider().open(path);
-        } catch (final HmxException validationException) {
-            // don't confuse the user by showing an exception about being unable to read a file, when it was just saved
-            throw new HmxException(Message.ERROR_SAVE_FAILED);
+        this.completeSaving(path, changeCount, saveNumber, this.verifySavedFile(path, this.autosaveJournal::takeSnapshot));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveInBackground(final File path, final LongConsumer progressListener) {
+        // write a snapshot, allowing the project to be changed further while the file is being written – only the interviews changed since the
+        // last snapshot are being cloned, the others are shared with it
+        final AisProject snapshot = this.autosaveJournal.takeSnapshot();
+        final int changeCount = this.modelChangeCount;
+        final int saveNumber = ++this.saveCount;
+        final CompletableFuture<Void> saving =
+                this.client.getModelParseProvider().saveInBackground(snapshot, new ArrayList<>(this.getOpenTabElements()), path, progressListener);
+        // request the verification right away, to be performed directly after the saving (before any subsequently requested save operation)
+        final CompletableFuture<String> verification = this.verifySavedFile(path, () -> snapshot);
+        return saving.thenRun(() -> SwingUtilities.invokeLater(() -> this.completeSaving(path, changeCount, saveNumber, verification)));
+    }
+
+    /**
+     * Remember the given path as default target for the next save operation and mark this project as saved – unless it has been changed since the
+     * saving started. If the user enabled the full verification, the project is marked as unsaved again if the saved file does not match.
+     *
+     * @param path
+     *            the saved file
+     * @param changeCount
+     *            the number of model changes when the saving started
+     * @param saveNumber
+     *            the number of save operations started so far, when this saving started
+     * @param verification
+     *            the pending verification of the saved file ({@code null} if the full verification is disabled)
+     */
+    private void completeSaving(final File path, final int changeCount, final int saveNumber, final CompletableFuture<String> verification) {
+        this.setSavePath(path);
+        final boolean upToDate = this.modelChangeCount == changeCount;
+        if (upToDate) {
+            this.setSaved(true);
         }
-        if (!(reloadedModel.getKey() instanceof AisProject)) {
-            throw new HmxException(Message.ERROR_SAVE_FAILED);
+        // the autosave journal is obsolete, unless the project has been changed further in the meantime
+        this.autosaveJournal.projectSaved(path, upToDate);
+        this.client.invokeRepresentationRefresh(this);
+        if (verification != null) {
+            verification.whenComplete((mismatch, parseError) -> {
+                if (mismatch != null || parseError != null) {
+                    final Throwable cause = parseError == null ? new IllegalStateException(mismatch) : parseError;
+                    SwingUtilities.invokeLater(() -> this.handleFailedVerification(saveNumber, new HmxException(Message.ERROR_SAVE_FAILED, cause)));
+                }
+            });
         }
-        final String validationError = this.modelHandler.validateEquality((AisProject) reloadedModel.getKey());
-        if (validationError != null) {
-            throw new HmxException(Message.ERROR_SAVE_FAILED, new IllegalStateException(validationError));
+    }
+
+    /**
+     * Parse the given (just saved) file again in the background and compare it with the saved state of the represented project – if the user
+     * enabled the full verification. This is performed after the pending save operations but before any subsequently requested one.
+     *
+     * @param path
+     *            the saved file to verify
+     * @param savedProject
+     *            provider of the saved state of the represented project (that should not be changed anymore)
+     * @return the pending verification, providing the detected mismatch ({@code null} if the full verification is disabled)
+     */
+    private CompletableFuture<String> verifySavedFile(final File path, final Supplier<AisProject> savedProject) {
+        if (!Boolean.parseBoolean(Option.SAVE_FULL_VERIFICATION.getValue())) {
+            return null;
+        }
+        final AisModelHandler savedState = new ModelHandlerImpl(savedProject.get());
+        return this.client.getModelParseProvider().verifyInBackground(path, reloadedModel -> {
+            if (!(reloadedModel instanceof AisProject)) {
+                return "unexpected model type";
+            }
+            return savedState.validateEquality((AisProject) reloadedModel);
+        });
+    }
+
+    /**
+     * Mark the project as unsaved and inform the user about the failed verification of a saved file – unless the project has been saved again in
+     * the meantime.
+     *
+     * @param saveNumber
+     *            the number of save operations started so far, when the verified saving started
+     * @param error
+     *            the error to show
+     */
+    private void handleFailedVerification(final int saveNumber, final HmxException error) {
+        if (saveNumber == this.saveCount) {
+            this.setSaved(false);
+            MessageHandler.showException(error);
         }
-        this.setSavePath(path);
-        this.setSaved(true);
-        this.client.invokeRepresentationRefresh(this);
     }
 
     @Override
@@ -275,6 +407,8 @@ public final class AisViewProject implements IViewProject<AisProject>, ModelChan
                 return false;
             }
         }
+        // any unsaved changes have either been saved or are being discarded intentionally
+        this.autosaveJournal.close();
         return true;
     }
 
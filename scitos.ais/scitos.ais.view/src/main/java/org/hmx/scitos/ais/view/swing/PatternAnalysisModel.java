@@ -20,31 +20,36 @@
 package org.hmx.scitos.ais.view.swing;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Comparator;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
+import org.hmx.scitos.ais.core.DetailPatternCounts;
+import org.hmx.scitos.ais.core.InterviewAnalysis;
+import org.hmx.scitos.ais.core.InterviewAnalysisExport;
 import org.hmx.scitos.ais.core.i18n.AisMessage;
 import org.hmx.scitos.ais.domain.model.DetailCategory;
 import org.hmx.scitos.ais.domain.model.Interview;
 import org.hmx.scitos.core.HmxException;
 import org.hmx.scitos.view.swing.MessageHandler;
-import org.jopendocument.dom.OOXML;
-import org.jopendocument.dom.XMLVersion;
-import org.jopendocument.dom.spreadsheet.SpreadSheet;
 
 /**
  * Summarizing result model for a single {@link AisViewProject view project} in the AIS module.
  */
 public final class PatternAnalysisModel {
 
+    /** Minimum number (inclusive) of consecutive detail categories to be displayed as pattern. */
+    private static final int MIN_PATTERN_LENGTH = 2;
+    /** Maximum number (inclusive) of consecutive detail categories to be displayed as pattern. */
+    private static final int MAX_PATTERN_LENGTH = 3;
+
     /** The associated view project, containing the interviews the displayed results are extracted from. */
     final AisViewProject project;
 
@@ -66,6 +71,7 @@ public final class PatternAnalysisModel {
         this.summaryTableModel = new SummaryTableModel();
         this.sequenceTableModel = new SequenceTableModel();
         this.patternTableModel = new PatternTableModel();
+        this.reload();
     }
 
     /**
@@ -97,10 +103,13 @@ public final class PatternAnalysisModel {
 
     /** Enforce recollection/recalculation of the table model values. */
     public void reload() {
-        // recollect the underlying values
-        this.summaryTableModel.refreshModel();
-        this.sequenceTableModel.refreshModel();
-        this.patternTableModel.refreshModel();
+        // recollect the underlying values, analyzing only the interviews that changed since the last reload
+        final List<Interview> interviews = this.project.getModelObject().getInterviews();
+        final Map<Interview, InterviewAnalysis> results = this.project.getAnalysisCache().getAnalyses(interviews,
+                PatternAnalysisModel.MIN_PATTERN_LENGTH, PatternAnalysisModel.MAX_PATTERN_LENGTH);
+        this.summaryTableModel.refreshModel(interviews, results);
+        this.sequenceTableModel.refreshModel(interviews, results);
+        this.patternTableModel.refreshModel(interviews, results);
     }
 
     /**
@@ -110,12 +119,14 @@ public final class PatternAnalysisModel {
      *            the selected file destination to save to
      */
     public void exportToSpreadSheet(final File target) {
-        final SpreadSheet document = SpreadSheet.createEmpty(this.summaryTableModel, OOXML.getLast(XMLVersion.OD).getFormatVersion());
-        document.getFirstSheet().setName(AisMessage.ANALYSIS_SUMMARY.get());
-        document.addSheet(AisMessage.ANALYSIS_SEQUENCE.get()).merge(this.sequenceTableModel, 0, 0, true);
-        document.addSheet(AisMessage.ANALYSIS_PATTERN.get()).merge(this.patternTableModel, 0, 0, true);
-        try {
-            document.saveAs(target);
+        final List<Interview> interviews = this.project.getModelObject().getInterviews();
+        final Map<Interview, InterviewAnalysis> results = this.project.getAnalysisCache().getAnalyses(interviews,
+                PatternAnalysisModel.MIN_PATTERN_LENGTH, PatternAnalysisModel.MAX_PATTERN_LENGTH);
+        try (OutputStream output = new FileOutputStream(target)) {
+            new InterviewAnalysisExport(this.project.getModelObject().provide(), interviews, results, this.project::getLabel)
+                    .writeSpreadSheet(output);
+        } catch (final HmxException ex) {
+            MessageHandler.showException(ex);
         } catch (final IOException ioex) {
             MessageHandler.showException(new HmxException(AisMessage.ERROR_EXPORT_FAILED, ioex));
         }
@@ -128,23 +139,27 @@ public final class PatternAnalysisModel {
         private List<Interview> rows;
         /** The detail categories to display the number of occurrences for – one detail category per column. */
         private List<DetailCategory> columns;
-        /** The overall number of tokens with assigned detail categories, for each interview. */
-        private Map<Interview, AtomicLong> tokenCounts;
-        /** The actual results: number of occurrences for each contained detail category, per interview. */
-        private Map<Interview, Map<DetailCategory, AtomicLong>> values;
+        /** The actual results: number of tokens with assigned detail categories and occurrences of each detail category, per interview. */
+        private Map<Interview, InterviewAnalysis> values;
 
         /** Main constructor. */
         SummaryTableModel() {
-            this.refreshModel();
+            this.rows = Collections.emptyList();
+            this.columns = Collections.emptyList();
         }
 
-        /** Recalculate/recollect the displayed table contents. */
-        void refreshModel() {
-            this.rows = PatternAnalysisModel.this.project.getModelObject().getInterviews();
+        /**
+         * Recollect the displayed table contents.
+         *
+         * @param interviews
+         *            the interviews to display the values for
+         * @param results
+         *            the analysis results of the given interviews
+         */
+        void refreshModel(final List<Interview> interviews, final Map<Interview, InterviewAnalysis> results) {
+            this.rows = interviews;
             this.columns = PatternAnalysisModel.this.project.getModelObject().provide();
-            this.tokenCounts = PatternAnalysisModel.this.project.getModelHandler().countTokensWithAssignedDetail(this.rows);
-            this.values = PatternAnalysisModel.this.project.getModelHandler().countDetailOccurrences(this.rows);
-
+            this.values = results;
             SwingUtilities.invokeLater(this::fireTableStructureChanged);
         }
 
@@ -157,10 +172,10 @@ public final class PatternAnalysisModel {
                 value = PatternAnalysisModel.this.project.getLabel(interview);
                 break;
             case 1:
-                value = this.tokenCounts.get(interview).get();
+                value = this.values.get(interview).getTokenCount();
                 break;
             default:
-                value = this.values.get(interview).get(this.columns.get(columnIndex - 2)).get();
+                value = this.values.get(interview).getOccurrenceCount(columnIndex - 2);
                 break;
             }
             return value;
@@ -214,16 +229,23 @@ public final class PatternAnalysisModel {
 
         /** Main constructor. */
         SequenceTableModel() {
-            this.refreshModel();
+            this.columns = Collections.emptyList();
         }
 
-        /** Recollect the displayed table contents. */
-        void refreshModel() {
-            this.columns = PatternAnalysisModel.this.project.getModelObject().getInterviews();
+        /**
+         * Recollect the displayed table contents.
+         *
+         * @param interviews
+         *            the interviews to display the sequences for
+         * @param results
+         *            the analysis results of the given interviews
+         */
+        void refreshModel(final List<Interview> interviews, final Map<Interview, InterviewAnalysis> results) {
+            this.columns = interviews;
             this.values = new HashMap<>();
             this.rowCount = 0;
             for (final Interview singleInterview : this.columns) {
-                final List<DetailCategory> sequence = PatternAnalysisModel.this.project.getModelHandler().extractDetailSequence(singleInterview);
+                final List<DetailCategory> sequence = results.get(singleInterview).getDetailSequence();
                 this.values.put(singleInterview, sequence);
                 this.rowCount = Math.max(this.rowCount, sequence.size());
             }
@@ -280,37 +302,45 @@ public final class PatternAnalysisModel {
     /** The model of the tertiary table, displaying the number of pattern occurrences in the assigned detail categories. */
     public final class PatternTableModel extends AbstractTableModel {
 
-        /** Custom comparator to sort the patterns by the detail category order in the model. */
-        private final PatternSorter sorter;
         /** The pattern to display the number of occurrences for – one pattern per row. */
         private List<List<DetailCategory>> rows;
+        /** The keys of the patterns to display – at the same positions as in the {@link #rows}. */
+        private long[] rowKeys;
         /** The interviews to display the values for – one interview per column. */
         private List<Interview> columns;
         /** The actual results: number of occurrences for each detail category pattern, per interview. */
-        private Map<Interview, Map<List<DetailCategory>, AtomicLong>> values;
+        private Map<Interview, InterviewAnalysis> values;
 
         /** Main constructor. */
         PatternTableModel() {
-            this.sorter = new PatternSorter(PatternAnalysisModel.this.project.getModelObject().provide());
-            this.refreshModel();
+            this.rows = Collections.emptyList();
+            this.rowKeys = new long[0];
+            this.columns = Collections.emptyList();
         }
 
-        /** Recalculate/recollect the displayed table contents. */
-        void refreshModel() {
-            this.columns = PatternAnalysisModel.this.project.getModelObject().getInterviews();
-            this.values = PatternAnalysisModel.this.project.getModelHandler().extractDetailPattern(this.columns, 2, 3);
-            final Set<List<DetailCategory>> patterns = new HashSet<>();
-            this.rows = this.values.values().stream()
-                    .flatMap(singlePatternList -> singlePatternList.keySet().stream())
-                    .distinct()
-                    .sorted(this.sorter)
+        /**
+         * Recollect the displayed table contents.
+         *
+         * @param interviews
+         *            the interviews to display the values for
+         * @param results
+         *            the analysis results of the given interviews
+         */
+        void refreshModel(final List<Interview> interviews, final Map<Interview, InterviewAnalysis> results) {
+            this.columns = interviews;
+            this.values = results;
+            final DetailPatternCounts aggregated = DetailPatternCounts.aggregate(PatternAnalysisModel.this.project.getModelObject().provide(),
+                    results.values().stream().map(InterviewAnalysis::getPatternCounts).collect(Collectors.toList()));
+            this.rowKeys = aggregated.getSortedPatternKeys();
+            this.rows = Arrays.stream(this.rowKeys)
+                    .mapToObj(aggregated::getPattern)
                     .collect(Collectors.toList());
             SwingUtilities.invokeLater(this::fireTableStructureChanged);
         }
 
         @Override
         public Object getValueAt(final int rowIndex, final int columnIndex) {
-            Object cellValue;
+            final Object cellValue;
             if (!this.rows.isEmpty()) {
                 final List<DetailCategory> pattern = this.rows.get(rowIndex);
                 if (columnIndex == 0) {
@@ -319,12 +349,7 @@ public final class PatternAnalysisModel {
                             .collect(Collectors.joining(" "));
                 } else {
                     final Interview interview = this.columns.get(columnIndex - 1);
-                    cellValue = this.values.get(interview).get(pattern);
-                    if (cellValue == null) {
-                        cellValue = 0L;
-                    } else {
-                        cellValue = ((AtomicLong) cellValue).get();
-                    }
+                    cellValue = this.values.get(interview).getPatternCounts().getCount(this.rowKeys[rowIndex]);
                 }
             } else if (columnIndex == 0) {
                 cellValue = AisMessage.ANALYSIS_NOT_SCORED.get();
@@ -365,41 +390,4 @@ public final class PatternAnalysisModel {
             return Long.class;
         }
     }
-
-    /** Custom comparator to sort the patterns by the detail category order in the model. */
-    private static final class PatternSorter implements Comparator<List<DetailCategory>> {
-
-        /** Mapped sort rank for each detail category, to speedup the actual sorting. */
-        private final Map<DetailCategory, Integer> cachedDetailOrder = new HashMap<>();
-
-        /**
-         * Main constructor.
-         *
-         * @param categoryOrder
-         *            detail categories in the order they should be sorted
-         */
-        PatternSorter(final List<DetailCategory> categoryOrder) {
-            int index = 0;
-            for (DetailCategory category : categoryOrder) {
-                this.cachedDetailOrder.put(category, index);
-                index++;
-            }
-        }
-
-        @Override
-        public int compare(final List<DetailCategory> pattern1, final List<DetailCategory> pattern2) {
-            final int minPatternLength = Math.min(pattern1.size(), pattern2.size());
-            int result = 0;
-            for (int index = 0; index < minPatternLength; index++) {
-                result = this.cachedDetailOrder.get(pattern1.get(index)).compareTo(this.cachedDetailOrder.get(pattern2.get(index)));
-                if (result != 0) {
-                    break;
-                }
-            }
-            if (result == 0) {
-                result = pattern1.size() - pattern2.size();
-            }
-            return result;
-        }
-    }
 }
@@ -25,6 +25,7 @@ import java.util.Arrays;
 import javax.inject.Inject;
 
 import org.hmx.scitos.ais.core.AisOption;
+import org.hmx.scitos.ais.core.AutosaveJournal;
 import org.hmx.scitos.ais.core.ModelHandlerImpl;
 import org.hmx.scitos.ais.core.i18n.AisMessage;
 import org.hmx.scitos.ais.domain.model.AisProject;
@@ -32,6 +33,7 @@ import org.hmx.scitos.ais.domain.model.Interview;
 import org.hmx.scitos.ais.view.swing.components.InterviewView;
 import org.hmx.scitos.ais.view.swing.components.ParticipantInterviewGroupView;
 import org.hmx.scitos.ais.view.swing.components.ProjectOverView;
+import org.hmx.scitos.core.HmxException;
 import org.hmx.scitos.domain.IModel;
 import org.hmx.scitos.view.ContextMenuBuilder;
 import org.hmx.scitos.view.ContextMenuBuilder.CMenuItemAction;
@@ -75,7 +77,27 @@ public class ProjectViewServiceImpl implements IMultiModelProjectViewService<Ais
 
     @Override
     public AisViewProject createProject(final IModel<?> model, final File savePath) {
-        return new AisViewProject(this.client, new ModelHandlerImpl((AisProject) model), savePath);
+        AisProject project = (AisProject) model;
+        boolean recovered = false;
+        if (savePath != null && AutosaveJournal.hasRecoverableChanges(savePath)) {
+            // the project has not been closed properly: offer to recover its unsaved changes
+            if (MessageHandler.Choice.YES == MessageHandler.showConfirmDialog(AisMessage.PROJECT_RECOVER_QUESTION.get(),
+                    AisMessage.PROJECT_RECOVER.get() + " - " + savePath.getName())) {
+                try {
+                    project = AutosaveJournal.recover(savePath, project);
+                    recovered = true;
+                } catch (final HmxException ex) {
+                    MessageHandler.showException(ex);
+                }
+            } else {
+                AutosaveJournal.deleteFiles(savePath);
+            }
+        }
+        final AisViewProject viewProject = new AisViewProject(this.client, new ModelHandlerImpl(project), savePath);
+        if (recovered) {
+            viewProject.markAsRecovered();
+        }
+        return viewProject;
     }
 
     @Override
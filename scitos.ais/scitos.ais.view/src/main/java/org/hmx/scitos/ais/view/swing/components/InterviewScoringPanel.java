@@ -105,7 +105,7 @@ public final class InterviewScoringPanel extends InterviewPanel implements IUndo
         if (!this.undoInProgress) {
             final Interview model = this.getModel();
             if (event.getTarget() == model) {
-                this.undoManager.undoableEditHappened(model);
+                this.undoManager.undoableEditHappened(model, event.getChange());
             } else if (event.getTarget() instanceof AisProject) {
                 this.undoManager.reset(model);
             }
@@ -209,7 +209,10 @@ public final class InterviewScoringPanel extends InterviewPanel implements IUndo
     public void undo() {
         this.undoInProgress = true;
         try {
-            this.parentView.getProject().getModelHandler().reset(this.getModel(), this.undoManager.undo());
+            final Interview resetState = this.undoManager.undo();
+            if (resetState != null) {
+                this.parentView.getProject().getModelHandler().reset(this.getModel(), resetState);
+            }
         } finally {
             this.undoInProgress = false;
         }
@@ -219,7 +222,10 @@ public final class InterviewScoringPanel extends InterviewPanel implements IUndo
     public void redo() {
         this.undoInProgress = true;
         try {
-            this.parentView.getProject().getModelHandler().reset(this.getModel(), this.undoManager.redo());
+            final Interview resetState = this.undoManager.redo();
+            if (resetState != null) {
+                this.parentView.getProject().getModelHandler().reset(this.getModel(), resetState);
+            }
         } finally {
             this.undoInProgress = false;
         }
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hmx.scitos.domain.IModel;
+import org.hmx.scitos.domain.IReversibleChange;
 import org.hmx.scitos.domain.ModelChangeListener;
 import org.hmx.scitos.domain.ModelEvent;
 import org.hmx.scitos.domain.util.CollectionUtil;
@@ -86,8 +87,25 @@ public abstract class AbstractModelHandler<M extends IModel<M>> implements IMode
      *            if this is just an update of the already existing element
      */
     protected <O> void notifyListeners(final O changedElement, final boolean updated) {
+        this.notifyListeners(changedElement, updated, null);
+    }
+
+    /**
+     * Notify all registered listener of the change in the given model element, which can be rolled back via the given change record.
+     *
+     * @param <O>
+     *            type of the changed model element
+     * @param changedElement
+     *            model element that has been changed
+     * @param updated
+     *            if this is just an update of the already existing element
+     * @param change
+     *            record of the change, that allows it to be rolled back (can be {@code null}); it is expected to notify the listeners itself when
+     *            being reverted or re-applied
+     */
+    protected <O> void notifyListeners(final O changedElement, final boolean updated, final IReversibleChange change) {
         // create generic model event
-        final ModelEvent<O> event = new ModelEvent<>(changedElement, updated);
+        final ModelEvent<O> event = new ModelEvent<>(changedElement, updated, change);
         // notify all currently registered ModelChangeListeners
         for (final ModelChangeListener singleListener : this.listeners) {
             singleListener.modelChanged(event);
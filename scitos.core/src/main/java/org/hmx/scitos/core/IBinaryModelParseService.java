@@ -0,0 +1,65 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+import org.hmx.scitos.domain.IModel;
+
+/**
+ * Extension of the {@link IModelParseService} for modules that are able to read and write their models in the compact binary snapshot format – as
+ * alternative to the (human readable) xml structure.
+ *
+ * @param <M>
+ *            type of the managed model
+ */
+public interface IBinaryModelParseService<M extends IModel<M>> extends IModelParseService<M> {
+
+    /**
+     * Parse the model from the given binary snapshot. The reader is expected to be positioned right after the file header.
+     *
+     * @param reader
+     *            binary snapshot to parse (after its {@link BinaryModelReader#readHeader() header} has been read)
+     * @param originPath
+     *            path where the given snapshot has been opened from
+     * @return parsed model instance and list of view elements to be displayed
+     * @throws HmxException
+     *             wrapped error that occurred while parsing the snapshot
+     */
+    Entry<M, List<?>> parseModelFromBinary(BinaryModelReader reader, File originPath) throws HmxException;
+
+    /**
+     * Write the binary snapshot of the given model instance. The file header has already been written at this point.
+     *
+     * @param model
+     *            model instance to write (should be of type {@code M})
+     * @param openViewElements
+     *            list of currently displayed view elements, to be restored on opening
+     * @param writer
+     *            binary snapshot to write to (after its {@link BinaryModelWriter#writeHeader(String) header} has been written)
+     * @throws HmxException
+     *             wrapped error that occurred while writing the snapshot
+     */
+    void writeModelToBinary(IModel<?> model, List<?> openViewElements, BinaryModelWriter writer) throws HmxException;
+}
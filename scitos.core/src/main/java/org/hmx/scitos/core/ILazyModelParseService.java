@@ -0,0 +1,50 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.hmx.scitos.domain.IModel;
+
+/**
+ * Extension of the {@link IStreamModelParseService} for modules that are able to defer parsing the (potentially large) bulk of their persisted
+ * xml structure until it is actually needed – allowing a file to be displayed without parsing it completely first.
+ *
+ * @param <M>
+ *            type of the managed model
+ */
+public interface ILazyModelParseService<M extends IModel<M>> extends IStreamModelParseService<M> {
+
+    /**
+     * Parse the model from the given xml content, while only recording the positions of deferrable parts in it. Those are being parsed on their
+     * first access. The given content is expected to be kept unchanged for as long as the parsed model is in use.
+     *
+     * @param content
+     *            the complete xml content to parse
+     * @param originPath
+     *            path where the given content has been read from
+     * @return parsed model instance and list of view elements to be displayed
+     * @throws HmxException
+     *             wrapped error that occurred while parsing the (non-deferred parts of the) content
+     */
+    Entry<M, List<?>> parseModelLazily(byte[] content, File originPath) throws HmxException;
+}
@@ -0,0 +1,71 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.hmx.scitos.domain.IModel;
+
+/**
+ * Extension of the {@link IModelParseService} for modules that are able to read and write their persisted xml structure in a streaming manner,
+ * i.e. without building the whole document in memory first.
+ *
+ * @param <M>
+ *            type of the managed model
+ */
+public interface IStreamModelParseService<M extends IModel<M>> extends IModelParseService<M> {
+
+    /**
+     * Parse the model from the given xml stream. The stream is expected to be positioned on the start of the document element.
+     *
+     * @param reader
+     *            xml stream to parse (positioned on the document element's {@link javax.xml.stream.XMLStreamConstants#START_ELEMENT START_ELEMENT})
+     * @param originPath
+     *            path where the given stream has been opened from
+     * @return parsed model instance and list of view elements to be displayed
+     * @throws HmxException
+     *             wrapped error that occurred while parsing the stream
+     */
+    Entry<M, List<?>> parseModelFromStream(XMLStreamReader reader, File originPath) throws HmxException;
+
+    /**
+     * Write the xml structure for the given model instance to the given stream – starting with the xml declaration and ending with the closed
+     * document.
+     *
+     * @param model
+     *            model instance to write (should be of type {@code M})
+     * @param openViewElements
+     *            list of currently displayed view elements, to be restored on opening
+     * @param writer
+     *            xml stream to write to
+     * @param rootAttributes
+     *            additional attributes to set on the document element (e.g. the file type declaration)
+     * @throws HmxException
+     *             wrapped error that occurred while writing to the stream
+     */
+    void writeModelToStream(IModel<?> model, List<?> openViewElements, XMLStreamWriter writer, Map<String, String> rootAttributes)
+            throws HmxException;
+}
@@ -24,10 +24,16 @@ import java.util.LinkedList;
 
 import org.hmx.scitos.core.option.Option;
 import org.hmx.scitos.domain.IModel;
+import org.hmx.scitos.domain.IReversibleChange;
 
 /**
- * Manager for a number of model states to offer the ability to undo and redo single actions.<br>
- * The number of stored model states available for these rollbacks depends on the associated user preference.
+ * Manager for a number of model changes to offer the ability to undo and redo single actions.<br>
+ * The number of stored model changes available for these rollbacks depends on the associated user preference.<br>
+ * <br>
+ * Changes are preferably stored as {@link IReversibleChange} records, which only hold the affected values – i.e. no copy of the model is being
+ * created for them. Changes without such a record are stored as full copies of the model states before and after the change instead, which is
+ * still supported as a fallback. The copy of the state before such a change has to be provided by the caller, since it can only be taken before
+ * the change is being applied.
  *
  * @param <M>
  *            class representing the managed model object
@@ -35,13 +41,13 @@ import org.hmx.scitos.domain.IModel;
 public final class UndoManager<M extends IModel<M>> {
 
     /**
-     * The collection of previous model object states, available for {@link #undo()}.
+     * The collection of previous model changes, available for {@link #undo()}.
      */
-    private final Deque<M> availableUndos = new LinkedList<>();
+    private final Deque<UndoableEdit<M>> availableUndos = new LinkedList<>();
     /**
-     * The collection of previous model object states, which were rolled back and are available for {@link #redo()}.
+     * The collection of previous model changes, which were rolled back and are available for {@link #redo()}.
      */
-    private final Deque<M> availableRedos = new LinkedList<>();
+    private final Deque<UndoableEdit<M>> availableRedos = new LinkedList<>();
     /** The maximum of stored undo-able model changes. */
     private int limit;
 
@@ -53,12 +59,12 @@ public final class UndoManager<M extends IModel<M>> {
      */
     public UndoManager(final M initialState) {
         this.setLimit(Option.UNDO_LIMIT.getValueAsInteger());
-        // store current model object state
+        // start without any stored model changes
         this.reset(initialState);
     }
 
     /**
-     * Discard all undo-/redo-able model states and start from the (new) given initial state.
+     * Discard all undo-/redo-able model changes and start from the (new) given initial state.
      *
      * @param initialState
      *            (new) initial state of the managed model object
@@ -66,38 +72,61 @@ public final class UndoManager<M extends IModel<M>> {
     public void reset(final M initialState) {
         this.availableRedos.clear();
         this.availableUndos.clear();
-        this.availableUndos.add(initialState.clone());
     }
 
     /**
-     * Setter for the maximum number of stored model versions available for {@link #undo()} and {@link #redo()}.
+     * Setter for the maximum number of stored model changes available for {@link #undo()} and {@link #redo()}.
      *
      * @param limit
      *            maximum to set
      */
     public void setLimit(final int limit) {
-        // the first entry in the availableUndos collection is always the current state
-        this.limit = Math.max(1, limit + 1);
-        this.dropExcessiveUndoableStates();
+        this.limit = Math.max(0, limit);
+        this.dropExcessiveUndoableEdits();
     }
 
     /**
-     * Store the new model state for a potential {@link #undo()}.
+     * Store the change between the given model states for a potential {@link #undo()}, as full copies of both states. This is the fallback for
+     * changes without a {@link IReversibleChange} record.
      *
+     * @param stateBefore
+     *            copy of the model state before the change (is being retained as is)
      * @param changedState
-     *            new state to remember
+     *            new state to remember (a copy of it is being retained)
      */
-    public void undoableEditHappened(final M changedState) {
-        this.availableUndos.addFirst(changedState.clone());
-        this.dropExcessiveUndoableStates();
+    public void undoableEditHappened(final M stateBefore, final M changedState) {
+        this.availableUndos.addFirst(new UndoableEdit<>(stateBefore, changedState.clone()));
+        this.dropExcessiveUndoableEdits();
         // drop redos
         this.availableRedos.clear();
     }
 
+    /**
+     * Store the given change record for a potential {@link #undo()}. If no record is provided, the change cannot be rolled back – as the model
+     * state before it is unknown – and all previously stored changes are being discarded.
+     *
+     * @param changedState
+     *            new state
+     * @param change
+     *            record of the change, that allows it to be rolled back (can be {@code null})
+     * @see #undoableEditHappened(IModel, IModel)
+     */
+    public void undoableEditHappened(final M changedState, final IReversibleChange change) {
+        if (change == null) {
+            this.reset(changedState);
+        } else {
+            this.availableUndos.addFirst(new UndoableEdit<>(change));
+            this.dropExcessiveUndoableEdits();
+            // drop redos
+            this.availableRedos.clear();
+        }
+    }
+
     /**
      * Execute rollback to the latest undo-able change.
      *
-     * @return previous model state
+     * @return previous model state to reset the model to; {@code null} if the change has been stored as {@link IReversibleChange} record and has
+     *         already been reverted
      * @throws IllegalStateException
      *             no available states from earlier model changes (or limit is set to '0')
      */
@@ -105,16 +134,22 @@ public final class UndoManager<M extends IModel<M>> {
         if (!this.canUndo()) {
             throw new IllegalStateException();
         }
-        // remove current state from list and store as available redo
-        this.availableRedos.addFirst(this.availableUndos.pollFirst());
-        // return previous state
-        return this.availableUndos.getFirst();
+        // remove latest change from list and store as available redo
+        final UndoableEdit<M> edit = this.availableUndos.pollFirst();
+        this.availableRedos.addFirst(edit);
+        if (edit.change == null) {
+            // return previous state
+            return edit.stateBefore;
+        }
+        edit.change.revert();
+        return null;
     }
 
     /**
      * Revert last {@link #undo()}.
      *
-     * @return previously rolled back model state
+     * @return previously rolled back model state to reset the model to; {@code null} if the change has been stored as {@link IReversibleChange}
+     *         record and has already been re-applied
      * @throws IllegalStateException
      *             no available states from earlier undo() calls
      */
@@ -122,12 +157,17 @@ public final class UndoManager<M extends IModel<M>> {
         if (!this.canRedo()) {
             throw new IllegalStateException();
         }
-        // remove state from list
-        final M previousState = this.availableRedos.pollFirst();
+        // remove change from list
+        final UndoableEdit<M> edit = this.availableRedos.pollFirst();
         // store as available undo
-        this.availableUndos.addFirst(previousState);
-        this.dropExcessiveUndoableStates();
-        return previousState;
+        this.availableUndos.addFirst(edit);
+        this.dropExcessiveUndoableEdits();
+        if (edit.change == null) {
+            // return rolled back state
+            return edit.stateAfter;
+        }
+        edit.change.apply();
+        return null;
     }
 
     /**
@@ -136,8 +176,7 @@ public final class UndoManager<M extends IModel<M>> {
      * @return {@link #undo()} possible
      */
     public boolean canUndo() {
-        // the first entry in the availableUndos is always the current state
-        return this.availableUndos.size() > 1;
+        return !this.availableUndos.isEmpty();
     }
 
     /**
@@ -152,10 +191,52 @@ public final class UndoManager<M extends IModel<M>> {
     /**
      * Ensure that the defined limit is applied.
      */
-    private void dropExcessiveUndoableStates() {
+    private void dropExcessiveUndoableEdits() {
         while (this.availableUndos.size() > this.limit) {
-            // limit reached: drop excessive state
+            // limit reached: drop excessive change
             this.availableUndos.removeLast();
         }
     }
+
+    /**
+     * Single undo-able model change: either a {@link IReversibleChange} record or the full model states before and after the change.
+     *
+     * @param <M>
+     *            class representing the managed model object
+     */
+    private static final class UndoableEdit<M> {
+
+        /** The record of the change (is {@code null} if the full model states are stored instead). */
+        final IReversibleChange change;
+        /** The full model state before the change (is {@code null} if a change record is stored instead). */
+        final M stateBefore;
+        /** The full model state after the change (is {@code null} if a change record is stored instead). */
+        final M stateAfter;
+
+        /**
+         * Constructor: for a change stored as record.
+         *
+         * @param change
+         *            record of the change
+         */
+        UndoableEdit(final IReversibleChange change) {
+            this.change = change;
+            this.stateBefore = null;
+            this.stateAfter = null;
+        }
+
+        /**
+         * Constructor: for a change stored as full model states.
+         *
+         * @param stateBefore
+         *            full model state before the change
+         * @param stateAfter
+         *            full model state after the change
+         */
+        UndoableEdit(final M stateBefore, final M stateAfter) {
+            this.change = null;
+            this.stateBefore = stateBefore;
+            this.stateAfter = stateAfter;
+        }
+    }
 }
@@ -43,8 +43,10 @@ public enum Message implements ILocalizableMessage {
     ERROR_FILE_INVALID("Client.MenuBar.File.Open.InvalidXmlDocument"),
     ERROR_FILE_TYPE_NOT_RECOGNIZED("Client.MenuBar.File.Open.FileTypeNotRecognized"),
     MENUBAR_FILE_OPEN_ALREADY("Client.MenuBar.File.Open.ProjectAlreadyOpen"),
+    MENUBAR_FILE_OPEN_PROGRESS("Client.MenuBar.File.Open.Progress"),
     MENUBAR_FILE_SAVE("Client.MenuBar.File.Save"),
     ERROR_SAVE_FAILED("Client.MenuBar.File.Save.Failed"),
+    MENUBAR_FILE_SAVE_PROGRESS("Client.MenuBar.File.Save.Progress"),
     MENUBAR_FILE_SAVEAS("Client.MenuBar.File.SaveAs"),
     MENUBAR_FILE_TYPE_AIS("Client.MenuBar.File.Types.AIS"),
     MENUBAR_FILE_TYPE_HMX("Client.MenuBar.File.Types.HmX"),
@@ -67,6 +69,7 @@ public enum Message implements ILocalizableMessage {
     PREFERENCES_GENERAL_TRANSLATION("Client.Preferences.General.Translation"),
     PREFERENCES_GENERAL_TRANSLATION_SYSTEM_DEFAULT("Client.Preferences.General.Translation.SystemDefault"),
     PREFERENCES_GENERAL_UNDO("Client.Preferences.General.UndoLimit"),
+    PREFERENCES_GENERAL_SAVE_VERIFICATION("Client.Preferences.General.SaveVerification"),
     PREFERENCES_SETTING_CHANGE_COLOR("Client.Preferences.Color.Change"),
     PREFERENCES_SETTING_TRANSPARENT_COLOR("Client.Preferences.Color.Transparent"),
     PREFERENCES_RESTART_REQUIRED("Client.Preferences.RestartRequired"),
@@ -36,6 +36,8 @@ public enum Option implements IOptionSetting {
     LOOK_AND_FEEL("SwingLookAndFeel", UIManager.getSystemLookAndFeelClassName()),
     /** User setting: the number of undo-able steps per open project. */
     UNDO_LIMIT("Undo.Limit", "10"),
+    /** User setting: whether a saved file should be parsed again in the background, to verify that it contains the whole model. */
+    SAVE_FULL_VERIFICATION("Save.FullVerification", "false"),
     /** For usability: last directory used for saving. */
     WORKDIR("WorkDir", null),
     /** For usability: window width in the last session. */
@@ -0,0 +1,195 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.i18n.Message;
+
+/**
+ * Reader of the compact binary snapshot format, as written by a {@link BinaryModelWriter}. The underlying buffer holds the whole snapshot, e.g. the
+ * file's contents having been read into memory completely.
+ */
+public final class BinaryModelReader {
+
+    /** The leading bytes identifying a file in the binary snapshot format. */
+    static final byte[] MAGIC_BYTES = { (byte) 0x89, 'S', 'T', 'B' };
+    /** The version of the binary snapshot format being written. */
+    static final int FORMAT_VERSION = 1;
+
+    /** The buffer to read from. */
+    private final ByteBuffer buffer;
+    /** The strings read so far, in the order of their first occurrence. */
+    private final List<String> stringTable = new ArrayList<>();
+    /** Reusable array for decoding the contents of strings. */
+    private byte[] stringContent = new byte[256];
+
+    /**
+     * Constructor.
+     *
+     * @param buffer
+     *            the buffer to read from (starting at its current position)
+     */
+    public BinaryModelReader(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Check whether the given buffer starts with the leading bytes identifying the binary snapshot format. The buffer's position is not changed.
+     *
+     * @param buffer
+     *            the buffer to check (from its current position)
+     * @return whether the buffer's contents are in the binary snapshot format
+     */
+    public static boolean isBinaryModel(final ByteBuffer buffer) {
+        if (buffer.remaining() < BinaryModelReader.MAGIC_BYTES.length) {
+            return false;
+        }
+        for (int index = 0; index < BinaryModelReader.MAGIC_BYTES.length; index++) {
+            if (buffer.get(buffer.position() + index) != BinaryModelReader.MAGIC_BYTES[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read the file header, identifying the binary snapshot format and the type of the contained model.
+     *
+     * @return identifier of the contained model's type
+     * @throws HmxException
+     *             the buffer does not start with a valid header or the format version is not supported
+     * @see BinaryModelWriter#writeHeader(String)
+     */
+    public String readHeader() throws HmxException {
+        if (!BinaryModelReader.isBinaryModel(this.buffer)) {
+            throw new HmxException(Message.ERROR_FILE_TYPE_NOT_RECOGNIZED);
+        }
+        this.buffer.position(this.buffer.position() + BinaryModelReader.MAGIC_BYTES.length);
+        final int version = this.readVarInt();
+        if (version < 1 || version > BinaryModelReader.FORMAT_VERSION) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("unsupported format version " + version));
+        }
+        return this.readString();
+    }
+
+    /**
+     * Check whether there is anything left to read, e.g. for formats consisting of an open-ended sequence of records.
+     *
+     * @return whether the end of the buffer has not been reached yet
+     */
+    public boolean hasRemaining() {
+        return this.buffer.hasRemaining();
+    }
+
+    /**
+     * Read a single byte.
+     *
+     * @return the read byte (as value between {@code 0} and {@code 255})
+     * @throws HmxException
+     *             reached the end of the buffer
+     */
+    public int readByte() throws HmxException {
+        if (!this.buffer.hasRemaining()) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("unexpected end of file"));
+        }
+        return this.buffer.get() & 0xFF;
+    }
+
+    /**
+     * Read a boolean flag.
+     *
+     * @return the read flag
+     * @throws HmxException
+     *             reached the end of the buffer
+     */
+    public boolean readBoolean() throws HmxException {
+        return this.readByte() != 0;
+    }
+
+    /**
+     * Read an integer written as variable length quantity.
+     *
+     * @return the read integer
+     * @throws HmxException
+     *             reached the end of the buffer, or the read value exceeds the range of an integer
+     */
+    public int readVarInt() throws HmxException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int singleByte = this.readByte();
+            result |= (singleByte & 0x7F) << shift;
+            if ((singleByte & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid variable length integer"));
+    }
+
+    /**
+     * Read a non-negative integer written as variable length quantity, e.g. a number of subsequent entries.
+     *
+     * @return the read integer
+     * @throws HmxException
+     *             reached the end of the buffer, or the read value is negative
+     */
+    public int readCount() throws HmxException {
+        final int result = this.readVarInt();
+        if (result < 0) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid count " + result));
+        }
+        return result;
+    }
+
+    /**
+     * Read a (nullable) string, which is either contained in full or as reference to its previous occurrence in the string table.
+     *
+     * @return the read string (can be {@code null})
+     * @throws HmxException
+     *             reached the end of the buffer, or encountered an invalid reference in the string table
+     */
+    public String readString() throws HmxException {
+        final int reference = this.readVarInt();
+        if (reference == 0) {
+            return null;
+        }
+        if (reference > 0 && reference <= this.stringTable.size()) {
+            return this.stringTable.get(reference - 1);
+        }
+        if (reference != this.stringTable.size() + 1) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid string reference " + reference));
+        }
+        final int length = this.readCount();
+        if (length > this.buffer.remaining()) {
+            throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("unexpected end of file"));
+        }
+        if (length > this.stringContent.length) {
+            this.stringContent = new byte[Math.max(length, this.stringContent.length * 2)];
+        }
+        this.buffer.get(this.stringContent, 0, length);
+        final String value = new String(this.stringContent, 0, length, StandardCharsets.UTF_8);
+        this.stringTable.add(value);
+        return value;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writer of the compact binary snapshot format, to be read again by a {@link BinaryModelReader}. All integers are written as variable length
+ * quantities (seven bits per byte, least significant group first). Strings are collected in a string table that is being built while writing: the
+ * first occurrence of a string is written in full, while each repetition is only written as its (one-based) index in that table.
+ */
+public final class BinaryModelWriter implements Flushable {
+
+    /** The stream to write to. */
+    private final OutputStream output;
+    /** The internal buffer, collecting the written bytes before handing them over to the output stream. */
+    private final byte[] buffer = new byte[8192];
+    /** The number of bytes in the internal buffer. */
+    private int bufferPosition = 0;
+    /** The already written strings, associated with their (one-based) index in the string table. */
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param output
+     *            the stream to write to
+     */
+    public BinaryModelWriter(final OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Write the file header, identifying the binary snapshot format and the type of the contained model. This is expected to be called once –
+     * before anything else is being written.
+     *
+     * @param modelType
+     *            identifier of the contained model's type
+     * @throws IOException
+     *             error while writing to the stream
+     * @see BinaryModelReader#readHeader()
+     */
+    public void writeHeader(final String modelType) throws IOException {
+        for (final byte singleMagicByte : BinaryModelReader.MAGIC_BYTES) {
+            this.writeByte(singleMagicByte);
+        }
+        this.writeVarInt(BinaryModelReader.FORMAT_VERSION);
+        this.writeString(modelType);
+    }
+
+    /**
+     * Write a single byte.
+     *
+     * @param value
+     *            the byte to write (only the lowest eight bits are being considered)
+     * @throws IOException
+     *             error while writing to the stream
+     */
+    public void writeByte(final int value) throws IOException {
+        if (this.bufferPosition == this.buffer.length) {
+            this.flushBuffer();
+        }
+        this.buffer[this.bufferPosition++] = (byte) value;
+    }
+
+    /**
+     * Write a boolean flag as a single byte.
+     *
+     * @param value
+     *            the flag to write
+     * @throws IOException
+     *             error while writing to the stream
+     */
+    public void writeBoolean(final boolean value) throws IOException {
+        this.writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write an integer as variable length quantity, i.e. small non-negative values occupy less bytes. Negative values are supported, but always
+     * occupy five bytes.
+     *
+     * @param value
+     *            the integer to write
+     * @throws IOException
+     *             error while writing to the stream
+     */
+    public void writeVarInt(final int value) throws IOException {
+        int remainder = value;
+        while ((remainder & ~0x7F) != 0) {
+            this.writeByte(remainder & 0x7F | 0x80);
+            remainder >>>= 7;
+        }
+        this.writeByte(remainder);
+    }
+
+    /**
+     * Write a (nullable) string, either in full or as reference to its previous occurrence in the string table.
+     *
+     * @param value
+     *            the string to write (can be {@code null})
+     * @throws IOException
+     *             error while writing to the stream
+     */
+    public void writeString(final String value) throws IOException {
+        if (value == null) {
+            this.writeVarInt(0);
+            return;
+        }
+        final Integer reference = this.stringTable.get(value);
+        if (reference != null) {
+            this.writeVarInt(reference.intValue());
+            return;
+        }
+        // the next free index in the string table indicates that the string's content follows
+        final int newReference = this.stringTable.size() + 1;
+        this.stringTable.put(value, Integer.valueOf(newReference));
+        this.writeVarInt(newReference);
+        final byte[] content = value.getBytes(StandardCharsets.UTF_8);
+        this.writeVarInt(content.length);
+        if (content.length > this.buffer.length - this.bufferPosition) {
+            this.flushBuffer();
+        }
+        if (content.length > this.buffer.length) {
+            this.output.write(content);
+        } else {
+            System.arraycopy(content, 0, this.buffer, this.bufferPosition, content.length);
+            this.bufferPosition += content.length;
+        }
+    }
+
+    /**
+     * Getter for the number of strings in the string table, e.g. to {@link #truncateStringTable(int) roll back} any subsequent additions later.
+     *
+     * @return number of already written strings
+     */
+    public int getStringTableSize() {
+        return this.stringTable.size();
+    }
+
+    /**
+     * Remove all strings from the string table, that have been added after it had the given size. This is expected to be called when the bytes
+     * written since then have been discarded: subsequent occurrences of the removed strings are being written in full again.
+     *
+     * @param size
+     *            the number of strings to keep in the string table (as returned by {@link #getStringTableSize()} before)
+     */
+    public void truncateStringTable(final int size) {
+        this.stringTable.values().removeIf(reference -> reference.intValue() > size);
+    }
+
+    /**
+     * Hand over the contents of the internal buffer to the output stream.
+     *
+     * @throws IOException
+     *             error while writing to the stream
+     */
+    private void flushBuffer() throws IOException {
+        if (this.bufferPosition > 0) {
+            this.output.write(this.buffer, 0, this.bufferPosition);
+            this.bufferPosition = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.flushBuffer();
+        this.output.flush();
+    }
+}
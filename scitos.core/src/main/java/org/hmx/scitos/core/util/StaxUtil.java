@@ -0,0 +1,501 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core.util;
+
+import java.io.BufferedWriter;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Collection of convenience functions for handling {@link XMLStreamReader} and {@link XMLStreamWriter} (i.e. streamed XML files).
+ */
+public final class StaxUtil {
+
+    /** The number of spaces to indent each nesting level with – the same as when transforming a document with indentation. */
+    private static final int INDENT_AMOUNT = 3;
+    /** Pre-built line breaks with indentation for the most common nesting depths. */
+    private static final String[] INDENTATIONS = new String[16];
+
+    static {
+        final StringBuilder indentation = new StringBuilder("\n");
+        for (int depth = 0; depth < StaxUtil.INDENTATIONS.length; depth++) {
+            StaxUtil.INDENTATIONS[depth] = indentation.toString();
+            for (int space = 0; space < StaxUtil.INDENT_AMOUNT; space++) {
+                indentation.append(' ');
+            }
+        }
+    }
+
+    /** Hidden constructor of utility class. */
+    private StaxUtil() {
+        // never called
+    }
+
+    /**
+     * Create a stream writer for the given output, encoding the written xml structure in UTF-8. In contrast to a plain {@link XMLStreamWriter}
+     * created via {@link XMLOutputFactory}, line breaks and tabs in attribute values are preserved (by writing them as character references), as
+     * they would otherwise be normalized to spaces when the written file is read again. The written characters are buffered until the created
+     * writer is being flushed or closed.
+     *
+     * @param output
+     *            the stream to write to (is not being closed when closing the created writer)
+     * @return created stream writer
+     * @throws XMLStreamException
+     *             error while creating the stream writer
+     */
+    public static XMLStreamWriter createWriter(final OutputStream output) throws XMLStreamException {
+        return XMLOutputFactory.newInstance().createXMLStreamWriter(
+                new AttributeEscapingWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Write a line break followed by the indentation for the given nesting depth.
+     *
+     * @param writer
+     *            the stream to write to
+     * @param depth
+     *            the nesting depth of the element that is written next
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    public static void writeIndentation(final XMLStreamWriter writer, final int depth) throws XMLStreamException {
+        if (depth < StaxUtil.INDENTATIONS.length) {
+            writer.writeCharacters(StaxUtil.INDENTATIONS[depth]);
+        } else {
+            final StringBuilder indentation = new StringBuilder(StaxUtil.INDENTATIONS[StaxUtil.INDENTATIONS.length - 1]);
+            for (int space = (StaxUtil.INDENTATIONS.length - 1) * StaxUtil.INDENT_AMOUNT; space < depth * StaxUtil.INDENT_AMOUNT; space++) {
+                indentation.append(' ');
+            }
+            writer.writeCharacters(indentation.toString());
+        }
+    }
+
+    /**
+     * Set the given attributes on the element that was just started, in their iteration order.
+     *
+     * @param writer
+     *            the stream to write to
+     * @param attributes
+     *            the attributes to set (can be {@code null})
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    public static void writeAttributes(final XMLStreamWriter writer, final Map<String, String> attributes) throws XMLStreamException {
+        if (attributes != null) {
+            for (final Map.Entry<String, String> singleAttribute : attributes.entrySet()) {
+                writer.writeAttribute(singleAttribute.getKey(), singleAttribute.getValue());
+            }
+        }
+    }
+
+    /**
+     * Get the attribute value under the specified (local) name from the current element.
+     *
+     * @param reader
+     *            stream positioned on the element to retrieve the attribute value from
+     * @param attributeName
+     *            local name of the targeted attribute
+     * @return the attribute's value (or {@code null} if no such attribute exists)
+     */
+    public static String getNullableAttribute(final XMLStreamReader reader, final String attributeName) {
+        final int attributeCount = reader.getAttributeCount();
+        for (int attributeIndex = 0; attributeIndex < attributeCount; attributeIndex++) {
+            if (attributeName.equals(reader.getAttributeLocalName(attributeIndex))) {
+                return reader.getAttributeValue(attributeIndex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the attribute value under the specified (local) name from the current element. Returning an empty {@code String} if it does not exist.
+     *
+     * @param reader
+     *            stream positioned on the element to retrieve the attribute value from
+     * @param attributeName
+     *            local name of the targeted attribute
+     * @return the attribute's value (or an empty {@code String} if no such attribute exists)
+     */
+    public static String getAttribute(final XMLStreamReader reader, final String attributeName) {
+        final String value = StaxUtil.getNullableAttribute(reader, attributeName);
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Get the attribute value under the specified (local) name from the current element. Parsing it as an Integer.
+     *
+     * @param reader
+     *            stream positioned on the element to retrieve the attribute value from
+     * @param attributeName
+     *            local name of the targeted attribute
+     * @param defaultValue
+     *            value to return if attribute doesn't exist or cannot be parsed to an Integer
+     * @return either retrieved or given default value
+     */
+    public static int getIntAttribute(final XMLStreamReader reader, final String attributeName, final int defaultValue) {
+        final String stringValue = StaxUtil.getNullableAttribute(reader, attributeName);
+        if (stringValue != null) {
+            try {
+                return Integer.parseInt(stringValue);
+            } catch (final NumberFormatException expected) {
+                // fall back on default value
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Advance the given stream to the next child element of the element it is currently inside of. Any text, comments or processing instructions
+     * in between are skipped.
+     *
+     * @param reader
+     *            stream positioned on the parent's start or on a previous child's end
+     * @return if the stream is now positioned on the next child's start; otherwise it is positioned on the parent's end
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    public static boolean nextChildElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int eventType = reader.next();
+            if (eventType == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (eventType == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skip the element (including all its children) the given stream is currently positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the element to skip; afterwards it is positioned on its end
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    public static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int eventType = reader.next();
+            if (eventType == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Copy the element (including all its children) the given source stream is currently positioned on to the given target stream.
+     *
+     * @param source
+     *            stream positioned on the start of the element to copy; afterwards it is positioned on its end
+     * @param target
+     *            stream to write the copied element to
+     * @param additionalAttributes
+     *            attributes to set on the copied element itself in addition to its own (can be {@code null})
+     * @throws XMLStreamException
+     *             error while reading from or writing to a stream
+     */
+    public static void copyElement(final XMLStreamReader source, final XMLStreamWriter target, final Map<String, String> additionalAttributes)
+            throws XMLStreamException {
+        int depth = 0;
+        int eventType = source.getEventType();
+        do {
+            switch (eventType) {
+            case XMLStreamConstants.START_ELEMENT:
+                StaxUtil.copyStartElement(source, target);
+                if (depth == 0) {
+                    StaxUtil.writeAttributes(target, additionalAttributes);
+                }
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                target.writeEndElement();
+                depth--;
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.SPACE:
+                target.writeCharacters(source.getTextCharacters(), source.getTextStart(), source.getTextLength());
+                break;
+            case XMLStreamConstants.CDATA:
+                target.writeCData(source.getText());
+                break;
+            case XMLStreamConstants.COMMENT:
+                target.writeComment(source.getText());
+                break;
+            case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                target.writeProcessingInstruction(source.getPITarget(), source.getPIData());
+                break;
+            default:
+                // nothing to copy
+                break;
+            }
+            if (depth > 0) {
+                eventType = source.next();
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Copy the start tag (including namespace declarations and attributes) the given source stream is currently positioned on.
+     *
+     * @param source
+     *            stream positioned on the start of an element
+     * @param target
+     *            stream to write the start tag to
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private static void copyStartElement(final XMLStreamReader source, final XMLStreamWriter target) throws XMLStreamException {
+        final String prefix = source.getPrefix() == null ? "" : source.getPrefix();
+        final String namespaceUri = source.getNamespaceURI() == null ? "" : source.getNamespaceURI();
+        target.writeStartElement(prefix, source.getLocalName(), namespaceUri);
+        final int namespaceCount = source.getNamespaceCount();
+        for (int namespaceIndex = 0; namespaceIndex < namespaceCount; namespaceIndex++) {
+            final String declaredPrefix = source.getNamespacePrefix(namespaceIndex);
+            if (declaredPrefix == null || declaredPrefix.isEmpty()) {
+                target.writeDefaultNamespace(source.getNamespaceURI(namespaceIndex));
+            } else {
+                target.writeNamespace(declaredPrefix, source.getNamespaceURI(namespaceIndex));
+            }
+        }
+        final int attributeCount = source.getAttributeCount();
+        for (int attributeIndex = 0; attributeIndex < attributeCount; attributeIndex++) {
+            final String attributePrefix = source.getAttributePrefix(attributeIndex);
+            if (attributePrefix == null || attributePrefix.isEmpty()) {
+                target.writeAttribute(source.getAttributeLocalName(attributeIndex), source.getAttributeValue(attributeIndex));
+            } else {
+                target.writeAttribute(attributePrefix, source.getAttributeNamespace(attributeIndex), source.getAttributeLocalName(attributeIndex),
+                        source.getAttributeValue(attributeIndex));
+            }
+        }
+    }
+
+    /**
+     * Filter for the characters produced by an {@link XMLStreamWriter}, replacing line breaks and tabs inside of attribute values (which are not
+     * escaped by the stream writer itself) with their respective character references. Everything else is passed on unchanged.
+     */
+    private static final class AttributeEscapingWriter extends FilterWriter {
+
+        /** State: in between tags, i.e. within an element's text content. */
+        private static final int STATE_CONTENT = 0;
+        /** State: directly after a tag's opening {@code '<'}. */
+        private static final int STATE_TAG_START = 1;
+        /** State: within a start tag or processing instruction, outside of any attribute value. */
+        private static final int STATE_TAG = 2;
+        /** State: within an attribute value. */
+        private static final int STATE_ATTRIBUTE_VALUE = 3;
+        /** State: directly after {@code "<!"}, i.e. at the start of a comment, CDATA section or declaration. */
+        private static final int STATE_MARKUP_START = 4;
+        /** State: within a declaration, to be passed on unchanged until the next {@code '>'}. */
+        private static final int STATE_DECLARATION = 5;
+        /** State: within a comment or CDATA section, to be passed on unchanged until the {@link #markupEnd} is reached. */
+        private static final int STATE_MARKUP = 6;
+
+        /** The current state, determining how the next character is to be handled. */
+        private int state = AttributeEscapingWriter.STATE_CONTENT;
+        /** The character repeated before the closing {@code '>'} of the current comment ({@code '-'}) or CDATA section ({@code ']'}). */
+        private char markupEnd;
+        /** Number of consecutive {@link #markupEnd} characters written last in {@link #STATE_MARKUP}. */
+        private int markupEndCount;
+
+        /**
+         * Constructor.
+         *
+         * @param target
+         *            the writer to pass on the (escaped) characters to
+         */
+        AttributeEscapingWriter(final Writer target) {
+            super(target);
+        }
+
+        /**
+         * Update the current state according to the given character, which is written next.
+         *
+         * @param character
+         *            the character to be written next
+         * @return whether the character is inside of an attribute value and needs to be replaced by its character reference
+         */
+        private boolean isToBeEscaped(final int character) {
+            switch (this.state) {
+            case STATE_CONTENT:
+                this.state = character == '<' ? AttributeEscapingWriter.STATE_TAG_START : AttributeEscapingWriter.STATE_CONTENT;
+                return false;
+            case STATE_TAG_START:
+                this.handleTagStart(character);
+                return false;
+            case STATE_TAG:
+                this.handleTag(character);
+                return false;
+            case STATE_ATTRIBUTE_VALUE:
+                return this.handleAttributeValue(character);
+            case STATE_MARKUP_START:
+                this.handleMarkupStart(character);
+                return false;
+            case STATE_DECLARATION:
+                this.state = character == '>' ? AttributeEscapingWriter.STATE_CONTENT : AttributeEscapingWriter.STATE_DECLARATION;
+                return false;
+            default:
+                this.handleMarkup(character);
+                return false;
+            }
+        }
+
+        /**
+         * Update the current state according to the given character, which is written directly after a tag's opening {@code '<'}.
+         *
+         * @param character
+         *            the character to be written next
+         */
+        private void handleTagStart(final int character) {
+            if (character == '!') {
+                this.state = AttributeEscapingWriter.STATE_MARKUP_START;
+            } else {
+                this.state = character == '>' ? AttributeEscapingWriter.STATE_CONTENT : AttributeEscapingWriter.STATE_TAG;
+            }
+        }
+
+        /**
+         * Update the current state according to the given character, which is written within a tag but outside of any attribute value.
+         *
+         * @param character
+         *            the character to be written next
+         */
+        private void handleTag(final int character) {
+            if (character == '"') {
+                this.state = AttributeEscapingWriter.STATE_ATTRIBUTE_VALUE;
+            } else if (character == '>') {
+                this.state = AttributeEscapingWriter.STATE_CONTENT;
+            }
+        }
+
+        /**
+         * Update the current state according to the given character, which is written within an attribute value.
+         *
+         * @param character
+         *            the character to be written next
+         * @return whether the character needs to be replaced by its character reference
+         */
+        private boolean handleAttributeValue(final int character) {
+            if (character == '"') {
+                this.state = AttributeEscapingWriter.STATE_TAG;
+                return false;
+            }
+            return character == '\n' || character == '\r' || character == '\t';
+        }
+
+        /**
+         * Update the current state according to the given character, which is written directly after {@code "<!"}.
+         *
+         * @param character
+         *            the character to be written next
+         */
+        private void handleMarkupStart(final int character) {
+            // a comment ends with "-->", a CDATA section with "]]>", and any other declaration with ">"
+            if (character == '-' || character == '[') {
+                this.state = AttributeEscapingWriter.STATE_MARKUP;
+                this.markupEnd = character == '-' ? '-' : ']';
+                this.markupEndCount = 0;
+            } else {
+                this.state = character == '>' ? AttributeEscapingWriter.STATE_CONTENT : AttributeEscapingWriter.STATE_DECLARATION;
+            }
+        }
+
+        /**
+         * Update the current state according to the given character, which is written within a comment or CDATA section.
+         *
+         * @param character
+         *            the character to be written next
+         */
+        private void handleMarkup(final int character) {
+            if (character == this.markupEnd) {
+                this.markupEndCount++;
+            } else {
+                if (character == '>' && this.markupEndCount >= 2) {
+                    this.state = AttributeEscapingWriter.STATE_CONTENT;
+                }
+                this.markupEndCount = 0;
+            }
+        }
+
+        @Override
+        public void write(final int character) throws IOException {
+            if (this.isToBeEscaped(character)) {
+                this.writeCharacterReference(character);
+            } else {
+                this.out.write(character);
+            }
+        }
+
+        @Override
+        public void write(final char[] buffer, final int offset, final int length) throws IOException {
+            // pass on unchanged runs of characters as a whole
+            int runStart = offset;
+            for (int index = offset; index < offset + length; index++) {
+                if (this.isToBeEscaped(buffer[index])) {
+                    this.out.write(buffer, runStart, index - runStart);
+                    this.writeCharacterReference(buffer[index]);
+                    runStart = index + 1;
+                }
+            }
+            this.out.write(buffer, runStart, offset + length - runStart);
+        }
+
+        @Override
+        public void write(final String text, final int offset, final int length) throws IOException {
+            // pass on unchanged runs of characters as a whole
+            int runStart = offset;
+            for (int index = offset; index < offset + length; index++) {
+                if (this.isToBeEscaped(text.charAt(index))) {
+                    this.out.write(text, runStart, index - runStart);
+                    this.writeCharacterReference(text.charAt(index));
+                    runStart = index + 1;
+                }
+            }
+            this.out.write(text, runStart, offset + length - runStart);
+        }
+
+        /**
+         * Write the character reference for the given character (instead of the character itself).
+         *
+         * @param character
+         *            the character to replace
+         * @throws IOException
+         *             error while writing to the target writer
+         */
+        private void writeCharacterReference(final int character) throws IOException {
+            this.out.write("&#" + character + ';');
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.hmx.scitos.domain.IModel;
+import org.hmx.scitos.domain.IReversibleChange;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -43,7 +44,7 @@ public class UndoManagerTest {
     @Test(expected = IllegalStateException.class)
     public void testCanUndo() {
         Assert.assertFalse(this.undoManager.canUndo());
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
         Assert.assertTrue(this.undoManager.canUndo());
         this.undoManager.undo();
         Assert.assertFalse(this.undoManager.canUndo());
@@ -54,7 +55,7 @@ public class UndoManagerTest {
     @Test(expected = IllegalStateException.class)
     public void testCanRedo() {
         Assert.assertFalse(this.undoManager.canRedo());
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
         Assert.assertFalse(this.undoManager.canRedo());
         this.undoManager.undo();
         Assert.assertTrue(this.undoManager.canRedo());
@@ -68,7 +69,7 @@ public class UndoManagerTest {
     public void testUndoableEditHappened() {
         Assert.assertFalse(this.undoManager.canUndo());
         Assert.assertFalse(this.undoManager.canRedo());
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
         Assert.assertTrue(this.undoManager.canUndo());
         Assert.assertFalse(this.undoManager.canRedo());
     }
@@ -76,8 +77,7 @@ public class UndoManagerTest {
     /** Test: of manager's undo method. */
     @Test
     public void testUndo() {
-        this.managedModel.changeState();
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.changeStateAndStoreFullCopies();
         final TestModelImpl undoResult = this.undoManager.undo();
         Assert.assertNotEquals(this.managedModel, undoResult);
         Assert.assertEquals(UndoManagerTest.MODEL_CLONE, undoResult);
@@ -91,8 +91,7 @@ public class UndoManagerTest {
         final Deque<TestModelImpl> oldStates = new LinkedList<>();
         for (int iteration = 0; iteration < iterationCount; iteration++) {
             oldStates.add(this.managedModel.clone());
-            this.managedModel.changeState();
-            this.undoManager.undoableEditHappened(this.managedModel);
+            this.changeStateAndStoreFullCopies();
         }
         final Deque<TestModelImpl> undoStates = new LinkedList<>();
         for (int iteration = 0; iteration < iterationCount; iteration++) {
@@ -104,8 +103,7 @@ public class UndoManagerTest {
     /** Test: of manager's redo method. */
     @Test
     public void testRedo() {
-        this.managedModel.changeState();
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.changeStateAndStoreFullCopies();
         this.undoManager.undo();
         final TestModelImpl redoResult = this.undoManager.redo();
         Assert.assertNotSame(this.managedModel, redoResult);
@@ -119,9 +117,8 @@ public class UndoManagerTest {
         this.undoManager.setLimit(iterationCount);
         final List<TestModelImpl> originalStates = new ArrayList<>();
         for (int iteration = 0; iteration < iterationCount; iteration++) {
-            this.managedModel.changeState();
+            this.changeStateAndStoreFullCopies();
             originalStates.add(this.managedModel.clone());
-            this.undoManager.undoableEditHappened(this.managedModel);
         }
         for (int iteration = 0; iteration < iterationCount; iteration++) {
             this.undoManager.undo();
@@ -136,16 +133,15 @@ public class UndoManagerTest {
     /** Test: of reset method. */
     @Test
     public void testReset() {
-        this.undoManager.undoableEditHappened(this.managedModel);
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
+        this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
         this.undoManager.undo();
         Assert.assertTrue(this.undoManager.canUndo());
         Assert.assertTrue(this.undoManager.canRedo());
         this.undoManager.reset(this.managedModel);
         Assert.assertFalse(this.undoManager.canUndo());
         Assert.assertFalse(this.undoManager.canRedo());
-        this.managedModel.changeState();
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.changeStateAndStoreFullCopies();
         Assert.assertEquals(UndoManagerTest.MODEL_CLONE, this.undoManager.undo());
     }
 
@@ -156,7 +152,7 @@ public class UndoManagerTest {
         final int undoableEdits = limit + 2;
         this.undoManager.setLimit(limit);
         for (int iteration = 0; iteration < undoableEdits; iteration++) {
-            this.undoManager.undoableEditHappened(this.managedModel);
+            this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
         }
         for (int iteration = 0; iteration < limit; iteration++) {
             this.undoManager.undo();
@@ -168,14 +164,181 @@ public class UndoManagerTest {
     @Test
     public void testLimitZero() {
         this.undoManager.setLimit(0);
-        this.undoManager.undoableEditHappened(this.managedModel);
+        this.undoManager.undoableEditHappened(this.managedModel.clone(), this.managedModel);
+        Assert.assertFalse(this.undoManager.canUndo());
+    }
+
+    /** Test: of undo and redo for changes stored as {@link IReversibleChange} records. */
+    @Test
+    public void testUndoRedoChangeRecords() {
+        this.undoManager.setLimit(3);
+        for (int iteration = 0; iteration < 3; iteration++) {
+            this.managedModel.changeState();
+            this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+        }
+        Assert.assertEquals(3, this.managedModel.state);
+        for (int iteration = 2; iteration >= 0; iteration--) {
+            Assert.assertNull(this.undoManager.undo());
+            Assert.assertEquals(iteration, this.managedModel.state);
+        }
         Assert.assertFalse(this.undoManager.canUndo());
+        for (int iteration = 1; iteration <= 3; iteration++) {
+            Assert.assertNull(this.undoManager.redo());
+            Assert.assertEquals(iteration, this.managedModel.state);
+        }
+        Assert.assertFalse(this.undoManager.canRedo());
+    }
+
+    /** Test: of undo and redo for a change record following a change stored as full model state. */
+    @Test
+    public void testChangeRecordAfterFullState() {
+        this.changeStateAndStoreFullCopies();
+        this.managedModel.changeState();
+        this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+        Assert.assertNull(this.undoManager.undo());
+        Assert.assertEquals(1, this.managedModel.state);
+        Assert.assertEquals(UndoManagerTest.MODEL_CLONE, this.undoManager.undo());
+        Assert.assertEquals(new TestModelImpl(1), this.undoManager.redo());
+        Assert.assertNull(this.undoManager.redo());
+        Assert.assertEquals(2, this.managedModel.state);
+    }
+
+    /** Test: of a change stored as full model state following a change record, which keeps the preceding changes available for undo. */
+    @Test
+    public void testFullStateAfterChangeRecord() {
+        this.managedModel.changeState();
+        this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+        this.changeStateAndStoreFullCopies();
+        Assert.assertEquals(new TestModelImpl(1), this.undoManager.undo());
+        Assert.assertTrue(this.undoManager.canUndo());
+    }
+
+    /** Test: of undo and redo for an arbitrary mix of change records and changes stored as full model states. */
+    @Test
+    public void testMixedChangeRecordsAndFullStates() {
+        final int changeCount = 6;
+        this.undoManager.setLimit(changeCount);
+        for (int iteration = 0; iteration < changeCount; iteration++) {
+            if (iteration % 3 == 0) {
+                this.changeStateAndStoreFullCopies();
+            } else {
+                this.managedModel.changeState();
+                this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+            }
+        }
+        for (int iteration = changeCount - 1; iteration >= 0; iteration--) {
+            this.resetManagedModel(this.undoManager.undo());
+            Assert.assertEquals(iteration, this.managedModel.state);
+        }
+        Assert.assertFalse(this.undoManager.canUndo());
+        for (int iteration = 1; iteration <= changeCount; iteration++) {
+            this.resetManagedModel(this.undoManager.redo());
+            Assert.assertEquals(iteration, this.managedModel.state);
+        }
+        Assert.assertFalse(this.undoManager.canRedo());
+    }
+
+    /** Test: of undo and redo for changes stored as {@link IReversibleChange} records, without creating any copy of the managed model. */
+    @Test
+    public void testChangeRecordsWithoutCopies() {
+        this.undoManager.setLimit(3);
+        for (int iteration = 0; iteration < 3; iteration++) {
+            this.managedModel.changeState();
+            this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+        }
+        while (this.undoManager.canUndo()) {
+            this.undoManager.undo();
+        }
+        while (this.undoManager.canRedo()) {
+            this.undoManager.redo();
+        }
+        Assert.assertEquals(3, this.managedModel.state);
+        Assert.assertEquals(0, this.managedModel.cloneCount);
+    }
+
+    /** Test: of a change without record and without copy of the previous state, which discards all preceding changes. */
+    @Test
+    public void testChangeWithoutRecord() {
+        this.managedModel.changeState();
+        this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+        this.changeStateAndStoreFullCopies();
+        this.undoManager.undo();
+        this.managedModel.changeState();
+        this.undoManager.undoableEditHappened(this.managedModel, (IReversibleChange) null);
+        Assert.assertFalse(this.undoManager.canUndo());
+        Assert.assertFalse(this.undoManager.canRedo());
+    }
+
+    /**
+     * Change the state of the managed model and store it as full copies of the states before and after the change.
+     */
+    private void changeStateAndStoreFullCopies() {
+        final TestModelImpl stateBefore = this.managedModel.clone();
+        this.managedModel.changeState();
+        this.undoManager.undoableEditHappened(stateBefore, this.managedModel);
+    }
+
+    /**
+     * Apply the model state returned by {@link UndoManager#undo()} or {@link UndoManager#redo()} to the managed model (if it is not {@code null}).
+     *
+     * @param resetState
+     *            model state to apply
+     */
+    private void resetManagedModel(final TestModelImpl resetState) {
+        if (resetState != null) {
+            this.managedModel.state = resetState.state;
+        }
+    }
+
+    /** Test: of setLimit method for changes stored as {@link IReversibleChange} records. */
+    @Test
+    public void testLimitChangeRecords() {
+        final int limit = 2;
+        this.undoManager.setLimit(limit);
+        for (int iteration = 0; iteration < limit + 2; iteration++) {
+            this.managedModel.changeState();
+            this.undoManager.undoableEditHappened(this.managedModel, new TestChange(this.managedModel));
+        }
+        for (int iteration = 0; iteration < limit; iteration++) {
+            this.undoManager.undo();
+        }
+        Assert.assertFalse(this.undoManager.canUndo());
+        Assert.assertEquals(limit, this.managedModel.state);
+    }
+
+    /** Change record for a single increment of the state of a {@link TestModelImpl}. */
+    private static class TestChange implements IReversibleChange {
+
+        /** The changed model. */
+        private final TestModelImpl model;
+
+        /**
+         * Constructor.
+         *
+         * @param model
+         *            the changed model
+         */
+        TestChange(final TestModelImpl model) {
+            this.model = model;
+        }
+
+        @Override
+        public void revert() {
+            this.model.state--;
+        }
+
+        @Override
+        public void apply() {
+            this.model.changeState();
+        }
     }
 
     private static class TestModelImpl implements IModel<TestModelImpl> {
 
         /** Internal state value to differentiate between changed models. */
         private int state;
+        /** Number of copies created of this instance. */
+        private int cloneCount = 0;
 
         /**
          * Constructor.
@@ -210,6 +373,7 @@ public class UndoManagerTest {
 
         @Override
         public TestModelImpl clone() {
+            this.cloneCount++;
             return new TestModelImpl(this.state);
         }
     }
@@ -0,0 +1,74 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.core.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.hmx.scitos.core.HmxException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of the {@link BinaryModelWriter} class.
+ */
+public class BinaryModelWriterTest {
+
+    /**
+     * Test: for {@link BinaryModelWriter#truncateStringTable(int)} – strings, whose first occurrence has been discarded, are written in full again.
+     *
+     * @throws IOException
+     *             error when writing into memory
+     * @throws HmxException
+     *             error when reading the written bytes
+     */
+    @Test
+    public void testTruncateStringTable() throws IOException, HmxException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BinaryModelWriter writer = new BinaryModelWriter(output);
+        writer.writeHeader("Test");
+        writer.writeString("kept");
+        writer.flush();
+        final int keptStringCount = writer.getStringTableSize();
+        final int keptByteCount = output.size();
+        writer.writeString("discarded");
+        writer.writeString("kept");
+        writer.flush();
+        Assert.assertEquals(keptStringCount + 1, writer.getStringTableSize());
+
+        // discard the bytes written after the kept ones
+        final byte[] keptBytes = output.toByteArray();
+        output.reset();
+        output.write(keptBytes, 0, keptByteCount);
+        writer.truncateStringTable(keptStringCount);
+        Assert.assertEquals(keptStringCount, writer.getStringTableSize());
+        writer.writeString("discarded");
+        writer.writeString("kept");
+        writer.flush();
+
+        final BinaryModelReader reader = new BinaryModelReader(ByteBuffer.wrap(output.toByteArray()));
+        Assert.assertEquals("Test", reader.readHeader());
+        Assert.assertEquals("kept", reader.readString());
+        Assert.assertEquals("discarded", reader.readString());
+        Assert.assertEquals("kept", reader.readString());
+        Assert.assertFalse(reader.hasRemaining());
+    }
+}
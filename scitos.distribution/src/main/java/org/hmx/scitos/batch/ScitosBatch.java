@@ -0,0 +1,492 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.batch;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hmx.scitos.ais.core.AggregatedStatistics;
+import org.hmx.scitos.ais.core.InterviewAnalysis;
+import org.hmx.scitos.ais.core.InterviewAnalysisExport;
+import org.hmx.scitos.ais.core.ModelHandlerImpl;
+import org.hmx.scitos.ais.core.ProjectStatisticsAggregator;
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.domain.IModel;
+import org.hmx.scitos.hmx.core.export.SvgFactory;
+import org.hmx.scitos.hmx.domain.model.Pericope;
+import org.hmx.scitos.view.FileType;
+import org.hmx.scitos.view.service.IModelParseServiceProvider;
+import org.hmx.scitos.view.swing.service.ModelParseServiceProviderImpl;
+
+/**
+ * Headless command line entry point, generating the reports of all project files in a directory without starting the client: the scoring
+ * statistics of AIS projects (as CSV and/or ODS files) and the SVG representations of the semantical and syntactical analyses of HmX projects.
+ * Optionally, the statistics of all AIS projects are being aggregated into combined tables as well.
+ * The files are processed in parallel on a bounded number of threads. Apart from the font metrics required for laying out the SVGs, neither AWT
+ * nor Swing are being initialized.
+ */
+public final class ScitosBatch {
+
+    /** The supported kinds of generated reports. */
+    enum OutputFormat {
+        /** Each sheet of an AIS project's analysis as separate file with comma-separated values. */
+        CSV,
+        /** All sheets of an AIS project's analysis in a single Open Document Spreadsheet. */
+        ODS,
+        /** The semantical and syntactical analyses of an HmX project as separate SVG files. */
+        SVG;
+    }
+
+    /** Minimum number (inclusive) of consecutive detail categories to be counted as pattern – as in the client's pattern analysis. */
+    private static final int MIN_PATTERN_LENGTH = 2;
+    /** Maximum number (inclusive) of consecutive detail categories to be counted as pattern – as in the client's pattern analysis. */
+    private static final int MAX_PATTERN_LENGTH = 3;
+    /** Exit code: all files have been processed successfully. */
+    private static final int EXIT_SUCCESS = 0;
+    /** Exit code: at least one file could not be processed. */
+    private static final int EXIT_FAILURE = 1;
+    /** Exit code: invalid command line arguments. */
+    private static final int EXIT_USAGE = 2;
+    /** The command line syntax. */
+    private static final String USAGE =
+            "Usage: ScitosBatch [--threads <count>] [--formats <csv,ods,svg>] [--aggregate] <input directory> <output directory>";
+
+    /** Name of the combined summary table over all AIS projects. */
+    private static final String AGGREGATED_SUMMARY_FILE = "aggregated.summary.csv";
+    /** Name of the combined pattern table over all AIS projects. */
+    private static final String AGGREGATED_PATTERN_FILE = "aggregated.pattern.csv";
+
+    /** The service provider for reading the project files and writing the SVG documents. */
+    private final IModelParseServiceProvider modelParseProvider;
+    /** The directory to write the generated reports into. */
+    private final File outputDirectory;
+    /** The kinds of reports to generate. */
+    private final Set<OutputFormat> formats;
+
+    /**
+     * Constructor.
+     *
+     * @param outputDirectory
+     *            the directory to write the generated reports into
+     * @param formats
+     *            the kinds of reports to generate
+     */
+    ScitosBatch(final File outputDirectory, final Set<OutputFormat> formats) {
+        final ModelParseServiceProviderImpl provider = new ModelParseServiceProviderImpl();
+        // register the model parse services directly, as the modules' initializers would also register their (Swing based) view services
+        provider.registerModelParseService(FileType.AIS, AisProject.class, new org.hmx.scitos.ais.core.ModelParseServiceImpl());
+        final org.hmx.scitos.hmx.core.ModelParseServiceImpl hmxService = new org.hmx.scitos.hmx.core.ModelParseServiceImpl();
+        provider.registerModelParseService(FileType.HMX_OLD, Pericope.class, hmxService);
+        provider.registerModelParseService(FileType.HMX, Pericope.class, hmxService);
+        this.modelParseProvider = provider;
+        this.outputDirectory = outputDirectory;
+        this.formats = formats;
+    }
+
+    /**
+     * Main method: generate the reports for all project files in the given input directory.
+     *
+     * @param args
+     *            the command line arguments (see {@link #USAGE})
+     */
+    public static void main(final String[] args) {
+        // must be set before any AWT class is being initialized
+        System.setProperty("java.awt.headless", "true");
+        System.exit(ScitosBatch.run(args, System.out, System.err));
+    }
+
+    /**
+     * Interpret the given command line arguments and generate the requested reports.
+     *
+     * @param args
+     *            the command line arguments (see {@link #USAGE})
+     * @param out
+     *            stream to print the progress and throughput metrics to
+     * @param err
+     *            stream to print usage errors to
+     * @return the exit code
+     */
+    static int run(final String[] args, final PrintStream out, final PrintStream err) {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        Set<OutputFormat> formats = EnumSet.allOf(OutputFormat.class);
+        boolean aggregate = false;
+        final List<String> directories = new ArrayList<>(2);
+        try {
+            for (int index = 0; index < args.length; index++) {
+                if ("--threads".equals(args[index]) && index + 1 < args.length) {
+                    threadCount = Integer.parseInt(args[++index]);
+                } else if ("--formats".equals(args[index]) && index + 1 < args.length) {
+                    formats = ScitosBatch.parseFormats(args[++index]);
+                } else if ("--aggregate".equals(args[index])) {
+                    aggregate = true;
+                } else {
+                    directories.add(args[index]);
+                }
+            }
+        } catch (final IllegalArgumentException ex) {
+            // invalid number or unknown format
+            directories.clear();
+        }
+        final File inputDirectory = directories.isEmpty() ? null : new File(directories.get(0));
+        if (directories.size() != 2 || threadCount < 1 || !inputDirectory.isDirectory()) {
+            err.println(ScitosBatch.USAGE);
+            return ScitosBatch.EXIT_USAGE;
+        }
+        final File outputDirectory = new File(directories.get(1));
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            err.println("Failed to create output directory " + outputDirectory);
+            return ScitosBatch.EXIT_USAGE;
+        }
+        return new ScitosBatch(outputDirectory, formats).execute(ScitosBatch.collectProjectFiles(inputDirectory), threadCount, aggregate, out);
+    }
+
+    /**
+     * Parse the comma-separated list of report kinds to generate.
+     *
+     * @param formatList
+     *            the comma-separated names of the {@link OutputFormat}s (case insensitive)
+     * @return the parsed report kinds
+     * @throws IllegalArgumentException
+     *             unknown report kind
+     */
+    private static Set<OutputFormat> parseFormats(final String formatList) {
+        final Set<OutputFormat> formats = EnumSet.noneOf(OutputFormat.class);
+        for (final String singleFormat : formatList.split(",")) {
+            formats.add(OutputFormat.valueOf(singleFormat.trim().toUpperCase(Locale.ENGLISH)));
+        }
+        return formats;
+    }
+
+    /**
+     * Collect all files in the given directory, that have the extension of a supported file type (either as xml or binary snapshot).
+     *
+     * @param inputDirectory
+     *            the directory to collect the project files from (sub directories are ignored)
+     * @return the contained project files (in alphabetical order)
+     */
+    static List<File> collectProjectFiles(final File inputDirectory) {
+        final File[] files = inputDirectory.listFiles(file -> {
+            if (file.isFile()) {
+                for (final FileType singleType : FileType.values()) {
+                    if (file.getName().endsWith(singleType.getFileExtension())
+                            || singleType.getBinaryFileExtension() != null && file.getName().endsWith(singleType.getBinaryFileExtension())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        Arrays.sort(files);
+        return Arrays.asList(files);
+    }
+
+    /**
+     * Generate the reports for all given project files and print the outcome of each file, followed by the overall throughput. Afterwards, the
+     * statistics of all AIS projects are being aggregated – if requested.
+     *
+     * @param inputFiles
+     *            the project files to generate the reports for
+     * @param threadCount
+     *            the maximum number of files to process in parallel
+     * @param aggregate
+     *            whether the combined tables over all AIS projects should be generated as well
+     * @param out
+     *            the stream to print the outcome to
+     * @return the exit code
+     */
+    private int execute(final List<File> inputFiles, final int threadCount, final boolean aggregate, final PrintStream out) {
+        final long start = System.nanoTime();
+        final List<FileResult> results = this.process(inputFiles, threadCount);
+        ScitosBatch.printResults(results, threadCount, System.nanoTime() - start, out);
+        boolean successful = results.stream().allMatch(FileResult::isSuccessful);
+        if (aggregate) {
+            successful &= this.aggregateAisProjects(inputFiles, threadCount, out);
+        }
+        return successful ? ScitosBatch.EXIT_SUCCESS : ScitosBatch.EXIT_FAILURE;
+    }
+
+    /**
+     * Generate the reports for all given project files – in parallel on the given number of threads.
+     *
+     * @param inputFiles
+     *            the project files to generate the reports for
+     * @param threadCount
+     *            the maximum number of files to process in parallel
+     * @return the outcome for each of the given files (in the same order)
+     */
+    List<FileResult> process(final List<File> inputFiles, final int threadCount) {
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, task -> {
+            final Thread thread = new Thread(task, "Batch Worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Callable<FileResult>> tasks = new ArrayList<>(inputFiles.size());
+            for (final File singleFile : inputFiles) {
+                tasks.add(() -> this.processFile(singleFile));
+            }
+            final List<FileResult> results = new ArrayList<>(inputFiles.size());
+            for (final Future<FileResult> singleTask : executor.invokeAll(tasks)) {
+                results.add(singleTask.get());
+            }
+            return results;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            // processFile() is catching all expected errors itself
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generate the reports for the given project file.
+     *
+     * @param inputFile
+     *            the project file to generate the reports for
+     * @return the outcome
+     */
+    private FileResult processFile(final File inputFile) {
+        final long start = System.nanoTime();
+        try {
+            final IModel<?> model = this.modelParseProvider.open(inputFile).getKey();
+            final List<File> outputFiles;
+            if (model instanceof AisProject) {
+                outputFiles = this.exportAisProject((AisProject) model, inputFile.getName());
+            } else if (model instanceof Pericope) {
+                outputFiles = this.exportPericope((Pericope) model, inputFile.getName());
+            } else {
+                outputFiles = new ArrayList<>();
+            }
+            return new FileResult(inputFile, outputFiles, null, System.nanoTime() - start);
+        } catch (final HmxException | IOException | RuntimeException ex) {
+            return new FileResult(inputFile, new ArrayList<>(), ex, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Write the scoring statistics of the given AIS project – as in the client's pattern analysis.
+     *
+     * @param project
+     *            the project to write the statistics for
+     * @param baseName
+     *            the common prefix of the generated files' names
+     * @return the generated files
+     * @throws HmxException
+     *             failed to write the statistics
+     * @throws IOException
+     *             failed to create one of the files
+     */
+    private List<File> exportAisProject(final AisProject project, final String baseName) throws HmxException, IOException {
+        final List<Interview> interviews = project.getInterviews();
+        final Map<Interview, InterviewAnalysis> results = new ModelHandlerImpl(project).analyzeInterviews(interviews,
+                ScitosBatch.MIN_PATTERN_LENGTH, ScitosBatch.MAX_PATTERN_LENGTH);
+        final InterviewAnalysisExport export = new InterviewAnalysisExport(project.provide(), interviews, results, interview -> {
+            // display only the participant id, if there is just one interview for this participant
+            if (project.getInterviews(interview.getParticipantId()).size() == 1) {
+                return interview.getParticipantId();
+            }
+            return interview.getParticipantId() + " (" + interview.getIndex() + ")";
+        });
+        final List<File> outputFiles = new ArrayList<>();
+        if (this.formats.contains(OutputFormat.CSV)) {
+            for (final InterviewAnalysisExport.Sheet singleSheet : InterviewAnalysisExport.Sheet.values()) {
+                final File target = new File(this.outputDirectory, baseName + '.' + singleSheet.name().toLowerCase(Locale.ENGLISH) + ".csv");
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(target), StandardCharsets.UTF_8))) {
+                    export.writeDelimited(singleSheet, writer, ',');
+                }
+                outputFiles.add(target);
+            }
+        }
+        if (this.formats.contains(OutputFormat.ODS)) {
+            final File target = new File(this.outputDirectory, baseName + ".ods");
+            try (OutputStream output = new FileOutputStream(target)) {
+                export.writeSpreadSheet(output);
+            }
+            outputFiles.add(target);
+        }
+        return outputFiles;
+    }
+
+    /**
+     * Aggregate the scoring statistics of all given AIS project files into a combined summary table and a combined pattern table – with the
+     * projects' category models being unified by the detail categories' codes.
+     *
+     * @param inputFiles
+     *            the project files to aggregate (other than AIS project files are being ignored)
+     * @param threadCount
+     *            the maximum number of files to read in parallel
+     * @param out
+     *            the stream to print the outcome to
+     * @return whether all AIS project files have been aggregated and both tables have been written successfully
+     */
+    private boolean aggregateAisProjects(final List<File> inputFiles, final int threadCount, final PrintStream out) {
+        final List<File> aisFiles = new ArrayList<>();
+        for (final File singleFile : inputFiles) {
+            if (singleFile.getName().endsWith(FileType.AIS.getFileExtension())
+                    || FileType.AIS.getBinaryFileExtension() != null && singleFile.getName().endsWith(FileType.AIS.getBinaryFileExtension())) {
+                aisFiles.add(singleFile);
+            }
+        }
+        final AggregatedStatistics statistics = new ProjectStatisticsAggregator(file -> (AisProject) this.modelParseProvider.open(file).getKey(),
+                ScitosBatch.MIN_PATTERN_LENGTH, ScitosBatch.MAX_PATTERN_LENGTH).aggregate(aisFiles, threadCount);
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(new File(this.outputDirectory, ScitosBatch.AGGREGATED_SUMMARY_FILE)), StandardCharsets.UTF_8))) {
+                statistics.writeSummary(writer, ',');
+            }
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(new File(this.outputDirectory, ScitosBatch.AGGREGATED_PATTERN_FILE)), StandardCharsets.UTF_8))) {
+                statistics.writePatterns(writer, ',');
+            }
+        } catch (final IOException ex) {
+            out.println("FAILED aggregation: " + ex.getMessage());
+            return false;
+        }
+        out.println(String.format("Aggregated %d AIS files (%d failed) with %d participants into %s and %s", aisFiles.size(),
+                statistics.getFailures().size(), statistics.getParticipantIds().size(), ScitosBatch.AGGREGATED_SUMMARY_FILE,
+                ScitosBatch.AGGREGATED_PATTERN_FILE));
+        return statistics.getFailures().isEmpty();
+    }
+
+    /**
+     * Write the SVG representations of the semantical and syntactical analyses of the given HmX project (without comments).
+     *
+     * @param pericope
+     *            the project to write the SVG representations for
+     * @param baseName
+     *            the common prefix of the generated files' names
+     * @return the generated files
+     * @throws HmxException
+     *             failed to create or write the SVG documents
+     */
+    private List<File> exportPericope(final Pericope pericope, final String baseName) throws HmxException {
+        final List<File> outputFiles = new ArrayList<>();
+        if (this.formats.contains(OutputFormat.SVG)) {
+            final File semanticalTarget = new File(this.outputDirectory, baseName + ".semantical.svg");
+            this.modelParseProvider.save(SvgFactory.generateSemanticalSvg(pericope, false), semanticalTarget);
+            outputFiles.add(semanticalTarget);
+            final File syntacticalTarget = new File(this.outputDirectory, baseName + ".syntactical.svg");
+            this.modelParseProvider.save(SvgFactory.generateSyntacticalSvg(pericope, false), syntacticalTarget);
+            outputFiles.add(syntacticalTarget);
+        }
+        return outputFiles;
+    }
+
+    /**
+     * Print the outcome of each processed file, followed by the overall throughput.
+     *
+     * @param results
+     *            the outcome of each processed file
+     * @param threadCount
+     *            the maximum number of files that have been processed in parallel
+     * @param elapsedNanos
+     *            the time it took to process all files (in nanoseconds)
+     * @param out
+     *            the stream to print to
+     */
+    private static void printResults(final List<FileResult> results, final int threadCount, final long elapsedNanos, final PrintStream out) {
+        long totalBytes = 0;
+        int failedCount = 0;
+        int outputCount = 0;
+        for (final FileResult singleResult : results) {
+            totalBytes += singleResult.inputFile.length();
+            outputCount += singleResult.outputFiles.size();
+            if (singleResult.isSuccessful()) {
+                out.println(String.format("OK     %s (%d reports, %d ms)", singleResult.inputFile.getName(), singleResult.outputFiles.size(),
+                        singleResult.durationNanos / 1_000_000));
+            } else {
+                failedCount++;
+                out.println(String.format("FAILED %s: %s", singleResult.inputFile.getName(), singleResult.error.getMessage()));
+            }
+        }
+        final double elapsedSeconds = Math.max(elapsedNanos, 1) / 1e9;
+        out.println(String.format(Locale.ENGLISH, "%d files (%d failed), %d reports, %d threads, %.2f s: %.1f files/s, %.2f MiB/s", results.size(),
+                failedCount, outputCount, threadCount, elapsedSeconds, results.size() / elapsedSeconds,
+                totalBytes / 1024.0 / 1024.0 / elapsedSeconds));
+    }
+
+    /** The outcome of processing a single project file. */
+    static final class FileResult {
+
+        /** The processed project file. */
+        final File inputFile;
+        /** The generated reports. */
+        final List<File> outputFiles;
+        /** The error that prevented the reports from being generated (is {@code null} if the file was processed successfully). */
+        final Exception error;
+        /** The time it took to process the file (in nanoseconds). */
+        final long durationNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param inputFile
+         *            the processed project file
+         * @param outputFiles
+         *            the generated reports
+         * @param error
+         *            the error that prevented the reports from being generated (is {@code null} if the file was processed successfully)
+         * @param durationNanos
+         *            the time it took to process the file (in nanoseconds)
+         */
+        FileResult(final File inputFile, final List<File> outputFiles, final Exception error, final long durationNanos) {
+            this.inputFile = inputFile;
+            this.outputFiles = outputFiles;
+            this.error = error;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Check whether the file was processed successfully.
+         *
+         * @return whether no error occurred
+         */
+        boolean isSuccessful() {
+            return this.error == null;
+        }
+    }
+}
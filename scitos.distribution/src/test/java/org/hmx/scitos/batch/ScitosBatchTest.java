@@ -0,0 +1,165 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.batch;
+
+import java.awt.Font;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.hmx.scitos.ais.core.AisModelHandler;
+import org.hmx.scitos.ais.core.AisOption;
+import org.hmx.scitos.ais.core.ModelHandlerImpl;
+import org.hmx.scitos.ais.domain.model.AisProject;
+import org.hmx.scitos.ais.domain.model.Interview;
+import org.hmx.scitos.hmx.domain.model.Pericope;
+import org.hmx.scitos.view.FileType;
+import org.hmx.scitos.view.swing.service.ModelParseServiceProviderImpl;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test for the {@link ScitosBatch} class.
+ */
+public class ScitosBatchTest {
+
+    /** Temporary directory for the input and output files. */
+    @Rule
+    public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+    /** The directory containing the project files to process. */
+    private File inputDirectory;
+    /** The directory to write the reports into. */
+    private File outputDirectory;
+
+    /**
+     * Preparation before each test: write an AIS project, an HmX project, and an invalid file into the input directory.
+     *
+     * @throws Exception
+     *             error when creating or saving the projects
+     */
+    @Before
+    public void prepareInputFiles() throws Exception {
+        this.inputDirectory = this.tempFolder.newFolder("input");
+        this.outputDirectory = new File(this.tempFolder.getRoot(), "output");
+        final ModelParseServiceProviderImpl provider = new ModelParseServiceProviderImpl();
+        final org.hmx.scitos.ais.core.ModelParseServiceImpl aisService = new org.hmx.scitos.ais.core.ModelParseServiceImpl();
+        provider.registerModelParseService(FileType.AIS, AisProject.class, aisService);
+        final org.hmx.scitos.hmx.core.ModelParseServiceImpl hmxService = new org.hmx.scitos.hmx.core.ModelParseServiceImpl();
+        provider.registerModelParseService(FileType.HMX, Pericope.class, hmxService);
+
+        final AisProject project = new AisProject("study", new AisOption(aisService).provide());
+        final AisModelHandler modelHandler = new ModelHandlerImpl(project);
+        final Interview interview = modelHandler.createInterview("a");
+        modelHandler.setInterviewText(interview, "1 2 3 4\n5 6");
+        modelHandler.assignDetailCategory(interview, interview.getText().subList(0, 1), project.provideSelectables().get(0));
+        modelHandler.setInterviewText(modelHandler.createInterview("b"), "7 8 9");
+        provider.save(project, Collections.emptyList(), new File(this.inputDirectory, "study.aisp"));
+
+        final Pericope pericope = new Pericope();
+        pericope.init("1 2\n3 4\n5", hmxService.getSystemLanguageModels().get(0), new Font("Arial", Font.PLAIN, 12));
+        provider.save(pericope, Collections.emptyList(), new File(this.inputDirectory, "text.hmx"));
+
+        Files.write(new File(this.inputDirectory, "invalid.aisp").toPath(), "<invalid".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(this.inputDirectory, "ignored.txt").toPath(), "ignored".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test: for run method – all reports are generated for the valid project files, while the invalid one is reported as failed.
+     */
+    @Test
+    public void testRun() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int exitCode = ScitosBatch.run(new String[] { "--threads", "2", this.inputDirectory.getPath(), this.outputDirectory.getPath() },
+                new PrintStream(out, true), System.err);
+        Assert.assertEquals(1, exitCode);
+        for (final String singleReport : new String[] { "study.aisp.summary.csv", "study.aisp.sequence.csv", "study.aisp.pattern.csv",
+                "study.aisp.ods", "text.hmx.semantical.svg", "text.hmx.syntactical.svg" }) {
+            Assert.assertTrue(singleReport, new File(this.outputDirectory, singleReport).isFile());
+        }
+        Assert.assertEquals(6, this.outputDirectory.list().length);
+        final String printed = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(printed, printed.contains("FAILED invalid.aisp"));
+        Assert.assertTrue(printed, printed.contains("3 files (1 failed), 6 reports, 2 threads"));
+    }
+
+    /**
+     * Test: for process method – only the requested kinds of reports are generated.
+     *
+     * @throws Exception
+     *             error when reading the generated report
+     */
+    @Test
+    public void testProcess_CsvOnly() throws Exception {
+        Assert.assertTrue(this.outputDirectory.mkdir());
+        final List<ScitosBatch.FileResult> results = new ScitosBatch(this.outputDirectory, EnumSet.of(ScitosBatch.OutputFormat.CSV))
+                .process(ScitosBatch.collectProjectFiles(this.inputDirectory), 1);
+        Assert.assertEquals(3, results.size());
+        Assert.assertEquals(3, results.get(1).outputFiles.size());
+        Assert.assertTrue(results.get(2).isSuccessful());
+        Assert.assertTrue(results.get(2).outputFiles.isEmpty());
+        final List<String> summary = Files.readAllLines(new File(this.outputDirectory, "study.aisp.summary.csv").toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(3, summary.size());
+        Assert.assertTrue(summary.get(1), summary.get(1).startsWith("a,"));
+        Assert.assertTrue(summary.get(2), summary.get(2).startsWith("b,"));
+    }
+
+    /**
+     * Test: for run method – the statistics of all AIS projects are aggregated into combined tables, while the invalid one is reported as failed.
+     *
+     * @throws Exception
+     *             error when reading the combined tables
+     */
+    @Test
+    public void testRun_Aggregate() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int exitCode = ScitosBatch.run(new String[] { "--formats", "csv", "--aggregate", this.inputDirectory.getPath(),
+                this.outputDirectory.getPath() }, new PrintStream(out, true), System.err);
+        Assert.assertEquals(1, exitCode);
+        final String printed = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertTrue(printed, printed.contains("Aggregated 2 AIS files (1 failed) with 2 participants"));
+        final List<String> summary = Files.readAllLines(new File(this.outputDirectory, "aggregated.summary.csv").toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals(4, summary.size());
+        Assert.assertTrue(summary.get(1), summary.get(1).startsWith("a,1,1,1,"));
+        Assert.assertTrue(summary.get(2), summary.get(2).startsWith("b,1,1,0,"));
+        Assert.assertTrue(summary.get(3), summary.get(3).startsWith("Total,1,2,1,"));
+        Assert.assertTrue(new File(this.outputDirectory, "aggregated.pattern.csv").isFile());
+    }
+
+    /**
+     * Test: for run method – invalid arguments.
+     */
+    @Test
+    public void testRun_InvalidArguments() {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        Assert.assertEquals(2, ScitosBatch.run(new String[] { this.inputDirectory.getPath() }, System.out, new PrintStream(err, true)));
+        Assert.assertEquals(2, ScitosBatch.run(new String[] { "--formats", "pdf", this.inputDirectory.getPath(), this.outputDirectory.getPath() },
+                System.out, new PrintStream(err, true)));
+        Assert.assertFalse(this.outputDirectory.exists());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.domain;
+
+/**
+ * Record of a single model change, that is able to roll itself back and to re-apply itself afterwards. Such a record only holds the values
+ * affected by the respective change – i.e. its size depends on the change and not on the size of the whole model.
+ */
+public interface IReversibleChange {
+
+    /**
+     * Roll back the recorded change. This is expected to be called only while the model is in the state right after the change.
+     */
+    void revert();
+
+    /**
+     * Re-apply the recorded change. This is expected to be called only while the model is in the state right before the change.
+     */
+    void apply();
+}
@@ -33,6 +33,8 @@ public class ModelEvent<O> implements Serializable {
     private final O target;
     /** Indicator, if this is just an update of the already existing element. */
     private final boolean updated;
+    /** The record of the change, that allows it to be rolled back. */
+    private final transient IReversibleChange change;
 
     /**
      * Constructor: creates an event that reflects changes in the given model element.
@@ -43,8 +45,23 @@ public class ModelEvent<O> implements Serializable {
      *            if this is just an update of the already existing element
      */
     public ModelEvent(final O target, final boolean updated) {
+        this(target, updated, null);
+    }
+
+    /**
+     * Constructor: creates an event that reflects changes in the given model element, which can be rolled back via the given change record.
+     *
+     * @param target
+     *            changed model element
+     * @param updated
+     *            if this is just an update of the already existing element
+     * @param change
+     *            record of the change, that allows it to be rolled back (can be {@code null})
+     */
+    public ModelEvent(final O target, final boolean updated, final IReversibleChange change) {
         this.target = target;
         this.updated = updated;
+        this.change = change;
     }
 
     /**
@@ -64,4 +81,13 @@ public class ModelEvent<O> implements Serializable {
     public boolean isUpdated() {
         return this.updated;
     }
+
+    /**
+     * Getter for the record of the change, that allows it to be rolled back without storing a copy of the whole model.
+     *
+     * @return record of the change (can be {@code null}, if the change can only be rolled back by restoring a copy of the whole model)
+     */
+    public IReversibleChange getChange() {
+        return this.change;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.domain.util;
+
+import java.util.Arrays;
+
+/**
+ * Map of primitive {@code long} keys to primitive {@code long} values – avoiding any boxing and the allocation of entry objects. Entries are
+ * stored in two parallel arrays with open addressing (linear probing). Primarily intended for counting occurrences of keys.
+ */
+public final class LongLongHashMap {
+
+    /** The initial number of slots (must be a power of two). */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** Multiplier for spreading the key bits over the whole hash (golden ratio). */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    /** The key marking an empty slot. An entry with this key is being stored separately. */
+    private static final long EMPTY_KEY = 0L;
+
+    /** The stored keys – {@link #EMPTY_KEY} for unused slots. */
+    private long[] keys;
+    /** The stored values – at the same positions as their respective keys. */
+    private long[] values;
+    /** The number of entries in the slot arrays. */
+    private int slotEntryCount;
+    /** Whether an entry for the {@link #EMPTY_KEY} exists. */
+    private boolean containsEmptyKey;
+    /** The value associated with the {@link #EMPTY_KEY}. */
+    private long emptyKeyValue;
+
+    /** Constructor: for an empty map. */
+    public LongLongHashMap() {
+        this.keys = new long[LongLongHashMap.DEFAULT_CAPACITY];
+        this.values = new long[LongLongHashMap.DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Getter for the number of entries.
+     *
+     * @return number of contained keys
+     */
+    public int size() {
+        return this.containsEmptyKey ? this.slotEntryCount + 1 : this.slotEntryCount;
+    }
+
+    /**
+     * Check whether the given key is contained.
+     *
+     * @param key
+     *            the key to look-up
+     * @return whether an entry for the given key exists
+     */
+    public boolean containsKey(final long key) {
+        if (key == LongLongHashMap.EMPTY_KEY) {
+            return this.containsEmptyKey;
+        }
+        return this.keys[this.findSlot(key)] == key;
+    }
+
+    /**
+     * Getter for the value associated with the given key.
+     *
+     * @param key
+     *            the key to look-up
+     * @param defaultValue
+     *            the value to return if there is no entry for the given key
+     * @return the associated value (or the given default value)
+     */
+    public long get(final long key, final long defaultValue) {
+        if (key == LongLongHashMap.EMPTY_KEY) {
+            return this.containsEmptyKey ? this.emptyKeyValue : defaultValue;
+        }
+        final int slot = this.findSlot(key);
+        return this.keys[slot] == key ? this.values[slot] : defaultValue;
+    }
+
+    /**
+     * Associate the given value with the given key – replacing any previously associated value.
+     *
+     * @param key
+     *            the key to set the value for
+     * @param value
+     *            the value to set
+     */
+    public void put(final long key, final long value) {
+        if (key == LongLongHashMap.EMPTY_KEY) {
+            this.containsEmptyKey = true;
+            this.emptyKeyValue = value;
+        } else {
+            final int slot = this.findSlot(key);
+            this.values[slot] = value;
+            if (this.keys[slot] != key) {
+                this.insertKey(slot, key);
+            }
+        }
+    }
+
+    /**
+     * Add the given amount to the value associated with the given key. If there is no such entry yet, it is being created with the given amount.
+     *
+     * @param key
+     *            the key to increase the associated value for
+     * @param amount
+     *            the amount to add
+     * @return the new associated value
+     */
+    public long addTo(final long key, final long amount) {
+        if (key == LongLongHashMap.EMPTY_KEY) {
+            this.emptyKeyValue = this.containsEmptyKey ? this.emptyKeyValue + amount : amount;
+            this.containsEmptyKey = true;
+            return this.emptyKeyValue;
+        }
+        final int slot = this.findSlot(key);
+        if (this.keys[slot] == key) {
+            this.values[slot] += amount;
+            return this.values[slot];
+        }
+        this.values[slot] = amount;
+        this.insertKey(slot, key);
+        return amount;
+    }
+
+    /**
+     * Add the values of all entries in the given other map to the values of the respective entries in this map.
+     *
+     * @param other
+     *            the map to add the entries from
+     */
+    public void addAll(final LongLongHashMap other) {
+        if (other.containsEmptyKey) {
+            this.addTo(LongLongHashMap.EMPTY_KEY, other.emptyKeyValue);
+        }
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != LongLongHashMap.EMPTY_KEY) {
+                this.addTo(other.keys[slot], other.values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Getter for all contained keys (in no particular order).
+     *
+     * @return contained keys
+     */
+    public long[] keys() {
+        final long[] result = new long[this.size()];
+        int index = 0;
+        if (this.containsEmptyKey) {
+            result[index] = LongLongHashMap.EMPTY_KEY;
+            index++;
+        }
+        for (final long singleKey : this.keys) {
+            if (singleKey != LongLongHashMap.EMPTY_KEY) {
+                result[index] = singleKey;
+                index++;
+            }
+        }
+        return result;
+    }
+
+    /** Remove all entries. */
+    public void clear() {
+        Arrays.fill(this.keys, LongLongHashMap.EMPTY_KEY);
+        this.slotEntryCount = 0;
+        this.containsEmptyKey = false;
+    }
+
+    /**
+     * Determine the slot containing the given key, or the empty slot where it should be inserted.
+     *
+     * @param key
+     *            the key to look-up (must not be {@link #EMPTY_KEY})
+     * @return slot position
+     */
+    private int findSlot(final long key) {
+        final int mask = this.keys.length - 1;
+        int slot = LongLongHashMap.hash(key) & mask;
+        while (this.keys[slot] != key && this.keys[slot] != LongLongHashMap.EMPTY_KEY) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Store the given key in the given (empty) slot and grow the slot arrays if they are half full.
+     *
+     * @param slot
+     *            empty slot position as determined by {@link #findSlot(long)}
+     * @param key
+     *            the key to insert
+     */
+    private void insertKey(final int slot, final long key) {
+        this.keys[slot] = key;
+        this.slotEntryCount++;
+        if (this.slotEntryCount * 2 > this.keys.length) {
+            this.rehash(this.keys.length * 2);
+        }
+    }
+
+    /**
+     * Move all entries into new slot arrays of the given size.
+     *
+     * @param capacity
+     *            the new number of slots (must be a power of two)
+     */
+    private void rehash(final int capacity) {
+        final long[] oldKeys = this.keys;
+        final long[] oldValues = this.values;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != LongLongHashMap.EMPTY_KEY) {
+                final int slot = this.findSlot(oldKeys[oldSlot]);
+                this.keys[slot] = oldKeys[oldSlot];
+                this.values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+
+    /**
+     * Calculate the hash of the given key, with the higher bits being mixed into the lower ones.
+     *
+     * @param key
+     *            the key to calculate the hash for
+     * @return hash value
+     */
+    private static int hash(final long key) {
+        final long mixed = key * LongLongHashMap.HASH_MULTIPLIER;
+        return (int) (mixed ^ mixed >>> 32);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.domain.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of the {@link LongLongHashMap} class.
+ */
+public class LongLongHashMapTest {
+
+    /** Test: put and get values, including the zero key and replaced values. */
+    @Test
+    public void testPutAndGet() {
+        final LongLongHashMap map = new LongLongHashMap();
+        Assert.assertEquals(0, map.size());
+        Assert.assertEquals(-1L, map.get(5L, -1L));
+        map.put(5L, 10L);
+        map.put(0L, 20L);
+        map.put(Long.MIN_VALUE, 30L);
+        map.put(5L, 11L);
+        Assert.assertEquals(3, map.size());
+        Assert.assertEquals(11L, map.get(5L, -1L));
+        Assert.assertEquals(20L, map.get(0L, -1L));
+        Assert.assertEquals(30L, map.get(Long.MIN_VALUE, -1L));
+        Assert.assertTrue(map.containsKey(0L));
+        Assert.assertFalse(map.containsKey(6L));
+        final long[] keys = map.keys();
+        Arrays.sort(keys);
+        Assert.assertArrayEquals(new long[] { Long.MIN_VALUE, 0L, 5L }, keys);
+        map.clear();
+        Assert.assertEquals(0, map.size());
+        Assert.assertFalse(map.containsKey(0L));
+        Assert.assertFalse(map.containsKey(5L));
+    }
+
+    /** Test: count many random keys (enforcing multiple growths) and compare with a {@link HashMap}. */
+    @Test
+    public void testAddToWithGrowth() {
+        final Random random = new Random(42);
+        final LongLongHashMap map = new LongLongHashMap();
+        final Map<Long, Long> expected = new HashMap<>();
+        for (int index = 0; index < 100_000; index++) {
+            final long key = random.nextInt(20_000) * 0x100000001L;
+            final long result = map.addTo(key, 1L);
+            Assert.assertEquals(expected.merge(key, 1L, Long::sum).longValue(), result);
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        for (final Map.Entry<Long, Long> singleEntry : expected.entrySet()) {
+            Assert.assertEquals(singleEntry.getValue().longValue(), map.get(singleEntry.getKey(), -1L));
+        }
+    }
+
+    /** Test: add all entries of another map. */
+    @Test
+    public void testAddAll() {
+        final LongLongHashMap map = new LongLongHashMap();
+        map.put(1L, 1L);
+        map.put(2L, 2L);
+        final LongLongHashMap other = new LongLongHashMap();
+        other.put(2L, 3L);
+        other.put(0L, 4L);
+        map.addAll(other);
+        Assert.assertEquals(3, map.size());
+        Assert.assertEquals(1L, map.get(1L, -1L));
+        Assert.assertEquals(5L, map.get(2L, -1L));
+        Assert.assertEquals(4L, map.get(0L, -1L));
+    }
+}
@@ -0,0 +1,436 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.hmx.core;
+
+import java.awt.Font;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.i18n.Message;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+import org.hmx.scitos.domain.util.CollectionUtil;
+import org.hmx.scitos.hmx.domain.model.AbstractConnectable;
+import org.hmx.scitos.hmx.domain.model.AbstractSyntacticalFunctionElement;
+import org.hmx.scitos.hmx.domain.model.ClauseItem;
+import org.hmx.scitos.hmx.domain.model.ClauseItem.Style;
+import org.hmx.scitos.hmx.domain.model.Pericope;
+import org.hmx.scitos.hmx.domain.model.Proposition;
+import org.hmx.scitos.hmx.domain.model.Relation;
+import org.hmx.scitos.hmx.domain.model.RelationTemplate.AssociateRole;
+import org.hmx.scitos.hmx.domain.model.SyntacticalFunction;
+import org.hmx.scitos.hmx.domain.model.SyntacticalFunctionGroup;
+
+/**
+ * Binary snapshot representation of a {@link Pericope}, as alternative to its xml structure. Instead of nesting the propositions and relations, the
+ * snapshot contains two flat tables:
+ * <ol>
+ * <li>the proposition table – each proposition referring to its parent proposition by its (one-based) position in this table, and</li>
+ * <li>the relation table – each relation referring to its associates by their positions in the proposition table or (preceding) relation
+ * table.</li>
+ * </ol>
+ * All texts and function codes are stored in the string table of the underlying {@link BinaryModelWriter}, i.e. each distinct value is only written
+ * once.
+ */
+final class BinaryPericopeFormat {
+
+    /** Position of a proposition in its parent: one of the prior children. */
+    private static final int SLOT_PRIOR = 0;
+    /** Position of a proposition in its parent: one of the later children. */
+    private static final int SLOT_LATER = 1;
+    /** Position of a proposition in its parent: the part after arrow. */
+    private static final int SLOT_PART_AFTER_ARROW = 2;
+    /** Kind of syntactical function element: a single function. */
+    private static final int FUNCTION = 0;
+    /** Kind of syntactical function element: a group of functions. */
+    private static final int FUNCTION_GROUP = 1;
+
+    /** Constructor: hidden, as this class only offers static methods. */
+    private BinaryPericopeFormat() {
+        // no instances needed
+    }
+
+    /**
+     * Write the binary snapshot of the given pericope.
+     *
+     * @param pericope
+     *            the pericope to write
+     * @param writer
+     *            binary snapshot to write to (after its header has been written)
+     * @throws IOException
+     *             error while writing to the snapshot
+     */
+    static void write(final Pericope pericope, final BinaryModelWriter writer) throws IOException {
+        writer.writeString(pericope.getFont().getFontName());
+        writer.writeVarInt(pericope.getFont().getSize());
+        writer.writeString(pericope.getTitle());
+        writer.writeString(pericope.getAuthor());
+        writer.writeString(pericope.getComment());
+        // include language model
+        writer.writeString(pericope.getLanguage());
+        writer.writeBoolean(pericope.isLeftToRightOriented());
+        final List<List<AbstractSyntacticalFunctionElement>> functionGroups = pericope.provideFunctions();
+        writer.writeVarInt(functionGroups.size());
+        for (final List<AbstractSyntacticalFunctionElement> singleGroup : functionGroups) {
+            BinaryPericopeFormat.writeSyntacticalFunctions(singleGroup, writer);
+        }
+        // proposition table: each proposition is preceded by its parent
+        final List<Proposition> propositions = new ArrayList<>();
+        for (final Proposition singleRootProposition : pericope.getText()) {
+            BinaryPericopeFormat.collectPropositionTree(singleRootProposition, propositions);
+        }
+        final Map<AbstractConnectable, Integer> references = new IdentityHashMap<>();
+        writer.writeVarInt(propositions.size());
+        for (final Proposition singleProposition : propositions) {
+            BinaryPericopeFormat.writeProposition(singleProposition, references, writer);
+            references.put(singleProposition, Integer.valueOf(references.size() + 1));
+        }
+        // relation table: each relation is preceded by its associated relations
+        final List<Relation> relations = new ArrayList<>();
+        Proposition currentProposition = pericope.getPropositionAt(0);
+        while (currentProposition != null) {
+            AbstractConnectable topMostConnectable = currentProposition;
+            while (topMostConnectable.getSuperOrdinatedRelation() != null) {
+                topMostConnectable = topMostConnectable.getSuperOrdinatedRelation();
+            }
+            BinaryPericopeFormat.collectRelationTree(topMostConnectable, relations);
+            currentProposition = topMostConnectable.getFollowingConnectableProposition();
+        }
+        final Map<AbstractConnectable, Integer> relationReferences = new IdentityHashMap<>();
+        writer.writeVarInt(relations.size());
+        for (final Relation singleRelation : relations) {
+            final List<AbstractConnectable> associates = singleRelation.getAssociates();
+            writer.writeVarInt(associates.size());
+            for (final AbstractConnectable singleAssociate : associates) {
+                // the lowest bit indicates whether the associate is a proposition or a relation
+                if (singleAssociate instanceof Relation) {
+                    writer.writeVarInt(relationReferences.get(singleAssociate).intValue() << 1 | 1);
+                } else {
+                    writer.writeVarInt(references.get(singleAssociate).intValue() << 1);
+                }
+                writer.writeString(singleAssociate.getRole().getRole());
+                writer.writeBoolean(singleAssociate.getRole().isHighWeight());
+            }
+            writer.writeString(singleRelation.getComment());
+            relationReferences.put(singleRelation, Integer.valueOf(relationReferences.size() + 1));
+        }
+    }
+
+    /**
+     * Write the given syntactical function elements, including the sub functions of contained groups.
+     *
+     * @param functions
+     *            the syntactical function elements to write
+     * @param writer
+     *            binary snapshot to write to
+     * @throws IOException
+     *             error while writing to the snapshot
+     */
+    private static void writeSyntacticalFunctions(final List<AbstractSyntacticalFunctionElement> functions, final BinaryModelWriter writer)
+            throws IOException {
+        writer.writeVarInt(functions.size());
+        for (final AbstractSyntacticalFunctionElement singleFunction : functions) {
+            if (singleFunction instanceof SyntacticalFunction) {
+                writer.writeByte(BinaryPericopeFormat.FUNCTION);
+                writer.writeString(((SyntacticalFunction) singleFunction).getCode());
+                writer.writeString(singleFunction.getName());
+                writer.writeBoolean(((SyntacticalFunction) singleFunction).isUnderlined());
+                writer.writeString(singleFunction.getDescription());
+            } else {
+                writer.writeByte(BinaryPericopeFormat.FUNCTION_GROUP);
+                writer.writeString(singleFunction.getName());
+                writer.writeString(singleFunction.getDescription());
+                BinaryPericopeFormat.writeSyntacticalFunctions(((SyntacticalFunctionGroup) singleFunction).getSubFunctions(), writer);
+            }
+        }
+    }
+
+    /**
+     * Add the given proposition and all of its subordinated propositions and parts after arrow (recursively) to the given list.
+     *
+     * @param target
+     *            the proposition to add
+     * @param result
+     *            the list to add the propositions to
+     */
+    private static void collectPropositionTree(final Proposition target, final List<Proposition> result) {
+        result.add(target);
+        for (final Proposition singleChild : target.getPriorChildren()) {
+            BinaryPericopeFormat.collectPropositionTree(singleChild, result);
+        }
+        for (final Proposition singleChild : target.getLaterChildren()) {
+            BinaryPericopeFormat.collectPropositionTree(singleChild, result);
+        }
+        if (target.getPartAfterArrow() != null) {
+            BinaryPericopeFormat.collectPropositionTree(target.getPartAfterArrow(), result);
+        }
+    }
+
+    /**
+     * Add all relations in the given connectable's sub tree to the given list – each relation after its associated relations.
+     *
+     * @param target
+     *            the connectable to add the relations from
+     * @param result
+     *            the list to add the relations to
+     */
+    private static void collectRelationTree(final AbstractConnectable target, final List<Relation> result) {
+        if (target instanceof Relation) {
+            for (final AbstractConnectable singleAssociate : (Relation) target) {
+                BinaryPericopeFormat.collectRelationTree(singleAssociate, result);
+            }
+            result.add((Relation) target);
+        }
+    }
+
+    /**
+     * Write a single entry of the proposition table – without its subordinated propositions.
+     *
+     * @param proposition
+     *            the proposition to write
+     * @param references
+     *            the already written propositions associated with their (one-based) positions in the proposition table
+     * @param writer
+     *            binary snapshot to write to
+     * @throws IOException
+     *             error while writing to the snapshot
+     */
+    private static void writeProposition(final Proposition proposition, final Map<AbstractConnectable, Integer> references,
+            final BinaryModelWriter writer) throws IOException {
+        if (proposition.getPartBeforeArrow() != null) {
+            writer.writeVarInt(references.get(proposition.getPartBeforeArrow()).intValue());
+            writer.writeByte(BinaryPericopeFormat.SLOT_PART_AFTER_ARROW);
+        } else if (proposition.getParent() instanceof Proposition) {
+            final Proposition parent = (Proposition) proposition.getParent();
+            writer.writeVarInt(references.get(parent).intValue());
+            if (CollectionUtil.containsInstance(parent.getPriorChildren(), proposition)) {
+                writer.writeByte(BinaryPericopeFormat.SLOT_PRIOR);
+            } else {
+                writer.writeByte(BinaryPericopeFormat.SLOT_LATER);
+            }
+        } else {
+            writer.writeVarInt(0);
+        }
+        writer.writeString(proposition.getLabel());
+        writer.writeString(proposition.getFunction() == null ? null : proposition.getFunction().getCode());
+        writer.writeString(proposition.getSynTranslation());
+        writer.writeString(proposition.getSemTranslation());
+        writer.writeString(proposition.getComment());
+        writer.writeVarInt(proposition.getItems().size());
+        for (final ClauseItem singleItem : proposition) {
+            writer.writeString(singleItem.getOriginText());
+            writer.writeString(singleItem.getFunction() == null ? null : singleItem.getFunction().getCode());
+            writer.writeByte(singleItem.getFontStyle().ordinal());
+            writer.writeString(singleItem.getComment());
+        }
+    }
+
+    /**
+     * Parse the pericope from the given binary snapshot.
+     *
+     * @param reader
+     *            binary snapshot to parse (after its header has been read)
+     * @return parsed pericope
+     * @throws HmxException
+     *             the snapshot does not contain a valid pericope
+     */
+    static Pericope read(final BinaryModelReader reader) throws HmxException {
+        final Font font = new Font(reader.readString(), Font.PLAIN, reader.readVarInt());
+        final String title = reader.readString();
+        final String author = reader.readString();
+        final String comment = reader.readString();
+        // retrieve language model
+        final LookupLanguageModel languageModel = new LookupLanguageModel(reader.readString(), reader.readBoolean());
+        // the recommended fonts are only relevant when creating a new pericope, the chosen font is already stored
+        languageModel.setRecommendedFonts(Collections.<String>emptyList());
+        final int functionGroupCount = reader.readCount();
+        for (int groupIndex = 0; groupIndex < functionGroupCount; groupIndex++) {
+            languageModel.add(BinaryPericopeFormat.readSyntacticalFunctions(reader));
+        }
+        final Pericope pericope = new Pericope();
+        pericope.init(null, languageModel, font);
+        pericope.setTitle(title);
+        pericope.setAuthor(author);
+        pericope.setComment(comment);
+        // rebuild the proposition trees
+        final List<Proposition> propositions = new ArrayList<>();
+        pericope.addNewPropositions(BinaryPericopeFormat.readPropositions(reader, languageModel, propositions), false);
+        BinaryPericopeFormat.readRelations(reader, propositions);
+        return pericope;
+    }
+
+    /**
+     * Parse the proposition table and rebuild the proposition trees.
+     *
+     * @param reader
+     *            binary snapshot to parse
+     * @param languageModel
+     *            the language model to look up any assigned {@link SyntacticalFunction} from
+     * @param propositions
+     *            the list to add all parsed propositions to (in the order of the proposition table)
+     * @return parsed root propositions (i.e. without a parent proposition)
+     * @throws HmxException
+     *             the snapshot does not contain a valid proposition table
+     */
+    private static List<Proposition> readPropositions(final BinaryModelReader reader, final LookupLanguageModel languageModel,
+            final List<Proposition> propositions) throws HmxException {
+        final int propositionCount = reader.readCount();
+        final List<List<Proposition>> priorChildren = new ArrayList<>(propositionCount);
+        final List<List<Proposition>> laterChildren = new ArrayList<>(propositionCount);
+        final List<Proposition> text = new ArrayList<>();
+        for (int propositionIndex = 0; propositionIndex < propositionCount; propositionIndex++) {
+            final int parentReference = reader.readCount();
+            if (parentReference > propositions.size()) {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid parent proposition reference"));
+            }
+            final int slot = parentReference == 0 ? -1 : reader.readByte();
+            final Proposition proposition = BinaryPericopeFormat.readProposition(reader, languageModel);
+            propositions.add(proposition);
+            priorChildren.add(new ArrayList<>(0));
+            laterChildren.add(new ArrayList<>(0));
+            if (parentReference == 0) {
+                text.add(proposition);
+            } else if (slot == BinaryPericopeFormat.SLOT_PRIOR) {
+                priorChildren.get(parentReference - 1).add(proposition);
+            } else if (slot == BinaryPericopeFormat.SLOT_LATER) {
+                laterChildren.get(parentReference - 1).add(proposition);
+            } else if (slot == BinaryPericopeFormat.SLOT_PART_AFTER_ARROW && propositions.get(parentReference - 1).getPartAfterArrow() == null) {
+                propositions.get(parentReference - 1).setPartAfterArrow(proposition);
+            } else {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid proposition position"));
+            }
+        }
+        for (int propositionIndex = 0; propositionIndex < propositionCount; propositionIndex++) {
+            if (!priorChildren.get(propositionIndex).isEmpty()) {
+                propositions.get(propositionIndex).setPriorChildren(priorChildren.get(propositionIndex));
+            }
+            if (!laterChildren.get(propositionIndex).isEmpty()) {
+                propositions.get(propositionIndex).setLaterChildren(laterChildren.get(propositionIndex));
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Parse the relation table and rebuild the relation trees.
+     *
+     * @param reader
+     *            binary snapshot to parse
+     * @param propositions
+     *            all parsed propositions (in the order of the proposition table)
+     * @throws HmxException
+     *             the snapshot does not contain a valid relation table
+     */
+    private static void readRelations(final BinaryModelReader reader, final List<Proposition> propositions) throws HmxException {
+        final int relationCount = reader.readCount();
+        final List<Relation> relations = new ArrayList<>(relationCount);
+        for (int relationIndex = 0; relationIndex < relationCount; relationIndex++) {
+            final int associateCount = reader.readCount();
+            final List<AbstractConnectable> associates = new ArrayList<>(associateCount);
+            final List<AssociateRole> rolesAndWeights = new ArrayList<>(associateCount);
+            for (int associateIndex = 0; associateIndex < associateCount; associateIndex++) {
+                final int associateReference = reader.readCount();
+                final List<? extends AbstractConnectable> table = (associateReference & 1) == 0 ? propositions : relations;
+                final int position = associateReference >>> 1;
+                if (position == 0 || position > table.size() || table.get(position - 1).getSuperOrdinatedRelation() != null) {
+                    throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid associate reference"));
+                }
+                associates.add(table.get(position - 1));
+                rolesAndWeights.add(new AssociateRole(reader.readString(), reader.readBoolean()));
+            }
+            final Relation relation = new Relation(associates, rolesAndWeights);
+            relation.setComment(reader.readString());
+            relations.add(relation);
+        }
+    }
+
+    /**
+     * Parse the syntactical function elements, including the sub functions of contained groups.
+     *
+     * @param reader
+     *            binary snapshot to parse
+     * @return parsed syntactical function elements
+     * @throws HmxException
+     *             the snapshot does not contain valid syntactical function elements
+     */
+    private static List<AbstractSyntacticalFunctionElement> readSyntacticalFunctions(final BinaryModelReader reader) throws HmxException {
+        final int functionCount = reader.readCount();
+        final List<AbstractSyntacticalFunctionElement> result = new ArrayList<>(functionCount);
+        for (int functionIndex = 0; functionIndex < functionCount; functionIndex++) {
+            if (reader.readByte() == BinaryPericopeFormat.FUNCTION) {
+                result.add(new SyntacticalFunction(reader.readString(), reader.readString(), reader.readBoolean(), reader.readString()));
+            } else {
+                final String name = reader.readString();
+                final String description = reader.readString();
+                result.add(new SyntacticalFunctionGroup(name, description, BinaryPericopeFormat.readSyntacticalFunctions(reader)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse a single entry of the proposition table – without its subordinated propositions.
+     *
+     * @param reader
+     *            binary snapshot to parse
+     * @param languageModel
+     *            the language model to look up any assigned {@link SyntacticalFunction} from
+     * @return parsed proposition
+     * @throws HmxException
+     *             the snapshot does not contain a valid proposition
+     */
+    private static Proposition readProposition(final BinaryModelReader reader, final LookupLanguageModel languageModel) throws HmxException {
+        final String label = reader.readString();
+        final SyntacticalFunction function = languageModel.getFunctionByCode(reader.readString());
+        final String synTranslation = reader.readString();
+        final String semTranslation = reader.readString();
+        final String comment = reader.readString();
+        final int itemCount = reader.readCount();
+        if (itemCount == 0) {
+            // a Proposition must contain ClauseItems
+            throw new HmxException(Message.ERROR_FILE_INVALID);
+        }
+        final List<ClauseItem> items = new ArrayList<>(itemCount);
+        final Style[] styles = Style.values();
+        for (int itemIndex = 0; itemIndex < itemCount; itemIndex++) {
+            final ClauseItem item = new ClauseItem(null, reader.readString());
+            item.setFunction(languageModel.getFunctionByCode(reader.readString()));
+            final int styleIndex = reader.readByte();
+            if (styleIndex >= styles.length) {
+                throw new HmxException(Message.ERROR_FILE_INVALID, new IllegalArgumentException("invalid font style"));
+            }
+            item.setFontStyle(styles[styleIndex]);
+            item.setComment(reader.readString());
+            items.add(item);
+        }
+        final Proposition result = new Proposition(null, items);
+        result.setLabel(label);
+        result.setFunction(function);
+        result.setSynTranslation(synTranslation);
+        result.setSemTranslation(semTranslation);
+        result.setComment(comment);
+        return result;
+    }
+}
@@ -24,9 +24,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.hmx.scitos.core.AbstractModelHandler;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.domain.IReversibleChange;
 import org.hmx.scitos.domain.ModelEvent;
 import org.hmx.scitos.domain.util.CollectionUtil;
 import org.hmx.scitos.hmx.core.i18n.HmxMessage;
@@ -60,28 +63,65 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
 
     @Override
     public void resetModel(final Pericope model) {
-        this.setModel(model);
-        this.notifyListeners(this.getModel(), false);
+        final Pericope stateBefore = this.getModel().clone();
+        this.getModel().reset(model);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     @Override
     public void setMetaData(final String title, final String author, final String comment, final String originTextFontFamily,
             final int originTextFontSize) {
-        this.getModel().setTitle(title);
-        this.getModel().setAuthor(author);
-        this.getModel().setComment(comment);
+        final Pericope model = this.getModel();
+        final String titleBefore = model.getTitle();
+        final String authorBefore = model.getAuthor();
+        final String commentBefore = model.getComment();
+        final Font fontBefore = model.getFont();
         final Font newFont = new Font(originTextFontFamily, Font.PLAIN, originTextFontSize);
-        if (this.getModel().getFont().equals(newFont)) {
-            this.notifyListeners(this.getModel(), true);
-        } else {
-            this.getModel().setFont(newFont);
-            this.notifyListeners(this.getModel(), false);
+        this.applyMetaData(title, author, comment, newFont);
+        final IReversibleChange change = new IReversibleChange() {
+
+            @Override
+            public void revert() {
+                ModelHandlerImpl.this.applyMetaData(titleBefore, authorBefore, commentBefore, fontBefore);
+                ModelHandlerImpl.this.notifyListeners(ModelHandlerImpl.this.getModel(), false);
+            }
+
+            @Override
+            public void apply() {
+                ModelHandlerImpl.this.applyMetaData(title, author, comment, newFont);
+                ModelHandlerImpl.this.notifyListeners(ModelHandlerImpl.this.getModel(), false);
+            }
+        };
+        this.notifyListeners(model, fontBefore.equals(newFont), change);
+    }
+
+    /**
+     * Set the given meta data on the managed model, without triggering any {@link ModelEvent}.
+     *
+     * @param title
+     *            the title to set
+     * @param author
+     *            the author to set
+     * @param comment
+     *            the comment to set
+     * @param font
+     *            the origin text font to set
+     */
+    private void applyMetaData(final String title, final String author, final String comment, final Font font) {
+        final Pericope model = this.getModel();
+        model.setTitle(title);
+        model.setAuthor(author);
+        model.setComment(comment);
+        if (!model.getFont().equals(font)) {
+            model.setFont(font);
         }
     }
 
     @Override
     public void indentPropositionUnderParent(final Proposition target, final Proposition parent, final SyntacticalFunction function)
             throws HmxException {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         final IPropositionParent formerParent = target.getParent();
         Proposition parentPart = parent;
         do {
@@ -113,7 +153,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
                 parent.getLastPart().addLastLaterChild(target);
             }
             // trigger a full model rebuild
-            this.notifyListeners(this.getModel(), false);
+            this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
             return;
         }
         /*
@@ -155,7 +195,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
         }
         target.setFunction(function);
         // trigger a full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     /**
@@ -192,6 +232,8 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
 
     @Override
     public void removeOneIndentation(final Proposition target) throws HmxException {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         if (target.getParent() instanceof Pericope) {
             throw new HmxException(HmxMessage.ERROR_UNINDENT_PERICOPE);
         }
@@ -213,7 +255,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
                 parentsParent.insertChildPropositionBeforeFollower(singleChild, parent);
             }
             // trigger a full model rebuild
-            this.notifyListeners(this.getModel(), false);
+            this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
             return;
         }
 
@@ -237,7 +279,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
             parentsParent.insertChildPropositionAfterPrior(singleChild, parent);
         }
         // trigger a full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     @Override
@@ -271,6 +313,8 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
             // already merged
             return;
         }
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         /*
          * make sure the propositions are the first parts, if they are already merged with enclosed children; should not be necessary cause user
          * cannot select a partAfterArrow
@@ -284,7 +328,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
                 throw new HmxException(HmxMessage.ERROR_MERGE_PROPS);
             }
             // merged successfully
-            this.notifyListeners(this.getModel(), false);
+            this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
             return;
         }
         final List<Proposition> containingList = parent.getContainingList(propOne);
@@ -317,7 +361,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
             this.mergePropositionsWithEnclosedChildren(firstPart, secondPart);
         }
         // trigger a full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     /**
@@ -551,6 +595,8 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
 
     @Override
     public void splitProposition(final Proposition target, final ClauseItem lastItemInFirstPart) throws HmxException {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         final List<ClauseItem> firstPartItems = target.getItems();
         if (!CollectionUtil.containsInstance(firstPartItems, lastItemInFirstPart)) {
             throw new IllegalArgumentException();
@@ -576,7 +622,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
             // finish model changes
             target.getParent().insertChildPropositionAfterPrior(secondPart, target);
             // trigger a full model rebuild
-            this.notifyListeners(this.getModel(), false);
+            this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
             return;
         }
         final Proposition partAfterArrow = target.getPartAfterArrow();
@@ -607,7 +653,7 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
         target.setPartAfterArrow(null);
         target.getParent().insertChildPropositionAfterPrior(partAfterArrow, target);
         // trigger a full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     /**
@@ -707,15 +753,16 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
      *            {@link ClauseItem} representing the end of the merged
      */
     private void mergeClauseItems(final ClauseItem itemOne, final ClauseItem itemTwo) {
+        final Proposition parent = itemOne.getParent();
+        final List<ClauseItem> itemsBefore = ModelHandlerImpl.copyClauseItems(parent.getItems());
         itemOne.setOriginText(this.mergeText(itemOne.getOriginText(), itemTwo.getOriginText(), ' '));
         if (itemOne.getFunction() == null) {
             itemOne.setFunction(itemTwo.getFunction());
         }
         // finish model changes by using the event creating methods
-        final Proposition parent = itemOne.getParent();
         parent.removeClauseItems(Collections.singletonList(itemTwo));
         // trigger refresh of changed proposition
-        this.notifyListeners(parent, true);
+        this.notifyListeners(parent, true, this.createClauseItemsChange(parent, itemsBefore));
     }
 
     @Override
@@ -725,58 +772,73 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
             throw new IllegalArgumentException();
         }
         final Proposition parent = target.getParent();
+        final List<ClauseItem> itemsBefore = ModelHandlerImpl.copyClauseItems(parent.getItems());
         final ClauseItem toInsert = new ClauseItem(parent, target.getOriginText().substring(firstPart.length()).trim());
         // finishing the split by executing it in the model
         target.setOriginText(firstPart);
         parent.insertClauseItemAfterPrior(toInsert, target);
         // trigger refresh of changed proposition
-        this.notifyListeners(parent, true);
+        this.notifyListeners(parent, true, this.createClauseItemsChange(parent, itemsBefore));
     }
 
     @Override
     public void setLabelText(final Proposition target, final String labelText) {
+        final String valueBefore = target.getLabel();
         target.setLabel(labelText);
         // trigger refresh of changed proposition
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true,
+                new PropertyChange<>(this.locateProposition(target), Proposition::setLabel, valueBefore, labelText));
     }
 
     @Override
     public void setSynTranslation(final Proposition target, final String synTranslation) {
+        final String valueBefore = target.getSynTranslation();
         target.setSynTranslation(synTranslation);
         // trigger refresh of changed proposition
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true,
+                new PropertyChange<>(this.locateProposition(target), Proposition::setSynTranslation, valueBefore, synTranslation));
     }
 
     @Override
     public void setSemTranslation(final Proposition target, final String semTranslation) {
+        final String valueBefore = target.getSemTranslation();
         target.setSemTranslation(semTranslation);
         // trigger refresh of changed proposition
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true,
+                new PropertyChange<>(this.locateProposition(target), Proposition::setSemTranslation, valueBefore, semTranslation));
     }
 
     @Override
     public void setComment(final ICommentable target, final String comment) {
+        final String commentBefore = target.getComment();
         target.setComment(comment);
         // trigger refresh of changed model element
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true, new PropertyChange<>(this.locateElement(target),
+                (final Object element, final String value) -> ((ICommentable) element).setComment(value), commentBefore, comment));
     }
 
     @Override
     public void setSyntacticalFunction(final ICanHaveSyntacticalFunction target, final SyntacticalFunction function) {
+        final SyntacticalFunction functionBefore = target.getFunction();
         target.setFunction(function);
         // trigger refresh of changed item
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true, new PropertyChange<>(this.locateElement(target),
+                (final Object element, final SyntacticalFunction value) -> ((ICanHaveSyntacticalFunction) element).setFunction(value), functionBefore,
+                function));
     }
 
     @Override
     public void setClauseItemFontStyle(final ClauseItem target, final Style style) {
+        final Style styleBefore = target.getFontStyle();
         target.setFontStyle(style);
         // trigger refresh of changed item
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true, new PropertyChange<>(this.locateClauseItem(target), ClauseItem::setFontStyle, styleBefore, style));
     }
 
     @Override
     public void createRelation(final List<? extends AbstractConnectable> associates, final RelationTemplate template) throws HmxException {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         final int associateCount = associates.size();
         if (associateCount < 2 || associateCount > 2 && !template.canHaveMoreThanTwoAssociates()) {
             throw new IllegalArgumentException();
@@ -807,12 +869,13 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
         // associates are immediate neighbors and can be part of a relation
         final Relation newRelation = new Relation(associates, template);
         // trigger refresh of changed proposition
-        this.notifyListeners(newRelation, false);
+        this.notifyListeners(newRelation, false, this.createModelStateChange(stateBefore));
     }
 
     @Override
     public void rotateAssociateRoles(final Relation target) {
         final List<AbstractConnectable> associates = target.getAssociates();
+        final List<AssociateRole> rolesBefore = ModelHandlerImpl.getAssociateRoles(target);
         // remember first associates role and weight
         AssociateRole role = associates.get(0).getRole();
         for (final AbstractConnectable singleAssociate : associates) {
@@ -824,46 +887,54 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
         // set first associates role and weight to the former ones of the last
         associates.get(0).setSuperOrdinatedRelation(target, role);
         // trigger full model rebuild
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true, new PropertyChange<>(this.locateRelation(target), ModelHandlerImpl::setAssociateRoles, rolesBefore,
+                ModelHandlerImpl.getAssociateRoles(target)));
     }
 
     @Override
     public void alterRelationType(final Relation target, final RelationTemplate template) {
-        final List<AbstractConnectable> associates = target.getAssociates();
-        final List<AssociateRole> rolesAndWeights = template.getAssociateRoles(associates.size());
-        for (int i = 0; i < associates.size(); i++) {
-            associates.get(i).setSuperOrdinatedRelation(target, rolesAndWeights.get(i));
-        }
+        final List<AssociateRole> rolesBefore = ModelHandlerImpl.getAssociateRoles(target);
+        final List<AssociateRole> rolesAndWeights = template.getAssociateRoles(target.getAssociates().size());
+        ModelHandlerImpl.setAssociateRoles(target, rolesAndWeights);
         // trigger refresh of the changed relation
-        this.notifyListeners(target, true);
+        this.notifyListeners(target, true, new PropertyChange<>(this.locateRelation(target), ModelHandlerImpl::setAssociateRoles, rolesBefore,
+                rolesAndWeights));
     }
 
     @Override
     public void removeRelation(final Relation target) {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         target.kill();
         // trigger full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     @Override
     public void addNewPropositions(final String originText, final boolean inFront) {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         this.getModel().addNewPropositions(originText, inFront);
         // trigger full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     @Override
     public void mergeWithOtherPericope(final Pericope otherPericope, final boolean inFront) throws HmxException {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         if (!this.getModel().getLanguage().equals(otherPericope.getLanguage())) {
             throw new HmxException(HmxMessage.ERROR_MERGE_PERICOPES_LANGUAGE_CONFLICT);
         }
         this.getModel().addNewPropositions(otherPericope.getText(), inFront);
         // trigger full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
     }
 
     @Override
     public void removePropositions(final List<Proposition> targets) throws HmxException {
+        // remember the previous state, as this structural change can only be rolled back by restoring it
+        final Pericope stateBefore = this.getModel().clone();
         // ensure all conditions are fulfilled
         for (final Proposition singleProposition : targets) {
             // 1. shall not be indented
@@ -891,6 +962,258 @@ public final class ModelHandlerImpl extends AbstractModelHandler<Pericope> imple
             singleProposition.getParent().removeChildProposition(singleProposition);
         }
         // trigger full model rebuild
-        this.notifyListeners(this.getModel(), false);
+        this.notifyListeners(this.getModel(), false, this.createModelStateChange(stateBefore));
+    }
+
+    /**
+     * Collect the roles of the given {@link Relation}'s associates.
+     *
+     * @param relation
+     *            the relation to collect the associates' roles from
+     * @return the associates' roles (in the order of the associates)
+     */
+    private static List<AssociateRole> getAssociateRoles(final Relation relation) {
+        final List<AbstractConnectable> associates = relation.getAssociates();
+        final List<AssociateRole> roles = new ArrayList<>(associates.size());
+        for (final AbstractConnectable singleAssociate : associates) {
+            roles.add(singleAssociate.getRole());
+        }
+        return roles;
+    }
+
+    /**
+     * Apply the given roles to the given {@link Relation}'s associates, without triggering any {@link ModelEvent}.
+     *
+     * @param relation
+     *            the relation whose associates' roles should be set
+     * @param roles
+     *            the roles to set (in the order of the associates)
+     */
+    private static void setAssociateRoles(final Relation relation, final List<AssociateRole> roles) {
+        final List<AbstractConnectable> associates = relation.getAssociates();
+        for (int associateIndex = 0; associateIndex < associates.size(); associateIndex++) {
+            associates.get(associateIndex).setSuperOrdinatedRelation(relation, roles.get(associateIndex));
+        }
+    }
+
+    /**
+     * Create independent copies of the given {@link ClauseItem}s.
+     *
+     * @param items
+     *            the clause items to copy
+     * @return copied clause items (without parent {@link Proposition})
+     */
+    private static List<ClauseItem> copyClauseItems(final List<ClauseItem> items) {
+        final List<ClauseItem> copies = new ArrayList<>(items.size());
+        for (final ClauseItem singleItem : items) {
+            copies.add(singleItem.clone());
+        }
+        return copies;
+    }
+
+    /**
+     * Create the change record for the modification of the given {@link Proposition}'s {@link ClauseItem}s.
+     *
+     * @param target
+     *            the proposition whose clause items have been changed (in its state after the change)
+     * @param itemsBefore
+     *            copies of the proposition's clause items before the change
+     * @return change record replacing the proposition's clause items
+     */
+    private IReversibleChange createClauseItemsChange(final Proposition target, final List<ClauseItem> itemsBefore) {
+        // always apply copies, as the proposition takes ownership of the clause items set on it
+        return new PropertyChange<>(this.locateProposition(target),
+                (final Proposition proposition, final List<ClauseItem> items) -> proposition.setItems(ModelHandlerImpl.copyClauseItems(items)),
+                itemsBefore, ModelHandlerImpl.copyClauseItems(target.getItems()));
+    }
+
+    /**
+     * Create a function, that retrieves the equivalent of the given {@link Proposition} from a {@link Pericope} – identified by its position in
+     * the flat text. This remains applicable if the managed model has been replaced by an equal copy in the meantime.
+     *
+     * @param target
+     *            the proposition to locate (in the currently managed model)
+     * @return function retrieving the equivalent proposition from a given pericope
+     */
+    private Function<Pericope, Proposition> locateProposition(final Proposition target) {
+        final int flatTextIndex = this.getModel().indexOfProposition(target);
+        return pericope -> pericope.getPropositionAt(flatTextIndex);
+    }
+
+    /**
+     * Create a function, that retrieves the equivalent of the given {@link ClauseItem} from a {@link Pericope} – identified by the position of
+     * its parent {@link Proposition} in the flat text and its own position in that proposition.
+     *
+     * @param target
+     *            the clause item to locate (in the currently managed model)
+     * @return function retrieving the equivalent clause item from a given pericope
+     */
+    private Function<Pericope, ClauseItem> locateClauseItem(final ClauseItem target) {
+        final Function<Pericope, Proposition> parentLocator = this.locateProposition(target.getParent());
+        final int itemIndex = CollectionUtil.indexOfInstance(target.getParent().getItems(), target);
+        return pericope -> parentLocator.apply(pericope).getItems().get(itemIndex);
+    }
+
+    /**
+     * Create a function, that retrieves the equivalent of the given {@link Relation} from a {@link Pericope} – identified by its first contained
+     * {@link Proposition} and the number of super ordinated relations between that proposition and the relation itself.
+     *
+     * @param target
+     *            the relation to locate (in the currently managed model)
+     * @return function retrieving the equivalent relation from a given pericope
+     */
+    private Function<Pericope, Relation> locateRelation(final Relation target) {
+        final Proposition firstProposition = target.getFirstPropositionContained();
+        final Function<Pericope, Proposition> propositionLocator = this.locateProposition(firstProposition);
+        int levels = 0;
+        for (Relation relation = firstProposition.getSuperOrdinatedRelation(); relation != target; relation = relation.getSuperOrdinatedRelation()) {
+            levels++;
+        }
+        final int relationLevel = levels;
+        return pericope -> {
+            Relation relation = propositionLocator.apply(pericope).getSuperOrdinatedRelation();
+            for (int level = 0; level < relationLevel; level++) {
+                relation = relation.getSuperOrdinatedRelation();
+            }
+            return relation;
+        };
+    }
+
+    /**
+     * Create a change record for a structural change, that is rolled back by resetting the managed model to the given copy of its previous state.
+     * This is the fallback for changes that cannot be expressed in a more compact way.
+     *
+     * @param stateBefore
+     *            copy of the managed model's state before the change
+     * @return change record resetting the managed model
+     */
+    private IReversibleChange createModelStateChange(final Pericope stateBefore) {
+        return new ModelStateChange(stateBefore);
+    }
+
+    /**
+     * Create a function, that retrieves the equivalent of the given model element from a {@link Pericope}.
+     *
+     * @param target
+     *            the {@link Pericope}, {@link Proposition}, {@link ClauseItem} or {@link Relation} to locate (in the currently managed model)
+     * @return function retrieving the equivalent model element from a given pericope
+     */
+    private Function<Pericope, Object> locateElement(final Object target) {
+        final Function<Pericope, ?> locator;
+        if (target instanceof Proposition) {
+            locator = this.locateProposition((Proposition) target);
+        } else if (target instanceof ClauseItem) {
+            locator = this.locateClauseItem((ClauseItem) target);
+        } else if (target instanceof Relation) {
+            locator = this.locateRelation((Relation) target);
+        } else if (target instanceof Pericope) {
+            locator = Function.identity();
+        } else {
+            throw new IllegalArgumentException();
+        }
+        return locator::apply;
+    }
+
+    /**
+     * Change record for a single value of a model element, which is identified by its position in the model – in order to remain applicable if
+     * the managed model has been replaced by an equal copy in the meantime.
+     *
+     * @param <T>
+     *            type of the changed model element
+     * @param <V>
+     *            type of the changed value
+     */
+    private final class PropertyChange<T, V> implements IReversibleChange {
+
+        /** The function retrieving the changed model element from the managed model. */
+        private final Function<Pericope, T> locator;
+        /** The function setting a value on the changed model element. */
+        private final BiConsumer<T, V> setter;
+        /** The value before the change. */
+        private final V valueBefore;
+        /** The value after the change. */
+        private final V valueAfter;
+
+        /**
+         * Constructor.
+         *
+         * @param locator
+         *            the function retrieving the changed model element from the managed model
+         * @param setter
+         *            the function setting a value on the changed model element
+         * @param valueBefore
+         *            the value before the change
+         * @param valueAfter
+         *            the value after the change
+         */
+        PropertyChange(final Function<Pericope, T> locator, final BiConsumer<T, V> setter, final V valueBefore, final V valueAfter) {
+            this.locator = locator;
+            this.setter = setter;
+            this.valueBefore = valueBefore;
+            this.valueAfter = valueAfter;
+        }
+
+        @Override
+        public void revert() {
+            this.setValue(this.valueBefore);
+        }
+
+        @Override
+        public void apply() {
+            this.setValue(this.valueAfter);
+        }
+
+        /**
+         * Set the given value on the changed model element and trigger a refresh of it.
+         *
+         * @param value
+         *            the value to set
+         */
+        private void setValue(final V value) {
+            final T target = this.locator.apply(ModelHandlerImpl.this.getModel());
+            this.setter.accept(target, value);
+            ModelHandlerImpl.this.notifyListeners(target, true);
+        }
+    }
+
+    /**
+     * Change record, that switches the state of the managed model with another copy of it. The managed {@link Pericope} instance itself is being
+     * preserved, as it is still referenced by the views.
+     */
+    private final class ModelStateChange implements IReversibleChange {
+
+        /** The model state to switch to on the next call of {@link #revert()} or {@link #apply()}. */
+        private Pericope otherState;
+
+        /**
+         * Constructor.
+         *
+         * @param stateBefore
+         *            copy of the managed model's state before the change
+         */
+        ModelStateChange(final Pericope stateBefore) {
+            this.otherState = stateBefore;
+        }
+
+        @Override
+        public void revert() {
+            this.switchState();
+        }
+
+        @Override
+        public void apply() {
+            this.switchState();
+        }
+
+        /**
+         * Reset the managed model to the stored other state, while remembering its replaced state.
+         */
+        private void switchState() {
+            final Pericope model = ModelHandlerImpl.this.getModel();
+            final Pericope replacedState = model.clone();
+            model.reset(this.otherState);
+            this.otherState = replacedState;
+            ModelHandlerImpl.this.notifyListeners(model, false);
+        }
     }
 }
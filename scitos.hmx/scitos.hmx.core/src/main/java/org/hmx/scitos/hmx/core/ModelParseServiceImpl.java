@@ -27,28 +27,39 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.MissingResourceException;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.ExportOption.TargetFileType;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.IBinaryModelParseService;
 import org.hmx.scitos.core.IModelParseService;
+import org.hmx.scitos.core.IStreamModelParseService;
 import org.hmx.scitos.core.i18n.Message;
 import org.hmx.scitos.core.i18n.Translator;
 import org.hmx.scitos.core.option.Option;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
 import org.hmx.scitos.core.util.DomUtil;
+import org.hmx.scitos.core.util.StaxUtil;
 import org.hmx.scitos.domain.IModel;
 import org.hmx.scitos.domain.util.CollectionUtil;
 import org.hmx.scitos.hmx.core.LookupLanguageModel.BackwardCompatibleFunction;
@@ -77,11 +88,13 @@ import org.xml.sax.SAXException;
  * reading files generated by the former (standalone) HermeneutiX v1.12.
  */
 @Singleton
-public class ModelParseServiceImpl implements IModelParseService<Pericope> {
+public class ModelParseServiceImpl implements IStreamModelParseService<Pericope>, IBinaryModelParseService<Pericope> {
 
     private static final String NAMESPACE = "http://www.hermeneutix.org/schema/hmx/2.0";
     private static final String SCHEMA_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
     private static final String SCHEMA_REF_ATTRIBUTE = "xsi:schemaLocation";
+    private static final String SCHEMA_PREFIX = "xsi";
+    private static final String SCHEMA_REF_ATTRIBUTE_NAME = "schemaLocation";
     private static final String SCHEMA_LOCATION =
             "https://raw.githubusercontent.com/scientific-tool-set/scitos/master/scitos.hmx/schema/hmx-v2.0.xsd";
     private static final String TAG_ROOT = "Pericope";
@@ -156,6 +169,17 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
     private static final String VAL_CONN_WEIGHT_LOW = "low";
     private static final String ATT_RELATION_COMMENT = "Comment";
 
+    /**
+     * The parsing of the system language models (associated with the user language independent key for the origin text language), per user
+     * language. These are never handed out directly but only as copies, as the models themselves are mutable.
+     */
+    private static final ConcurrentMap<String, FutureTask<Map<String, LookupLanguageModel>>> SYSTEM_LANGUAGE_MODELS = new ConcurrentHashMap<>();
+    /**
+     * The parsing of the system relation model, per user language. These are never handed out directly but only as copies, as the models
+     * themselves are mutable.
+     */
+    private static final ConcurrentMap<String, FutureTask<RelationModel>> SYSTEM_RELATION_MODELS = new ConcurrentHashMap<>();
+
     /**
      * Main constructor for the state-less service implementation.
      */
@@ -357,21 +381,7 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
             if (singleItem.getFunction() != null) {
                 itemNode.setAttribute(ModelParseServiceImpl.ATT_ITEM_FUNCTION, singleItem.getFunction().getCode());
             }
-            final String styleValue;
-            switch (singleItem.getFontStyle()) {
-            case BOLD:
-                styleValue = ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD;
-                break;
-            case ITALIC:
-                styleValue = ModelParseServiceImpl.VAL_ITEM_STYLE_ITALIC;
-                break;
-            case BOLD_ITALIC:
-                styleValue = ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD_ITALIC;
-                break;
-            default:
-                styleValue = null;
-            }
-            DomUtil.setNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_STYLE, styleValue);
+            DomUtil.setNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_STYLE, ModelParseServiceImpl.toXmlValue(singleItem.getFontStyle()));
             DomUtil.setNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_COMMENT, singleItem.getComment());
             clauseItemGroupNode.appendChild(itemNode);
         }
@@ -394,6 +404,27 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         return propositionNode;
     }
 
+    /**
+     * Determine the xml attribute value representing the given font style of a {@link ClauseItem}.
+     *
+     * @param fontStyle
+     *            the font style to represent
+     * @return the attribute value ({@code null} for {@link Style#PLAIN})
+     * @see #parseFontStyle(String)
+     */
+    private static String toXmlValue(final Style fontStyle) {
+        switch (fontStyle) {
+        case BOLD:
+            return ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD;
+        case ITALIC:
+            return ModelParseServiceImpl.VAL_ITEM_STYLE_ITALIC;
+        case BOLD_ITALIC:
+            return ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD_ITALIC;
+        default:
+            return null;
+        }
+    }
+
     /**
      * Create the xml structure representing the given {@link AbstractConnectable}'s role and weight in its {@link Pericope}'s semantical analysis. In
      * case of a {@link Relation} this includes recursively all associated (i.e. contained) {@link AbstractConnectable}s.
@@ -434,18 +465,7 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         final Translator<CompatibleRelationRole> compatibleRoleTranslator;
         final Element syntacticalModelNode = DomUtil.getChildElement(pericopeNode, ModelParseServiceImpl.TAG_LANGMODEL);
         if (syntacticalModelNode == null) {
-            /*
-             * Load the backwards compatible language model from the internal default models, matching the given language key. This is to allow
-             * opening of HermeneutiX files, that have been created with the (old) HermeneutiX standalone application.
-             */
-            final Element systemModelNode = this.getSystemLanguageModelNodes().get(language);
-            if (systemModelNode == null) {
-                throw new HmxException(Message.ERROR_FILE_INVALID);
-            }
-            final String textOrientation = systemModelNode.getAttribute(ModelParseServiceImpl.ATT_LANGMODEL_ORIENTATION);
-            languageModel =
-                    this.parseLanguageModelFromXml(systemModelNode, systemModelNode.getAttribute(ModelParseServiceImpl.ATT_LANGMODEL_NAME),
-                            textOrientation);
+            languageModel = this.getCompatibleLanguageModel(language);
             compatibleRoleTranslator = new Translator<>(CompatibleRelationRole.class);
         } else {
             final String textOrientation = pericopeNode.getAttribute(ModelParseServiceImpl.ATT_ROOT_ORIENTATION);
@@ -453,37 +473,24 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
             // no translation needed, as the new file format contains the full role names without i18n in favor of configurability
             compatibleRoleTranslator = null;
         }
-        // Reads the font name for the origin text font
-        final String fontName = DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_FONT);
-        // Reads the font size for the origin text font
-        final int fontSize = DomUtil.getIntAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_FONTSIZE, 14);
-        // Creates a new Font with the read information for the origin text
-        final Font font = new Font(fontName, Font.PLAIN, fontSize);
-        // create the resulting instance
-        final Pericope newPericope = new Pericope();
-        newPericope.init(null, languageModel, font);
-        newPericope.setTitle(DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_TITLE));
-        newPericope.setAuthor(DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_AUTHOR));
-        newPericope.setComment(DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_COMMENT));
-
         // Creates an List of Propositions for the rootPropositions
         final List<Proposition> text = new ArrayList<>();
         // all top level children, including the root Propositions
         for (final Element topLevelProposition : DomUtil.getChildElements(pericopeNode, ModelParseServiceImpl.TAG_PROPOSITION)) {
             text.add(this.parsePropositionFromXml(topLevelProposition, languageModel));
         }
-        // sets the retrieved rootPropositions as the text of the new Pericope
-        newPericope.addNewPropositions(text, false);
+        // create the resulting instance, with the retrieved rootPropositions as its text
+        final String fontName = DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_FONT);
+        final int fontSize = DomUtil.getIntAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_FONTSIZE, 14);
+        final Pericope newPericope = this.createPericope(languageModel, fontName, fontSize, text);
+        newPericope.setTitle(DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_TITLE));
+        newPericope.setAuthor(DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_AUTHOR));
+        newPericope.setComment(DomUtil.getNullableAttribute(pericopeNode, ModelParseServiceImpl.ATT_ROOT_COMMENT));
 
         final Element connectablesTree = DomUtil.getChildElement(pericopeNode, ModelParseServiceImpl.TAG_RELATION_SUB_TREE);
         if (connectablesTree != null && !text.isEmpty()) {
-            // gets a list of all Propositions contained in the pericope in order of appearence
-            final Deque<Proposition> propositionsInOrder = new LinkedList<>();
-            Proposition nextProposition = newPericope.getPropositionAt(0);
-            while (nextProposition != null) {
-                propositionsInOrder.addLast(nextProposition);
-                nextProposition = nextProposition.getFollowingConnectableProposition();
-            }
+            // all Propositions contained in the pericope in order of appearance
+            final PropositionSequence propositionsInOrder = new PropositionSequence(newPericope);
             for (final Element topLevelConnectable : DomUtil.getChildElements(connectablesTree, ModelParseServiceImpl.TAG_CONNECTABLE)) {
                 this.parseConnectableFromXml(topLevelConnectable, propositionsInOrder, compatibleRoleTranslator);
             }
@@ -491,6 +498,682 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         return new SimpleEntry<>(newPericope, Collections.singletonList(newPericope));
     }
 
+    /**
+     * Load the backwards compatible language model from the internal default models, matching the given language key. This is to allow opening of
+     * HermeneutiX files, that have been created with the (old) HermeneutiX standalone application.
+     *
+     * @param language
+     *            the language key as stored in the (old) HermeneutiX file
+     * @return copy of the matching system language model, including the backwards compatibility information
+     * @throws HmxException
+     *             no matching system language model found, or internal error while parsing the system language model file
+     */
+    private LookupLanguageModel getCompatibleLanguageModel(final String language) throws HmxException {
+        final LookupLanguageModel systemModel = this.getCachedSystemLanguageModels().get(language);
+        if (systemModel == null) {
+            throw new HmxException(Message.ERROR_FILE_INVALID);
+        }
+        return ModelParseServiceImpl.copyLookupLanguageModel(systemModel);
+    }
+
+    /**
+     * Create the {@link Pericope} instance with the given (already parsed) contents.
+     *
+     * @param languageModel
+     *            the origin text's language model
+     * @param fontName
+     *            the name of the origin text font
+     * @param fontSize
+     *            the size of the origin text font
+     * @param text
+     *            the top level propositions (including their respective subordinated propositions)
+     * @return created pericope
+     */
+    private Pericope createPericope(final LookupLanguageModel languageModel, final String fontName, final int fontSize,
+            final List<Proposition> text) {
+        final Pericope newPericope = new Pericope();
+        newPericope.init(null, languageModel, new Font(fontName, Font.PLAIN, fontSize));
+        newPericope.addNewPropositions(text, false);
+        return newPericope;
+    }
+
+    @Override
+    public void writeModelToStream(final IModel<?> model, final List<?> openViewElements, final XMLStreamWriter writer,
+            final Map<String, String> rootAttributes) throws HmxException {
+        final Pericope pericope = (Pericope) model;
+        try {
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.setDefaultNamespace(ModelParseServiceImpl.NAMESPACE);
+            writer.writeStartElement(ModelParseServiceImpl.NAMESPACE, ModelParseServiceImpl.TAG_ROOT);
+            StaxUtil.writeAttributes(writer, rootAttributes);
+            // add schema reference
+            writer.writeNamespace(ModelParseServiceImpl.SCHEMA_PREFIX, ModelParseServiceImpl.SCHEMA_NAMESPACE);
+            writer.writeAttribute(ModelParseServiceImpl.SCHEMA_PREFIX, ModelParseServiceImpl.SCHEMA_NAMESPACE,
+                    ModelParseServiceImpl.SCHEMA_REF_ATTRIBUTE_NAME, ModelParseServiceImpl.NAMESPACE + ' ' + ModelParseServiceImpl.SCHEMA_LOCATION);
+            writer.writeDefaultNamespace(ModelParseServiceImpl.NAMESPACE);
+            // project meta data and origin text font, in the same (alphabetical) order as when transforming a document
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_ROOT_AUTHOR, pericope.getAuthor());
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_ROOT_COMMENT, pericope.getComment());
+            writer.writeAttribute(ModelParseServiceImpl.ATT_ROOT_FONT, pericope.getFont().getFontName());
+            writer.writeAttribute(ModelParseServiceImpl.ATT_ROOT_FONTSIZE, Integer.toString(pericope.getFont().getSize()));
+            writer.writeAttribute(ModelParseServiceImpl.ATT_ROOT_LANGUAGE, pericope.getLanguage());
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_ROOT_TITLE, pericope.getTitle());
+            writer.writeAttribute(ModelParseServiceImpl.ATT_ROOT_ORIENTATION, pericope.isLeftToRightOriented()
+                    ? ModelParseServiceImpl.VAL_ROOT_ORIENTATION_LTR : ModelParseServiceImpl.VAL_ROOT_ORIENTATION_RTL);
+            // include language model
+            this.writeLanguageModelToStream(writer, pericope, 1);
+            // add each root Proposition (a Proposition that is not subordinated to another Proposition) of the Pericope
+            for (final Proposition singleRootProposition : pericope.getText()) {
+                this.writePropositionToStream(writer, singleRootProposition, 1);
+            }
+            // add the semantic structure
+            StaxUtil.writeIndentation(writer, 1);
+            Proposition currentProposition = pericope.getPropositionAt(0);
+            if (currentProposition == null) {
+                writer.writeEmptyElement(ModelParseServiceImpl.TAG_RELATION_SUB_TREE);
+            } else {
+                writer.writeStartElement(ModelParseServiceImpl.TAG_RELATION_SUB_TREE);
+                while (currentProposition != null) {
+                    AbstractConnectable topMostConnectable = currentProposition;
+                    while (topMostConnectable.getSuperOrdinatedRelation() != null) {
+                        topMostConnectable = topMostConnectable.getSuperOrdinatedRelation();
+                    }
+                    this.writeConnectableToStream(writer, topMostConnectable, 2);
+                    currentProposition = topMostConnectable.getFollowingConnectableProposition();
+                }
+                StaxUtil.writeIndentation(writer, 1);
+                writer.writeEndElement();
+            }
+            StaxUtil.writeIndentation(writer, 0);
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndDocument();
+            writer.flush();
+        } catch (final XMLStreamException ex) {
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
+    /**
+     * Write the given attribute on the element that was just started, if the given value is neither {@code null} nor empty.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param attributeName
+     *            name of the attribute to write
+     * @param value
+     *            value of the attribute to write
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     * @see DomUtil#setNullableAttribute(Element, String, String)
+     */
+    private static void writeNullableAttribute(final XMLStreamWriter writer, final String attributeName, final String value)
+            throws XMLStreamException {
+        if (value != null && !value.isEmpty()) {
+            writer.writeAttribute(attributeName, value);
+        }
+    }
+
+    /**
+     * Write the language model represented by the given {@code model}.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param model
+     *            the provider of {@link SyntacticalFunction}s to represent
+     * @param depth
+     *            nesting depth of the language model element (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     * @see #parseXmlFromLanguageModel(Document, ISyntacticalFunctionProvider)
+     */
+    private void writeLanguageModelToStream(final XMLStreamWriter writer, final ISyntacticalFunctionProvider model, final int depth)
+            throws XMLStreamException {
+        final List<List<AbstractSyntacticalFunctionElement>> groups = model.provideFunctions();
+        StaxUtil.writeIndentation(writer, depth);
+        if (groups.isEmpty()) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_LANGMODEL);
+        } else {
+            writer.writeStartElement(ModelParseServiceImpl.TAG_LANGMODEL);
+        }
+        if (model instanceof LanguageModel) {
+            writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_NAME, ((LanguageModel) model).getName());
+            writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_FONTS,
+                    CollectionUtil.toString(((LanguageModel) model).getRecommendedFonts(), "; "));
+            writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_ORIENTATION, ((LanguageModel) model).isLeftToRightOriented()
+                    ? ModelParseServiceImpl.VAL_LANGMODEL_ORIENTATION_LTR : ModelParseServiceImpl.VAL_LANGMODEL_ORIENTATION_RTL);
+        }
+        if (!groups.isEmpty()) {
+            for (final List<AbstractSyntacticalFunctionElement> singleGroup : groups) {
+                StaxUtil.writeIndentation(writer, depth + 1);
+                if (singleGroup.isEmpty()) {
+                    writer.writeEmptyElement(ModelParseServiceImpl.TAG_LANGMODEL_GROUP);
+                } else {
+                    writer.writeStartElement(ModelParseServiceImpl.TAG_LANGMODEL_GROUP);
+                    for (final AbstractSyntacticalFunctionElement singleFunction : singleGroup) {
+                        this.writeSyntacticalFunctionElementToStream(writer, singleFunction, depth + 2);
+                    }
+                    StaxUtil.writeIndentation(writer, depth + 1);
+                    writer.writeEndElement();
+                }
+            }
+            StaxUtil.writeIndentation(writer, depth);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Write the given {@link AbstractSyntacticalFunctionElement}. This includes potentially contained sub functions.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param function
+     *            the {@link SyntacticalFunction} to represent
+     * @param depth
+     *            nesting depth of the function element (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     * @see #parseXmlFromSyntacticalFunctionElement(Document, AbstractSyntacticalFunctionElement)
+     */
+    private void writeSyntacticalFunctionElementToStream(final XMLStreamWriter writer, final AbstractSyntacticalFunctionElement function,
+            final int depth) throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, depth);
+        if (function instanceof SyntacticalFunction) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_LANGMODEL_FUNCTION);
+            writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_CODE, ((SyntacticalFunction) function).getCode());
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_DESCRIPTION, function.getDescription());
+            writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_NAME, function.getName());
+            if (((SyntacticalFunction) function).isUnderlined()) {
+                writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_STYLE,
+                        ModelParseServiceImpl.VAL_LANGMODEL_FUNCTION_STYLE_UNDERLINE);
+            }
+            return;
+        }
+        final List<AbstractSyntacticalFunctionElement> subFunctions = ((SyntacticalFunctionGroup) function).getSubFunctions();
+        if (subFunctions.isEmpty()) {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_LANGMODEL_FUNCTIONGROUP);
+        } else {
+            writer.writeStartElement(ModelParseServiceImpl.TAG_LANGMODEL_FUNCTIONGROUP);
+        }
+        ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTIONGROUP_DESCRIPTION,
+                function.getDescription());
+        writer.writeAttribute(ModelParseServiceImpl.ATT_LANGMODEL_FUNCTIONGROUP_NAME, function.getName());
+        if (!subFunctions.isEmpty()) {
+            // recursively write contained sub functions
+            for (final AbstractSyntacticalFunctionElement singleFunction : subFunctions) {
+                this.writeSyntacticalFunctionElementToStream(writer, singleFunction, depth + 1);
+            }
+            StaxUtil.writeIndentation(writer, depth);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Write the given {@link Proposition}. This includes all its subordinated {@link Proposition}s and potential {@code partAfterArrow}s.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param model
+     *            the {@link Proposition} to represent
+     * @param depth
+     *            nesting depth of the proposition element (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     * @see #parseXmlFromProposition(Document, Proposition)
+     */
+    private void writePropositionToStream(final XMLStreamWriter writer, final Proposition model, final int depth) throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, depth);
+        writer.writeStartElement(ModelParseServiceImpl.TAG_PROPOSITION);
+        ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_PROP_COMMENT, model.getComment());
+        if (model.getFunction() != null) {
+            writer.writeAttribute(ModelParseServiceImpl.ATT_PROP_FUNCTION, model.getFunction().getCode());
+        }
+        ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_PROP_LABEL, model.getLabel());
+        ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_PROP_SEM_TRANSLATION, model.getSemTranslation());
+        ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_PROP_SYN_TRANSLATION, model.getSynTranslation());
+        // add all preceding subordinated Propositions to a dedicated group element
+        this.writeChildPropositionsToStream(writer, ModelParseServiceImpl.TAG_PRIOR_PROP_SUB_TREE, model.getPriorChildren(), depth + 1);
+        // add all ClauseItems to dedicated group element
+        StaxUtil.writeIndentation(writer, depth + 1);
+        writer.writeStartElement(ModelParseServiceImpl.TAG_CLAUSE_ITEM_SUB_TREE);
+        for (final ClauseItem singleItem : model.getItems()) {
+            StaxUtil.writeIndentation(writer, depth + 2);
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_CLAUSE_ITEM);
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_ITEM_COMMENT, singleItem.getComment());
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_ITEM_STYLE,
+                    ModelParseServiceImpl.toXmlValue(singleItem.getFontStyle()));
+            if (singleItem.getFunction() != null) {
+                writer.writeAttribute(ModelParseServiceImpl.ATT_ITEM_FUNCTION, singleItem.getFunction().getCode());
+            }
+            writer.writeAttribute(ModelParseServiceImpl.ATT_ITEM_TEXT, singleItem.getOriginText());
+        }
+        StaxUtil.writeIndentation(writer, depth + 1);
+        writer.writeEndElement();
+        // add all following subordinated Propositions to a dedicated group element
+        this.writeChildPropositionsToStream(writer, ModelParseServiceImpl.TAG_LATER_PROP_SUB_TREE, model.getLaterChildren(), depth + 1);
+        // add the Proposition's partAfterArrow
+        if (model.getPartAfterArrow() != null) {
+            StaxUtil.writeIndentation(writer, depth + 1);
+            writer.writeStartElement(ModelParseServiceImpl.TAG_PART_PROP_SUB_TREE);
+            this.writePropositionToStream(writer, model.getPartAfterArrow(), depth + 2);
+            StaxUtil.writeIndentation(writer, depth + 1);
+            writer.writeEndElement();
+        }
+        StaxUtil.writeIndentation(writer, depth);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Write the given subordinated {@link Proposition}s in a dedicated group element – if there are any.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param groupTagName
+     *            the name of the group element to write (i.e. {@value #TAG_PRIOR_PROP_SUB_TREE} or {@value #TAG_LATER_PROP_SUB_TREE})
+     * @param children
+     *            the subordinated propositions to write
+     * @param depth
+     *            nesting depth of the group element (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     */
+    private void writeChildPropositionsToStream(final XMLStreamWriter writer, final String groupTagName, final List<Proposition> children,
+            final int depth) throws XMLStreamException {
+        if (!children.isEmpty()) {
+            StaxUtil.writeIndentation(writer, depth);
+            writer.writeStartElement(groupTagName);
+            for (final Proposition singleChild : children) {
+                this.writePropositionToStream(writer, singleChild, depth + 1);
+            }
+            StaxUtil.writeIndentation(writer, depth);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Write the given {@link AbstractConnectable}'s role and weight in its {@link Pericope}'s semantical analysis. In case of a {@link Relation} this
+     * includes recursively all associated (i.e. contained) {@link AbstractConnectable}s.
+     *
+     * @param writer
+     *            xml stream to write to
+     * @param model
+     *            the {@link AbstractConnectable} (i.e. {@link Proposition} or {@link Relation}) to represent
+     * @param depth
+     *            nesting depth of the connectable element (for indentation)
+     * @throws XMLStreamException
+     *             error while writing to the stream
+     * @see #parseXmlFromConnectable(Document, AbstractConnectable)
+     */
+    private void writeConnectableToStream(final XMLStreamWriter writer, final AbstractConnectable model, final int depth)
+            throws XMLStreamException {
+        StaxUtil.writeIndentation(writer, depth);
+        final boolean isRelation = model instanceof Relation;
+        if (isRelation) {
+            writer.writeStartElement(ModelParseServiceImpl.TAG_CONNECTABLE);
+            // add the comment only for Relations (as Propositions already get their comments in their separate representation)
+            ModelParseServiceImpl.writeNullableAttribute(writer, ModelParseServiceImpl.ATT_RELATION_COMMENT, model.getComment());
+        } else {
+            writer.writeEmptyElement(ModelParseServiceImpl.TAG_CONNECTABLE);
+        }
+        final AssociateRole connectableRole = model.getRole();
+        if (connectableRole != null) {
+            writer.writeAttribute(ModelParseServiceImpl.ATT_CONN_ROLE, connectableRole.getRole());
+            writer.writeAttribute(ModelParseServiceImpl.ATT_CONN_WEIGHT, connectableRole.isHighWeight()
+                    ? ModelParseServiceImpl.VAL_CONN_WEIGHT_HIGH : ModelParseServiceImpl.VAL_CONN_WEIGHT_LOW);
+        }
+        if (isRelation) {
+            // write all sub ordinated Connectables
+            for (final AbstractConnectable singleAssociate : (Relation) model) {
+                this.writeConnectableToStream(writer, singleAssociate, depth + 1);
+            }
+            StaxUtil.writeIndentation(writer, depth);
+            writer.writeEndElement();
+        }
+    }
+
+    @Override
+    public Entry<Pericope, List<?>> parseModelFromStream(final XMLStreamReader reader, final File originPath) throws HmxException {
+        try {
+            // retrieve the root element's (Pericope tag) attributes before moving on to its children
+            final String language = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_ROOT_LANGUAGE);
+            final String textOrientation = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_ROOT_ORIENTATION);
+            final String fontName = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ROOT_FONT);
+            final int fontSize = StaxUtil.getIntAttribute(reader, ModelParseServiceImpl.ATT_ROOT_FONTSIZE, 14);
+            final String title = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ROOT_TITLE);
+            final String author = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ROOT_AUTHOR);
+            final String comment = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ROOT_COMMENT);
+            LookupLanguageModel languageModel = null;
+            Translator<CompatibleRelationRole> compatibleRoleTranslator = null;
+            final List<Proposition> text = new ArrayList<>();
+            Pericope newPericope = null;
+            while (StaxUtil.nextChildElement(reader)) {
+                final String tagName = reader.getLocalName();
+                if (languageModel == null && !ModelParseServiceImpl.TAG_LANGMODEL.equals(tagName)) {
+                    // the language model is expected in front of all propositions - if there is none, it is a file from the (old) standalone version
+                    languageModel = this.getCompatibleLanguageModel(language);
+                    compatibleRoleTranslator = new Translator<>(CompatibleRelationRole.class);
+                }
+                if (ModelParseServiceImpl.TAG_LANGMODEL.equals(tagName) && languageModel == null) {
+                    languageModel = this.parseLanguageModelFromStream(reader, language, textOrientation);
+                } else if (ModelParseServiceImpl.TAG_PROPOSITION.equals(tagName) && newPericope == null) {
+                    text.add(this.parsePropositionFromStream(reader, languageModel));
+                } else if (ModelParseServiceImpl.TAG_RELATION_SUB_TREE.equals(tagName) && newPericope == null) {
+                    // the semantical analysis is expected behind all propositions, which are needed to resolve the contained references
+                    newPericope = this.createPericope(languageModel, fontName, fontSize, text);
+                    this.parseRelationsFromStream(reader, newPericope, compatibleRoleTranslator);
+                } else {
+                    // ignore any unknown elements
+                    StaxUtil.skipElement(reader);
+                }
+            }
+            if (newPericope == null) {
+                if (languageModel == null) {
+                    languageModel = this.getCompatibleLanguageModel(language);
+                }
+                newPericope = this.createPericope(languageModel, fontName, fontSize, text);
+            }
+            newPericope.setTitle(title);
+            newPericope.setAuthor(author);
+            newPericope.setComment(comment);
+            return new SimpleEntry<>(newPericope, Collections.singletonList(newPericope));
+        } catch (final XMLStreamException ex) {
+            // error while interpreting (invalid) xml structure
+            throw new HmxException(Message.ERROR_FILE_INVALID, ex);
+        }
+    }
+
+    /**
+     * Parse the semantical analysis from the given stream, i.e. create the {@link Relation}s between the given pericope's propositions.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_RELATION_SUB_TREE} element; afterwards it is positioned on its end
+     * @param pericope
+     *            the pericope containing all already parsed {@link Proposition}s
+     * @param compatibleRoleTranslator
+     *            the translator to use to map old associate role keys to their full (translated) counterparts (only applied in a compatibility
+     *            scenario, i.e. if not {@code null})
+     * @throws HmxException
+     *             more {@link Proposition}s are being referenced than the {@link Pericope} contains
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private void parseRelationsFromStream(final XMLStreamReader reader, final Pericope pericope,
+            final Translator<CompatibleRelationRole> compatibleRoleTranslator) throws HmxException, XMLStreamException {
+        final PropositionSequence propositionsInOrder = pericope.getText().isEmpty() ? null : new PropositionSequence(pericope);
+        while (StaxUtil.nextChildElement(reader)) {
+            if (propositionsInOrder != null && ModelParseServiceImpl.TAG_CONNECTABLE.equals(reader.getLocalName())) {
+                this.parseConnectableFromStream(reader, propositionsInOrder, compatibleRoleTranslator);
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Parse the language model from the given stream.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_LANGMODEL} element; afterwards it is positioned on its end
+     * @param language
+     *            the name of the language model to load (usually the name of the origin text's language)
+     * @param textOrientation
+     *            the value of the attribute representing the origin text's orientation (should be either {@value #VAL_ROOT_ORIENTATION_LTR} or
+     *            {@value #VAL_ROOT_ORIENTATION_RTL})
+     * @return successfully parsed language model
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     * @see #parseLanguageModelFromXml(Element, String, String)
+     */
+    private LookupLanguageModel parseLanguageModelFromStream(final XMLStreamReader reader, final String language, final String textOrientation)
+            throws XMLStreamException {
+        final LookupLanguageModel model =
+                new LookupLanguageModel(language, !ModelParseServiceImpl.VAL_ROOT_ORIENTATION_RTL.equals(textOrientation));
+        ModelParseServiceImpl.setRecommendedFonts(model, StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FONTS));
+        while (StaxUtil.nextChildElement(reader)) {
+            if (ModelParseServiceImpl.TAG_LANGMODEL_GROUP.equals(reader.getLocalName())) {
+                model.add(this.parseSyntacticalFunctionsFromStream(reader));
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Retrieve the {@link SyntacticalFunction}s contained in the element the given stream is positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the element containing the {@value #TAG_LANGMODEL_FUNCTION} and
+     *            {@value #TAG_LANGMODEL_FUNCTIONGROUP} children being parsed; afterwards it is positioned on its end
+     * @return successfully parsed functions
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     * @see #parseSyntacticalFunctionsFromXml(Element)
+     */
+    private List<AbstractSyntacticalFunctionElement> parseSyntacticalFunctionsFromStream(final XMLStreamReader reader) throws XMLStreamException {
+        final List<AbstractSyntacticalFunctionElement> result = new ArrayList<>();
+        while (StaxUtil.nextChildElement(reader)) {
+            final String tagName = reader.getLocalName();
+            if (ModelParseServiceImpl.TAG_LANGMODEL_FUNCTION.equals(tagName)) {
+                final String code = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_CODE);
+                final String name = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_NAME);
+                final boolean underlined = ModelParseServiceImpl.VAL_LANGMODEL_FUNCTION_STYLE_UNDERLINE
+                        .equals(StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_STYLE));
+                final String description = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_DESCRIPTION);
+                final String oldKey = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTION_NAME_COMPATIBLE);
+                if (oldKey.isEmpty()) {
+                    result.add(new SyntacticalFunction(code, name, underlined, description));
+                } else {
+                    result.add(new BackwardCompatibleFunction(oldKey, code, name, underlined, description));
+                }
+                StaxUtil.skipElement(reader);
+            } else if (ModelParseServiceImpl.TAG_LANGMODEL_FUNCTIONGROUP.equals(tagName)) {
+                final String name = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTIONGROUP_NAME);
+                final String description = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_LANGMODEL_FUNCTIONGROUP_DESCRIPTION);
+                // recursively collect subordinated functions in this group
+                final List<AbstractSyntacticalFunctionElement> subFunctions = this.parseSyntacticalFunctionsFromStream(reader);
+                result.add(new SyntacticalFunctionGroup(name, description, subFunctions));
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the {@link Proposition} represented by the element the given stream is positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_PROPOSITION} element; afterwards it is positioned on its end
+     * @param languageModel
+     *            the language model to look up any assigned {@link SyntacticalFunction} from
+     * @return successfully parsed {@link Proposition}
+     * @throws HmxException
+     *             represented proposition does not contain any {@link ClauseItem}s
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     * @see #parsePropositionFromXml(Element, LookupLanguageModel)
+     */
+    private Proposition parsePropositionFromStream(final XMLStreamReader reader, final LookupLanguageModel languageModel)
+            throws HmxException, XMLStreamException {
+        // retrieve attributes of a proposition before moving on to its children
+        final String label = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_PROP_LABEL);
+        final String functionCode = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_PROP_FUNCTION);
+        final String semTranslation = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_PROP_SEM_TRANSLATION);
+        final String synTranslation = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_PROP_SYN_TRANSLATION);
+        final String comment = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_PROP_COMMENT);
+        final List<ClauseItem> itemList = new ArrayList<>();
+        List<Proposition> priorChildren = null;
+        List<Proposition> laterChildren = null;
+        Proposition partAfterArrow = null;
+        while (StaxUtil.nextChildElement(reader)) {
+            final String tagName = reader.getLocalName();
+            if (ModelParseServiceImpl.TAG_CLAUSE_ITEM_SUB_TREE.equals(tagName)) {
+                this.parseClauseItemsFromStream(reader, languageModel, itemList);
+            } else if (ModelParseServiceImpl.TAG_PRIOR_PROP_SUB_TREE.equals(tagName) && priorChildren == null) {
+                priorChildren = this.parseChildPropositionsFromStream(reader, languageModel);
+            } else if (ModelParseServiceImpl.TAG_LATER_PROP_SUB_TREE.equals(tagName) && laterChildren == null) {
+                laterChildren = this.parseChildPropositionsFromStream(reader, languageModel);
+            } else if (ModelParseServiceImpl.TAG_PART_PROP_SUB_TREE.equals(tagName) && partAfterArrow == null) {
+                // only the first contained proposition is regarded
+                final List<Proposition> parts = this.parseChildPropositionsFromStream(reader, languageModel);
+                if (!parts.isEmpty()) {
+                    partAfterArrow = parts.get(0);
+                }
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+        if (itemList.isEmpty()) {
+            // a Proposition must contain ClauseItems
+            throw new HmxException(Message.ERROR_FILE_INVALID);
+        }
+        final Proposition result = new Proposition(null, itemList);
+        result.setLabel(label);
+        result.setFunction(languageModel.getFunctionByCode(functionCode));
+        result.setSemTranslation(semTranslation);
+        result.setSynTranslation(synTranslation);
+        result.setComment(comment);
+        if (priorChildren != null) {
+            result.setPriorChildren(priorChildren);
+        }
+        if (laterChildren != null) {
+            result.setLaterChildren(laterChildren);
+        }
+        if (partAfterArrow != null) {
+            result.setPartAfterArrow(partAfterArrow);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the {@link Proposition}s contained in the element the given stream is positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the element containing the {@value #TAG_PROPOSITION} elements to parse; afterwards it is
+     *            positioned on its end
+     * @param languageModel
+     *            the language model to look up any assigned {@link SyntacticalFunction} from
+     * @return successfully parsed {@link Proposition}s
+     * @throws HmxException
+     *             a represented proposition does not contain any {@link ClauseItem}s
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private List<Proposition> parseChildPropositionsFromStream(final XMLStreamReader reader, final LookupLanguageModel languageModel)
+            throws HmxException, XMLStreamException {
+        final List<Proposition> children = new ArrayList<>();
+        while (StaxUtil.nextChildElement(reader)) {
+            if (ModelParseServiceImpl.TAG_PROPOSITION.equals(reader.getLocalName())) {
+                children.add(this.parsePropositionFromStream(reader, languageModel));
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Retrieve the {@link ClauseItem}s contained in the element the given stream is positioned on.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_CLAUSE_ITEM_SUB_TREE} element; afterwards it is positioned on its end
+     * @param languageModel
+     *            the language model to look up any assigned {@link SyntacticalFunction} from
+     * @param itemList
+     *            the list to add the successfully parsed {@link ClauseItem}s to
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     */
+    private void parseClauseItemsFromStream(final XMLStreamReader reader, final LookupLanguageModel languageModel, final List<ClauseItem> itemList)
+            throws XMLStreamException {
+        while (StaxUtil.nextChildElement(reader)) {
+            if (ModelParseServiceImpl.TAG_CLAUSE_ITEM.equals(reader.getLocalName())) {
+                itemList.add(this.parseClauseItemFromStream(reader, languageModel));
+            }
+            StaxUtil.skipElement(reader);
+        }
+    }
+
+    /**
+     * Retrieve the {@link ClauseItem} represented by the element the given stream is positioned on. The stream is not being moved.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_CLAUSE_ITEM} element
+     * @param languageModel
+     *            the language model to look up any assigned {@link SyntacticalFunction} from
+     * @return successfully parsed {@link ClauseItem}
+     * @see #parseClauseItemFromXml(Element, LookupLanguageModel)
+     */
+    private ClauseItem parseClauseItemFromStream(final XMLStreamReader reader, final LookupLanguageModel languageModel) {
+        final ClauseItem result = new ClauseItem(null, StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_ITEM_TEXT));
+        result.setFunction(languageModel.getFunctionByCode(StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ITEM_FUNCTION)));
+        result.setComment(StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ITEM_COMMENT));
+        result.setFontStyle(ModelParseServiceImpl.parseFontStyle(StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_ITEM_STYLE)));
+        return result;
+    }
+
+    /**
+     * Retrieve the attributes associated with the semantical analysis from the element the given stream is positioned on. If the targeted element
+     * represents a {@link Relation}, it will be created and returned. Otherwise the next {@link Proposition} from the given sequence is returned.
+     *
+     * @param reader
+     *            stream positioned on the start of the {@value #TAG_CONNECTABLE} element; afterwards it is positioned on its end
+     * @param propositionsInOrder
+     *            all {@link Proposition}s of the currently parsed {@link Pericope} in their text order, that have not been referenced yet
+     * @param compatibleRoleTranslator
+     *            the translator to use to map old associate role keys to their full (translated) counterparts (only applied in a compatibility
+     *            scenario, i.e. if not {@code null})
+     * @return successfully parsed {@link Relation} or the referenced {@link Proposition} from the sequence
+     * @throws HmxException
+     *             more {@link Proposition}s are being referenced than the {@link Pericope} contains
+     * @throws XMLStreamException
+     *             error while reading from the stream
+     * @see #parseConnectableFromXml(Element, PropositionSequence, Translator)
+     */
+    private AbstractConnectable parseConnectableFromStream(final XMLStreamReader reader, final PropositionSequence propositionsInOrder,
+            final Translator<CompatibleRelationRole> compatibleRoleTranslator) throws HmxException, XMLStreamException {
+        final String comment = StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_RELATION_COMMENT);
+        final List<AbstractConnectable> associates = new ArrayList<>(2);
+        final List<AssociateRole> rolesAndWeights = new ArrayList<>(2);
+        while (StaxUtil.nextChildElement(reader)) {
+            if (ModelParseServiceImpl.TAG_CONNECTABLE.equals(reader.getLocalName())) {
+                // the associate's role and weight need to be read before moving on to its children
+                final String roleName = StaxUtil.getAttribute(reader, ModelParseServiceImpl.ATT_CONN_ROLE);
+                final boolean isHighWeight = ModelParseServiceImpl.VAL_CONN_WEIGHT_HIGH
+                        .equals(StaxUtil.getNullableAttribute(reader, ModelParseServiceImpl.ATT_CONN_WEIGHT));
+                // recursively handle contained elements representing a connectable model element
+                associates.add(this.parseConnectableFromStream(reader, propositionsInOrder, compatibleRoleTranslator));
+                rolesAndWeights.add(new AssociateRole(ModelParseServiceImpl.translateRole(roleName, compatibleRoleTranslator), isHighWeight));
+            } else {
+                StaxUtil.skipElement(reader);
+            }
+        }
+        if (associates.isEmpty()) {
+            // Connectable to retrieve is a Proposition, that is already fully initialized in the Pericope
+            return propositionsInOrder.next();
+        }
+        final Relation relation = new Relation(associates, rolesAndWeights);
+        relation.setComment(comment);
+        return relation;
+    }
+
+    @Override
+    public void writeModelToBinary(final IModel<?> model, final List<?> openViewElements, final BinaryModelWriter writer) throws HmxException {
+        try {
+            BinaryPericopeFormat.write((Pericope) model, writer);
+        } catch (final IOException ex) {
+            // error while writing to the underlying stream
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
+    @Override
+    public Entry<Pericope, List<?>> parseModelFromBinary(final BinaryModelReader reader, final File originPath) throws HmxException {
+        final Pericope pericope = BinaryPericopeFormat.read(reader);
+        return new SimpleEntry<>(pericope, Collections.singletonList(pericope));
+    }
+
     /**
      * Retrieve system defined {@link LanguageModel}s for the currently active system {@link Locale}.
      *
@@ -499,12 +1182,9 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
      *             internal error while looking up or parsing a system defined model
      */
     public List<LanguageModel> getSystemLanguageModels() throws HmxException {
-        final Map<String, Element> systemModelNodes = this.getSystemLanguageModelNodes();
-        final List<LanguageModel> result = new ArrayList<>(systemModelNodes.size());
-        for (final Element modelNode : systemModelNodes.values()) {
-            final LookupLanguageModel model =
-                    this.parseLanguageModelFromXml(modelNode, modelNode.getAttribute(ModelParseServiceImpl.ATT_LANGMODEL_NAME),
-                            modelNode.getAttribute(ModelParseServiceImpl.ATT_LANGMODEL_ORIENTATION));
+        final Map<String, LookupLanguageModel> systemModels = this.getCachedSystemLanguageModels();
+        final List<LanguageModel> result = new ArrayList<>(systemModels.size());
+        for (final LookupLanguageModel model : systemModels.values()) {
             // remove backward compatibility information
             final LanguageModel incompatibleModel = new LanguageModel(model.getName(), model.isLeftToRightOriented());
             incompatibleModel.setRecommendedFonts(model.getRecommendedFonts());
@@ -542,14 +1222,114 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
     }
 
     /**
-     * Collect all system language models for the currently active user locale from the internal xml file.
+     * Load the system defined {@link LanguageModel}s and the {@link RelationModel} for the currently active user locale on a background thread, so
+     * that they are already available when they are first requested (e.g. when opening a file created with the former HermeneutiX v1.12).
+     */
+    public void preloadSystemModels() {
+        final Thread thread = new Thread(() -> {
+            try {
+                this.getCachedSystemLanguageModels();
+                this.getSystemRelationModel();
+            } catch (final HmxException ex) {
+                // internal error when loading the system defined models; it will be reported again on the actual request
+                ex.printStackTrace();
+            }
+        }, "HmX System Models");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Create a copy of the given {@link LookupLanguageModel}, that can be modified without affecting the given one.
+     *
+     * @param model
+     *            the model to copy
+     * @return copied model, including the backwards compatibility information
+     */
+    private static LookupLanguageModel copyLookupLanguageModel(final LookupLanguageModel model) {
+        final LookupLanguageModel copy = new LookupLanguageModel(model.getName(), model.isLeftToRightOriented());
+        copy.setRecommendedFonts(model.getRecommendedFonts());
+        // the contained syntactical functions are immutable and can be shared
+        copy.addAll(model.provideFunctions());
+        return copy;
+    }
+
+    /**
+     * Getter for all system language models for the currently active user locale, parsing them from the internal xml file on the first request.
+     *
+     * @return unmodifiable mapping of the system language models (which should not be modified either), associated with the user language
+     *         independent key for the origin text language
+     * @throws HmxException
+     *             internal error while parsing system language model file
+     */
+    private Map<String, LookupLanguageModel> getCachedSystemLanguageModels() throws HmxException {
+        final String userLanguage = Option.TRANSLATION.getValueAsLocale().getLanguage();
+        return ModelParseServiceImpl.getOrParse(ModelParseServiceImpl.SYSTEM_LANGUAGE_MODELS, userLanguage, () -> {
+            final Map<String, LookupLanguageModel> parsedModels = new TreeMap<>();
+            for (final Entry<String, Element> modelNode : this.getSystemLanguageModelNodes(userLanguage).entrySet()) {
+                final Element node = modelNode.getValue();
+                parsedModels.put(modelNode.getKey(),
+                        this.parseLanguageModelFromXml(node, node.getAttribute(ModelParseServiceImpl.ATT_LANGMODEL_NAME),
+                                node.getAttribute(ModelParseServiceImpl.ATT_LANGMODEL_ORIENTATION)));
+            }
+            return Collections.unmodifiableMap(parsedModels);
+        });
+    }
+
+    /**
+     * Get the cached result for the given user language – parsing it on the current thread, if it has not been requested before. Concurrent
+     * requests for the same user language (e.g. from {@link #preloadSystemModels()} and an actual request) wait for that single parsing to finish
+     * instead of parsing it again. A failed parsing is not cached, i.e. it is being repeated on the next request.
+     *
+     * @param <T>
+     *            type of the parsed result
+     * @param cache
+     *            the parsing tasks per user language
+     * @param userLanguage
+     *            the language of the currently active user locale
+     * @param parser
+     *            the parsing to perform, if there is no cached result yet
+     * @return the cached (or just parsed) result
+     * @throws HmxException
+     *             internal error while parsing, or interrupted while waiting for a concurrent parsing
+     */
+    private static <T> T getOrParse(final ConcurrentMap<String, FutureTask<T>> cache, final String userLanguage, final Callable<T> parser)
+            throws HmxException {
+        FutureTask<T> task = cache.get(userLanguage);
+        if (task == null) {
+            final FutureTask<T> newTask = new FutureTask<>(parser);
+            task = cache.putIfAbsent(userLanguage, newTask);
+            if (task == null) {
+                task = newTask;
+                newTask.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        } catch (final ExecutionException ex) {
+            cache.remove(userLanguage, task);
+            if (ex.getCause() instanceof HmxException) {
+                throw (HmxException) ex.getCause();
+            }
+            throw new HmxException(Message.ERROR_UNKNOWN, ex.getCause());
+        }
+    }
+
+    /**
+     * Collect all system language models for the given user language from the internal xml file.
      *
+     * @param userLanguage
+     *            the language of the currently active user locale
      * @return the DOM elements representing a system language model, associated with the user language independent key for the origin text language
      * @throws HmxException
      *             internal error while parsing system language model file
      * @see #parseLanguageModelFromXml(Element, String, String)
      */
-    private Map<String, Element> getSystemLanguageModelNodes() throws HmxException {
+    private Map<String, Element> getSystemLanguageModelNodes(final String userLanguage) throws HmxException {
         InputStream systemModelFileInput = null;
         final List<Element> systemModelNodes;
         try {
@@ -575,7 +1355,6 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
                 }
             }
         }
-        final String userLanguage = Option.TRANSLATION.getValueAsLocale().getLanguage();
         final Map<String, Element> availableModels = new TreeMap<>();
         for (final Element modelNode : systemModelNodes) {
             // get the user language independent name of this model
@@ -629,12 +1408,7 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
             throws HmxException {
         final LookupLanguageModel model =
                 new LookupLanguageModel(language, !ModelParseServiceImpl.VAL_ROOT_ORIENTATION_RTL.equals(textOrientation));
-        final String recommendedFonts = syntacticalModelNode.getAttribute(ATT_LANGMODEL_FONTS);
-        if (recommendedFonts.isEmpty()) {
-            model.setRecommendedFonts(Collections.<String>emptyList());
-        } else {
-            model.setRecommendedFonts(Arrays.asList(recommendedFonts.trim().split("([\\s]*[;][\\s]*)+")));
-        }
+        ModelParseServiceImpl.setRecommendedFonts(model, syntacticalModelNode.getAttribute(ATT_LANGMODEL_FONTS));
         // read model contents from given node
         for (final Element mainGroup : DomUtil.getChildElements(syntacticalModelNode, ModelParseServiceImpl.TAG_LANGMODEL_GROUP)) {
             model.add(this.parseSyntacticalFunctionsFromXml(mainGroup));
@@ -642,6 +1416,22 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         return model;
     }
 
+    /**
+     * Apply the recommended fonts represented by the given attribute value to the given language model.
+     *
+     * @param model
+     *            the language model to set the recommended fonts for
+     * @param recommendedFonts
+     *            the semicolon separated font names (can be empty)
+     */
+    private static void setRecommendedFonts(final LanguageModel model, final String recommendedFonts) {
+        if (recommendedFonts.isEmpty()) {
+            model.setRecommendedFonts(Collections.<String>emptyList());
+        } else {
+            model.setRecommendedFonts(Arrays.asList(recommendedFonts.trim().split("([\\s]*[;][\\s]*)+")));
+        }
+    }
+
     /**
      * Retrieve the {@link SyntacticalFunction} contained in the given {@code parentNode}.
      *
@@ -689,6 +1479,23 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
      *             internal error when loading system default model
      */
     public RelationModel getSystemRelationModel() throws HmxException {
+        final String userLanguage = Option.TRANSLATION.getValueAsLocale().getLanguage();
+        final RelationModel cachedModel = ModelParseServiceImpl.getOrParse(ModelParseServiceImpl.SYSTEM_RELATION_MODELS, userLanguage,
+                () -> this.parseSystemRelationModel(userLanguage));
+        // hand out a copy, as the model itself is mutable
+        return cachedModel == null ? null : cachedModel.clone();
+    }
+
+    /**
+     * Parse the system default {@link RelationModel} for the given user language from the internal xml file.
+     *
+     * @param userLanguage
+     *            the language of the currently active user locale
+     * @return successfully parsed system default {@link RelationModel}
+     * @throws HmxException
+     *             internal error when loading system default model
+     */
+    private RelationModel parseSystemRelationModel(final String userLanguage) throws HmxException {
         InputStream systemModelFileInput = null;
         final List<Element> systemModelNodes;
         try {
@@ -714,7 +1521,6 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
                 }
             }
         }
-        final String userLanguage = Option.TRANSLATION.getValueAsLocale().getLanguage();
         Element semanticalModelNode = null;
         for (final Element modelNode : systemModelNodes) {
             // get the user language independent name of this model
@@ -877,39 +1683,52 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         final ClauseItem result = new ClauseItem(null, itemNode.getAttribute(ModelParseServiceImpl.ATT_ITEM_TEXT));
         result.setFunction(languageModel.getFunctionByCode(DomUtil.getNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_FUNCTION)));
         result.setComment(DomUtil.getNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_COMMENT));
-        final String xmlValue = DomUtil.getNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_STYLE);
+        result.setFontStyle(ModelParseServiceImpl.parseFontStyle(DomUtil.getNullableAttribute(itemNode, ModelParseServiceImpl.ATT_ITEM_STYLE)));
+        return result;
+    }
+
+    /**
+     * Determine the font style of a {@link ClauseItem} represented by the given xml attribute value.
+     *
+     * @param xmlValue
+     *            the attribute value to interpret (can be {@code null})
+     * @return represented font style ({@link Style#PLAIN} if the value is unknown)
+     * @see #toXmlValue(Style)
+     */
+    private static Style parseFontStyle(final String xmlValue) {
         if (ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD.equals(xmlValue)) {
-            result.setFontStyle(Style.BOLD);
-        } else if (ModelParseServiceImpl.VAL_ITEM_STYLE_ITALIC.equals(xmlValue)) {
-            result.setFontStyle(Style.ITALIC);
-        } else if (ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD_ITALIC.equals(xmlValue)) {
-            result.setFontStyle(Style.BOLD_ITALIC);
-        } else {
-            result.setFontStyle(Style.PLAIN);
+            return Style.BOLD;
         }
-        return result;
+        if (ModelParseServiceImpl.VAL_ITEM_STYLE_ITALIC.equals(xmlValue)) {
+            return Style.ITALIC;
+        }
+        if (ModelParseServiceImpl.VAL_ITEM_STYLE_BOLD_ITALIC.equals(xmlValue)) {
+            return Style.BOLD_ITALIC;
+        }
+        return Style.PLAIN;
     }
 
     /**
      * Retrieve the attributes associated with the semantical analysis from the given element. If the targeted element represents a {@link Relation},
-     * it will be created and returned. Otherwise the first {@link Proposition} from the given stack will be polled (removed and returned).
+     * it will be created and returned. Otherwise the next {@link Proposition} from the given sequence is returned.
      *
      * @param connectableElement
      *            the element being parsed (represents either a {@link Relation} or is the reference to a {@link Proposition}
      * @param propositionsInOrder
-     *            the stack containing all {@link Proposition}s of the currently parsed {@link Pericope} in their text order
+     *            all {@link Proposition}s of the currently parsed {@link Pericope} in their text order, that have not been referenced yet
      * @param compatibleRoleTranslator
      *            the translator to use to map old associate role keys to their full (translated) counterparts (only applied in a compatibility
      *            scenario, i.e. if not {@code null})
-     * @return successfully parsed {@link Relation} or the references {@link Proposition} from the stack
+     * @return successfully parsed {@link Relation} or the referenced {@link Proposition} from the sequence
+     * @throws HmxException
+     *             more {@link Proposition}s are being referenced than the {@link Pericope} contains
      */
-    private AbstractConnectable parseConnectableFromXml(final Element connectableElement, final Deque<Proposition> propositionsInOrder,
-            final Translator<CompatibleRelationRole> compatibleRoleTranslator) {
+    private AbstractConnectable parseConnectableFromXml(final Element connectableElement, final PropositionSequence propositionsInOrder,
+            final Translator<CompatibleRelationRole> compatibleRoleTranslator) throws HmxException {
         final List<Element> associateNodes = DomUtil.getChildElements(connectableElement, ModelParseServiceImpl.TAG_CONNECTABLE);
         if (associateNodes.isEmpty()) {
-            // Connectable to retrieve is a Proposition
-            // Proposition fully initialized in the Pericope - to be deleted from the List of Propositions without superordinated Relations
-            return propositionsInOrder.removeFirst();
+            // Connectable to retrieve is a Proposition, that is already fully initialized in the Pericope
+            return propositionsInOrder.next();
         }
         // Connectable to retrieve is a Relation - iterate through all subordinated Connectables
         final List<AbstractConnectable> associates = new ArrayList<>(associateNodes.size());
@@ -917,16 +1736,8 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         for (final Element singleAssociateNode : associateNodes) {
             // recursively handle contained nodes representing a connectable model element
             associates.add(this.parseConnectableFromXml(singleAssociateNode, propositionsInOrder, compatibleRoleTranslator));
-            String roleName = singleAssociateNode.getAttribute(ModelParseServiceImpl.ATT_CONN_ROLE);
-            if (compatibleRoleTranslator != null) {
-                // translate the role key, as the parsed xml structure is in the old format from when HermeneutiX was a standalone application
-                try {
-                    roleName = new CompatibleRelationRole(roleName, compatibleRoleTranslator).get();
-                } catch (final MissingResourceException mrex) {
-                    // could not retrieve a proper translation for the assigned role, fall back on the key value
-                    mrex.printStackTrace();
-                }
-            }
+            final String roleName = ModelParseServiceImpl.translateRole(singleAssociateNode.getAttribute(ModelParseServiceImpl.ATT_CONN_ROLE),
+                    compatibleRoleTranslator);
             rolesAndWeights.add(new AssociateRole(roleName, ModelParseServiceImpl.VAL_CONN_WEIGHT_HIGH.equals(singleAssociateNode
                     .getAttribute(ModelParseServiceImpl.ATT_CONN_WEIGHT))));
         }
@@ -934,4 +1745,65 @@ public class ModelParseServiceImpl implements IModelParseService<Pericope> {
         relation.setComment(DomUtil.getNullableAttribute(connectableElement, ModelParseServiceImpl.ATT_RELATION_COMMENT));
         return relation;
     }
+
+    /**
+     * Translate the given associate role key, if the parsed xml structure is in the old format from when HermeneutiX was a standalone application.
+     *
+     * @param roleName
+     *            the associate role as stored in the parsed xml structure
+     * @param compatibleRoleTranslator
+     *            the translator to use to map old associate role keys to their full (translated) counterparts (only applied in a compatibility
+     *            scenario, i.e. if not {@code null})
+     * @return the associate role to apply
+     */
+    private static String translateRole(final String roleName, final Translator<CompatibleRelationRole> compatibleRoleTranslator) {
+        if (compatibleRoleTranslator != null) {
+            try {
+                return new CompatibleRelationRole(roleName, compatibleRoleTranslator).get();
+            } catch (final MissingResourceException mrex) {
+                // could not retrieve a proper translation for the assigned role, fall back on the key value
+                mrex.printStackTrace();
+            }
+        }
+        return roleName;
+    }
+
+    /**
+     * The {@link Proposition}s of a {@link Pericope} that can be part of a {@link Relation} (i.e. are no {@code partAfterArrow}s) in their text
+     * order, to be referenced one after the other by the {@value ModelParseServiceImpl#TAG_CONNECTABLE} elements of the semantical analysis.
+     */
+    private static final class PropositionSequence {
+
+        /** All propositions of the pericope in their text order (including the ones to skip). */
+        private final List<Proposition> flatText;
+        /** Index of the next proposition to check in the {@link #flatText}. */
+        private int nextIndex = 0;
+
+        /**
+         * Constructor.
+         *
+         * @param pericope
+         *            the pericope containing the propositions to reference
+         */
+        PropositionSequence(final Pericope pericope) {
+            this.flatText = pericope.getFlatText();
+        }
+
+        /**
+         * Getter for the next connectable proposition that has not been referenced yet.
+         *
+         * @return next connectable proposition
+         * @throws HmxException
+         *             all propositions have already been referenced
+         */
+        Proposition next() throws HmxException {
+            while (this.nextIndex < this.flatText.size()) {
+                final Proposition candidate = this.flatText.get(this.nextIndex++);
+                if (candidate.getPartBeforeArrow() == null) {
+                    return candidate;
+                }
+            }
+            throw new HmxException(Message.ERROR_FILE_INVALID);
+        }
+    }
 }
@@ -0,0 +1,268 @@
+/*
+   Copyright (C) 2026 HermeneutiX.org
+
+   This file is part of SciToS.
+
+   SciToS is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   SciToS is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with SciToS. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.hmx.scitos.hmx.core;
+
+import java.awt.Font;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.hmx.scitos.core.util.StaxUtil;
+import org.hmx.scitos.hmx.domain.model.AbstractConnectable;
+import org.hmx.scitos.hmx.domain.model.ClauseItem;
+import org.hmx.scitos.hmx.domain.model.LanguageModel;
+import org.hmx.scitos.hmx.domain.model.Pericope;
+import org.hmx.scitos.hmx.domain.model.Proposition;
+import org.hmx.scitos.hmx.domain.model.Relation;
+import org.hmx.scitos.hmx.domain.model.RelationTemplate;
+import org.hmx.scitos.hmx.domain.model.RelationTemplate.AssociateRole;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+/**
+ * Benchmarks for the HmX model on large synthetic pericopes. These are skipped unless the system property {@code scitos.benchmark} is set to
+ * {@code true} (e.g. {@code mvn test -Dscitos.benchmark=true}). The measured durations (and heap usages) are printed to the standard output.
+ */
+public class HmxPerformanceTest {
+
+    /** Number of propositions in the largest synthetic pericope. */
+    private static final int PROPOSITION_COUNT = 5_000;
+    /** Number of propositions in the synthetic pericope being written and read. */
+    private static final int FILE_PROPOSITION_COUNT = 10_000;
+
+    /** Skip all benchmarks if they have not been requested explicitly. */
+    @BeforeClass
+    public static void checkBenchmarkEnabled() {
+        Assume.assumeTrue("Benchmarks are only executed with -Dscitos.benchmark=true", Boolean.getBoolean("scitos.benchmark"));
+    }
+
+    /**
+     * Create a pericope with the given number of propositions: every fifth of them being indented under its predecessor, while the top level
+     * propositions are combined by relations – pairwise, and these relations again pairwise.
+     *
+     * @param propositionCount
+     *            number of propositions to create (should be a multiple of five)
+     * @return created pericope
+     */
+    static Pericope createSyntheticPericope(final int propositionCount) {
+        final Pericope pericope = new Pericope();
+        pericope.init(null, new LanguageModel("Language", true), new Font("Arial", Font.PLAIN, 12));
+        final List<Proposition> topLevel = new ArrayList<>(propositionCount);
+        for (int index = 0; index < propositionCount; index++) {
+            final Proposition proposition = new Proposition(null, Arrays.asList(new ClauseItem(null, "word" + index),
+                    new ClauseItem(null, "other" + index)));
+            if (index % 5 == 1) {
+                topLevel.get(topLevel.size() - 1).addLastLaterChild(proposition);
+            } else {
+                topLevel.add(proposition);
+            }
+        }
+        pericope.addNewPropositions(topLevel, false);
+        final RelationTemplate template = new RelationTemplate(new AssociateRole("A", true), null, new AssociateRole("B", false), null);
+        List<? extends AbstractConnectable> level = topLevel;
+        for (int depth = 0; depth < 2; depth++) {
+            final List<Relation> relations = new ArrayList<>(level.size() / 2);
+            for (int index = 0; index + 1 < level.size(); index += 2) {
+                relations.add(new Relation(level.subList(index, index + 2), template));
+            }
+            level = relations;
+        }
+        return pericope;
+    }
+
+    /**
+     * Print the given benchmark result.
+     *
+     * @param label
+     *            name of the measured action
+     * @param startNanos
+     *            start time of the measured action
+     * @param repetitions
+     *            number of times the action has been performed
+     */
+    static void report(final String label, final long startNanos, final int repetitions) {
+        final double millis = (System.nanoTime() - startNanos) / 1e6 / repetitions;
+        System.out.println(String.format("[benchmark] %s: %.2f ms", label, millis));
+    }
+
+    /**
+     * Measure the currently used heap, after requesting a garbage collection.
+     *
+     * @return used heap in bytes
+     */
+    static long measureUsedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < 3; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Print the given benchmark result of a single execution.
+     *
+     * @param label
+     *            name of the measured action
+     * @param startNanos
+     *            start time of the measured action
+     * @param heapBytes
+     *            heap usage to report
+     */
+    static void reportWithHeap(final String label, final long startNanos, final long heapBytes) {
+        final long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        System.out.println(String.format("[benchmark] %s: %d ms, %d KiB heap", label, millis, heapBytes / 1024));
+    }
+
+    /**
+     * Benchmark: writing and reading a pericope with 10,000 propositions – via the document based and the streamed xml handling. The reported heap
+     * usage is the one retained at the end of each action (i.e. the DOM tree, or the written/parsed model respectively).
+     *
+     * @throws Exception
+     *             error when writing or reading the xml structure
+     */
+    @Test
+    public void benchmarkSaveAndOpen() throws Exception {
+        final ModelParseServiceImpl service = new ModelParseServiceImpl();
+        final Pericope pericope = HmxPerformanceTest.createSyntheticPericope(HmxPerformanceTest.FILE_PROPOSITION_COUNT);
+
+        long heapBefore = HmxPerformanceTest.measureUsedHeap();
+        long start = System.nanoTime();
+        final Document xml = service.parseXmlFromModel(pericope, Collections.singletonList(pericope));
+        final long domHeap = HmxPerformanceTest.measureUsedHeap() - heapBefore;
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
+        final ByteArrayOutputStream domOutput = new ByteArrayOutputStream();
+        transformer.transform(new DOMSource(xml), new StreamResult(domOutput));
+        HmxPerformanceTest.reportWithHeap("save (DOM)", start, domHeap);
+
+        heapBefore = HmxPerformanceTest.measureUsedHeap();
+        start = System.nanoTime();
+        final ByteArrayOutputStream streamOutput = new ByteArrayOutputStream();
+        final XMLStreamWriter writer = StaxUtil.createWriter(streamOutput);
+        service.writeModelToStream(pericope, Collections.singletonList(pericope), writer, null);
+        writer.close();
+        // the written bytes are retained in both cases
+        HmxPerformanceTest.reportWithHeap("save (StAX)", start, HmxPerformanceTest.measureUsedHeap() - heapBefore - streamOutput.size());
+
+        final byte[] content = streamOutput.toByteArray();
+        heapBefore = HmxPerformanceTest.measureUsedHeap();
+        start = System.nanoTime();
+        final Document parsedXml = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(content));
+        final Pericope domResult = service.parseModelFromXml(parsedXml, new File("benchmark.hmx")).getKey();
+        HmxPerformanceTest.reportWithHeap("open (DOM)", start, HmxPerformanceTest.measureUsedHeap() - heapBefore);
+
+        heapBefore = HmxPerformanceTest.measureUsedHeap();
+        start = System.nanoTime();
+        final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new ByteArrayInputStream(content));
+        reader.nextTag();
+        final Pericope streamResult = service.parseModelFromStream(reader, new File("benchmark.hmx")).getKey();
+        reader.close();
+        HmxPerformanceTest.reportWithHeap("open (StAX)", start, HmxPerformanceTest.measureUsedHeap() - heapBefore);
+        System.out.println(String.format("[benchmark] file size: %d KiB", content.length / 1024));
+
+        Assert.assertEquals(HmxPerformanceTest.FILE_PROPOSITION_COUNT, domResult.getFlatText().size());
+        Assert.assertEquals(HmxPerformanceTest.FILE_PROPOSITION_COUNT, streamResult.getFlatText().size());
+        Assert.assertEquals(pericope.getFlatRelations().size(), streamResult.getFlatRelations().size());
+        Assert.assertEquals(HmxPerformanceTest.countAssociates(domResult), HmxPerformanceTest.countAssociates(streamResult));
+        // keep the parsed document alive until here, to include it in the measured heap usage
+        Assert.assertNotNull(parsedXml.getDocumentElement());
+    }
+
+    /**
+     * Benchmark: cloning pericopes of increasing size (as on every structural change, to enable its undo) – expecting a linear growth of the
+     * duration with the number of propositions.
+     */
+    @Test
+    public void benchmarkClone() {
+        for (final int propositionCount : new int[] { HmxPerformanceTest.PROPOSITION_COUNT / 4, HmxPerformanceTest.PROPOSITION_COUNT / 2,
+                HmxPerformanceTest.PROPOSITION_COUNT }) {
+            final Pericope pericope = HmxPerformanceTest.createSyntheticPericope(propositionCount);
+            final int relationCount = pericope.getFlatRelations().size();
+            // warm up
+            for (int repetition = 0; repetition < 5; repetition++) {
+                pericope.clone();
+            }
+            final int repetitions = 20;
+            final long start = System.nanoTime();
+            Pericope cloned = null;
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                cloned = pericope.clone();
+            }
+            HmxPerformanceTest.report(String.format("clone pericope with %,d propositions and %,d relations", propositionCount, relationCount),
+                    start, repetitions);
+            Assert.assertEquals(propositionCount, cloned.getFlatText().size());
+            Assert.assertEquals(relationCount, cloned.getFlatRelations().size());
+            Assert.assertEquals(Collections.nCopies(relationCount, Integer.valueOf(2)), HmxPerformanceTest.countAssociates(cloned));
+        }
+    }
+
+    /**
+     * Benchmark: looking up every proposition by its position and every position by its proposition (as when rendering or locating propositions
+     * for undoable changes) – expecting a linear growth of the duration with the number of propositions.
+     */
+    @Test
+    public void benchmarkRandomAccess() {
+        for (final int propositionCount : new int[] { HmxPerformanceTest.PROPOSITION_COUNT / 4, HmxPerformanceTest.PROPOSITION_COUNT / 2,
+                HmxPerformanceTest.PROPOSITION_COUNT }) {
+            final Pericope pericope = HmxPerformanceTest.createSyntheticPericope(propositionCount);
+            final int repetitions = 20;
+            final long start = System.nanoTime();
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                for (int index = 0; index < propositionCount; index++) {
+                    Assert.assertEquals(index, pericope.indexOfProposition(pericope.getPropositionAt(index)));
+                }
+            }
+            HmxPerformanceTest.report(String.format("look-up all %,d propositions by position and back", propositionCount), start, repetitions);
+        }
+    }
+
+    /**
+     * Determine the number of associates of each relation in the given pericope.
+     *
+     * @param pericope
+     *            the pericope to inspect
+     * @return number of associates per relation (in the order of the flat relations)
+     */
+    private static List<Integer> countAssociates(final Pericope pericope) {
+        final List<Integer> result = new ArrayList<>();
+        for (final Relation singleRelation : pericope.getFlatRelations()) {
+            result.add(Integer.valueOf(singleRelation.getAssociates().size()));
+        }
+        return result;
+    }
+}
@@ -26,6 +26,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.UndoManager;
+import org.hmx.scitos.domain.util.CollectionUtil;
+import org.hmx.scitos.hmx.domain.model.AbstractConnectable;
 import org.hmx.scitos.hmx.domain.model.AbstractSyntacticalFunctionElement;
 import org.hmx.scitos.hmx.domain.model.ClauseItem;
 import org.hmx.scitos.hmx.domain.model.LanguageModel;
@@ -117,6 +120,201 @@ public class ModelHandlerImplTest {
         Assert.assertEquals(originTextFont, this.pericope.getFont());
     }
 
+    /**
+     * Test: undo and redo a sequence of recorded changes, mixing value changes with structural changes (that reset the whole model on undo)
+     * – while preserving the managed model instance.
+     *
+     * @throws HmxException
+     *             impossible to indent or to create the relation
+     */
+    @Test
+    public void testUndoRedoRecordedChanges() throws HmxException {
+        final UndoManager<Pericope> undoManager = new UndoManager<>(this.pericope);
+        undoManager.setLimit(10);
+        final boolean[] undoInProgress = { false };
+        this.modelHandler.addModelChangeListener(event -> {
+            if (!undoInProgress[0]) {
+                Assert.assertNotNull(event.getChange());
+                undoManager.undoableEditHappened(this.modelHandler.getModel(), event.getChange());
+            }
+        });
+        final List<String> states = new ArrayList<>();
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        final Proposition first = this.pericope.getPropositionAt(0);
+        final Proposition second = this.pericope.getPropositionAt(1);
+        this.modelHandler.setLabelText(first, "label");
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        this.modelHandler.indentPropositionUnderParent(second, first,
+                (SyntacticalFunction) ModelHandlerImplTest.languageModel.provideFunctions().get(0).get(0));
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        this.modelHandler.setComment(second.getItems().get(0), "comment");
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        this.modelHandler.createRelation(Arrays.asList(this.pericope.getPropositionAt(1), this.pericope.getPropositionAt(2)),
+                ModelHandlerImplTest.defaultRelationTemplate);
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        this.modelHandler.rotateAssociateRoles(this.pericope.getPropositionAt(1).getSuperOrdinatedRelation());
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        this.modelHandler.splitClauseItem(first.getItems().get(0), "1");
+        states.add(ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        undoInProgress[0] = true;
+        for (int stateIndex = states.size() - 2; stateIndex >= 0; stateIndex--) {
+            Assert.assertNull(undoManager.undo());
+            Assert.assertSame(this.pericope, this.modelHandler.getModel());
+            Assert.assertEquals(states.get(stateIndex), ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        }
+        Assert.assertFalse(undoManager.canUndo());
+        for (int stateIndex = 1; stateIndex < states.size(); stateIndex++) {
+            Assert.assertNull(undoManager.redo());
+            Assert.assertSame(this.pericope, this.modelHandler.getModel());
+            Assert.assertEquals(states.get(stateIndex), ModelHandlerImplTest.describe(this.modelHandler.getModel()));
+        }
+        Assert.assertFalse(undoManager.canRedo());
+    }
+
+    /**
+     * Test: for {@link Pericope#clone()} with indented propositions and nested relations – the clone has the same structure without sharing any of
+     * the original propositions or relations.
+     *
+     * @throws HmxException
+     *             impossible to indent or to create a relation
+     */
+    @Test
+    public void testClone() throws HmxException {
+        final Proposition first = this.pericope.getPropositionAt(0);
+        this.modelHandler.indentPropositionUnderParent(this.pericope.getPropositionAt(1), first,
+                (SyntacticalFunction) ModelHandlerImplTest.languageModel.provideFunctions().get(0).get(0));
+        this.modelHandler.createRelation(Arrays.asList(this.pericope.getPropositionAt(1), this.pericope.getPropositionAt(2)),
+                ModelHandlerImplTest.defaultRelationTemplate);
+        this.modelHandler.createRelation(Arrays.asList(this.pericope.getPropositionAt(3), this.pericope.getPropositionAt(4)),
+                ModelHandlerImplTest.defaultRelationTemplate);
+        this.modelHandler.createRelation(Arrays.asList(this.pericope.getPropositionAt(2).getSuperOrdinatedRelation(),
+                this.pericope.getPropositionAt(3).getSuperOrdinatedRelation()), ModelHandlerImplTest.defaultRelationTemplate);
+        this.modelHandler.setComment(this.pericope.getPropositionAt(4).getSuperOrdinatedRelation(), "relation comment");
+
+        final Pericope cloned = this.pericope.clone();
+        Assert.assertEquals(ModelHandlerImplTest.describe(this.pericope), ModelHandlerImplTest.describe(cloned));
+        Assert.assertEquals(ModelHandlerImplTest.describeRelations(this.pericope), ModelHandlerImplTest.describeRelations(cloned));
+        final List<Proposition> originText = this.pericope.getFlatText();
+        final List<Proposition> clonedText = cloned.getFlatText();
+        for (int index = 0; index < originText.size(); index++) {
+            Assert.assertNotSame(originText.get(index), clonedText.get(index));
+        }
+        final List<Relation> originRelations = this.pericope.getFlatRelations();
+        final List<Relation> clonedRelations = cloned.getFlatRelations();
+        Assert.assertEquals(3, clonedRelations.size());
+        for (int index = 0; index < originRelations.size(); index++) {
+            Assert.assertNotSame(originRelations.get(index), clonedRelations.get(index));
+            Assert.assertEquals(originRelations.get(index).getComment(), clonedRelations.get(index).getComment());
+        }
+    }
+
+    /**
+     * Test: for {@link Pericope#getPropositionAt(int)}, {@link Pericope#indexOfProposition(Proposition)}, and {@link Pericope#getFlatRelations()} –
+     * the cached positions are updated after each structural change.
+     *
+     * @throws HmxException
+     *             impossible to create the relation or to remove the proposition
+     */
+    @Test
+    public void testFlatIndex() throws HmxException {
+        final List<Proposition> flatText = this.pericope.getFlatText();
+        Assert.assertEquals(5, flatText.size());
+        for (int index = 0; index < flatText.size(); index++) {
+            Assert.assertSame(flatText.get(index), this.pericope.getPropositionAt(index));
+            Assert.assertEquals(index, this.pericope.indexOfProposition(flatText.get(index)));
+        }
+        Assert.assertNull(this.pericope.getPropositionAt(-1));
+        Assert.assertNull(this.pericope.getPropositionAt(5));
+        Assert.assertTrue(this.pericope.getFlatRelations().isEmpty());
+
+        this.modelHandler.createRelation(Arrays.asList(flatText.get(1), flatText.get(2)), ModelHandlerImplTest.defaultRelationTemplate);
+        Assert.assertEquals(Collections.singletonList(flatText.get(1).getSuperOrdinatedRelation()), this.pericope.getFlatRelations());
+
+        this.modelHandler.removePropositions(Collections.singletonList(flatText.get(0)));
+        Assert.assertEquals(4, this.pericope.getFlatText().size());
+        Assert.assertSame(flatText.get(1), this.pericope.getPropositionAt(0));
+        Assert.assertEquals(3, this.pericope.indexOfProposition(flatText.get(4)));
+        Assert.assertEquals(-1, this.pericope.indexOfProposition(flatText.get(0)));
+        Assert.assertNull(this.pericope.getPropositionAt(4));
+    }
+
+    /**
+     * Test: for {@link Pericope#getFlatText()} and {@link Pericope#getFlatRelations()} – changes in one {@link Pericope} do not invalidate the
+     * cached positions of another.
+     *
+     * @throws HmxException
+     *             impossible to create the relation or to indent the proposition
+     */
+    @Test
+    public void testFlatIndexPerPericope() throws HmxException {
+        final Pericope otherPericope = this.pericope.clone();
+        final List<Proposition> otherFlatText = otherPericope.getFlatText();
+        final List<Relation> otherFlatRelations = otherPericope.getFlatRelations();
+        final List<Proposition> flatText = this.pericope.getFlatText();
+        // unchanged positions are not being rebuilt
+        Assert.assertSame(flatText, this.pericope.getFlatText());
+
+        this.modelHandler.createRelation(Arrays.asList(flatText.get(1), flatText.get(2)), ModelHandlerImplTest.defaultRelationTemplate);
+        Assert.assertEquals(1, this.pericope.getFlatRelations().size());
+        this.modelHandler.indentPropositionUnderParent(flatText.get(3), flatText.get(4), null);
+        Assert.assertNotSame(flatText, this.pericope.getFlatText());
+
+        Assert.assertSame(otherFlatText, otherPericope.getFlatText());
+        Assert.assertSame(otherFlatRelations, otherPericope.getFlatRelations());
+        Assert.assertTrue(otherFlatRelations.isEmpty());
+    }
+
+    /**
+     * Create a textual representation of the given {@link Pericope}'s relations: each one's associates referred to by their positions in the flat
+     * text or flat relations respectively, with their roles.
+     *
+     * @param pericope
+     *            the pericope to describe
+     * @return textual representation
+     */
+    private static String describeRelations(final Pericope pericope) {
+        final List<Proposition> flatText = pericope.getFlatText();
+        final List<Relation> flatRelations = pericope.getFlatRelations();
+        final StringBuilder description = new StringBuilder();
+        for (final Relation singleRelation : flatRelations) {
+            description.append('{');
+            for (final AbstractConnectable singleAssociate : singleRelation) {
+                Assert.assertSame(singleRelation, singleAssociate.getSuperOrdinatedRelation());
+                if (singleAssociate instanceof Relation) {
+                    description.append(" R").append(CollectionUtil.indexOfInstance(flatRelations, singleAssociate));
+                } else {
+                    description.append(" P").append(CollectionUtil.indexOfInstance(flatText, singleAssociate));
+                }
+                description.append('=').append(singleAssociate.getRole().getRole());
+            }
+            description.append('}');
+        }
+        return description.toString();
+    }
+
+    /**
+     * Create a textual representation of the given {@link Pericope}'s propositions, clause items and relations.
+     *
+     * @param pericope
+     *            the pericope to describe
+     * @return textual representation
+     */
+    private static String describe(final Pericope pericope) {
+        final StringBuilder description = new StringBuilder();
+        for (final Proposition singleProposition : pericope.getFlatText()) {
+            description.append('[').append(singleProposition.getLabel()).append(" parent=")
+                    .append(singleProposition.getParent() instanceof Proposition ? ((Proposition) singleProposition.getParent()).getLabel() : "-");
+            for (final ClauseItem singleItem : singleProposition.getItems()) {
+                description.append(" (").append(singleItem.getOriginText()).append(' ').append(singleItem.getComment()).append(')');
+            }
+            if (singleProposition.getSuperOrdinatedRelation() != null) {
+                description.append(" role=").append(singleProposition.getRole().getRole());
+            }
+            description.append(']');
+        }
+        return description.toString();
+    }
+
     /**
      * Test: for {@code indentPropositionUnderParent(Proposition, Proposition, SyntacticalFunction)}, making the first {@link Proposition} the single
      * prior child of its follower.
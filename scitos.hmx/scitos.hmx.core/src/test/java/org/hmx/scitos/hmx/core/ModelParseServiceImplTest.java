@@ -20,21 +20,40 @@
 package org.hmx.scitos.hmx.core;
 
 import java.awt.Font;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
 
 import org.hmx.scitos.core.HmxException;
 import org.hmx.scitos.core.option.Option;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+import org.hmx.scitos.core.util.StaxUtil;
 import org.hmx.scitos.hmx.domain.ISyntacticalFunctionProvider;
 import org.hmx.scitos.hmx.domain.model.AbstractSyntacticalFunctionElement;
 import org.hmx.scitos.hmx.domain.model.ClauseItem;
@@ -53,6 +72,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 /**
  * Test for the {@link ModelParseServiceImpl} class.
@@ -85,6 +106,216 @@ public class ModelParseServiceImplTest {
      */
     @Test
     public void testParseModelToAndFromXml_1() throws HmxException {
+        final Pericope model = this.createIndentedPericope();
+        final Document xml = ModelParseServiceImplTest.parseService.parseXmlFromModel(model, Arrays.asList(model));
+        final Entry<Pericope, List<?>> parsed = ModelParseServiceImplTest.parseService.parseModelFromXml(xml, new File("test.hmx"));
+        this.assertPericopeEquals(model, parsed.getKey());
+        Assert.assertEquals(1, parsed.getValue().size());
+        Assert.assertSame(parsed.getKey(), parsed.getValue().get(0));
+    }
+
+    /**
+     * Test: of the {@code parseXmlFromModel()} and {@code parseModelFromXml()} methods.
+     *
+     * @throws HmxException
+     *             failed to retrieve the system {@link LanguageModel}s, could not create {@link Relation}s for setup, or parsing to/from xml
+     *             structure failed
+     */
+    @Test
+    public void testParseModelToAndFromXml_2() throws HmxException {
+        final Pericope model = this.createRelatedPericope();
+        final Document xml = ModelParseServiceImplTest.parseService.parseXmlFromModel(model, Arrays.asList(model));
+        final Entry<Pericope, List<?>> parsed =
+                ModelParseServiceImplTest.parseService.parseModelFromXml(xml, new File("some/unexistent/path.hmx"));
+        this.assertPericopeEquals(model, parsed.getKey());
+        Assert.assertEquals(1, parsed.getValue().size());
+        Assert.assertSame(parsed.getKey(), parsed.getValue().get(0));
+    }
+
+    /**
+     * Test: of the {@code writeModelToBinary()} and {@code parseModelFromBinary()} methods – with indented and merged propositions.
+     *
+     * @throws Exception
+     *             failed to retrieve the system {@link LanguageModel}s, or writing/reading the binary snapshot failed
+     */
+    @Test
+    public void testParseModelToAndFromBinary_1() throws Exception {
+        final Pericope model = this.createIndentedPericope();
+        model.setTitle("Title");
+        model.setComment("Comment\n");
+        model.getFlatText().get(1).setSynTranslation("syn");
+        model.getFlatText().get(1).setSemTranslation("sem");
+        model.getFlatText().get(1).setLabel("A");
+        model.getFlatText().get(0).getItems().get(1).setComment("item comment");
+        final Entry<Pericope, List<?>> parsed = this.readFromBinary(this.writeToBinary(model));
+        this.assertPericopeEquals(model, parsed.getKey());
+        Assert.assertEquals(1, parsed.getValue().size());
+        Assert.assertSame(parsed.getKey(), parsed.getValue().get(0));
+    }
+
+    /**
+     * Test: of the {@code writeModelToBinary()} and {@code parseModelFromBinary()} methods – with nested relations.
+     *
+     * @throws Exception
+     *             failed to retrieve the system {@link LanguageModel}s, could not create {@link Relation}s for setup, or writing/reading the binary
+     *             snapshot failed
+     */
+    @Test
+    public void testParseModelToAndFromBinary_2() throws Exception {
+        final Pericope model = this.createRelatedPericope();
+        model.getFlatRelations().get(1).setComment("relation comment");
+        final Pericope parsed = this.readFromBinary(this.writeToBinary(model)).getKey();
+        this.assertPericopeEquals(model, parsed);
+        Assert.assertEquals(model.getFlatRelations().size(), parsed.getFlatRelations().size());
+        // the binary snapshot should be the same after another round trip
+        Assert.assertArrayEquals(this.writeToBinary(model), this.writeToBinary(parsed));
+    }
+
+    /**
+     * Test: of the {@code writeModelToStream()} and {@code parseModelFromStream()} methods – with indented and merged propositions.
+     *
+     * @throws Exception
+     *             failed to retrieve the system {@link LanguageModel}s, or writing/reading the xml stream failed
+     */
+    @Test
+    public void testParseModelToAndFromStream_1() throws Exception {
+        final Pericope model = this.createIndentedPericope();
+        model.setTitle("Title");
+        model.setComment("Comment\n");
+        model.getFlatText().get(1).setSynTranslation("syn");
+        model.getFlatText().get(1).setLabel("A");
+        model.getFlatText().get(0).getItems().get(1).setComment("item comment");
+        final Entry<Pericope, List<?>> parsed = this.readFromStream(this.writeToStream(model));
+        this.assertPericopeEquals(model, parsed.getKey());
+        Assert.assertEquals(1, parsed.getValue().size());
+        Assert.assertSame(parsed.getKey(), parsed.getValue().get(0));
+    }
+
+    /**
+     * Test: of the {@code writeModelToStream()} and {@code parseModelFromStream()} methods – with nested relations, being interchangeable with the
+     * document based {@code parseXmlFromModel()} and {@code parseModelFromXml()} methods.
+     *
+     * @throws Exception
+     *             failed to retrieve the system {@link LanguageModel}s, could not create {@link Relation}s for setup, or writing/reading the xml
+     *             stream failed
+     */
+    @Test
+    public void testParseModelToAndFromStream_2() throws Exception {
+        final Pericope model = this.createRelatedPericope();
+        model.getFlatRelations().get(1).setComment("relation comment");
+        final byte[] streamed = this.writeToStream(model);
+        final Pericope parsed = this.readFromStream(streamed).getKey();
+        this.assertPericopeEquals(model, parsed);
+        Assert.assertEquals(model.getFlatRelations().size(), parsed.getFlatRelations().size());
+        // the streamed xml can be parsed as document
+        final Document xml = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(streamed));
+        this.assertPericopeEquals(model, ModelParseServiceImplTest.parseService.parseModelFromXml(xml, new File("test.hmx")).getKey());
+        // the document can be parsed as stream
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.transform(new DOMSource(ModelParseServiceImplTest.parseService.parseXmlFromModel(model, Arrays.asList(model))),
+                new StreamResult(output));
+        this.assertPericopeEquals(model, this.readFromStream(output.toByteArray()).getKey());
+    }
+
+    /**
+     * Test: the {@code writeModelToStream()} method produces the same xml structure as the document based {@code parseXmlFromModel()} method – with
+     * comments on all levels, nested relations, and the translated associate roles of a file in the old HermeneutiX format.
+     *
+     * @throws Exception
+     *             failed to retrieve the system {@link LanguageModel}s, could not create {@link Relation}s for setup, or writing/reading the xml
+     *             failed
+     */
+    @Test
+    public void testStreamAndDocumentOutputAreIdentical() throws Exception {
+        final Pericope indented = this.createIndentedPericope();
+        indented.setAuthor("Author");
+        indented.setComment("Comment\nwith\tline break");
+        indented.getFlatText().get(1).setComment("proposition comment");
+        indented.getFlatText().get(1).setSemTranslation("sem");
+        indented.getFlatText().get(0).getItems().get(1).setComment("item comment");
+        this.assertStreamEqualsDocument(indented);
+        final Pericope related = this.createRelatedPericope();
+        related.getFlatRelations().get(1).setComment("relation comment");
+        related.getFlatRelations().get(3).setComment("top level relation comment");
+        this.assertStreamEqualsDocument(related);
+        final String legacyXml = "<Pericope Language=\"Greek\" Font=\"Arial\" FontSize=\"12\" Comment=\"legacy\">"
+                + "<Proposition><ClauseItems><Item OriginText=\"1\" Function=\"Subj\"/></ClauseItems></Proposition>"
+                + "<Proposition Comment=\"second\"><ClauseItems><Item OriginText=\"2\"/></ClauseItems></Proposition>"
+                + "<Proposition><ClauseItems><Item OriginText=\"3\"/></ClauseItems></Proposition>"
+                + "<Connectables><Connectable Comment=\"legacy relation\">"
+                + "<Connectable Role=\"Comparsion\" Weight=\"high\"><Connectable Role=\"Condition\" Weight=\"low\"/>"
+                + "<Connectable Role=\"Conclusion\" Weight=\"high\"/></Connectable>"
+                + "<Connectable Role=\"Adversative\" Weight=\"low\"/></Connectable></Connectables></Pericope>";
+        final Pericope legacy = ModelParseServiceImplTest.parseService.parseModelFromXml(DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(legacyXml.getBytes(StandardCharsets.UTF_8))), new File("legacy.hmx")).getKey();
+        Assert.assertEquals("Comparison", legacy.getFlatText().get(0).getSuperOrdinatedRelation().getRole().getRole());
+        this.assertStreamEqualsDocument(legacy);
+    }
+
+    /**
+     * Check that the xml structure written via {@link ModelParseServiceImpl#writeModelToStream(org.hmx.scitos.domain.IModel, List, XMLStreamWriter,
+     * Map) writeModelToStream()} is the same as the one created via {@link ModelParseServiceImpl#parseXmlFromModel(org.hmx.scitos.domain.IModel,
+     * List) parseXmlFromModel()} – ignoring the indentation.
+     *
+     * @param model
+     *            pericope to write
+     * @throws Exception
+     *             error when writing or reading the xml
+     */
+    private void assertStreamEqualsDocument(final Pericope model) throws Exception {
+        final ByteArrayOutputStream streamOutput = new ByteArrayOutputStream();
+        final XMLStreamWriter writer = StaxUtil.createWriter(streamOutput);
+        ModelParseServiceImplTest.parseService.writeModelToStream(model, Arrays.asList(model), writer, null);
+        writer.close();
+        final ByteArrayOutputStream documentOutput = new ByteArrayOutputStream();
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        transformer.transform(new DOMSource(ModelParseServiceImplTest.parseService.parseXmlFromModel(model, Arrays.asList(model))),
+                new StreamResult(documentOutput));
+        final Document streamed = ModelParseServiceImplTest.parseWithoutIndentation(streamOutput.toByteArray());
+        final Document transformed = ModelParseServiceImplTest.parseWithoutIndentation(documentOutput.toByteArray());
+        if (!transformed.isEqualNode(streamed)) {
+            Assert.assertEquals(new String(documentOutput.toByteArray(), StandardCharsets.UTF_8),
+                    new String(streamOutput.toByteArray(), StandardCharsets.UTF_8));
+            Assert.fail("different xml structures");
+        }
+    }
+
+    /**
+     * Parse the given xml bytes into a (namespace aware) document, discarding all text nodes only containing whitespaces (i.e. the indentation).
+     *
+     * @param xml
+     *            bytes to parse
+     * @return parsed document
+     * @throws Exception
+     *             error when parsing the xml
+     */
+    private static Document parseWithoutIndentation(final byte[] xml) throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final Document document = factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+        final List<Node> indentations = new ArrayList<>();
+        final NodeList textNodes = (NodeList) XPathFactory.newInstance().newXPath().evaluate("//text()[normalize-space(.)='']", document,
+                XPathConstants.NODESET);
+        for (int index = 0; index < textNodes.getLength(); index++) {
+            indentations.add(textNodes.item(index));
+        }
+        for (final Node singleIndentation : indentations) {
+            singleIndentation.getParentNode().removeChild(singleIndentation);
+        }
+        document.normalizeDocument();
+        return document;
+    }
+
+    /**
+     * Create a pericope with indented and merged propositions, and clause items in all font styles.
+     *
+     * @return created pericope
+     * @throws HmxException
+     *             failed to retrieve the system {@link LanguageModel}s
+     */
+    private Pericope createIndentedPericope() throws HmxException {
         final LanguageModel language = ModelParseServiceImplTest.parseService.getSystemLanguageModels().get(0);
         final Pericope model = new Pericope();
         model.init("1A\t1B\t1C\t1D\n2\n3\n4\n5\n6\n7\n8\n9\n10", language, new Font("Times New Roman", Font.PLAIN, 23));
@@ -103,22 +334,17 @@ public class ModelParseServiceImplTest {
         modelHandler.setSyntacticalFunction(propositions.get(6), (SyntacticalFunction) functions.get(4).get(1));
         modelHandler.indentPropositionUnderParent(propositions.get(8), propositions.get(9), (SyntacticalFunction) functions.get(4).get(2));
         modelHandler.indentPropositionUnderParent(propositions.get(9), propositions.get(2), (SyntacticalFunction) functions.get(4).get(3));
-        final Document xml = ModelParseServiceImplTest.parseService.parseXmlFromModel(model, Arrays.asList(model));
-        final Entry<Pericope, List<?>> parsed = ModelParseServiceImplTest.parseService.parseModelFromXml(xml, new File("test.hmx"));
-        this.assertPericopeEquals(model, parsed.getKey());
-        Assert.assertEquals(1, parsed.getValue().size());
-        Assert.assertSame(parsed.getKey(), parsed.getValue().get(0));
+        return model;
     }
 
     /**
-     * Test: of the {@code parseXmlFromModel()} and {@code parseModelFromXml()} methods.
+     * Create a pericope with syntactical functions from nested function groups and multiple levels of relations.
      *
+     * @return created pericope
      * @throws HmxException
-     *             failed to retrieve the system {@link LanguageModel}s, could not create {@link Relation}s for setup, or parsing to/from xml
-     *             structure failed
+     *             failed to retrieve the system {@link LanguageModel}s, or could not create {@link Relation}s
      */
-    @Test
-    public void testParseModelToAndFromXml_2() throws HmxException {
+    private Pericope createRelatedPericope() throws HmxException {
         final LanguageModel language = ModelParseServiceImplTest.parseService.getSystemLanguageModels().get(1);
         final Pericope model = new Pericope();
         model.init("1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n11\n12", language, new Font("Arial", Font.PLAIN, 17));
@@ -150,12 +376,79 @@ public class ModelParseServiceImplTest {
                 new AssociateRole("F", true), new AssociateRole("F", true), new AssociateRole("F", true), null));
         modelHandler.createRelation(Arrays.asList(firstLevelRelations.get(2), propositions.get(10), propositions.get(11)), new RelationTemplate(
                 new AssociateRole("G", true), new AssociateRole("H", false), new AssociateRole("H", false), null));
-        final Document xml = ModelParseServiceImplTest.parseService.parseXmlFromModel(model, Arrays.asList(model));
-        final Entry<Pericope, List<?>> parsed =
-                ModelParseServiceImplTest.parseService.parseModelFromXml(xml, new File("some/unexistent/path.hmx"));
-        this.assertPericopeEquals(model, parsed.getKey());
-        Assert.assertEquals(1, parsed.getValue().size());
-        Assert.assertSame(parsed.getKey(), parsed.getValue().get(0));
+        return model;
+    }
+
+    /**
+     * Write the given pericope via {@link ModelParseServiceImpl#writeModelToBinary(org.hmx.scitos.domain.IModel, List, BinaryModelWriter)
+     * writeModelToBinary()}.
+     *
+     * @param model
+     *            pericope to write
+     * @return written bytes
+     * @throws Exception
+     *             error when writing the binary snapshot
+     */
+    private byte[] writeToBinary(final Pericope model) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BinaryModelWriter writer = new BinaryModelWriter(output);
+        writer.writeHeader("HermeneutiX/2.0");
+        ModelParseServiceImplTest.parseService.writeModelToBinary(model, Arrays.asList(model), writer);
+        writer.flush();
+        return output.toByteArray();
+    }
+
+    /**
+     * Read a pericope via {@link ModelParseServiceImpl#parseModelFromBinary(BinaryModelReader, File) parseModelFromBinary()}.
+     *
+     * @param binary
+     *            bytes to read
+     * @return parsed pericope and open view elements
+     * @throws HmxException
+     *             error when parsing the binary snapshot
+     */
+    private Entry<Pericope, List<?>> readFromBinary(final byte[] binary) throws HmxException {
+        final BinaryModelReader reader = new BinaryModelReader(ByteBuffer.wrap(binary));
+        Assert.assertEquals("HermeneutiX/2.0", reader.readHeader());
+        return ModelParseServiceImplTest.parseService.parseModelFromBinary(reader, new File("test.hmxb"));
+    }
+
+    /**
+     * Write the given pericope via {@link ModelParseServiceImpl#writeModelToStream(org.hmx.scitos.domain.IModel, List, XMLStreamWriter, Map)
+     * writeModelToStream()}.
+     *
+     * @param model
+     *            pericope to write
+     * @return written bytes
+     * @throws Exception
+     *             error when writing the xml stream
+     */
+    private byte[] writeToStream(final Pericope model) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final XMLStreamWriter writer = StaxUtil.createWriter(output);
+        ModelParseServiceImplTest.parseService.writeModelToStream(model, Arrays.asList(model), writer,
+                Collections.singletonMap("FileType", "HermeneutiX/2.0"));
+        writer.close();
+        return output.toByteArray();
+    }
+
+    /**
+     * Read a pericope via {@link ModelParseServiceImpl#parseModelFromStream(XMLStreamReader, File) parseModelFromStream()}.
+     *
+     * @param xml
+     *            bytes to read
+     * @return parsed pericope and open view elements
+     * @throws Exception
+     *             error when parsing the xml stream
+     */
+    private Entry<Pericope, List<?>> readFromStream(final byte[] xml) throws Exception {
+        final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new ByteArrayInputStream(xml));
+        try {
+            reader.nextTag();
+            return ModelParseServiceImplTest.parseService.parseModelFromStream(reader, new File("test.hmx"));
+        } finally {
+            reader.close();
+        }
     }
 
     /**
@@ -438,4 +731,24 @@ public class ModelParseServiceImplTest {
         final RelationModel parsed = ModelParseServiceImplTest.parseService.parseRelationModelFromXml(xml);
         Assert.assertEquals(model, parsed);
     }
+
+    /**
+     * Test: of the {@code getSystemLanguageModels()} and {@code getSystemRelationModel()} methods, ensuring modifications of a returned model do not
+     * affect the cached system models.
+     *
+     * @throws HmxException
+     *             failed to retrieve the system models
+     */
+    @Test
+    public void testModifyingSystemModelsKeepsCache() throws HmxException {
+        final LanguageModel languageModel = ModelParseServiceImplTest.parseService.getSystemLanguageModels().get(0);
+        final LanguageModel languageModelCopy = languageModel.clone();
+        languageModel.reset(Collections.<List<AbstractSyntacticalFunctionElement>>emptyList());
+        this.assertLanguageModelEquals(languageModelCopy, ModelParseServiceImplTest.parseService.getSystemLanguageModels().get(0));
+
+        final RelationModel relationModel = ModelParseServiceImplTest.parseService.getSystemRelationModel();
+        final RelationModel relationModelCopy = relationModel.clone();
+        relationModel.reset(Collections.<List<RelationTemplate>>emptyList());
+        Assert.assertEquals(relationModelCopy, ModelParseServiceImplTest.parseService.getSystemRelationModel());
+    }
 }
@@ -23,7 +23,6 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.UUID;
 
-import org.hmx.scitos.domain.util.CollectionUtil;
 import org.hmx.scitos.hmx.domain.ICommentable;
 import org.hmx.scitos.hmx.domain.IPropositionParent;
 import org.hmx.scitos.hmx.domain.model.RelationTemplate.AssociateRole;
@@ -71,6 +70,7 @@ public abstract class AbstractConnectable implements Serializable, ICommentable
     public void setSuperOrdinatedRelation(final Relation relation, final AssociateRole role) {
         this.superOrdinatedRelation = relation;
         this.role = role;
+        Pericope.relationsChanged(this);
     }
 
     /**
@@ -173,7 +173,26 @@ public abstract class AbstractConnectable implements Serializable, ICommentable
         } else {
             prior = ((Relation) this).getLastPropositionContained();
         }
+        // look-up the follower by its position in the containing pericope's flat text
+        final Pericope pericope = Pericope.getContainingPericope(prior);
+        final int position = pericope == null ? -1 : pericope.indexOfProposition(prior);
+        if (position != -1) {
+            return pericope.getPropositionAt(ignorePartAfterArrow ? pericope.getConnectablePositionAfter(position) : position + 1);
+        }
+        // the prior is not (yet) part of a pericope's text
+        return AbstractConnectable.browseFollowingProposition(prior, ignorePartAfterArrow);
+    }
 
+    /**
+     * Get the immediately following {@link Proposition} in the origin text, by browsing through the surrounding {@link Proposition}s.
+     *
+     * @param prior
+     *            the {@link Proposition} to look up the follower for
+     * @param ignorePartAfterArrow
+     *            if {@code partAfterArrow}s (i.e. {@link Proposition} parts) should be skipped
+     * @return direct follower
+     */
+    private static Proposition browseFollowingProposition(final Proposition prior, final boolean ignorePartAfterArrow) {
         List<Proposition> listOfFollowingChildren = prior.getLaterChildren();
         if (listOfFollowingChildren == null || listOfFollowingChildren.isEmpty()) {
             // prior got no later children
@@ -258,11 +277,13 @@ public abstract class AbstractConnectable implements Serializable, ICommentable
         if (!ignorePartAfterArrow && prior.getPartAfterArrow() != null) {
             return prior.getPartAfterArrow();
         }
+        // avoid searching through the containing lists
+        Pericope.prepareFlatIndex(prior);
         final IPropositionParent parent = prior.getParent();
         // get the first partBeforeArrow
         final Proposition referenceProposition = prior.getFirstPart();
         final List<Proposition> containingList = parent.getContainingList(referenceProposition);
-        final int nextListIndex = CollectionUtil.indexOfInstance(containingList, referenceProposition) + 1;
+        final int nextListIndex = Pericope.indexOfChild(containingList, referenceProposition) + 1;
         if (nextListIndex < containingList.size()) {
             // prior got follower on the same level
             return containingList.get(nextListIndex);
@@ -287,7 +308,7 @@ public abstract class AbstractConnectable implements Serializable, ICommentable
         // prior got no follower on the same level, now check higher level
         final Proposition parentProposition = (Proposition) referenceProposition.getParent();
         final List<Proposition> priorChildren = parentProposition.getPriorChildren();
-        if (CollectionUtil.containsInstance(priorChildren, referenceProposition)) {
+        if (Pericope.indexOfChild(priorChildren, referenceProposition) != -1) {
             // prior is the last child in front of its parent, parent is the next proposition
             if (!ignorePartAfterArrow || parentProposition.getPartBeforeArrow() == null) {
                 return parentProposition;
@@ -358,7 +379,7 @@ public abstract class AbstractConnectable implements Serializable, ICommentable
         // browse for the very first of the following Propositions
         List<Proposition> followersPriorChildren = followingProposition.getPriorChildren();
         while (followersPriorChildren != null && !followersPriorChildren.isEmpty()
-                && !CollectionUtil.containsInstance(followersPriorChildren, priorParent)) {
+                && Pericope.indexOfChild(followersPriorChildren, (Proposition) priorParent) == -1) {
             // followingProposition still got at least one prior child
             final Proposition firstFollowerPriorChild = followersPriorChildren.get(0);
             // regard if prior is the last prior child of a partAfterArrow
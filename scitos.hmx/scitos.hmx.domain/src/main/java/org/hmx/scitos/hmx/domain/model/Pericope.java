@@ -21,9 +21,12 @@ package org.hmx.scitos.hmx.domain.model;
 
 import java.awt.Font;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hmx.scitos.domain.IModel;
 import org.hmx.scitos.domain.util.CollectionUtil;
@@ -51,6 +54,18 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
     private String title;
     /** The general comment of this model. */
     private String comment;
+    /**
+     * Counter of structural changes (i.e. propositions being added, removed, or moved) in this model. Each change invalidates the cached
+     * {@link #flatIndex}.
+     */
+    private final AtomicLong structureVersion = new AtomicLong();
+    /**
+     * Counter of changes to the relations (i.e. elements being (dis)connected by relations) in this model. Each change invalidates the cached flat
+     * relations, while the positions of the propositions remain valid.
+     */
+    private final AtomicLong relationVersion = new AtomicLong();
+    /** The lazily built positions of all propositions and relations, as long as the structure has not changed since. */
+    private transient volatile FlatIndex flatIndex;
 
     /**
      * Constructor: for an empty, uninitialized model that requires {@link #init(String, LanguageModel, Font)} to be called separately.
@@ -74,11 +89,33 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
         this.languageModel.addAll(language.provideFunctions());
         this.setFont(originTextFont);
         this.text.clear();
+        Pericope.structureChanged(this);
         if (originText != null) {
             this.addNewPropositions(originText, false);
         }
     }
 
+    /**
+     * Preserve the current instance, but replace the contained state and values by (copies of) the ones in the given other pericope instance.
+     *
+     * @param replacingState
+     *            other pericope instance to replace this' state with
+     */
+    public void reset(final Pericope replacingState) {
+        final Pericope copy = replacingState.clone();
+        this.languageModel = copy.languageModel;
+        this.font = copy.font;
+        this.author = copy.author;
+        this.title = copy.title;
+        this.comment = copy.comment;
+        this.text.clear();
+        for (final Proposition singleProposition : copy.text) {
+            singleProposition.setParent(this);
+            this.text.add(singleProposition);
+        }
+        Pericope.structureChanged(this);
+    }
+
     /**
      * Add the given origin text to this model.
      *
@@ -109,6 +146,7 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
         } else {
             this.text.addAll(originText);
         }
+        Pericope.structureChanged(this);
     }
 
     /**
@@ -155,12 +193,131 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
      * @return ordered list of all {@code Proposition}s
      */
     public List<Proposition> getFlatText() {
-        final List<Proposition> result = new ArrayList<>();
-        for (final Proposition singleTopLevelProposition : this.text) {
+        return this.provideFlatIndex().flatText;
+    }
+
+    /**
+     * Collect all {@link Relation}s in one list, disregarding any hierarchy while establishing a simple order: each subtree is resolved to preserve
+     * the positions of each subordinated {@link Relation} followed by the super ordinated relation itself.
+     *
+     * @return ordered list of all relations
+     */
+    public List<Relation> getFlatRelations() {
+        return this.provideFlatIndexWithRelations().flatRelations;
+    }
+
+    /**
+     * Notify about a structural change in the given model element, i.e. a {@link Proposition} being added, removed, or moved. This invalidates the
+     * cached flat text and relations of the {@code Pericope} containing it.
+     *
+     * @param changed
+     *            the changed {@code Pericope} or {@link Proposition} (that is expected to be part of the respective {@code Pericope} already/still)
+     */
+    static void structureChanged(final IPropositionParent changed) {
+        final Pericope pericope;
+        if (changed instanceof Pericope) {
+            pericope = (Pericope) changed;
+        } else {
+            pericope = Pericope.getContainingPericope((Proposition) changed);
+        }
+        if (pericope != null) {
+            pericope.structureVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Notify about a change of the given model element's super ordinated {@link Relation} or of a {@link Relation}'s associates. This invalidates
+     * the cached flat relations of the {@code Pericope} containing it.
+     *
+     * @param changed
+     *            the changed {@link Proposition} or {@link Relation}
+     */
+    static void relationsChanged(final AbstractConnectable changed) {
+        final Pericope pericope = Pericope.getContainingPericope(changed);
+        if (pericope != null) {
+            pericope.relationVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Getter for the positions of all propositions, building them if the structure has changed since they were last requested.
+     *
+     * @return up-to-date flat index (possibly without or with outdated relations)
+     */
+    private FlatIndex provideFlatIndex() {
+        final long version = this.structureVersion.get();
+        FlatIndex index = this.flatIndex;
+        if (index == null || index.version != version) {
+            index = this.buildFlatIndex(version);
+            this.flatIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Getter for the positions of all propositions and relations, building them if the structure or any relation has changed since they were last
+     * requested.
+     *
+     * @return up-to-date flat index including the relations
+     */
+    private FlatIndex provideFlatIndexWithRelations() {
+        final long currentRelationVersion = this.relationVersion.get();
+        FlatIndex index = this.provideFlatIndex();
+        if (index.relations == null || index.relationVersion != currentRelationVersion) {
+            index = index.withRelations(currentRelationVersion, this.buildFlatRelations(index));
+            this.flatIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Build the positions of all propositions.
+     *
+     * @param version
+     *            the structure version before the building started
+     * @return created flat index (without relations)
+     */
+    private FlatIndex buildFlatIndex(final long version) {
+        final List<Proposition> flatText = new ArrayList<>();
+        final Map<Proposition, Integer> listPositions = new IdentityHashMap<>();
+        for (int listPosition = 0; listPosition < this.text.size(); listPosition++) {
             // recursively fill result list
-            this.collectFlatText(singleTopLevelProposition, result);
+            this.collectFlatText(this.text.get(listPosition), listPosition, flatText, listPositions);
+        }
+        final Map<Proposition, Integer> positions = new IdentityHashMap<>(flatText.size() * 2);
+        for (int position = 0; position < flatText.size(); position++) {
+            positions.put(flatText.get(position), position);
         }
-        return result;
+        return new FlatIndex(version, flatText.toArray(new Proposition[flatText.size()]), positions, listPositions);
+    }
+
+    /**
+     * Build the ordered list of all relations, as provided by {@link #getFlatRelations()}.
+     *
+     * @param index
+     *            the up-to-date positions of all propositions
+     * @return all relations, with each subordinated relation in front of its super ordinated one
+     */
+    private Relation[] buildFlatRelations(final FlatIndex index) {
+        final List<Relation> flatRelations = new ArrayList<>();
+        int position = 0;
+        while (position < index.propositions.length) {
+            // get the highest relation over the current focused Proposition
+            AbstractConnectable currentFocus = index.propositions[position];
+            while (currentFocus.getSuperOrdinatedRelation() != null) {
+                currentFocus = currentFocus.getSuperOrdinatedRelation();
+            }
+            if (currentFocus instanceof Relation) {
+                this.collectFlatRelations((Relation) currentFocus, flatRelations);
+                final Integer lastPosition = index.positions.get(((Relation) currentFocus).getLastPropositionContained());
+                if (lastPosition != null && lastPosition > position) {
+                    position = lastPosition;
+                }
+            }
+            // continue with the following connectable proposition, i.e. skip any partAfterArrow
+            position = index.getConnectablePositionAfter(position);
+        }
+        return flatRelations.toArray(new Relation[flatRelations.size()]);
     }
 
     /**
@@ -169,51 +326,35 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
      *
      * @param target
      *            the {@link Proposition} to include in the given list, including any subordinated ones
+     * @param listPosition
+     *            the target's position in the list of propositions containing it ({@code -1} for a {@code partAfterArrow})
      * @param flatText
      *            ordered list of {@link Proposition}s to extend
+     * @param listPositions
+     *            each collected proposition's position in the list of propositions containing it
      * @see #getFlatText()
      */
-    private void collectFlatText(final Proposition target, final List<Proposition> flatText) {
+    private void collectFlatText(final Proposition target, final int listPosition, final List<Proposition> flatText,
+            final Map<Proposition, Integer> listPositions) {
+        listPositions.put(target, listPosition);
         // first: the subordinated propositions in front of the target
-        for (final Proposition singlePriorChild : target.getPriorChildren()) {
-            this.collectFlatText(singlePriorChild, flatText);
+        final List<Proposition> priorChildren = target.getPriorChildren();
+        for (int childPosition = 0; childPosition < priorChildren.size(); childPosition++) {
+            this.collectFlatText(priorChildren.get(childPosition), childPosition, flatText, listPositions);
         }
         // second: the target proposition itself
         flatText.add(target);
         // third: the subordinated propositions behind the target
-        for (final Proposition singleLaterChild : target.getLaterChildren()) {
-            this.collectFlatText(singleLaterChild, flatText);
+        final List<Proposition> laterChildren = target.getLaterChildren();
+        for (int childPosition = 0; childPosition < laterChildren.size(); childPosition++) {
+            this.collectFlatText(laterChildren.get(childPosition), childPosition, flatText, listPositions);
         }
         // fourth: the possible part-after-arrow of the target
         if (target.getPartAfterArrow() != null) {
-            this.collectFlatText(target.getPartAfterArrow(), flatText);
+            this.collectFlatText(target.getPartAfterArrow(), -1, flatText, listPositions);
         }
     }
 
-    /**
-     * Collect all {@link Relation}s in one list, disregarding any hierarchy while establishing a simple order: each subtree is resolved to preserve
-     * the positions of each subordinated {@link Relation} followed by the super ordinated relation itself.
-     *
-     * @return ordered list of all relations
-     */
-    public List<Relation> getFlatRelations() {
-        final List<Relation> result = new ArrayList<>();
-        // get the first Proposition
-        AbstractConnectable currentFocus = this.getPropositionAt(0);
-        while (currentFocus != null) {
-            // get the highest relation over the current focused Proposition
-            while (currentFocus.getSuperOrdinatedRelation() != null) {
-                currentFocus = currentFocus.getSuperOrdinatedRelation();
-            }
-            if (currentFocus instanceof Relation) {
-                this.collectFlatRelations((Relation) currentFocus, result);
-            }
-            // iterate whole pericope
-            currentFocus = currentFocus.getFollowingConnectableProposition();
-        }
-        return result;
-    }
-
     /**
      * Append the given {@link Relation} and all its subordinated {@link Relation}s to the given list. Per convention: the subordinated elements come
      * first, followed by the given super ordinated one.
@@ -328,7 +469,7 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
     public void insertChildPropositionBeforeFollower(final Proposition toInsert, final Proposition follower) {
         // make sure to deal with first part of following proposition
         final Proposition following = follower.getFirstPart();
-        final int pos = CollectionUtil.indexOfInstance(this.text, following);
+        final int pos = Pericope.indexOfChild(this.text, following);
         if (pos == -1) {
             // follower not contained
             throw new IllegalArgumentException();
@@ -336,13 +477,14 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
         toInsert.setParent(this);
         toInsert.setFunction(null);
         this.text.add(pos, toInsert);
+        Pericope.structureChanged(this);
     }
 
     @Override
     public void insertChildPropositionAfterPrior(final Proposition toInsert, final Proposition prior) {
         // make sure to deal with first part of prior proposition
         final Proposition before = prior.getFirstPart();
-        final int pos = CollectionUtil.indexOfInstance(this.text, before);
+        final int pos = Pericope.indexOfChild(this.text, before);
         if (pos == -1) {
             // prior not contained
             throw new IllegalArgumentException();
@@ -350,13 +492,15 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
         toInsert.setParent(this);
         toInsert.setFunction(null);
         this.text.add(pos + 1, toInsert);
+        Pericope.structureChanged(this);
     }
 
     @Override
     public void removeChildProposition(final Proposition deleted) {
-        final int index = CollectionUtil.indexOfInstance(this.text, deleted);
+        final int index = Pericope.indexOfChild(this.text, deleted);
         if (index != -1) {
             this.text.remove(index);
+            Pericope.structureChanged(this);
         } else {
             deleted.getPartBeforeArrow().removeChildProposition(deleted);
         }
@@ -364,7 +508,7 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
 
     @Override
     public List<Proposition> getContainingList(final Proposition childProposition) {
-        if (CollectionUtil.containsInstance(this.text, childProposition)) {
+        if (Pericope.indexOfChild(this.text, childProposition) != -1) {
             return this.getText();
         }
         return null;
@@ -375,25 +519,15 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
      *
      * @param index
      *            index of the targeted proposition
-     * @return the proposition at the specified position
+     * @return the proposition at the specified position ({@code null} if the index is out of range)
      * @see #indexOfProposition(Proposition)
      */
     public Proposition getPropositionAt(final int index) {
-        if (this.text.isEmpty()) {
+        final Proposition[] propositions = this.provideFlatIndex().propositions;
+        if (index < 0 || index >= propositions.length) {
             return null;
         }
-        // get the first Proposition
-        Proposition proposition = this.text.get(0);
-        List<Proposition> priorChildren = proposition.getPriorChildren();
-        while (!priorChildren.isEmpty()) {
-            proposition = priorChildren.get(0);
-            priorChildren = proposition.getPriorChildren();
-        }
-        // iterate through text for the specified number of steps
-        for (int stepsTaken = 0; stepsTaken < index; stepsTaken++) {
-            proposition = proposition.getFollowingProposition();
-        }
-        return proposition;
+        return propositions[index];
     }
 
     /**
@@ -401,17 +535,99 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
      *
      * @param target
      *            {@link Proposition} to look for
-     * @return the proposition's index in this model
+     * @return the proposition's index in this model ({@code -1} if it is not contained)
      * @see #getPropositionAt(int)
      */
     public int indexOfProposition(final Proposition target) {
-        int position = 0;
-        Proposition current = this.getPropositionAt(0);
-        while (current != target) {
-            current = current.getFollowingProposition();
-            position++;
+        final Integer position = this.provideFlatIndex().positions.get(target);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Determine the position of the next {@link Proposition} after the specified position, that can be part of a {@link Relation} (i.e. is no
+     * {@code partAfterArrow}).
+     *
+     * @param position
+     *            index of the preceding proposition
+     * @return index of the following connectable proposition (equal to the number of propositions if there is none)
+     */
+    int getConnectablePositionAfter(final int position) {
+        return this.provideFlatIndex().getConnectablePositionAfter(position);
+    }
+
+    /**
+     * Find the {@code Pericope} containing the given {@link Proposition} or {@link Relation}, by following the (first) associates of a relation and
+     * the parents of a proposition.
+     *
+     * @param connectable
+     *            the proposition or relation to find the containing model for
+     * @return the containing model ({@code null} if the element is not (yet) part of one)
+     */
+    static Pericope getContainingPericope(final AbstractConnectable connectable) {
+        AbstractConnectable element = connectable;
+        while (element instanceof Relation) {
+            final List<AbstractConnectable> associates = ((Relation) element).getAssociates();
+            if (associates.isEmpty()) {
+                return null;
+            }
+            element = associates.get(0);
+        }
+        if (element == null) {
+            return null;
+        }
+        IPropositionParent parent = ((Proposition) element).getParent();
+        // while propositions are being moved, their parents may temporarily form a cycle: detect it by letting a second reference trail behind
+        IPropositionParent trailingParent = parent;
+        boolean moveTrailingParent = false;
+        while (parent instanceof Proposition) {
+            parent = ((Proposition) parent).getParent();
+            if (moveTrailingParent) {
+                trailingParent = ((Proposition) trailingParent).getParent();
+            }
+            moveTrailingParent = !moveTrailingParent;
+            if (parent == trailingParent) {
+                // not (yet) part of a consistent model; re-attaching it will notify the containing model again
+                return null;
+            }
+        }
+        return parent instanceof Pericope ? (Pericope) parent : null;
+    }
+
+    /**
+     * Make sure the cached positions of the propositions in the {@code Pericope} containing the given {@link Proposition} are up-to-date, so that
+     * subsequent look-ups via {@link #indexOfChild(List, Proposition)} do not need to search through the respective lists.
+     *
+     * @param proposition
+     *            the proposition, whose containing model's positions should be prepared
+     */
+    static void prepareFlatIndex(final Proposition proposition) {
+        final Pericope pericope = Pericope.getContainingPericope(proposition);
+        if (pericope != null) {
+            pericope.provideFlatIndex();
+        }
+    }
+
+    /**
+     * Determine the given child {@link Proposition}'s position in the given list of propositions (i.e. the top level propositions, or another
+     * proposition's prior or later children). If the containing model's positions are up-to-date, the cached position is being checked instead of
+     * searching through the whole list.
+     *
+     * @param list
+     *            the list of propositions to look up the child in
+     * @param child
+     *            the proposition to look up
+     * @return the child's position in the list ({@code -1} if it is not contained)
+     */
+    static int indexOfChild(final List<Proposition> list, final Proposition child) {
+        final Pericope pericope = Pericope.getContainingPericope(child);
+        final FlatIndex index = pericope == null ? null : pericope.flatIndex;
+        if (index != null && index.version == pericope.structureVersion.get()) {
+            final Integer listPosition = index.listPositions.get(child);
+            if (listPosition != null) {
+                return listPosition >= 0 && listPosition < list.size() && list.get(listPosition) == child ? listPosition : -1;
+            }
         }
-        return position;
+        return CollectionUtil.indexOfInstance(list, child);
     }
 
     @Override
@@ -432,58 +648,147 @@ public final class Pericope implements IModel<Pericope>, IPropositionParent, ICo
         /*
          * after cloning the whole Pericope the associates of the relations need to be set separately
          */
-        final List<Relation> originRelations = this.getFlatRelations();
-        if (originRelations != null) {
-            final List<Relation> clonedRelations = new ArrayList<>(originRelations.size());
-            for (final Relation singleRelation : originRelations) {
-                clonedRelations.add(singleRelation.clone());
+        final List<Proposition> originText = this.getFlatText();
+        final List<Proposition> clonedText = cloned.getFlatText();
+        // both flat texts are in the same order, allowing to look-up each cloned element by its origin in constant time
+        final Map<AbstractConnectable, AbstractConnectable> clonedElements = new IdentityHashMap<>(originText.size() * 2);
+        for (int index = 0; index < originText.size(); index++) {
+            clonedElements.put(originText.get(index), clonedText.get(index));
+        }
+        final List<Relation> originRelations = new ArrayList<>();
+        for (final Proposition singleProposition : originText) {
+            // collect each relation over the current proposition, that has not been reached via a preceding proposition
+            Relation relation = singleProposition.getSuperOrdinatedRelation();
+            while (relation != null && !clonedElements.containsKey(relation)) {
+                clonedElements.put(relation, relation.clone());
+                originRelations.add(relation);
+                relation = relation.getSuperOrdinatedRelation();
             }
-            // get the first Proposition
-            AbstractConnectable currentFocus = this.getPropositionAt(0);
-            do {
-                // get the highest relation over the current focused Proposition
-                while (currentFocus.getSuperOrdinatedRelation() != null) {
-                    currentFocus = currentFocus.getSuperOrdinatedRelation();
-                }
-                if (currentFocus instanceof Relation) {
-                    this.cloneAssociations((Relation) currentFocus, originRelations, cloned, clonedRelations);
-                }
-                // iterate over whole pericope
-                currentFocus = currentFocus.getFollowingConnectableProposition();
-            } while (currentFocus != null);
+        }
+        for (final Relation singleRelation : originRelations) {
+            Pericope.cloneAssociations(singleRelation, clonedElements);
         }
         return cloned;
     }
 
     /**
-     * Connect the cloned {@link Relation}s and {@link Proposition}s with each other, based on their respective origin associations.
+     * Connect the cloned {@link Relation} with its cloned associates, based on the respective origin associations.
      *
-     * @param subTreeHead
+     * @param originRelation
      *            original {@link Relation} to rebuild the associations from
-     * @param originRelations
-     *            list of original {@link Relation}s
-     * @param clonedPericope
-     *            cloned model to set the associations in
-     * @param clonedRelations
-     *            list of cloned {@link Relation}s, in the same order as the original ones
+     * @param clonedElements
+     *            cloned {@link Relation}s and {@link Proposition}s, associated with their respective origin (by identity)
      * @see #clone()
      */
-    private void cloneAssociations(final Relation subTreeHead, final List<Relation> originRelations, final Pericope clonedPericope,
-            final List<Relation> clonedRelations) {
-        final List<AbstractConnectable> topAssociates = subTreeHead.getAssociates();
-        final List<AbstractConnectable> clonedAssociates = new ArrayList<>(topAssociates.size());
-        final Relation clonedSubTreeHead = clonedRelations.get(CollectionUtil.indexOfInstance(originRelations, subTreeHead));
-        for (final AbstractConnectable originAssociate : topAssociates) {
-            final AbstractConnectable clonedAssociate;
-            if (originAssociate instanceof Relation) {
-                clonedAssociate = clonedRelations.get(CollectionUtil.indexOfInstance(originRelations, originAssociate));
-                this.cloneAssociations((Relation) originAssociate, originRelations, clonedPericope, clonedRelations);
-            } else {
-                clonedAssociate = clonedPericope.getPropositionAt(this.indexOfProposition((Proposition) originAssociate));
-            }
-            clonedAssociate.setSuperOrdinatedRelation(clonedSubTreeHead, originAssociate.getRole());
+    private static void cloneAssociations(final Relation originRelation, final Map<AbstractConnectable, AbstractConnectable> clonedElements) {
+        final Relation clonedRelation = (Relation) clonedElements.get(originRelation);
+        final List<AbstractConnectable> originAssociates = originRelation.getAssociates();
+        final List<AbstractConnectable> clonedAssociates = new ArrayList<>(originAssociates.size());
+        for (final AbstractConnectable originAssociate : originAssociates) {
+            final AbstractConnectable clonedAssociate = clonedElements.get(originAssociate);
+            clonedAssociate.setSuperOrdinatedRelation(clonedRelation, originAssociate.getRole());
             clonedAssociates.add(clonedAssociate);
         }
-        clonedSubTreeHead.setAssociates(clonedAssociates);
+        clonedRelation.setAssociates(clonedAssociates);
+    }
+
+    /**
+     * Positions of all propositions and relations in a {@link Pericope}, as they were at the time of the given structure and relation versions.
+     */
+    private static final class FlatIndex {
+
+        /** The structure version, this was built for. */
+        final long version;
+        /** All propositions in the order of the represented text. */
+        final Proposition[] propositions;
+        /** The index of each contained proposition in the {@link #propositions} array. */
+        final Map<Proposition, Integer> positions;
+        /** The index of each contained proposition in the list of propositions containing it ({@code -1} for a {@code partAfterArrow}). */
+        final Map<Proposition, Integer> listPositions;
+        /** The relation version, the {@link #relations} were built for. */
+        final long relationVersion;
+        /** All relations, with each subordinated relation in front of its super ordinated one ({@code null} if not built yet). */
+        final Relation[] relations;
+        /** Unmodifiable view of the {@link #propositions}, to be handed out by {@link Pericope#getFlatText()}. */
+        final List<Proposition> flatText;
+        /** Unmodifiable view of the {@link #relations}, to be handed out by {@link Pericope#getFlatRelations()} ({@code null} if not built yet). */
+        final List<Relation> flatRelations;
+
+        /**
+         * Constructor: without relations.
+         *
+         * @param version
+         *            the structure version, this is built for
+         * @param propositions
+         *            all propositions in the order of the represented text
+         * @param positions
+         *            the index of each contained proposition in the {@code propositions} array (by identity)
+         * @param listPositions
+         *            the index of each contained proposition in the list of propositions containing it (by identity)
+         */
+        FlatIndex(final long version, final Proposition[] propositions, final Map<Proposition, Integer> positions,
+                final Map<Proposition, Integer> listPositions) {
+            this(version, propositions, positions, listPositions, -1L, null, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param version
+         *            the structure version, this is built for
+         * @param propositions
+         *            all propositions in the order of the represented text
+         * @param positions
+         *            the index of each contained proposition in the {@code propositions} array (by identity)
+         * @param listPositions
+         *            the index of each contained proposition in the list of propositions containing it (by identity)
+         * @param relationVersion
+         *            the relation version, the given relations were built for
+         * @param relations
+         *            all relations, with each subordinated relation in front of its super ordinated one
+         * @param flatText
+         *            unmodifiable view of the given propositions ({@code null} to create a new one)
+         */
+        private FlatIndex(final long version, final Proposition[] propositions, final Map<Proposition, Integer> positions,
+                final Map<Proposition, Integer> listPositions, final long relationVersion, final Relation[] relations,
+                final List<Proposition> flatText) {
+            this.version = version;
+            this.propositions = propositions;
+            this.positions = positions;
+            this.listPositions = listPositions;
+            this.relationVersion = relationVersion;
+            this.relations = relations;
+            this.flatText = flatText == null ? Collections.unmodifiableList(Arrays.asList(propositions)) : flatText;
+            this.flatRelations = relations == null ? null : Collections.unmodifiableList(Arrays.asList(relations));
+        }
+
+        /**
+         * Create a copy of this index with the given relations, sharing the positions of all propositions.
+         *
+         * @param newRelationVersion
+         *            the relation version, the given relations were built for
+         * @param newRelations
+         *            all relations, with each subordinated relation in front of its super ordinated one
+         * @return copy with the given relations
+         */
+        FlatIndex withRelations(final long newRelationVersion, final Relation[] newRelations) {
+            return new FlatIndex(this.version, this.propositions, this.positions, this.listPositions, newRelationVersion, newRelations,
+                    this.flatText);
+        }
+
+        /**
+         * Determine the position of the next proposition after the specified position, that is no {@code partAfterArrow}.
+         *
+         * @param position
+         *            index of the preceding proposition
+         * @return index of the following connectable proposition (equal to the number of propositions if there is none)
+         */
+        int getConnectablePositionAfter(final int position) {
+            int result = position + 1;
+            while (result < this.propositions.length && this.propositions[result].getPartBeforeArrow() != null) {
+                result++;
+            }
+            return result;
+        }
     }
 }
@@ -199,7 +199,10 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
      *            the parent element to set
      */
     public void setParent(final IPropositionParent parent) {
+        // invalidate the positions in the previously containing model as well
+        Pericope.structureChanged(this);
         this.parent = parent;
+        Pericope.structureChanged(this);
         if (this.partAfterArrow != null) {
             this.partAfterArrow.setParent(parent);
         }
@@ -232,6 +235,7 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
                 singleChild.setParent(this);
             }
         }
+        Pericope.structureChanged(this);
     }
 
     /**
@@ -261,6 +265,7 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
                 singleChild.setParent(this);
             }
         }
+        Pericope.structureChanged(this);
     }
 
     /**
@@ -319,6 +324,7 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
             if (this.partAfterArrow != null) {
                 this.partAfterArrow.partBeforeArrow = null;
                 this.partAfterArrow = null;
+                Pericope.structureChanged(this);
             }
         } else {
             this.partAfterArrow = partAfterArrow;
@@ -346,10 +352,10 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
      * @return the list of child propositions that contains the given one
      */
     private List<Proposition> getInternalContainingList(final Proposition childProposition) {
-        if (this.priorChildren != null && CollectionUtil.containsInstance(this.priorChildren, childProposition)) {
+        if (this.priorChildren != null && Pericope.indexOfChild(this.priorChildren, childProposition) != -1) {
             return this.priorChildren;
         }
-        if (this.laterChildren != null && CollectionUtil.containsInstance(this.laterChildren, childProposition)) {
+        if (this.laterChildren != null && Pericope.indexOfChild(this.laterChildren, childProposition) != -1) {
             return this.laterChildren;
         }
         if (this.partAfterArrow != null) {
@@ -397,6 +403,7 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
         } else {
             this.priorChildren.add(childProposition);
         }
+        Pericope.structureChanged(this);
     }
 
     /**
@@ -437,6 +444,7 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
         } else {
             this.laterChildren.add(childProposition);
         }
+        Pericope.structureChanged(this);
     }
 
     @Override
@@ -444,8 +452,9 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
         // make sure to deal with first part of following proposition
         final Proposition following = follower.getFirstPart();
         final List<Proposition> containingList = this.getInternalContainingList(following);
-        containingList.add(CollectionUtil.indexOfInstance(containingList, following), toInsert);
+        containingList.add(Pericope.indexOfChild(containingList, following), toInsert);
         toInsert.setParent(this);
+        Pericope.structureChanged(this);
     }
 
     @Override
@@ -458,14 +467,16 @@ public final class Proposition extends AbstractConnectable implements Cloneable,
             throw new IllegalArgumentException();
         }
         toInsert.setParent(this);
-        containingList.add(CollectionUtil.indexOfInstance(containingList, before) + 1, toInsert);
+        containingList.add(Pericope.indexOfChild(containingList, before) + 1, toInsert);
+        Pericope.structureChanged(this);
     }
 
     @Override
     public void removeChildProposition(final Proposition toDelete) {
         final List<Proposition> containingList = this.getInternalContainingList(toDelete);
         if (containingList != null) {
-            containingList.remove(CollectionUtil.indexOfInstance(containingList, toDelete));
+            containingList.remove(Pericope.indexOfChild(containingList, toDelete));
+            Pericope.structureChanged(this);
         } else if (this.partAfterArrow == toDelete) {
             this.setPartAfterArrow(null);
         } else {
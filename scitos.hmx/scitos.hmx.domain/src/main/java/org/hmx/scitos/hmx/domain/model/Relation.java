@@ -81,10 +81,13 @@ public final class Relation extends AbstractConnectable implements Cloneable, It
      *            the subordinated {@link AbstractConnectable}s
      */
     public void setAssociates(final List<AbstractConnectable> associates) {
+        // invalidate the flat relations in the previously containing model as well
+        Pericope.relationsChanged(this);
         this.associates.clear();
         if (associates != null) {
             this.associates.addAll(associates);
         }
+        Pericope.relationsChanged(this);
     }
 
     /**
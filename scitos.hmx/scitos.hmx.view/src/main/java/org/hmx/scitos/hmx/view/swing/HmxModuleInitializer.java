@@ -77,5 +77,7 @@ public final class HmxModuleInitializer {
         optionPanelServiceRegistry.registerOptionPanelService(HmxRelationOption.class, relationOptionPanelService);
         optionPanelServiceRegistry.registerOptionPanelService(HmxLanguageOption.class, languageOptionPanelService);
         viewServiceRegistry.registerViewService(HmxSwingProject.class, Pericope.class, viewService);
+        // avoid parsing the system defined models when opening the first file
+        modelService.preloadSystemModels();
     }
 }
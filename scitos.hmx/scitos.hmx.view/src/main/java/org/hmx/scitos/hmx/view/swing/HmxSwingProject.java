@@ -23,7 +23,8 @@ import java.awt.Font;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
 
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
@@ -31,7 +32,7 @@ import javax.swing.SwingUtilities;
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.HmxException;
 import org.hmx.scitos.core.i18n.Message;
-import org.hmx.scitos.domain.IModel;
+import org.hmx.scitos.core.option.Option;
 import org.hmx.scitos.domain.ModelChangeListener;
 import org.hmx.scitos.domain.ModelEvent;
 import org.hmx.scitos.hmx.core.HmxModelHandler;
@@ -54,6 +55,10 @@ public final class HmxSwingProject implements HmxViewProject, ModelChangeListene
     private final HmxModelHandler modelHandler;
     /** The flag indicating whether the current state contains no unsaved changes. */
     boolean saved = true;
+    /** The number of model changes so far – to determine whether the pericope has been changed while it was being saved in the background. */
+    private int modelChangeCount = 0;
+    /** The number of save operations started so far – to ignore verification results of a saved file that has been replaced again since. */
+    private int saveCount = 0;
     /** The path this project has been loaded from and/or last saved to. It is used as the default path for the next requested save operation. */
     File savePath;
 
@@ -121,6 +126,7 @@ public final class HmxSwingProject implements HmxViewProject, ModelChangeListene
         if (!event.isUpdated() && event.getTarget() == this.getModelObject()) {
             this.client.getMainView().resetTreeStructure();
         }
+        this.modelChangeCount++;
         this.saved = false;
         SwingUtilities.invokeLater(this.client::revalidate);
     }
@@ -166,25 +172,96 @@ public final class HmxSwingProject implements HmxViewProject, ModelChangeListene
 
     @Override
     public void saveAs(final File path) throws HmxException {
+        final int changeCount = this.modelChangeCount;
+        final int saveNumber = ++this.saveCount;
         this.client.getModelParseProvider().save(this.getModelObject(), this.getOpenTabElements(), path);
-        final Entry<? extends IModel<?>, List<?>> reloadedModel;
-        try {
-            reloadedModel = this.client.getModelParseProvider().open(path);
-        } catch (final HmxException validationException) {
-            // don't confuse the user by showing an exception about being unable to read a file, when it was just saved
-            throw new HmxException(Message.ERROR_SAVE_FAILED);
-        }
+        this.completeSaving(path, changeCount, saveNumber, this.verifySavedFile(path, this.getModelObject()));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveInBackground(final File path, final LongConsumer progressListener) {
+        // write a snapshot, allowing the pericope to be changed further while the file is being written
+        final Pericope snapshot = this.getModelObject().clone();
+        final int changeCount = this.modelChangeCount;
+        final int saveNumber = ++this.saveCount;
+        final CompletableFuture<Void> saving =
+                this.client.getModelParseProvider().saveInBackground(snapshot, Collections.singletonList(snapshot), path, progressListener);
+        // request the verification right away, to be performed directly after the saving (before any subsequently requested save operation)
+        final CompletableFuture<String> verification = this.verifySavedFile(path, snapshot);
+        return saving.thenRun(() -> SwingUtilities.invokeLater(() -> this.completeSaving(path, changeCount, saveNumber, verification)));
+    }
+
+    /**
+     * Remember the given path as default target for the next save operation and mark this project as saved – unless it has been changed since the
+     * saving started. If the user enabled the full verification, the project is marked as unsaved again if the saved file does not match.
+     *
+     * @param path
+     *            the saved file
+     * @param changeCount
+     *            the number of model changes when the saving started
+     * @param saveNumber
+     *            the number of save operations started so far, when this saving started
+     * @param verification
+     *            the pending verification of the saved file ({@code null} if the full verification is disabled)
+     */
+    private void completeSaving(final File path, final int changeCount, final int saveNumber, final CompletableFuture<String> verification) {
         this.setSavePath(path);
-        // only perform very basic structural comparison: count propositions and relations
-        final Pericope reloadedPericope = (Pericope) reloadedModel.getKey();
-        if (this.getModelObject().getFlatText().size() != reloadedPericope.getFlatText().size()) {
-            throw new HmxException(Message.ERROR_SAVE_FAILED);
+        if (this.modelChangeCount == changeCount) {
+            this.setSaved(true);
         }
-        if (this.getModelObject().getFlatRelations().size() != reloadedPericope.getFlatRelations().size()) {
-            throw new HmxException(Message.ERROR_SAVE_FAILED);
-        }
-        this.setSaved(true);
         this.client.invokeRepresentationRefresh(this);
+        if (verification != null) {
+            verification.whenComplete((mismatch, parseError) -> {
+                if (mismatch != null || parseError != null) {
+                    final HmxException error = parseError == null ? new HmxException(Message.ERROR_SAVE_FAILED)
+                            : new HmxException(Message.ERROR_SAVE_FAILED, parseError);
+                    SwingUtilities.invokeLater(() -> this.handleFailedVerification(saveNumber, error));
+                }
+            });
+        }
+    }
+
+    /**
+     * Parse the given (just saved) file again in the background and perform a very basic structural comparison with the saved state of the
+     * represented pericope: count propositions and relations – if the user enabled the full verification. This is performed after the pending save
+     * operations but before any subsequently requested one.
+     *
+     * @param path
+     *            the saved file to verify
+     * @param savedState
+     *            the saved pericope
+     * @return the pending verification, providing the detected mismatch ({@code null} if the full verification is disabled)
+     */
+    private CompletableFuture<String> verifySavedFile(final File path, final Pericope savedState) {
+        if (!Boolean.parseBoolean(Option.SAVE_FULL_VERIFICATION.getValue())) {
+            return null;
+        }
+        // determine the expected counts right away, as the pericope might already be changed again while the verification is still running
+        final int propositionCount = savedState.getFlatText().size();
+        final int relationCount = savedState.getFlatRelations().size();
+        return this.client.getModelParseProvider().verifyInBackground(path, reloadedModel -> {
+            if (!(reloadedModel instanceof Pericope) || ((Pericope) reloadedModel).getFlatText().size() != propositionCount
+                    || ((Pericope) reloadedModel).getFlatRelations().size() != relationCount) {
+                return "unexpected number of propositions or relations";
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Mark the project as unsaved and inform the user about the failed verification of a saved file – unless the project has been saved again in
+     * the meantime.
+     *
+     * @param saveNumber
+     *            the number of save operations started so far, when the verified saving started
+     * @param error
+     *            the error to show
+     */
+    private void handleFailedVerification(final int saveNumber, final HmxException error) {
+        if (saveNumber == this.saveCount) {
+            this.setSaved(false);
+            MessageHandler.showException(error);
+        }
     }
 
     @Override
@@ -293,7 +293,7 @@ public final class AnalysisPanel extends JPanel implements IPericopeView, ModelC
     public void modelChanged(final ModelEvent<?> event) {
         // ignore change event thrown by the own undo/redo action
         if (!this.undoInProgress) {
-            this.undoManager.undoableEditHappened(this.getModelHandler().getModel());
+            this.undoManager.undoableEditHappened(this.getModelHandler().getModel(), event.getChange());
         }
         // deal with different kinds of targets and event types
         final Object target = event.getTarget();
@@ -642,7 +642,10 @@ public final class AnalysisPanel extends JPanel implements IPericopeView, ModelC
         this.submitChangesToModel();
         this.undoInProgress = true;
         try {
-            this.getModelHandler().resetModel(this.undoManager.undo());
+            final Pericope resetState = this.undoManager.undo();
+            if (resetState != null) {
+                this.getModelHandler().resetModel(resetState);
+            }
         } finally {
             this.undoInProgress = false;
         }
@@ -653,7 +656,10 @@ public final class AnalysisPanel extends JPanel implements IPericopeView, ModelC
         // ignore any potentially pending change here (otherwise "Redo" might not be allowed anymore)
         this.undoInProgress = true;
         try {
-            this.getModelHandler().resetModel(this.undoManager.redo());
+            final Pericope resetState = this.undoManager.redo();
+            if (resetState != null) {
+                this.getModelHandler().resetModel(resetState);
+            }
         } finally {
             this.undoInProgress = false;
         }
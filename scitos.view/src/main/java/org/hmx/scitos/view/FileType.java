@@ -19,6 +19,11 @@
 
 package org.hmx.scitos.view;
 
+import java.util.Collections;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamReader;
+
 import org.hmx.scitos.core.i18n.Message;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -30,17 +35,18 @@ public enum FileType {
     /**
      * File type: autobiographical interview scoring.
      */
-    AIS(Message.MENUBAR_FILE_TYPE_AIS, ".aisp", "FileType", "AI-Scoring/1.0", "org.hmx.scitos.ais.view.swing.AisModule",
+    AIS(Message.MENUBAR_FILE_TYPE_AIS, ".aisp", ".aisb", "FileType", "AI-Scoring/1.0", "org.hmx.scitos.ais.view.swing.AisModule",
             "org.hmx.scitos.ais.view.swing.AisModuleInitializer"),
     /**
      * File type: HermeneutiX (syntactical and semantical structure analysis of complex texts - potentially in foreign language).
      */
-    HMX(Message.MENUBAR_FILE_TYPE_HMX, ".hmx", "FileType", "HermeneutiX/2.0", "org.hmx.scitos.hmx.view.swing.HmxModule",
+    HMX(Message.MENUBAR_FILE_TYPE_HMX, ".hmx", ".hmxb", "FileType", "HermeneutiX/2.0", "org.hmx.scitos.hmx.view.swing.HmxModule",
             "org.hmx.scitos.hmx.view.swing.HmxModuleInitializer"),
     /**
      * File type: HermeneutiX (old type for backwards compatibility).
      */
-    HMX_OLD(null, ".hmx", "Type", "HermeneutiX", "org.hmx.scitos.hmx.view.swing.HmxModule", "org.hmx.scitos.hmx.view.swing.HmxModuleInitializer");
+    HMX_OLD(null, ".hmx", null, "Type", "HermeneutiX", "org.hmx.scitos.hmx.view.swing.HmxModule",
+            "org.hmx.scitos.hmx.view.swing.HmxModuleInitializer");
 
     /**
      * The localizable message to be displayed for this type.
@@ -50,6 +56,10 @@ public enum FileType {
      * The associated file extension.
      */
     private final String fileExtension;
+    /**
+     * The associated file extension for the compact binary snapshot format.
+     */
+    private final String binaryFileExtension;
     /**
      * The {@code type} attribute on a {@code xml}'s root element of an associated file.
      */
@@ -88,6 +98,39 @@ public enum FileType {
         return null;
     }
 
+    /**
+     * Returns the file type represented by the document element the given xml stream is currently positioned on.
+     *
+     * @param reader
+     *            xml stream positioned on the document element to interpret the represented file type from
+     * @return represented file type (i.e. expected project/model type contained)
+     */
+    public static FileType fromXml(final XMLStreamReader reader) {
+        for (final FileType singleType : FileType.values()) {
+            if (singleType.typeAttributeValue.equals(reader.getAttributeValue(null, singleType.typeAttribute))) {
+                return singleType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the file type represented by the given header of a binary snapshot.
+     *
+     * @param binaryHeader
+     *            the model type identifier read from a binary snapshot's header
+     * @return represented file type (i.e. expected project/model type contained)
+     * @see #getBinaryHeader()
+     */
+    public static FileType fromBinaryHeader(final String binaryHeader) {
+        for (final FileType singleType : FileType.values()) {
+            if (singleType.binaryFileExtension != null && singleType.typeAttributeValue.equals(binaryHeader)) {
+                return singleType;
+            }
+        }
+        return null;
+    }
+
     /**
      * Main constructor.
      *
@@ -95,6 +138,8 @@ public enum FileType {
      *            the localizable message to be displayed for this type
      * @param extension
      *            the file extension
+     * @param binaryExtension
+     *            the file extension for the compact binary snapshot format ({@code null} if not supported)
      * @param typeAttribute
      *            the internal file type attribute (on the XML structure's document element)
      * @param typeAttributeValue
@@ -104,10 +149,11 @@ public enum FileType {
      * @param moduleInitializerClassName
      *            the fully qualified name of the associated module's initializing class (to be loaded via dependency injection)
      */
-    private FileType(final Message localizableName, final String extension, final String typeAttribute, final String typeAttributeValue,
-            final String moduleClassName, final String moduleInitializerClassName) {
+    private FileType(final Message localizableName, final String extension, final String binaryExtension, final String typeAttribute,
+            final String typeAttributeValue, final String moduleClassName, final String moduleInitializerClassName) {
         this.localizableName = localizableName;
         this.fileExtension = extension;
+        this.binaryFileExtension = binaryExtension;
         this.typeAttribute = typeAttribute;
         this.typeAttributeValue = typeAttributeValue;
         this.moduleClassName = moduleClassName;
@@ -140,6 +186,15 @@ public enum FileType {
         return this.fileExtension;
     }
 
+    /**
+     * Getter for the file extension of the compact binary snapshot format.
+     *
+     * @return the binary file extension (is {@code null} if this type only exists for backward compatibility)
+     */
+    public String getBinaryFileExtension() {
+        return this.binaryFileExtension;
+    }
+
     /**
      * Getter for the dependency injection module's class name.
      *
@@ -176,4 +231,25 @@ public enum FileType {
     public void applyToXml(final Document xml) {
         xml.getDocumentElement().setAttribute(this.typeAttribute, this.typeAttributeValue);
     }
+
+    /**
+     * Getter for the associated xml attribute, which is used for determining the expected project/model type contained, to be set on the document
+     * element of a streamed xml structure.
+     *
+     * @return the attribute name and value marking a document as representing this file type
+     * @see #applyToXml(Document)
+     */
+    public Map<String, String> getXmlAttributes() {
+        return Collections.singletonMap(this.typeAttribute, this.typeAttributeValue);
+    }
+
+    /**
+     * Getter for the model type identifier to be written in the header of a binary snapshot representing this file type.
+     *
+     * @return the model type identifier in a binary snapshot's header
+     * @see #fromBinaryHeader(String)
+     */
+    public String getBinaryHeader() {
+        return this.typeAttributeValue;
+    }
 }
@@ -21,6 +21,8 @@ package org.hmx.scitos.view;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
 
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.HmxException;
@@ -109,6 +111,19 @@ public interface IViewProject<M extends IModel<M>> {
      */
     void saveAs(File path) throws HmxException;
 
+    /**
+     * Save a snapshot of the current project to the specified path on a background thread and store it for the next {@code saveProject()} call. The
+     * project can be changed further in the meantime, but those changes are not included in the saved file.
+     *
+     * @param path
+     *            designated save location
+     * @param progressListener
+     *            listener to notify (on the background thread) about the number of bytes written so far
+     * @return the pending save operation, failing with an {@link HmxException} if saving failed due to missing permissions or unsuccessful
+     *         validation
+     */
+    CompletableFuture<Void> saveInBackground(File path, LongConsumer progressListener);
+
     /**
      * Check if the current state of this project has been saved.
      *
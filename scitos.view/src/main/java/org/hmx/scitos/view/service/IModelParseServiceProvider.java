@@ -22,6 +22,9 @@ package org.hmx.scitos.view.service;
 import java.io.File;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.HmxException;
@@ -55,7 +58,22 @@ public interface IModelParseServiceProvider {
     Entry<? extends IModel<?>, List<?>> open(File target) throws HmxException;
 
     /**
-     * Save the given model object to the targeted {@link File}.
+     * Open the given file and parse the contained model object on a background thread – as in {@link #open(File)}. Multiple files can be opened in
+     * parallel. Cancelling the returned operation aborts reading the file as soon as possible.
+     *
+     * @param target
+     *            file to open
+     * @param progressListener
+     *            listener to notify (on the background thread) about the number of bytes read so far
+     * @return the pending open operation, providing the parsed model object and the list of elements to be initially displayed – or failing with
+     *         an {@link HmxException} if the targeted file did not contain a valid/recognized model
+     */
+    CompletableFuture<Entry<? extends IModel<?>, List<?>>> openInBackground(File target, LongConsumer progressListener);
+
+    /**
+     * Save the given model object to the targeted {@link File}. The model is written into a temporary file first, which replaces the target only
+     * after its contents have been synchronized with the underlying storage device and the checksum of the written bytes has been verified against
+     * the one of the model's serialization.
      *
      * @param model
      *            model object to save
@@ -64,7 +82,7 @@ public interface IModelParseServiceProvider {
      * @param target
      *            file to save the model object into (old version is replaced, if one already exists)
      * @throws HmxException
-     *             the targeted file could not be created/replaced
+     *             the targeted file could not be created/replaced, or its contents do not match the model's serialization
      */
     void save(IModel<?> model, List<?> openViewElements, File target) throws HmxException;
 
@@ -80,6 +98,35 @@ public interface IModelParseServiceProvider {
      */
     void save(Document xml, File target) throws HmxException;
 
+    /**
+     * Save the given model object to the targeted {@link File} on a background thread – as in {@link #save(IModel, List, File)}. The given model
+     * object is expected to be a snapshot, i.e. it should not be changed anymore while it is being saved.
+     *
+     * @param model
+     *            model object to save
+     * @param openViewElements
+     *            the list of element to be initially displayed when the generated file is opened
+     * @param target
+     *            file to save the model object into (old version is replaced, if one already exists)
+     * @param progressListener
+     *            listener to notify (on the background thread) about the number of bytes written so far
+     * @return the pending save operation, failing with an {@link HmxException} if the targeted file could not be created/replaced
+     */
+    CompletableFuture<Void> saveInBackground(IModel<?> model, List<?> openViewElements, File target, LongConsumer progressListener);
+
+    /**
+     * Parse the given (just saved) file again on the background thread performing the asynchronous save operations, i.e. after all previously
+     * requested save operations have been completed and before any subsequently requested one is being started. The reloaded model object is
+     * handed to the given comparison on that background thread as well.
+     *
+     * @param target
+     *            saved file to parse again
+     * @param comparison
+     *            check of the reloaded model object, returning a description of the detected mismatch (or {@code null} if it is as expected)
+     * @return the pending verification, providing the comparison's result or failing with an {@link HmxException} if the file could not be parsed
+     */
+    CompletableFuture<String> verifyInBackground(File target, Function<IModel<?>, String> comparison);
+
     /**
      * Export the given model object to the targeted file.
      *
@@ -38,6 +38,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
@@ -52,6 +55,7 @@ import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
+import javax.swing.JProgressBar;
 import javax.swing.JToolBar;
 import javax.swing.KeyStroke;
 import javax.swing.SwingUtilities;
@@ -144,6 +148,16 @@ public final class ScitosClient {
     final MainView mainView;
     /** The content (font) size factor being applied, on the basis of the respective default values/fonts in the tabs. */
     private float contentScaleFactor = 1;
+    /** The progress bar at the bottom of the frame, being displayed while projects are saved in the background. */
+    private final JProgressBar saveProgressBar = new JProgressBar();
+    /** The save operations currently running in the background – to be awaited before the application is terminated. */
+    private final List<CompletableFuture<Void>> pendingSaveOperations = new ArrayList<>();
+    /** The panel at the bottom of the frame, being displayed while files are opened in the background. */
+    private final JPanel openProgressPanel = new JPanel(new BorderLayout(5, 0));
+    /** The progress bar in the {@link #openProgressPanel}, showing the accumulated progress of all pending open operations. */
+    private final JProgressBar openProgressBar = new JProgressBar();
+    /** The open operations currently running in the background, associated with the number of bytes read so far and the total file size. */
+    private final Map<CompletableFuture<?>, long[]> pendingOpenOperations = new LinkedHashMap<>();
 
     /**
      * Main constructor.
@@ -178,7 +192,9 @@ public final class ScitosClient {
         this.toolBar = this.createToolBar();
         this.fixedToolItemCount = this.toolBar.getComponentCount();
         contentPane.add(this.toolBar, BorderLayout.PAGE_START);
+        contentPane.add(this.createProgressPanel(), BorderLayout.PAGE_END);
         this.frame.setContentPane(contentPane);
+        // the files are being opened in parallel in the background
         for (final File singleFile : ScitosClient.toLoadAtStart) {
             this.openFile(singleFile);
         }
@@ -607,6 +623,31 @@ public final class ScitosClient {
         }
     }
 
+    /**
+     * Create the panel at the bottom of the frame, containing the progress bars of the open and save operations running in the background.
+     *
+     * @return created panel
+     */
+    private JPanel createProgressPanel() {
+        this.openProgressBar.setStringPainted(true);
+        final JButton cancelButton = new JButton(Message.CANCEL.get());
+        cancelButton.addActionListener(event -> {
+            for (final CompletableFuture<?> pendingOperation : new ArrayList<>(this.pendingOpenOperations.keySet())) {
+                pendingOperation.cancel(true);
+            }
+        });
+        this.openProgressPanel.add(this.openProgressBar);
+        this.openProgressPanel.add(cancelButton, BorderLayout.LINE_END);
+        this.openProgressPanel.setVisible(false);
+        this.saveProgressBar.setIndeterminate(true);
+        this.saveProgressBar.setStringPainted(true);
+        this.saveProgressBar.setVisible(false);
+        final JPanel progressPanel = new JPanel(new BorderLayout(0, 5));
+        progressPanel.add(this.openProgressPanel, BorderLayout.PAGE_START);
+        progressPanel.add(this.saveProgressBar, BorderLayout.PAGE_END);
+        return progressPanel;
+    }
+
     /** Opening files the user selects in the displayed file dialog. */
     void open() {
         final File selection = ViewUtil.openFile(this.getFrame(), Message.MENUBAR_FILE_OPEN.get(), true);
@@ -616,32 +657,57 @@ public final class ScitosClient {
     }
 
     /**
-     * Open the specified {@link File}, add it to the list of open projects, and activate (i.e. show) it.
+     * Open the specified {@link File} on a background thread, while showing the progress at the bottom of the frame. Once it has been parsed, it is
+     * added to the list of open projects and activated (i.e. shown).
      *
      * @param selected
      *            {@link File} to open
      */
     public void openFile(final File selected) {
-        IViewProject<?> project = null;
-        try {
-            final Entry<? extends IModel<?>, List<?>> model = ScitosClient.this.getModelParseProvider().open(selected);
-            project = ScitosClient.this.getProjectViewProvider().createProject(model.getKey(), selected);
-            project.setOpenTabElements(model.getValue());
-            ScitosClient.this.mainView.addProject(project);
-        } catch (final HmxException ex) {
-            MessageHandler.showException(ex);
+        final long[] progress = { 0L, selected.length() };
+        final CompletableFuture<Entry<? extends IModel<?>, List<?>>> operation =
+                this.getModelParseProvider().openInBackground(selected, readBytes -> SwingUtilities.invokeLater(() -> {
+                    progress[0] = readBytes;
+                    this.refreshOpenProgress();
+                }));
+        this.pendingOpenOperations.put(operation, progress);
+        this.refreshOpenProgress();
+        operation.whenComplete((model, error) -> SwingUtilities.invokeLater(() -> {
+            this.pendingOpenOperations.remove(operation);
+            this.refreshOpenProgress();
+            final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (model != null) {
+                final IViewProject<?> project = this.getProjectViewProvider().createProject(model.getKey(), selected);
+                project.setOpenTabElements(model.getValue());
+                this.mainView.addProject(project);
+            } else if (cause instanceof Exception && !(cause instanceof CancellationException)) {
+                MessageHandler.showException((Exception) cause);
+            }
+        }));
+    }
+
+    /** Show the accumulated progress of all open operations running in the background – or hide the progress bar if there are none. */
+    private void refreshOpenProgress() {
+        long readBytes = 0;
+        long totalBytes = 0;
+        for (final long[] singleProgress : this.pendingOpenOperations.values()) {
+            readBytes += Math.min(singleProgress[0], singleProgress[1]);
+            totalBytes += singleProgress[1];
         }
+        this.openProgressBar.setMaximum((int) (totalBytes / 1024));
+        this.openProgressBar.setValue((int) (readBytes / 1024));
+        this.openProgressBar.setString(Message.MENUBAR_FILE_OPEN_PROGRESS.get() + ' ' + readBytes / 1024 + " / " + totalBytes / 1024 + " KiB");
+        this.openProgressPanel.setVisible(!this.pendingOpenOperations.isEmpty());
     }
 
     /** Save the currently active project to its last used save path. */
     void save() {
         final IViewProject<?> activeProject = this.prepareForSaving();
-        try {
-            if (!activeProject.save()) {
-                this.saveAs();
-            }
-        } catch (final HmxException ex) {
-            MessageHandler.showException(ex);
+        final String savePath = activeProject.getSavePath();
+        if (savePath == null) {
+            this.saveAs();
+        } else {
+            this.saveInBackground(activeProject, new File(savePath));
         }
     }
 
@@ -649,16 +715,37 @@ public final class ScitosClient {
     void saveAs() {
         final IViewProject<?> activeProject = this.prepareForSaving();
         final File path =
-                ViewUtil.getSaveDestination(this.getFrame(), activeProject.getFileType().getFileExtension(), Message.MENUBAR_FILE_SAVE.get(), true);
+                ViewUtil.getSaveDestination(this.getFrame(), activeProject.getFileType().getFileExtension(),
+                        activeProject.getFileType().getBinaryFileExtension(), Message.MENUBAR_FILE_SAVE.get(), true);
         if (path != null) {
-            try {
-                activeProject.saveAs(path);
-            } catch (final HmxException ex) {
-                MessageHandler.showException(ex);
-            }
+            this.saveInBackground(activeProject, path);
         }
     }
 
+    /**
+     * Save the given project to the specified path on a background thread, while showing the progress at the bottom of the frame.
+     *
+     * @param project
+     *            the project to save
+     * @param path
+     *            designated save location
+     */
+    private void saveInBackground(final IViewProject<?> project, final File path) {
+        this.saveProgressBar.setString(Message.MENUBAR_FILE_SAVE_PROGRESS.get());
+        this.saveProgressBar.setVisible(true);
+        final CompletableFuture<Void> operation = project.saveInBackground(path, writtenBytes -> SwingUtilities.invokeLater(
+                () -> this.saveProgressBar.setString(Message.MENUBAR_FILE_SAVE_PROGRESS.get() + ' ' + writtenBytes / 1024 + " KiB")));
+        this.pendingSaveOperations.add(operation);
+        operation.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            this.pendingSaveOperations.remove(operation);
+            this.saveProgressBar.setVisible(!this.pendingSaveOperations.isEmpty());
+            final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof Exception) {
+                MessageHandler.showException((Exception) cause);
+            }
+        }));
+    }
+
     /**
      * Determine the currently active project - the one to be saved - and update the current list of open tabs in order to allow them to be saved as
      * part of project.
@@ -760,6 +847,14 @@ public final class ScitosClient {
         }
         // user had no objections to closing all open projects
         this.storeWindowSettings();
+        // do not interrupt any save operation still running in the background
+        for (final CompletableFuture<Void> pendingOperation : new ArrayList<>(this.pendingSaveOperations)) {
+            try {
+                pendingOperation.join();
+            } catch (final CompletionException | CancellationException ex) {
+                // the failure cannot be handled anymore at this point
+            }
+        }
         // close application
         System.exit(0);
         return true;
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 import javax.swing.BorderFactory;
+import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
@@ -57,6 +58,8 @@ public final class GeneralOptionPanel extends AbstractSimpleOptionPanel<Option>
     final JComboBox lookAndFeelBox;
     /** The input field to configure the maximum of model states (per tab view) that are stored and available for undo/redo. */
     final JTextField undoCountField = new JTextField();
+    /** The check box to enable the full verification of saved files (by parsing them again in the background). */
+    final JCheckBox saveVerificationBox = new JCheckBox(Message.PREFERENCES_GENERAL_SAVE_VERIFICATION.get());
     /** The combo box to select the Locale applied for the translation of the user interface. */
     final JComboBox localeBox = new JComboBox();
 
@@ -103,6 +106,14 @@ public final class GeneralOptionPanel extends AbstractSimpleOptionPanel<Option>
         this.undoCountField.setDocument(new Validation(3, "[^0-9]"));
         this.undoCountField.setText(undoCountValue);
         layout.row().grid(new JLabel(Message.PREFERENCES_GENERAL_UNDO.get())).add(this.undoCountField);
+        final String saveVerificationValue;
+        if (this.containsChosenSettingKey(Option.SAVE_FULL_VERIFICATION)) {
+            saveVerificationValue = this.getChosenSetting(Option.SAVE_FULL_VERIFICATION);
+        } else {
+            saveVerificationValue = Option.SAVE_FULL_VERIFICATION.getValue();
+        }
+        this.saveVerificationBox.setSelected(Boolean.parseBoolean(saveVerificationValue));
+        layout.row().grid().add(this.saveVerificationBox);
         layout.row().grid(new JLabel(Message.PREFERENCES_GENERAL_TRANSLATION.get()))
                 .addMulti(this.initTranslationSelection(), new JLabel(Message.PREFERENCES_RESTART_REQUIRED.get()));
 
@@ -201,6 +212,7 @@ public final class GeneralOptionPanel extends AbstractSimpleOptionPanel<Option>
         // transfer settings in the chosenSettingsMap
         this.addChosenSetting(Option.LOOK_AND_FEEL, this.lookAndFeels.get(this.lookAndFeelBox.getSelectedItem()));
         this.addChosenSetting(Option.UNDO_LIMIT, this.undoCountField.getText());
+        this.addChosenSetting(Option.SAVE_FULL_VERIFICATION, String.valueOf(this.saveVerificationBox.isSelected()));
         final Locale translation = this.locales.get(this.localeBox.getSelectedItem());
         this.addChosenSetting(Option.TRANSLATION, translation == null ? null : translation.toString());
     }
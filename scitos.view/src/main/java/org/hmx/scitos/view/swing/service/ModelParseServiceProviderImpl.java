@@ -19,19 +19,48 @@
 
 package org.hmx.scitos.view.swing.service;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -44,13 +73,20 @@ import javax.xml.transform.stream.StreamSource;
 
 import org.hmx.scitos.core.ExportOption;
 import org.hmx.scitos.core.HmxException;
+import org.hmx.scitos.core.IBinaryModelParseService;
+import org.hmx.scitos.core.ILazyModelParseService;
 import org.hmx.scitos.core.IModelParseService;
+import org.hmx.scitos.core.IStreamModelParseService;
 import org.hmx.scitos.core.i18n.Message;
+import org.hmx.scitos.core.util.BinaryModelReader;
+import org.hmx.scitos.core.util.BinaryModelWriter;
+import org.hmx.scitos.core.util.StaxUtil;
 import org.hmx.scitos.domain.IModel;
 import org.hmx.scitos.view.FileType;
 import org.hmx.scitos.view.service.IModelParseServiceProvider;
 import org.hmx.scitos.view.service.IModelParseServiceRegistry;
 import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
@@ -59,10 +95,28 @@ import org.xml.sax.SAXException;
 @Singleton
 public final class ModelParseServiceProviderImpl implements IModelParseServiceRegistry, IModelParseServiceProvider {
 
+    /**
+     * The minimum size of a file (in bytes) to be parsed lazily – if supported by its file type's parse service. Smaller files are parsed completely
+     * right away, in order to report any errors in them immediately.
+     */
+    private static final long LAZY_PARSING_THRESHOLD = 1024 * 1024;
+
     /** The registered model implementations matched to their representing file types. */
     private final Map<FileType, Class<? extends IModel<?>>> modelClasses;
     /** The registered model provider implementations for the supported file types. */
     private final Map<FileType, IModelParseService<?>> modelParseServices;
+    /** The background thread performing the requested asynchronous save operations – one after the other. */
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(task -> {
+        final Thread thread = new Thread(task, "Save Project");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The background threads performing the requested asynchronous open operations – in parallel. */
+    private final ExecutorService openExecutor = Executors.newCachedThreadPool(task -> {
+        final Thread thread = new Thread(task, "Open Project");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructor.
@@ -92,11 +146,43 @@ public final class ModelParseServiceProviderImpl implements IModelParseServiceRe
 
     @Override
     public Entry<? extends IModel<?>, List<?>> open(final File target) throws HmxException {
+        return this.open(target, null, () -> false);
+    }
+
+    /**
+     * Open the given file and parse the contained model object, while reporting the progress to the given listener.
+     *
+     * @param target
+     *            file to open
+     * @param progressListener
+     *            listener to notify about the number of bytes read so far (can be {@code null})
+     * @param cancelled
+     *            indicator whether the operation has been cancelled, i.e. the file should not be read any further
+     * @return successfully parsed model object from file and the list of elements to be initially displayed
+     * @throws HmxException
+     *             the targeted file did not contain a valid/recognized model
+     * @throws CancellationException
+     *             the operation has been cancelled
+     */
+    private Entry<? extends IModel<?>, List<?>> open(final File target, final LongConsumer progressListener, final BooleanSupplier cancelled)
+            throws HmxException {
+        // a binary snapshot does not need to be parsed as xml at all
+        final Entry<? extends IModel<?>, List<?>> binaryResult = this.openAsBinary(target, progressListener, cancelled);
+        if (binaryResult != null) {
+            return binaryResult;
+        }
+        // avoid building the whole document in memory, if the file type's parse service supports it
+        final Entry<? extends IModel<?>, List<?>> streamedResult = this.openAsStream(target, progressListener, cancelled);
+        if (streamedResult != null) {
+            return streamedResult;
+        }
         final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         final Document xml;
-        try {
+        try (InputStream input = ModelParseServiceProviderImpl.openInputStream(target, progressListener, cancelled)) {
             // parse file into xml structure
-            xml = factory.newDocumentBuilder().parse(target);
+            final InputSource source = new InputSource(input);
+            source.setSystemId(target.toURI().toString());
+            xml = factory.newDocumentBuilder().parse(source);
         } catch (final ParserConfigurationException | IOException ex) {
             // error while creating a DocumentBuilder instance from factory or while accessing file
             throw new HmxException(Message.ERROR_UNKNOWN, ex);
@@ -104,6 +190,9 @@ public final class ModelParseServiceProviderImpl implements IModelParseServiceRe
             // error while interpreting (invalid) xml structure
             throw new HmxException(Message.ERROR_FILE_INVALID, se);
         }
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
         // interpret represented file type
         final FileType type = FileType.fromXml(xml);
         synchronized (this.modelParseServices) {
@@ -117,19 +206,274 @@ public final class ModelParseServiceProviderImpl implements IModelParseServiceRe
         throw new HmxException(Message.ERROR_FILE_TYPE_NOT_RECOGNIZED);
     }
 
+    @Override
+    public CompletableFuture<Entry<? extends IModel<?>, List<?>>> openInBackground(final File target, final LongConsumer progressListener) {
+        final CompletableFuture<Entry<? extends IModel<?>, List<?>>> result = new CompletableFuture<>();
+        this.openExecutor.execute(() -> {
+            try {
+                result.complete(this.open(target, progressListener, result::isCancelled));
+            } catch (final HmxException | RuntimeException ex) {
+                // has no effect, if the operation has been cancelled in the meantime
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Open the given file for reading its contents as stream, while reporting the progress to the given listener.
+     *
+     * @param target
+     *            file to open
+     * @param progressListener
+     *            listener to notify about the number of bytes read so far (can be {@code null})
+     * @param cancelled
+     *            indicator whether the operation has been cancelled, i.e. the file should not be read any further
+     * @return the opened (buffered) stream
+     * @throws IOException
+     *             error while accessing the file
+     */
+    private static InputStream openInputStream(final File target, final LongConsumer progressListener, final BooleanSupplier cancelled)
+            throws IOException {
+        return new BufferedInputStream(new ProgressReportingInputStream(new FileInputStream(target), progressListener, cancelled));
+    }
+
+    /**
+     * Open the given file as a binary snapshot and parse the contained model object – if the file starts with the binary snapshot's header. The
+     * file is read into memory completely (while reporting the progress to the given listener), in order to not keep it mapped or locked while the
+     * model is being parsed.
+     *
+     * @param target
+     *            file to open
+     * @param progressListener
+     *            listener to notify about the number of bytes read so far (can be {@code null})
+     * @param cancelled
+     *            indicator whether the operation has been cancelled, i.e. the file should not be read any further
+     * @return successfully parsed model object from file and the list of elements to be initially displayed (is {@code null} if the file is not a
+     *         binary snapshot)
+     * @throws HmxException
+     *             the targeted file could not be read or did not contain a valid model
+     * @throws CancellationException
+     *             the operation has been cancelled
+     */
+    private Entry<? extends IModel<?>, List<?>> openAsBinary(final File target, final LongConsumer progressListener, final BooleanSupplier cancelled)
+            throws HmxException {
+        try (FileChannel channel = FileChannel.open(target.toPath(), StandardOpenOption.READ)) {
+            // check the leading bytes first, in order to avoid reading (potentially large) xml files
+            final ByteBuffer leadingBytes = ByteBuffer.allocate(16);
+            int readBytes = 0;
+            while (leadingBytes.hasRemaining() && readBytes != -1) {
+                readBytes = channel.read(leadingBytes);
+            }
+            leadingBytes.flip();
+            if (!BinaryModelReader.isBinaryModel(leadingBytes)) {
+                return null;
+            }
+            channel.position(0);
+            final byte[] content;
+            try (InputStream input = new ProgressReportingInputStream(Channels.newInputStream(channel), progressListener, cancelled)) {
+                content = input.readAllBytes();
+            }
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            final BinaryModelReader reader = new BinaryModelReader(ByteBuffer.wrap(content));
+            // interpret represented file type
+            final FileType type = FileType.fromBinaryHeader(reader.readHeader());
+            final IModelParseService<?> service;
+            synchronized (this.modelParseServices) {
+                service = this.modelParseServices.get(type);
+            }
+            if (service instanceof IBinaryModelParseService<?>) {
+                // parse model from file of recognized type
+                return ((IBinaryModelParseService<?>) service).parseModelFromBinary(reader, target);
+            }
+        } catch (final IOException ex) {
+            // error while accessing file
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+        // no valid file type declaration or no matching model provider registered
+        throw new HmxException(Message.ERROR_FILE_TYPE_NOT_RECOGNIZED);
+    }
+
+    /**
+     * Open the given file as a xml stream and parse the contained model object – if the represented file type's registered parse service supports
+     * streaming. Large files are read into memory completely instead, in order to only parse the parts of it right away that are needed for
+     * displaying the model – if the parse service supports lazy parsing.
+     *
+     * @param target
+     *            file to open
+     * @param progressListener
+     *            listener to notify about the number of bytes read so far (can be {@code null})
+     * @param cancelled
+     *            indicator whether the operation has been cancelled, i.e. the file should not be read any further
+     * @return successfully parsed model object from file and the list of elements to be initially displayed (is {@code null} if the file type's
+     *         parse service does not support streaming)
+     * @throws HmxException
+     *             the targeted file could not be read or did not contain a valid model
+     */
+    private Entry<? extends IModel<?>, List<?>> openAsStream(final File target, final LongConsumer progressListener, final BooleanSupplier cancelled)
+            throws HmxException {
+        final IModelParseService<?> service = this.getServiceForXmlFile(target);
+        if (service instanceof ILazyModelParseService<?> && target.length() >= ModelParseServiceProviderImpl.LAZY_PARSING_THRESHOLD) {
+            final byte[] content;
+            try (InputStream input = ModelParseServiceProviderImpl.openInputStream(target, progressListener, cancelled)) {
+                content = input.readAllBytes();
+            } catch (final IOException ex) {
+                // error while accessing file
+                throw new HmxException(Message.ERROR_UNKNOWN, ex);
+            }
+            // only parse the parts of the model right away that are needed for displaying it
+            return ((ILazyModelParseService<?>) service).parseModelLazily(content, target);
+        }
+        if (!(service instanceof IStreamModelParseService<?>)) {
+            return null;
+        }
+        try (InputStream input = ModelParseServiceProviderImpl.openInputStream(target, progressListener, cancelled)) {
+            final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(input);
+            try {
+                // move to the document element
+                reader.nextTag();
+                // parse model from file of recognized type
+                return ((IStreamModelParseService<?>) service).parseModelFromStream(reader, target);
+            } finally {
+                reader.close();
+            }
+        } catch (final IOException ex) {
+            // error while accessing file
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        } catch (final XMLStreamException ex) {
+            // error while interpreting (invalid) xml structure
+            throw new HmxException(Message.ERROR_FILE_INVALID, ex);
+        }
+    }
+
+    /**
+     * Determine the registered parse service for the file type declared in the given xml file, by only reading up to its document element.
+     *
+     * @param target
+     *            xml file to check
+     * @return registered parse service for the declared file type (is {@code null} if none has been registered)
+     * @throws HmxException
+     *             the targeted file could not be read or is not a valid xml file
+     */
+    private IModelParseService<?> getServiceForXmlFile(final File target) throws HmxException {
+        try (InputStream input = new BufferedInputStream(new FileInputStream(target))) {
+            final XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(input);
+            try {
+                // move to the document element
+                reader.nextTag();
+                // interpret represented file type
+                final FileType type = FileType.fromXml(reader);
+                synchronized (this.modelParseServices) {
+                    return this.modelParseServices.get(type);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (final IOException ex) {
+            // error while accessing file
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        } catch (final XMLStreamException ex) {
+            // error while interpreting (invalid) xml structure
+            throw new HmxException(Message.ERROR_FILE_INVALID, ex);
+        }
+    }
+
     @Override
     public void save(final IModel<?> model, final List<?> openViewElements, final File target) throws HmxException {
-        this.save(this.createXmlFromModel(model, openViewElements), target);
+        this.save(model, openViewElements, target, null);
+    }
+
+    /**
+     * Save the given model object to the targeted {@link File}, while reporting the progress to the given listener.
+     *
+     * @param model
+     *            model object to save
+     * @param openViewElements
+     *            the list of element to be initially displayed when the generated file is opened
+     * @param target
+     *            file to save the model object into (old version is replaced, if one already exists)
+     * @param progressListener
+     *            listener to notify about the number of bytes written so far (can be {@code null})
+     * @throws HmxException
+     *             the targeted file could not be created/replaced
+     */
+    private void save(final IModel<?> model, final List<?> openViewElements, final File target, final LongConsumer progressListener)
+            throws HmxException {
+        // determine representing file type for model implementation
+        final FileType type = this.getTypeForModel(model);
+        // get registered model provider for file type
+        final IModelParseService<?> provider;
+        synchronized (this.modelParseServices) {
+            provider = this.modelParseServices.get(type);
+        }
+        final ContentWriter content;
+        if (provider instanceof IBinaryModelParseService<?> && target.getName().endsWith(type.getBinaryFileExtension())) {
+            content = output -> ModelParseServiceProviderImpl.writeAsBinary((IBinaryModelParseService<?>) provider, model, openViewElements, type,
+                    output);
+        } else if (provider instanceof IStreamModelParseService<?>) {
+            // avoid building the whole document in memory
+            content = output -> ModelParseServiceProviderImpl.writeAsStream((IStreamModelParseService<?>) provider, model, openViewElements, type,
+                    output);
+        } else {
+            final Document xml = this.createXmlFromModel(model, openViewElements);
+            final Transformer transformer = ModelParseServiceProviderImpl.createXmlTransformer();
+            content = output -> ModelParseServiceProviderImpl.writeXml(xml, transformer, output);
+        }
+        ModelParseServiceProviderImpl.writeAtomically(target, content, progressListener, true);
     }
 
     @Override
     public void save(final Document xml, final File target) throws HmxException {
+        final Transformer transformer = ModelParseServiceProviderImpl.createXmlTransformer();
+        ModelParseServiceProviderImpl.writeAtomically(target, output -> ModelParseServiceProviderImpl.writeXml(xml, transformer, output), null,
+                false);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveInBackground(final IModel<?> model, final List<?> openViewElements, final File target,
+            final LongConsumer progressListener) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        this.saveExecutor.execute(() -> {
+            try {
+                this.save(model, openViewElements, target, progressListener);
+                result.complete(null);
+            } catch (final HmxException | RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<String> verifyInBackground(final File target, final Function<IModel<?>, String> comparison) {
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        // use the same (single) thread as the save operations, to ensure the file is not being replaced again in the meantime
+        this.saveExecutor.execute(() -> {
+            try {
+                result.complete(comparison.apply(this.open(target).getKey()));
+            } catch (final HmxException | RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Create the transformer for writing xml documents in their (human readable) raw xml format.
+     *
+     * @return the created transformer
+     * @throws HmxException
+     *             error while instantiating the transformer factory or initializing an instance
+     */
+    private static Transformer createXmlTransformer() throws HmxException {
         try {
             final Transformer transformer = TransformerFactory.newInstance().newTransformer();
             // make the file in its raw XML format human readable by adding indentations
             transformer.setOutputProperty(OutputKeys.INDENT, "yes");
             transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "3");
-            this.save(xml, transformer, target);
+            return transformer;
         } catch (final TransformerFactoryConfigurationError | TransformerConfigurationException ex) {
             // error while instantiating the transformer factory or initializing an instance
             throw new HmxException(Message.ERROR_UNKNOWN, ex);
@@ -137,54 +481,218 @@ public final class ModelParseServiceProviderImpl implements IModelParseServiceRe
     }
 
     /**
-     * Save the given xml document to the {@code target} file by using the given {@code transformer}.
-     * 
-     * @param xml
-     *            the document to write to a file
-     * @param transformer
-     *            the transformer performing the file writing according to its configuration
+     * Write the targeted file in a crash-safe manner: the contents are written into a temporary file in the same directory, which is synchronized
+     * with the underlying storage device and then moved (atomically, if supported by the file system) to replace the target. That way, the previous
+     * version of the target is kept intact if writing fails or the application is terminated in the meantime. The replaced file's POSIX permissions
+     * are being preserved and the containing directory is synchronized afterwards as well (where supported), to persist the replacement itself.<br>
+     * If requested, the bytes passed on to the temporary file are being checksummed while they are written. Before the target is being replaced,
+     * this checksum is compared against the one of the canonical serialization, that is determined by letting the content writer produce the
+     * contents again – this time only into the checksum, i.e. without any I/O.
+     *
      * @param target
-     *            the designated file location to save to
+     *            file to write (old version is replaced, if one already exists)
+     * @param content
+     *            the writer of the file's contents
+     * @param progressListener
+     *            listener to notify about the number of bytes written so far (can be {@code null})
+     * @param verify
+     *            whether the written bytes should be compared against the checksum of the canonical serialization
      * @throws HmxException
-     *             error occurred when preparing for or writing the file
+     *             error occurred when preparing for or writing the file, or the written bytes do not match the canonical serialization
      */
-    private void save(final Document xml, final Transformer transformer, final File target) throws HmxException {
-        // create target file output stream
-        FileOutputStream output = null;
-        boolean errorOccurred = false;
+    private static void writeAtomically(final File target, final ContentWriter content, final LongConsumer progressListener, final boolean verify)
+            throws HmxException {
+        final Path targetPath = target.getAbsoluteFile().toPath();
+        Path temporaryPath = null;
         try {
-            output = new FileOutputStream(target);
-            // write the xml structure to the output stream
-            transformer.transform(new DOMSource(xml), new StreamResult(output));
-            output.flush();
-        } catch (final IOException | TransformerException ex) {
-            errorOccurred = true;
-            // error while initializing the FileOutputStream or transferring the xml document through the output stream
+            // the temporary file is created next to the target, to allow it being moved without copying its contents
+            temporaryPath = Files.createFile(targetPath.resolveSibling('.' + target.getName() + '.' + Long.toHexString(System.nanoTime()) + ".tmp"));
+            final ChecksumOutputStream writtenChecksum;
+            try (FileOutputStream fileOutput = new FileOutputStream(temporaryPath.toFile())) {
+                // checksum the bytes right where they are handed to the file, i.e. behind any buffering of the content writer
+                writtenChecksum = verify ? new ChecksumOutputStream(fileOutput) : null;
+                final OutputStream checkedOutput = verify ? writtenChecksum : fileOutput;
+                final OutputStream reportingOutput;
+                if (progressListener == null) {
+                    reportingOutput = checkedOutput;
+                } else {
+                    reportingOutput = new ProgressReportingOutputStream(checkedOutput, progressListener);
+                }
+                content.writeTo(reportingOutput);
+                reportingOutput.flush();
+                // make sure the contents actually reached the storage device before replacing the previous version
+                fileOutput.getFD().sync();
+            }
+            if (verify) {
+                ModelParseServiceProviderImpl.verifyChecksum(content, writtenChecksum);
+            }
+            ModelParseServiceProviderImpl.copyPermissions(targetPath, temporaryPath);
+            try {
+                Files.move(temporaryPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                // the file system does not support atomic moves: at least replace the previous version in a single step
+                Files.move(temporaryPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporaryPath = null;
+            ModelParseServiceProviderImpl.syncDirectory(targetPath.getParent());
+        } catch (final IOException ex) {
+            // error while creating, writing, or moving the temporary file
             throw new HmxException(Message.ERROR_UNKNOWN, ex);
         } finally {
-            if (output != null) {
+            if (temporaryPath != null) {
                 try {
-                    output.close();
+                    Files.deleteIfExists(temporaryPath);
                 } catch (final IOException ex) {
-                    if (!errorOccurred) {
-                        throw new HmxException(Message.ERROR_UNKNOWN, ex);
-                    }
+                    // ignore: the original error is more relevant
                 }
             }
         }
     }
 
+    /**
+     * Compare the checksum of the written bytes against the one of the canonical serialization, produced by the given content writer.
+     *
+     * @param content
+     *            the writer of the file's contents
+     * @param writtenChecksum
+     *            the checksum of the bytes that have been written into the file
+     * @throws HmxException
+     *             error while producing the canonical serialization, or the written bytes do not match it
+     */
+    private static void verifyChecksum(final ContentWriter content, final ChecksumOutputStream writtenChecksum) throws HmxException {
+        final ChecksumOutputStream expectedChecksum = new ChecksumOutputStream(null);
+        content.writeTo(expectedChecksum);
+        if (!expectedChecksum.matches(writtenChecksum)) {
+            throw new HmxException(Message.ERROR_SAVE_FAILED, new IllegalStateException("written " + writtenChecksum + " but expected "
+                    + expectedChecksum));
+        }
+    }
+
+    /**
+     * Apply the POSIX permissions of the file to be replaced to its replacement – if the file system supports them and the file already exists.
+     *
+     * @param original
+     *            the file to be replaced
+     * @param replacement
+     *            the file to replace the original with
+     * @throws IOException
+     *             error while reading or applying the permissions
+     */
+    private static void copyPermissions(final Path original, final Path replacement) throws IOException {
+        final PosixFileAttributeView originalAttributes = Files.getFileAttributeView(original, PosixFileAttributeView.class);
+        if (originalAttributes != null && Files.exists(original)) {
+            Files.setPosixFilePermissions(replacement, originalAttributes.readAttributes().permissions());
+        }
+    }
+
+    /**
+     * Synchronize the given directory with the underlying storage device, to make sure a file being moved into it is persisted – if the platform
+     * supports opening directories (i.e. not on Windows).
+     *
+     * @param directory
+     *            the directory to synchronize
+     */
+    private static void syncDirectory(final Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException ex) {
+            // ignore: the file has been replaced already, only its persistence in case of a power loss cannot be enforced here
+        }
+    }
+
+    /**
+     * Write the given xml document to the given output stream by using the given {@code transformer}.
+     *
+     * @param xml
+     *            the document to write
+     * @param transformer
+     *            the transformer performing the writing according to its configuration
+     * @param output
+     *            the stream to write to (is not being closed)
+     * @throws HmxException
+     *             error occurred when transferring the xml document through the output stream
+     */
+    private static void writeXml(final Document xml, final Transformer transformer, final OutputStream output) throws HmxException {
+        try {
+            transformer.transform(new DOMSource(xml), new StreamResult(output));
+        } catch (final TransformerException ex) {
+            // error while transferring the xml document through the output stream
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
+    /**
+     * Write the given model object to the given output stream by streaming its xml structure directly into it.
+     *
+     * @param provider
+     *            the registered parse service for the given file type
+     * @param model
+     *            model object to write
+     * @param openViewElements
+     *            the list of element to be initially displayed when the generated file is opened
+     * @param type
+     *            the file type representing the given model object
+     * @param output
+     *            the stream to write to (is not being closed)
+     * @throws HmxException
+     *             error occurred when transferring the xml structure through the output stream
+     */
+    private static void writeAsStream(final IStreamModelParseService<?> provider, final IModel<?> model, final List<?> openViewElements,
+            final FileType type, final OutputStream output) throws HmxException {
+        try {
+            final OutputStream bufferedOutput = new BufferedOutputStream(output);
+            final XMLStreamWriter writer = StaxUtil.createWriter(bufferedOutput);
+            provider.writeModelToStream(model, openViewElements, writer, type.getXmlAttributes());
+            writer.close();
+            bufferedOutput.flush();
+        } catch (final IOException | XMLStreamException ex) {
+            // error while transferring the xml structure through the output stream
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
+    /**
+     * Write the given model object to the given output stream as compact binary snapshot.
+     *
+     * @param provider
+     *            the registered parse service for the given file type
+     * @param model
+     *            model object to write
+     * @param openViewElements
+     *            the list of element to be initially displayed when the generated file is opened
+     * @param type
+     *            the file type representing the given model object
+     * @param output
+     *            the stream to write to (is not being closed)
+     * @throws HmxException
+     *             error occurred when transferring the binary snapshot through the output stream
+     */
+    private static void writeAsBinary(final IBinaryModelParseService<?> provider, final IModel<?> model, final List<?> openViewElements,
+            final FileType type, final OutputStream output) throws HmxException {
+        try {
+            final BinaryModelWriter writer = new BinaryModelWriter(output);
+            writer.writeHeader(type.getBinaryHeader());
+            provider.writeModelToBinary(model, openViewElements, writer);
+            writer.flush();
+        } catch (final IOException ex) {
+            // error while transferring the binary snapshot through the output stream
+            throw new HmxException(Message.ERROR_UNKNOWN, ex);
+        }
+    }
+
     @Override
     public void export(final IModel<?> model, final String stylesheetPath, final File target) throws HmxException {
         final Document xml = this.createXmlFromModel(model, Collections.emptyList());
         final StreamSource stylesheet = new StreamSource(model.getClass().getResourceAsStream(stylesheetPath));
+        final Transformer transformer;
         try {
-            final Transformer transformer = TransformerFactory.newInstance().newTransformer(stylesheet);
-            this.save(xml, transformer, target);
+            transformer = TransformerFactory.newInstance().newTransformer(stylesheet);
         } catch (final TransformerFactoryConfigurationError | TransformerConfigurationException ex) {
             // error while instantiating the transformer factory and initializing an instance
             throw new HmxException(Message.ERROR_UNKNOWN, ex);
         }
+        ModelParseServiceProviderImpl.writeAtomically(target, output -> ModelParseServiceProviderImpl.writeXml(xml, transformer, output), null,
+                false);
     }
 
     /**
@@ -246,4 +754,220 @@ public final class ModelParseServiceProviderImpl implements IModelParseServiceRe
         }
         throw new IllegalArgumentException("No FileType associated with given model of type " + modelClass.getName());
     }
+
+    /** Writer of a file's contents. */
+    @FunctionalInterface
+    private interface ContentWriter {
+
+        /**
+         * Write the contents to the given output stream.
+         *
+         * @param output
+         *            the stream to write to (should not be closed)
+         * @throws HmxException
+         *             error occurred when transferring the contents through the output stream
+         */
+        void writeTo(OutputStream output) throws HmxException;
+    }
+
+    /** Output stream wrapper, determining the CRC32 checksum and number of the bytes passing through it. */
+    private static final class ChecksumOutputStream extends FilterOutputStream {
+
+        /** The checksum of the bytes written so far. */
+        private final CRC32 checksum = new CRC32();
+        /** The number of bytes written so far. */
+        private long writtenBytes = 0;
+
+        /**
+         * Constructor.
+         *
+         * @param output
+         *            the stream to pass on the written bytes to ({@code null} if they should only be checksummed)
+         */
+        ChecksumOutputStream(final OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            if (this.out != null) {
+                this.out.write(value);
+            }
+            this.checksum.update(value);
+            this.writtenBytes++;
+        }
+
+        @Override
+        public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+            if (this.out != null) {
+                this.out.write(buffer, offset, length);
+            }
+            this.checksum.update(buffer, offset, length);
+            this.writtenBytes += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.out != null) {
+                this.out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.out != null) {
+                super.close();
+            }
+        }
+
+        /**
+         * Check whether the same bytes have been written into the given other stream as into this one – judging by their checksum and number.
+         *
+         * @param other
+         *            the other stream to compare with
+         * @return whether the checksum and number of the written bytes are the same
+         */
+        boolean matches(final ChecksumOutputStream other) {
+            return this.checksum.getValue() == other.checksum.getValue() && this.writtenBytes == other.writtenBytes;
+        }
+
+        @Override
+        public String toString() {
+            return this.writtenBytes + " bytes with CRC32 " + Long.toHexString(this.checksum.getValue());
+        }
+    }
+
+    /** Output stream wrapper, notifying a listener about the number of bytes written so far – whenever another {@code 64 KiB} have been written. */
+    private static final class ProgressReportingOutputStream extends FilterOutputStream {
+
+        /** The number of written bytes between two notifications of the listener. */
+        private static final long REPORTING_INTERVAL = 64 * 1024;
+
+        /** The listener to notify about the number of bytes written so far. */
+        private final LongConsumer progressListener;
+        /** The number of bytes written so far. */
+        private long writtenBytes = 0;
+        /** The number of written bytes, when the listener was notified the last time. */
+        private long reportedBytes = 0;
+
+        /**
+         * Constructor.
+         *
+         * @param output
+         *            the stream to write to
+         * @param progressListener
+         *            the listener to notify about the number of bytes written so far
+         */
+        ProgressReportingOutputStream(final OutputStream output, final LongConsumer progressListener) {
+            super(output);
+            this.progressListener = progressListener;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            this.out.write(value);
+            this.addWrittenBytes(1);
+        }
+
+        @Override
+        public void write(final byte[] values, final int offset, final int length) throws IOException {
+            this.out.write(values, offset, length);
+            this.addWrittenBytes(length);
+        }
+
+        /**
+         * Increase the number of bytes written so far, and notify the listener if the reporting interval has been exceeded.
+         *
+         * @param count
+         *            the number of additionally written bytes
+         */
+        private void addWrittenBytes(final int count) {
+            this.writtenBytes += count;
+            if (this.writtenBytes - this.reportedBytes >= ProgressReportingOutputStream.REPORTING_INTERVAL) {
+                this.reportedBytes = this.writtenBytes;
+                this.progressListener.accept(this.writtenBytes);
+            }
+        }
+    }
+
+    /**
+     * Input stream wrapper, notifying a listener about the number of bytes read so far – whenever another {@code 64 KiB} have been read.
+     * Additionally, reading is being aborted once the associated operation has been cancelled.
+     */
+    private static final class ProgressReportingInputStream extends FilterInputStream {
+
+        /** The number of read bytes between two notifications of the listener. */
+        private static final long REPORTING_INTERVAL = 64 * 1024;
+
+        /** The listener to notify about the number of bytes read so far (can be {@code null}). */
+        private final LongConsumer progressListener;
+        /** The indicator whether the associated operation has been cancelled. */
+        private final BooleanSupplier cancelled;
+        /** The number of bytes read so far. */
+        private long readBytes = 0;
+        /** The number of read bytes, when the listener was notified the last time. */
+        private long reportedBytes = 0;
+
+        /**
+         * Constructor.
+         *
+         * @param input
+         *            the stream to read from
+         * @param progressListener
+         *            the listener to notify about the number of bytes read so far (can be {@code null})
+         * @param cancelled
+         *            the indicator whether the associated operation has been cancelled
+         */
+        ProgressReportingInputStream(final InputStream input, final LongConsumer progressListener, final BooleanSupplier cancelled) {
+            super(input);
+            this.progressListener = progressListener;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public int read() throws IOException {
+            this.checkCancelled();
+            final int value = this.in.read();
+            if (value != -1) {
+                this.addReadBytes(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] values, final int offset, final int length) throws IOException {
+            this.checkCancelled();
+            final int count = this.in.read(values, offset, length);
+            if (count > 0) {
+                this.addReadBytes(count);
+            }
+            return count;
+        }
+
+        /**
+         * Abort reading, if the associated operation has been cancelled.
+         *
+         * @throws InterruptedIOException
+         *             the associated operation has been cancelled
+         */
+        private void checkCancelled() throws InterruptedIOException {
+            if (this.cancelled.getAsBoolean()) {
+                throw new InterruptedIOException("cancelled");
+            }
+        }
+
+        /**
+         * Increase the number of bytes read so far, and notify the listener if the reporting interval has been exceeded.
+         *
+         * @param count
+         *            the number of additionally read bytes
+         */
+        private void addReadBytes(final int count) {
+            this.readBytes += count;
+            if (this.progressListener != null && this.readBytes - this.reportedBytes >= ProgressReportingInputStream.REPORTING_INTERVAL) {
+                this.reportedBytes = this.readBytes;
+                this.progressListener.accept(this.readBytes);
+            }
+        }
+    }
 }
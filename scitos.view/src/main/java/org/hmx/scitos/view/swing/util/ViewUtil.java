@@ -148,6 +148,27 @@ public final class ViewUtil {
      * @return the selected save destination (is {@code null} if the user aborted the dialog)
      */
     public static File getSaveDestination(final JFrame parent, final String fileExtension, final String title, final boolean rememberDirectory) {
+        return ViewUtil.getSaveDestination(parent, fileExtension, null, title, rememberDirectory);
+    }
+
+    /**
+     * Show a file dialog to allow the user to insert a file destination to save to. A selected destination with the alternative file extension is
+     * being accepted as it is, while any other selection is expected to have the (main) file extension.
+     *
+     * @param parent
+     *            the application window the displayed file dialog belongs to
+     * @param fileExtension
+     *            associated file type extension
+     * @param alternativeExtension
+     *            alternative file type extension, e.g. for the compact binary snapshot format (can be {@code null})
+     * @param title
+     *            title of the file dialog
+     * @param rememberDirectory
+     *            if the containing directory of a successful selection should be remembered as {@link Option#WORKDIR}
+     * @return the selected save destination (is {@code null} if the user aborted the dialog)
+     */
+    public static File getSaveDestination(final JFrame parent, final String fileExtension, final String alternativeExtension, final String title,
+            final boolean rememberDirectory) {
         // use FileDialog instead of JFileChooser because it looks more native
         final FileDialog dialog = new FileDialog(parent, title, FileDialog.SAVE);
         dialog.setDirectory(Option.WORKDIR.getValue());
@@ -155,7 +176,8 @@ public final class ViewUtil {
 
             @Override
             public boolean accept(final File dir, final String name) {
-                return new File(dir, name).isDirectory() || name.endsWith(fileExtension);
+                return new File(dir, name).isDirectory() || name.endsWith(fileExtension)
+                        || alternativeExtension != null && name.endsWith(alternativeExtension);
             }
         });
         ViewUtil.centerOnParent(dialog);
@@ -167,7 +189,7 @@ public final class ViewUtil {
             }
             // make sure the target has the given extension
             final String path = dialog.getDirectory() + dialog.getFile();
-            if (path.matches(".*\\" + fileExtension)) {
+            if (path.endsWith(fileExtension) || alternativeExtension != null && path.endsWith(alternativeExtension)) {
                 // the FileDialog already asked to replace an existing file with the same name
                 return new File(path);
             }